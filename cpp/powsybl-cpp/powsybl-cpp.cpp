@@ -695,6 +695,18 @@ void setConfigRead(bool configRead) {
     PowsyblCaller::get()->callJava<>(::setConfigRead, configRead);
 }
 
+void configureComputationManager(int threadCount, const std::string& threadNamePrefix, bool workStealing) {
+    PowsyblCaller::get()->callJava<>(::configureComputationManager, threadCount, (char*) threadNamePrefix.data(), workStealing);
+}
+
+void resetComputationManager() {
+    PowsyblCaller::get()->callJava<>(::resetComputationManager);
+}
+
+SeriesArray* getComputationManagerExecutorMetrics() {
+    return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getComputationManagerExecutorMetrics));
+}
+
 void setDefaultLoadFlowProvider(const std::string& loadFlowProvider) {
     PowsyblCaller::get()->callJava<>(::setDefaultLoadFlowProvider, (char*) loadFlowProvider.data());
 }
@@ -1032,6 +1044,55 @@ LoadFlowComponentResultArray* runLoadFlow(const JavaHandle& network, const LoadF
             PowsyblCaller::get()->callJava<array*>(::runLoadFlow, network, c_parameters.get(), (char *) provider.data(), (reportNode == nullptr) ? nullptr : *reportNode));
 }
 
+JavaHandle createPreparedLoadFlowParameters(const LoadFlowParameters& parameters, const std::string& provider) {
+    auto c_parameters = parameters.to_c_struct();
+    return PowsyblCaller::get()->callJava<JavaHandle>(::createPreparedLoadFlowParameters, c_parameters.get(), (char *) provider.data());
+}
+
+LoadFlowComponentResultArray* runLoadFlowWithPreparedParameters(const JavaHandle& network, const JavaHandle& preparedParameters, bool dc, JavaHandle* reportNode) {
+    return new LoadFlowComponentResultArray(
+            PowsyblCaller::get()->callJava<array*>(::runLoadFlowWithPreparedParameters, network, preparedParameters, dc, (reportNode == nullptr) ? nullptr : *reportNode));
+}
+
+SeriesArray* runLoadFlowBatch(const JavaHandle& network, const std::vector<std::string>& variantIds, const LoadFlowParameters& parameters,
+                              const std::string& provider, int threadCount) {
+    auto c_parameters = parameters.to_c_struct();
+    ToCharPtrPtr variantIdsPtr(variantIds);
+    return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::runLoadFlowBatch, network, variantIdsPtr.get(), variantIds.size(),
+                                                                  c_parameters.get(), (char *) provider.data(), threadCount));
+}
+
+JavaHandle createTimeSeriesLoadFlow(int timestepCount) {
+    return PowsyblCaller::get()->callJava<JavaHandle>(::createTimeSeriesLoadFlow, timestepCount);
+}
+
+void addTimeSeriesLoadFlowInjectionProfile(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute, const std::vector<std::string>& elementIds,
+                                           double* values, int valueCount) {
+    ToCharPtrPtr elementIdsPtr(elementIds);
+    PowsyblCaller::get()->callJava(::addTimeSeriesLoadFlowInjectionProfile, timeSeriesLoadFlow, (char*) attribute.c_str(),
+                                   elementIdsPtr.get(), elementIds.size(), values, valueCount);
+}
+
+void addTimeSeriesLoadFlowOutput(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute, const std::vector<std::string>& elementIds) {
+    ToCharPtrPtr elementIdsPtr(elementIds);
+    PowsyblCaller::get()->callJava(::addTimeSeriesLoadFlowOutput, timeSeriesLoadFlow, (char*) attribute.c_str(),
+                                   elementIdsPtr.get(), elementIds.size());
+}
+
+SeriesArray* runTimeSeriesLoadFlow(const JavaHandle& timeSeriesLoadFlow, const JavaHandle& network, const LoadFlowParameters& parameters,
+                                   const std::string& provider, JavaHandle* reportNode) {
+    auto c_parameters = parameters.to_c_struct();
+    return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::runTimeSeriesLoadFlow, timeSeriesLoadFlow, network, c_parameters.get(),
+                                                                  (char *) provider.data(), (reportNode == nullptr) ? nullptr : *reportNode));
+}
+
+std::shared_ptr<matrix> getTimeSeriesLoadFlowOutputMatrix(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute) {
+    matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getTimeSeriesLoadFlowOutputMatrix, timeSeriesLoadFlow, (char*) attribute.c_str());
+    return std::shared_ptr<matrix>(m, [](matrix* ptr) {
+        PowsyblCaller::get()->callJava(::freeSensitivityMatrix, ptr);
+    });
+}
+
 SeriesArray* runLoadFlowValidation(const JavaHandle& network, validation_type validationType, const LoadFlowValidationParameters& loadflow_validation_parameters) {
     auto c_validation_parameters = loadflow_validation_parameters.to_c_struct();
     return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::runLoadFlowValidation, network, validationType, c_validation_parameters.get()));
@@ -1146,16 +1207,54 @@ void addContingencyFromJsonFile(const JavaHandle& analysisContext, const std::st
     PowsyblCaller::get()->callJava(::addContingencyFromJsonFile, analysisContext, (char*) jsonFilePath.data());
 }
 
+void addContingencies(const JavaHandle& analysisContext, dataframe* dataframe) {
+    PowsyblCaller::get()->callJava<>(::addContingencies, analysisContext, dataframe);
+}
+
+JavaHandle createContingencyList() {
+    return PowsyblCaller::get()->callJava<JavaHandle>(::createContingencyList);
+}
+
+void addContingencyList(const JavaHandle& analysisContext, const JavaHandle& contingencyList) {
+    PowsyblCaller::get()->callJava(::addContingencyList, analysisContext, contingencyList);
+}
+
 void exportToJson(const JavaHandle& securityAnalysisResult, const std::string& jsonFilePath) {
     PowsyblCaller::get()->callJava(::exportToJson, securityAnalysisResult, (char*) jsonFilePath.data());
 }
 
+void exportSecurityAnalysisResultToBinary(const JavaHandle& securityAnalysisResult, const std::string& filePath) {
+    PowsyblCaller::get()->callJava(::exportSecurityAnalysisResultToBinary, securityAnalysisResult, (char*) filePath.data());
+}
+
+JavaHandle importSecurityAnalysisResultFromBinary(const std::string& filePath) {
+    return PowsyblCaller::get()->callJava<JavaHandle>(::importSecurityAnalysisResultFromBinary, (char*) filePath.data());
+}
+
 JavaHandle runSecurityAnalysis(const JavaHandle& securityAnalysisContext, const JavaHandle& network, const SecurityAnalysisParameters& parameters,
                                const std::string& provider, JavaHandle* reportNode) {
     auto c_parameters = parameters.to_c_struct();
     return PowsyblCaller::get()->callJava<JavaHandle>(::runSecurityAnalysis, securityAnalysisContext, network, c_parameters.get(), (char *) provider.data(), (reportNode == nullptr) ? nullptr : *reportNode);
 }
 
+void setSecurityAnalysisResultsDirectory(const JavaHandle& securityAnalysisContext, const std::string& directory, int contingencyBatchSize) {
+    PowsyblCaller::get()->callJava(::setSecurityAnalysisResultsDirectory, securityAnalysisContext, (char*) directory.data(), contingencyBatchSize);
+}
+
+void setSecurityAnalysisContingencyPartitionCount(const JavaHandle& securityAnalysisContext, int partitionCount) {
+    PowsyblCaller::get()->callJava(::setSecurityAnalysisContingencyPartitionCount, securityAnalysisContext, partitionCount);
+}
+
+void setSecurityAnalysisScreening(const JavaHandle& securityAnalysisContext, int criticalContingencyCount, double severityBudget,
+                                  const std::string& contingencyOrder, int batchSize) {
+    PowsyblCaller::get()->callJava(::setSecurityAnalysisScreening, securityAnalysisContext, criticalContingencyCount, severityBudget,
+                                   (char*) contingencyOrder.data(), batchSize);
+}
+
+void setSecurityAnalysisIncremental(const JavaHandle& securityAnalysisContext, bool incremental) {
+    PowsyblCaller::get()->callJava(::setSecurityAnalysisIncremental, securityAnalysisContext, incremental);
+}
+
 JavaHandle createSensitivityAnalysis() {
     return PowsyblCaller::get()->callJava<JavaHandle>(::createSensitivityAnalysis);
 }
@@ -1222,6 +1321,14 @@ void addLimitReductions(const JavaHandle& analysisContext, dataframe* dataframe)
     PowsyblCaller::get()->callJava<>(::addLimitReductions, analysisContext, dataframe);
 }
 
+void addActions(const JavaHandle& analysisContext, const std::string& actionType, dataframe* dataframe) {
+    PowsyblCaller::get()->callJava<>(::addActions, analysisContext, (char*) actionType.data(), dataframe);
+}
+
+void addOperatorStrategies(const JavaHandle& analysisContext, dataframe* dataframe) {
+    PowsyblCaller::get()->callJava<>(::addOperatorStrategies, analysisContext, dataframe);
+}
+
 ::zone* createZone(const std::string& id, const std::vector<std::string>& injectionsIds, const std::vector<double>& injectionsShiftKeys) {
     auto z = new ::zone;
     z->id = copyStringToCharPtr(id);
@@ -1282,31 +1389,76 @@ void addFactorMatrix(const JavaHandle& sensitivityAnalysisContext, std::string m
                   (char*) matrixId.c_str(), ContingencyContextType, sensitivityFunctionType, sensitivityVariableType);
 }
 
+void setSensitivityAnalysisSparseResults(const JavaHandle& sensitivityAnalysisContext, double threshold) {
+    PowsyblCaller::get()->callJava(::setSensitivityAnalysisSparseResults, sensitivityAnalysisContext, threshold);
+}
+
+void setSensitivityAnalysisContingencyChunkCount(const JavaHandle& sensitivityAnalysisContext, int chunkCount) {
+    PowsyblCaller::get()->callJava(::setSensitivityAnalysisContingencyChunkCount, sensitivityAnalysisContext, chunkCount);
+}
+
+void setSensitivityAnalysisSessionEnabled(const JavaHandle& sensitivityAnalysisContext, bool sessionEnabled) {
+    PowsyblCaller::get()->callJava(::setSensitivityAnalysisSessionEnabled, sensitivityAnalysisContext, sessionEnabled);
+}
+
+void setSensitivityAnalysisResultsFile(const JavaHandle& sensitivityAnalysisContext, const std::string& resultsFile) {
+    PowsyblCaller::get()->callJava(::setSensitivityAnalysisResultsFile, sensitivityAnalysisContext, (char*) resultsFile.c_str());
+}
+
+void setSensitivityAnalysisUnmanagedResults(const JavaHandle& sensitivityAnalysisContext, bool unmanagedResults) {
+    PowsyblCaller::get()->callJava(::setSensitivityAnalysisUnmanagedResults, sensitivityAnalysisContext, unmanagedResults);
+}
+
 JavaHandle runSensitivityAnalysis(const JavaHandle& sensitivityAnalysisContext, const JavaHandle& network, SensitivityAnalysisParameters& parameters, const std::string& provider, JavaHandle* reportNode) {
     auto c_parameters = parameters.to_c_struct();
     return PowsyblCaller::get()->callJava<JavaHandle>(::runSensitivityAnalysis, sensitivityAnalysisContext, network, c_parameters.get(), (char *) provider.data(), (reportNode == nullptr) ? nullptr : *reportNode);
 }
 
-std::shared_ptr<matrix> getSensitivityMatrix(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId, const std::string& contingencyId) {
-    matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getSensitivityMatrix, sensitivityAnalysisResultContext,
-                                (char*) matrixId.c_str(), (char*) contingencyId.c_str());
+// matrix values may point to the result storage: the result is kept alive as long as the matrix is referenced
+std::shared_ptr<matrix> wrapSensitivityResultMatrix(const JavaHandle& sensitivityAnalysisResultContext, matrix* m) {
     if (m == nullptr) {
         return nullptr;
     }
-    return std::shared_ptr<matrix>(m, [](matrix* ptr) {
-        PowsyblCaller::get()->callJava(::freeSensitivityMatrix, ptr);
+    JavaHandle resultContext = sensitivityAnalysisResultContext;
+    return std::shared_ptr<matrix>(m, [resultContext](matrix* ptr) mutable {
+        PowsyblCaller::get()->callJava(::freeSensitivityResultMatrix, resultContext, ptr);
     });
 }
 
+std::shared_ptr<matrix> getSensitivityMatrix(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId, const std::string& contingencyId) {
+    matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getSensitivityMatrix, sensitivityAnalysisResultContext,
+                                (char*) matrixId.c_str(), (char*) contingencyId.c_str());
+    return wrapSensitivityResultMatrix(sensitivityAnalysisResultContext, m);
+}
+
 std::shared_ptr<matrix> getReferenceMatrix(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId, const std::string& contingencyId) {
     matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getReferenceMatrix, sensitivityAnalysisResultContext,
                                 (char*) matrixId.c_str(), (char*) contingencyId.c_str());
-    if (m == nullptr) {
-        return nullptr;
-    }
-    return std::shared_ptr<matrix>(m, [](matrix* ptr) {
-        PowsyblCaller::get()->callJava(::freeSensitivityMatrix, ptr);
-    });
+    return wrapSensitivityResultMatrix(sensitivityAnalysisResultContext, m);
+}
+
+std::shared_ptr<matrix> getSensitivityMatrices(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId) {
+    matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getSensitivityMatrices, sensitivityAnalysisResultContext, (char*) matrixId.c_str());
+    return wrapSensitivityResultMatrix(sensitivityAnalysisResultContext, m);
+}
+
+std::shared_ptr<matrix> getReferenceMatrices(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId) {
+    matrix* m = PowsyblCaller::get()->callJava<matrix*>(::getReferenceMatrices, sensitivityAnalysisResultContext, (char*) matrixId.c_str());
+    return wrapSensitivityResultMatrix(sensitivityAnalysisResultContext, m);
+}
+
+std::string getSensitivityResultsFile(const JavaHandle& sensitivityAnalysisResultContext) {
+    return toString(PowsyblCaller::get()->callJava<char*>(::getSensitivityResultsFile, sensitivityAnalysisResultContext));
+}
+
+std::vector<std::string> getSensitivityResultsContingencyIds(const JavaHandle& sensitivityAnalysisResultContext) {
+    auto contingencyIdsArrayPtr = PowsyblCaller::get()->callJava<array*>(::getSensitivityResultsContingencyIds, sensitivityAnalysisResultContext);
+    ToStringVector contingencyIds(contingencyIdsArrayPtr);
+    return contingencyIds.get();
+}
+
+SeriesArray* getSensitivityResultsMatricesLayout(const JavaHandle& sensitivityAnalysisResultContext) {
+    return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getSensitivityResultsMatricesLayout, sensitivityAnalysisResultContext));
 }
 
 SeriesArray* createNetworkElementsSeriesArray(const JavaHandle& network, element_type elementType, filter_attributes_type filterAttributesType, const std::vector<std::string>& attributes, dataframe* dataframe, bool perUnit, double nominalApparentPower) {
@@ -1378,6 +1530,16 @@ SeriesArray* getLimitViolations(const JavaHandle& securityAnalysisResult) {
     return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getLimitViolations, securityAnalysisResult));
 }
 
+SeriesArray* getFilteredSecurityAnalysisResults(const JavaHandle& securityAnalysisResult, const std::string& table,
+                                                const std::vector<std::string>& contingencyIds, const std::vector<std::string>& elementIds,
+                                                const std::string& valueColumn, double threshold, int topK) {
+    ToCharPtrPtr contingencyIdsPtr(contingencyIds);
+    ToCharPtrPtr elementIdsPtr(elementIds);
+    return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getFilteredSecurityAnalysisResults, securityAnalysisResult, (char*) table.data(),
+                                                                  contingencyIdsPtr.get(), contingencyIds.size(), elementIdsPtr.get(), elementIds.size(),
+                                                                  (char*) valueColumn.data(), threshold, topK));
+}
+
 SeriesArray* getBranchResults(const JavaHandle& securityAnalysisResult) {
     return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getBranchResults, securityAnalysisResult));
 }
@@ -1439,6 +1601,27 @@ std::vector<SeriesMetadata> getLimitReductionDataframeMetadata() {
     return res;
 }
 
+std::vector<SeriesMetadata> getContingenciesDataframeMetadata() {
+    dataframe_metadata* metadata = PowsyblCaller::get()->callJava<dataframe_metadata*>(::getContingenciesDataframeMetadata);
+    std::vector<SeriesMetadata> res = convertDataframeMetadata(metadata);
+    PowsyblCaller::get()->callJava(::freeDataframeMetadata, metadata);
+    return res;
+}
+
+std::vector<SeriesMetadata> getActionsDataframeMetadata(const std::string& actionType) {
+    dataframe_metadata* metadata = PowsyblCaller::get()->callJava<dataframe_metadata*>(::getActionsDataframeMetadata, (char*) actionType.data());
+    std::vector<SeriesMetadata> res = convertDataframeMetadata(metadata);
+    PowsyblCaller::get()->callJava(::freeDataframeMetadata, metadata);
+    return res;
+}
+
+std::vector<SeriesMetadata> getOperatorStrategiesDataframeMetadata() {
+    dataframe_metadata* metadata = PowsyblCaller::get()->callJava<dataframe_metadata*>(::getOperatorStrategiesDataframeMetadata);
+    std::vector<SeriesMetadata> res = convertDataframeMetadata(metadata);
+    PowsyblCaller::get()->callJava(::freeDataframeMetadata, metadata);
+    return res;
+}
+
 std::vector<SeriesMetadata> getNetworkDataframeMetadata(element_type elementType) {
     dataframe_metadata* metadata = pypowsybl::PowsyblCaller::get()->callJava<dataframe_metadata*>(::getSeriesMetadata, elementType);
     std::vector<SeriesMetadata> res = convertDataframeMetadata(metadata);
@@ -1619,6 +1802,10 @@ void addContingencyForFlowDecomposition(const JavaHandle& flowDecompositionConte
     PowsyblCaller::get()->callJava(::addContingencyForFlowDecomposition, flowDecompositionContext, (char*) contingencyId.data(), elementIdPtr.get(), elementsIds.size());
 }
 
+void addContingencyListForFlowDecomposition(const JavaHandle& flowDecompositionContext, const JavaHandle& contingencyList) {
+    PowsyblCaller::get()->callJava(::addContingencyListForFlowDecomposition, flowDecompositionContext, contingencyList);
+}
+
 void addPrecontingencyMonitoredElementsForFlowDecomposition(const JavaHandle& flowDecompositionContext, const std::vector<std::string>& branchIds) {
     ToCharPtrPtr branchIdPtr(branchIds);
     PowsyblCaller::get()->callJava(::addPrecontingencyMonitoredElementsForFlowDecomposition, flowDecompositionContext, branchIdPtr.get(), branchIds.size());
@@ -2072,6 +2259,10 @@ void setFaults(pypowsybl::JavaHandle analysisContext, dataframe* dataframe) {
     pypowsybl::PowsyblCaller::get()->callJava<>(::setFaults, analysisContext, dataframe);
 }
 
+void setShortCircuitAnalysisFaultPartitionCount(const JavaHandle& shortCircuitAnalysisContext, int partitionCount) {
+    PowsyblCaller::get()->callJava(::setShortCircuitAnalysisFaultPartitionCount, shortCircuitAnalysisContext, partitionCount);
+}
+
 SeriesArray* getFaultResults(const JavaHandle& shortCircuitAnalysisResult, bool withFortescueResult) {
     return new SeriesArray(PowsyblCaller::get()->callJava<array*>(::getShortCircuitAnalysisFaultResults, shortCircuitAnalysisResult, withFortescueResult));
 }
@@ -2508,4 +2699,20 @@ LoadFlowComponentResultArray* runGrid2opLoadFlow(const JavaHandle& network, cons
         (reportNode == nullptr) ? nullptr : *reportNode));
 }
 
+void runGrid2opDcPowerFlow(const JavaHandle& backendHandle) {
+    pypowsybl::PowsyblCaller::get()->callJava(::runGrid2opDcPowerFlow, backendHandle);
+}
+
+JavaHandle createGrid2opBackendSnapshot(const JavaHandle& backendHandle) {
+    return pypowsybl::PowsyblCaller::get()->callJava<JavaHandle>(::createGrid2opBackendSnapshot, backendHandle);
+}
+
+void restoreGrid2opBackendSnapshot(const JavaHandle& backendHandle, const JavaHandle& snapshotHandle) {
+    pypowsybl::PowsyblCaller::get()->callJava(::restoreGrid2opBackendSnapshot, backendHandle, snapshotHandle);
+}
+
+void freeGrid2opBackendSnapshot(const JavaHandle& backendHandle, const JavaHandle& snapshotHandle) {
+    pypowsybl::PowsyblCaller::get()->callJava(::freeGrid2opBackendSnapshot, backendHandle, snapshotHandle);
+}
+
 }
@@ -657,6 +657,12 @@ void setJavaLibraryPath(const std::string& javaLibraryPath);
 
 void setConfigRead(bool configRead);
 
+void configureComputationManager(int threadCount, const std::string& threadNamePrefix, bool workStealing);
+
+void resetComputationManager();
+
+SeriesArray* getComputationManagerExecutorMetrics();
+
 void setDefaultLoadFlowProvider(const std::string& loadFlowProvider);
 
 void setDefaultSecurityAnalysisProvider(const std::string& securityAnalysisProvider);
@@ -768,6 +774,22 @@ bool checkLoadFlowParameters(const LoadFlowParameters& parameters, const std::st
 
 LoadFlowComponentResultArray* runLoadFlow(const JavaHandle& network, const LoadFlowParameters& parameters, const std::string& provider, JavaHandle* reportNode);
 
+JavaHandle createPreparedLoadFlowParameters(const LoadFlowParameters& parameters, const std::string& provider);
+
+LoadFlowComponentResultArray* runLoadFlowWithPreparedParameters(const JavaHandle& network, const JavaHandle& preparedParameters, bool dc, JavaHandle* reportNode);
+
+SeriesArray* runLoadFlowBatch(const JavaHandle& network, const std::vector<std::string>& variantIds, const LoadFlowParameters& parameters, const std::string& provider, int threadCount);
+
+JavaHandle createTimeSeriesLoadFlow(int timestepCount);
+
+void addTimeSeriesLoadFlowInjectionProfile(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute, const std::vector<std::string>& elementIds, double* values, int valueCount);
+
+void addTimeSeriesLoadFlowOutput(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute, const std::vector<std::string>& elementIds);
+
+SeriesArray* runTimeSeriesLoadFlow(const JavaHandle& timeSeriesLoadFlow, const JavaHandle& network, const LoadFlowParameters& parameters, const std::string& provider, JavaHandle* reportNode);
+
+std::shared_ptr<matrix> getTimeSeriesLoadFlowOutputMatrix(const JavaHandle& timeSeriesLoadFlow, const std::string& attribute);
+
 SeriesArray* runLoadFlowValidation(const JavaHandle& network, validation_type validationType, const LoadFlowValidationParameters& validationParameters);
 
 void writeSingleLineDiagramSvg(const JavaHandle& network, const std::string& containerId, const std::string& svgFile, const std::string& metadataFile, const SldParameters& parameters, dataframe* labels, dataframe* feeders_info, dataframe* styles);
@@ -808,10 +830,31 @@ void addContingency(const JavaHandle& analysisContext, const std::string& contin
 
 void addContingencyFromJsonFile(const JavaHandle& analysisContext, const std::string& jsonFilePath);
 
+std::vector<SeriesMetadata> getContingenciesDataframeMetadata();
+
+void addContingencies(const JavaHandle& analysisContext, dataframe* dataframe);
+
+JavaHandle createContingencyList();
+
+void addContingencyList(const JavaHandle& analysisContext, const JavaHandle& contingencyList);
+
 void exportToJson(const JavaHandle& securityAnalysisResult, const std::string& jsonFilePath);
 
+void exportSecurityAnalysisResultToBinary(const JavaHandle& securityAnalysisResult, const std::string& filePath);
+
+JavaHandle importSecurityAnalysisResultFromBinary(const std::string& filePath);
+
 JavaHandle runSecurityAnalysis(const JavaHandle& securityAnalysisContext, const JavaHandle& network, const SecurityAnalysisParameters& parameters, const std::string& provider, JavaHandle* reportNode);
 
+void setSecurityAnalysisResultsDirectory(const JavaHandle& securityAnalysisContext, const std::string& directory, int contingencyBatchSize);
+
+void setSecurityAnalysisContingencyPartitionCount(const JavaHandle& securityAnalysisContext, int partitionCount);
+
+void setSecurityAnalysisScreening(const JavaHandle& securityAnalysisContext, int criticalContingencyCount, double severityBudget,
+                                  const std::string& contingencyOrder, int batchSize);
+
+void setSecurityAnalysisIncremental(const JavaHandle& securityAnalysisContext, bool incremental);
+
 JavaHandle createSensitivityAnalysis();
 
 void addLoadActivePowerAction(const JavaHandle& analysisContext, const std::string& actionId, const std::string& loadId, bool relativeValue, double activePower);
@@ -842,18 +885,46 @@ std::vector<SeriesMetadata> getLimitReductionDataframeMetadata();
 
 void addLimitReductions(const JavaHandle& analysisContext, dataframe* dataframe);
 
+std::vector<SeriesMetadata> getActionsDataframeMetadata(const std::string& actionType);
+
+void addActions(const JavaHandle& analysisContext, const std::string& actionType, dataframe* dataframe);
+
+std::vector<SeriesMetadata> getOperatorStrategiesDataframeMetadata();
+
+void addOperatorStrategies(const JavaHandle& analysisContext, dataframe* dataframe);
+
 void setZones(const JavaHandle& sensitivityAnalysisContext, const std::vector<::zone*>& zones);
 
 void addFactorMatrix(const JavaHandle& sensitivityAnalysisContext, std::string matrixId, const std::vector<std::string>& branchesIds,
                      const std::vector<std::string>& variablesIds, const std::vector<std::string>& contingenciesIds, contingency_context_type ContingencyContextType,
                      sensitivity_function_type sensitivityFunctionType, sensitivity_variable_type sensitivityVariableType);
 
+void setSensitivityAnalysisSparseResults(const JavaHandle& sensitivityAnalysisContext, double threshold);
+
+void setSensitivityAnalysisContingencyChunkCount(const JavaHandle& sensitivityAnalysisContext, int chunkCount);
+
+void setSensitivityAnalysisSessionEnabled(const JavaHandle& sensitivityAnalysisContext, bool sessionEnabled);
+
+void setSensitivityAnalysisResultsFile(const JavaHandle& sensitivityAnalysisContext, const std::string& resultsFile);
+
+void setSensitivityAnalysisUnmanagedResults(const JavaHandle& sensitivityAnalysisContext, bool unmanagedResults);
+
 JavaHandle runSensitivityAnalysis(const JavaHandle& sensitivityAnalysisContext, const JavaHandle& network, SensitivityAnalysisParameters& parameters, const std::string& provider, JavaHandle* reportNode);
 
 std::shared_ptr<matrix> getSensitivityMatrix(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId, const std::string &contingencyId);
 
 std::shared_ptr<matrix> getReferenceMatrix(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId, const std::string& contingencyId);
 
+std::shared_ptr<matrix> getSensitivityMatrices(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId);
+
+std::shared_ptr<matrix> getReferenceMatrices(const JavaHandle& sensitivityAnalysisResultContext, const std::string& matrixId);
+
+std::string getSensitivityResultsFile(const JavaHandle& sensitivityAnalysisResultContext);
+
+std::vector<std::string> getSensitivityResultsContingencyIds(const JavaHandle& sensitivityAnalysisResultContext);
+
+SeriesArray* getSensitivityResultsMatricesLayout(const JavaHandle& sensitivityAnalysisResultContext);
+
 SeriesArray* createNetworkElementsSeriesArray(const JavaHandle& network, element_type elementType, filter_attributes_type filterAttributesType, const std::vector<std::string>& attributes, dataframe* dataframe, bool perUnit, double nominalApparentPower);
 
 void removeNetworkElements(const JavaHandle& network, const std::vector<std::string>& elementIds);
@@ -888,6 +959,10 @@ OperatorStrategyResultArray* getOperatorStrategyResults(const JavaHandle& securi
 
 pre_contingency_result* getPreContingencyResult(const JavaHandle& securityAnalysisResult);
 
+SeriesArray* getFilteredSecurityAnalysisResults(const JavaHandle& securityAnalysisResult, const std::string& table,
+                                                const std::vector<std::string>& contingencyIds, const std::vector<std::string>& elementIds,
+                                                const std::string& valueColumn, double threshold, int topK);
+
 SeriesArray* getBranchResults(const JavaHandle& securityAnalysisResult);
 
 SeriesArray* getBusResults(const JavaHandle& securityAnalysisResult);
@@ -964,6 +1039,8 @@ JavaHandle createFlowDecomposition();
 
 void addContingencyForFlowDecomposition(const JavaHandle& flowDecompositionContext, const std::string& contingencyId, const std::vector<std::string>& elementsIds);
 
+void addContingencyListForFlowDecomposition(const JavaHandle& flowDecompositionContext, const JavaHandle& contingencyList);
+
 void addPrecontingencyMonitoredElementsForFlowDecomposition(const JavaHandle& flowDecompositionContext, const std::vector<std::string>& branchIds);
 
 void addPostcontingencyMonitoredElementsForFlowDecomposition(const JavaHandle& flowDecompositionContext, const std::vector<std::string>& branchIds, const std::vector<std::string>& contingencyIds);
@@ -1092,6 +1169,7 @@ JavaHandle createShortCircuitAnalysis();
 JavaHandle runShortCircuitAnalysis(const JavaHandle& shortCircuitAnalysisContext, const JavaHandle& network, const ShortCircuitAnalysisParameters& parameters, const std::string& provider, JavaHandle* reportNode);
 std::vector<SeriesMetadata> getFaultsMetaData();
 void setFaults(pypowsybl::JavaHandle analysisContext, dataframe* dataframe);
+void setShortCircuitAnalysisFaultPartitionCount(const JavaHandle& shortCircuitAnalysisContext, int partitionCount);
 SeriesArray* getFaultResults(const JavaHandle& shortCircuitAnalysisResult, bool withFortescueResult);
 SeriesArray* getFeederResults(const JavaHandle& shortCircuitAnalysisResult, bool withFortescueResult);
 SeriesArray* getShortCircuitLimitViolations(const JavaHandle& shortCircuitAnalysisResult);
@@ -1165,6 +1243,10 @@ void updateGrid2opDoubleValue(const JavaHandle& backendHandle, Grid2opUpdateDoub
 void updateGrid2opIntegerValue(const JavaHandle& backendHandle, Grid2opUpdateIntegerValueType valueType, int* valuePtr, int* changedPtr);
 bool checkGrid2opIsolatedAndDisconnectedInjections(const JavaHandle& backendHandle);
 LoadFlowComponentResultArray* runGrid2opLoadFlow(const JavaHandle& network, const LoadFlowParameters& parameters, JavaHandle* reportNode);
+void runGrid2opDcPowerFlow(const JavaHandle& backendHandle);
+JavaHandle createGrid2opBackendSnapshot(const JavaHandle& backendHandle);
+void restoreGrid2opBackendSnapshot(const JavaHandle& backendHandle, const JavaHandle& snapshotHandle);
+void freeGrid2opBackendSnapshot(const JavaHandle& backendHandle, const JavaHandle& snapshotHandle);
 
 }
 #endif //PYPOWSYBL_H
@@ -41,6 +41,17 @@ void runLoadFlowAsyncPython(const pypowsybl::JavaHandle& network, const std::str
                             const pypowsybl::LoadFlowParameters& parameters, const std::string& provider,
                             pypowsybl::JavaHandle* reportNode, py::object resultsFuture);
 
+void runGrid2opLoadFlowAsyncPython(const pypowsybl::JavaHandle& backend, const pypowsybl::LoadFlowParameters& parameters,
+                                   pypowsybl::JavaHandle* reportNode, py::object resultsFuture);
+
+void runLoadFlowAsyncWithPreparedParametersPython(const pypowsybl::JavaHandle& network, const std::string& variantId,
+                                                  const pypowsybl::JavaHandle& preparedParameters, bool dc,
+                                                  pypowsybl::JavaHandle* reportNode, py::object resultsFuture);
+
+bool runSensitivityAnalysisStreamingPython(const pypowsybl::JavaHandle& sensitivityAnalysisContext, const pypowsybl::JavaHandle& network,
+                                           pypowsybl::SensitivityAnalysisParameters& parameters, const std::string& provider,
+                                           pypowsybl::JavaHandle* reportNode, py::function matrixCallback);
+
 template<typename T>
 void bindArray(py::module_& m, const std::string& className) {
     py::class_<T>(m, className.c_str())
@@ -178,6 +189,12 @@ py::memoryview pyGetGrid2opDoubleValue(const pypowsybl::JavaHandle& backendHandl
     );
 }
 
+void pyAddTimeSeriesLoadFlowInjectionProfile(const pypowsybl::JavaHandle& timeSeriesLoadFlow, const std::string& attribute,
+                                             const std::vector<std::string>& elementIds,
+                                             py::array_t<double, py::array::c_style | py::array::forcecast> values) {
+    pypowsybl::addTimeSeriesLoadFlowInjectionProfile(timeSeriesLoadFlow, attribute, elementIds, values.mutable_data(), values.size());
+}
+
 void pyUpdateGrid2opDoubleValue(const pypowsybl::JavaHandle& backendHandle, Grid2opUpdateDoubleValueType valueType,
                                 py::array_t<double, py::array::c_style | py::array::forcecast> value_array,
                                 py::array_t<int, py::array::c_style | py::array::forcecast> changed_array) {
@@ -331,6 +348,14 @@ PYBIND11_MODULE(_pypowsybl, m) {
 
     m.def("set_config_read", &pypowsybl::setConfigRead, "Set config read mode");
 
+    m.def("configure_computation_manager", &pypowsybl::configureComputationManager, "Use a dedicated executor for the computation manager",
+          py::call_guard<py::gil_scoped_release>(), py::arg("thread_count"), py::arg("thread_name_prefix"), py::arg("work_stealing"));
+
+    m.def("reset_computation_manager", &pypowsybl::resetComputationManager, "Go back to the default computation manager",
+          py::call_guard<py::gil_scoped_release>());
+
+    m.def("get_computation_manager_executor_metrics", &pypowsybl::getComputationManagerExecutorMetrics, "Get the computation manager executor metrics");
+
     m.def("set_default_loadflow_provider", &pypowsybl::setDefaultLoadFlowProvider, "Set default loadflow provider", py::arg("provider"));
 
     m.def("set_default_security_analysis_provider", &pypowsybl::setDefaultSecurityAnalysisProvider, "Set default security analysis provider", py::arg("provider"));
@@ -663,6 +688,33 @@ PYBIND11_MODULE(_pypowsybl, m) {
           py::arg("network"), py::arg("variant_id"), py::arg("parameters"), py::arg("provider"), py::arg("report_node"),
           py::arg("results_future"));
 
+    m.def("create_prepared_loadflow_parameters", &pypowsybl::createPreparedLoadFlowParameters, "Convert load flow parameters once for reuse by several runs",
+          py::arg("parameters"), py::arg("provider"));
+
+    m.def("run_loadflow_with_prepared_parameters", &pypowsybl::runLoadFlowWithPreparedParameters, "Run a load flow with prepared parameters", py::call_guard<py::gil_scoped_release>(),
+          py::arg("network"), py::arg("prepared_parameters"), py::arg("dc"), py::arg("report_node"));
+
+    m.def("run_loadflow_async_with_prepared_parameters", &runLoadFlowAsyncWithPreparedParametersPython, "Run a load flow asynchronously with prepared parameters", py::call_guard<py::gil_scoped_release>(),
+          py::arg("network"), py::arg("variant_id"), py::arg("prepared_parameters"), py::arg("dc"), py::arg("report_node"),
+          py::arg("results_future"));
+
+    m.def("run_loadflow_batch", &pypowsybl::runLoadFlowBatch, "Run a load flow on several variants in parallel", py::call_guard<py::gil_scoped_release>(),
+          py::arg("network"), py::arg("variant_ids"), py::arg("parameters"), py::arg("provider"), py::arg("thread_count"));
+
+    m.def("create_time_series_loadflow", &pypowsybl::createTimeSeriesLoadFlow, "Create a time series load flow", py::arg("timestep_count"));
+
+    m.def("add_time_series_loadflow_injection_profile", &::pyAddTimeSeriesLoadFlowInjectionProfile, "Add injection setpoints profiles to a time series load flow",
+          py::arg("time_series_loadflow"), py::arg("attribute"), py::arg("element_ids"), py::arg("values"));
+
+    m.def("add_time_series_loadflow_output", &pypowsybl::addTimeSeriesLoadFlowOutput, "Add an output to a time series load flow",
+          py::arg("time_series_loadflow"), py::arg("attribute"), py::arg("element_ids"));
+
+    m.def("run_time_series_loadflow", &pypowsybl::runTimeSeriesLoadFlow, "Run a load flow on each timestep of a time series load flow", py::call_guard<py::gil_scoped_release>(),
+          py::arg("time_series_loadflow"), py::arg("network"), py::arg("parameters"), py::arg("provider"), py::arg("report_node"));
+
+    m.def("get_time_series_loadflow_output_matrix", &pypowsybl::getTimeSeriesLoadFlowOutputMatrix, "Get the timestep x element matrix of a time series load flow output",
+          py::arg("time_series_loadflow"), py::arg("attribute"));
+
     m.def("run_loadflow_validation", &pypowsybl::runLoadFlowValidation, "Run a load flow validation", py::arg("network"),
           py::arg("validation_type"), py::arg("validation_parameters"));
 
@@ -772,9 +824,25 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("add_contingency_from_json_file", &pypowsybl::addContingencyFromJsonFile, "Add contingencies from JSON file.",
           py::arg("analysis_context"), py::arg("path_to_json_file"));
 
+    m.def("get_contingencies_dataframe_metadata", &pypowsybl::getContingenciesDataframeMetadata, "Get contingencies dataframe metadata");
+
+    m.def("add_contingencies", &pypowsybl::addContingencies, "Add contingencies defined by one row per contingency element",
+          py::arg("analysis_context"), py::arg("dataframe"));
+
+    m.def("create_contingency_list", &pypowsybl::createContingencyList, "Create a contingency list which can be shared by several analyses");
+
+    m.def("add_contingency_list", &pypowsybl::addContingencyList, "Add the contingencies of a contingency list to an analysis or to another contingency list",
+          py::arg("analysis_context"), py::arg("contingency_list"));
+
     m.def("export_to_json", &pypowsybl::exportToJson, "Add the security analysis' output to the specified path in a JSON file.",
           py::arg("security_analysis_result"), py::arg("path"));
 
+    m.def("export_security_analysis_result_to_binary", &pypowsybl::exportSecurityAnalysisResultToBinary,
+          "Export a security analysis result to a compressed binary file", py::arg("security_analysis_result"), py::arg("path"));
+
+    m.def("import_security_analysis_result_from_binary", &pypowsybl::importSecurityAnalysisResultFromBinary,
+          "Import a security analysis result from a compressed binary file", py::arg("path"));
+
     m.def("add_load_active_power_action", &pypowsybl::addLoadActivePowerAction, "Add a load active power remedial action",
           py::arg("analysis_context"), py::arg("action_id"), py::arg("load_id"), py::arg("is_relative"), py::arg("active_power"));
 
@@ -813,6 +881,15 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("add_limit_reductions", &pypowsybl::addLimitReductions, "Add limit reductions to security analysis",
           py::arg("analysis_context"), py::arg("dataframe"));
 
+    m.def("get_actions_dataframe_metadata", &pypowsybl::getActionsDataframeMetadata, "Get actions dataframe metadata for an action type",
+          py::arg("action_type"));
+    m.def("add_actions", &pypowsybl::addActions, "Add actions of a type defined by one row per action",
+          py::arg("analysis_context"), py::arg("action_type"), py::arg("dataframe"));
+
+    m.def("get_operator_strategies_dataframe_metadata", &pypowsybl::getOperatorStrategiesDataframeMetadata, "Get operator strategies dataframe metadata");
+    m.def("add_operator_strategies", &pypowsybl::addOperatorStrategies, "Add operator strategies defined by one row per strategy action",
+          py::arg("analysis_context"), py::arg("dataframe"));
+
     py::enum_<pypowsybl::LimitType>(m, "LimitType")
             .value("ACTIVE_POWER", pypowsybl::LimitType::ACTIVE_POWER)
             .value("APPARENT_POWER", pypowsybl::LimitType::APPARENT_POWER)
@@ -1004,6 +1081,23 @@ PYBIND11_MODULE(_pypowsybl, m) {
           py::arg("security_analysis_context"), py::arg("network"), py::arg("parameters"),
           py::arg("provider"), py::arg("report_node"));
 
+    m.def("set_security_analysis_results_directory", &pypowsybl::setSecurityAnalysisResultsDirectory,
+          "Write network results to a directory while running, by batches of contingencies, an empty directory keeps results in memory",
+          py::arg("security_analysis_context"), py::arg("directory"), py::arg("contingency_batch_size"));
+
+    m.def("set_security_analysis_contingency_partition_count", &pypowsybl::setSecurityAnalysisContingencyPartitionCount,
+          "Split contingencies into partitions computed concurrently, each on its own variant",
+          py::arg("security_analysis_context"), py::arg("partition_count"));
+
+    m.def("set_security_analysis_screening", &pypowsybl::setSecurityAnalysisScreening,
+          "Stop the security analysis once enough critical contingencies have been found",
+          py::arg("security_analysis_context"), py::arg("critical_contingency_count"), py::arg("severity_budget"),
+          py::arg("contingency_order"), py::arg("batch_size"));
+
+    m.def("set_security_analysis_incremental", &pypowsybl::setSecurityAnalysisIncremental,
+          "Only compute again the contingencies whose branch limits may be violated since the previous run",
+          py::arg("security_analysis_context"), py::arg("incremental"));
+
     m.def("create_sensitivity_analysis", &pypowsybl::createSensitivityAnalysis, "Create run_sea sensitivity analysis");
 
     py::class_<::zone>(m, "Zone")
@@ -1019,9 +1113,34 @@ PYBIND11_MODULE(_pypowsybl, m) {
           py::arg("contingencies_ids"), py::arg("contingency_context_type"), py::arg("sensitivity_function_type"),
           py::arg("sensitivity_variable_type"));
 
+    m.def("set_sensitivity_analysis_sparse_results", &pypowsybl::setSensitivityAnalysisSparseResults,
+          "Only keep sensitivity values whose absolute value is greater or equal to a threshold, NaN to keep all values",
+          py::arg("sensitivity_analysis_context"), py::arg("threshold"));
+
+    m.def("set_sensitivity_analysis_contingency_chunk_count", &pypowsybl::setSensitivityAnalysisContingencyChunkCount,
+          "Split contingencies into chunks computed concurrently, each on its own copy of the working variant",
+          py::arg("sensitivity_analysis_context"), py::arg("chunk_count"));
+
+    m.def("set_sensitivity_analysis_session_enabled", &pypowsybl::setSensitivityAnalysisSessionEnabled,
+          "Keep contingencies and resolved factors between runs as long as the network topology does not change",
+          py::arg("sensitivity_analysis_context"), py::arg("session_enabled"));
+
+    m.def("set_sensitivity_analysis_unmanaged_results", &pypowsybl::setSensitivityAnalysisUnmanagedResults,
+          "Store sensitivity analysis results in unmanaged memory, so that matrices are returned without copy",
+          py::arg("sensitivity_analysis_context"), py::arg("unmanaged_results"));
+
+    m.def("set_sensitivity_analysis_results_file", &pypowsybl::setSensitivityAnalysisResultsFile,
+          "Store sensitivity analysis results in a memory-mapped file, empty to store them on the heap",
+          py::arg("sensitivity_analysis_context"), py::arg("results_file"));
+
     m.def("run_sensitivity_analysis", &pypowsybl::runSensitivityAnalysis, "Run a sensitivity analysis", py::call_guard<py::gil_scoped_release>(),
           py::arg("sensitivity_analysis_context"), py::arg("network"), py::arg("parameters"), py::arg("provider"), py::arg("report_node"));
 
+    m.def("run_sensitivity_analysis_streaming", &runSensitivityAnalysisStreamingPython,
+          "Run a sensitivity analysis, calling back with each matrix of each state as soon as it is computed", py::call_guard<py::gil_scoped_release>(),
+          py::arg("sensitivity_analysis_context"), py::arg("network"), py::arg("parameters"), py::arg("provider"), py::arg("report_node"),
+          py::arg("matrix_callback"));
+
     py::class_<matrix, std::shared_ptr<matrix>>(m, "Matrix", py::buffer_protocol())
             .def_buffer([](matrix& m) -> py::buffer_info {
                 return py::buffer_info(m.values,
@@ -1038,6 +1157,21 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("get_reference_matrix", &pypowsybl::getReferenceMatrix, "Get sensitivity analysis result reference matrix for a given contingency",
           py::arg("sensitivity_analysis_result_context"), py::arg("matrix_id"), py::arg("contingency_id"));
 
+    m.def("get_sensitivity_matrices", &pypowsybl::getSensitivityMatrices, "Get sensitivity analysis result matrix for all the states, stacked by row",
+          py::arg("sensitivity_analysis_result_context"), py::arg("matrix_id"));
+
+    m.def("get_reference_matrices", &pypowsybl::getReferenceMatrices, "Get sensitivity analysis result reference matrix for all the states, stacked by row",
+          py::arg("sensitivity_analysis_result_context"), py::arg("matrix_id"));
+
+    m.def("get_sensitivity_results_file", &pypowsybl::getSensitivityResultsFile, "Get the file where sensitivity analysis results are memory-mapped",
+          py::arg("sensitivity_analysis_result_context"));
+
+    m.def("get_sensitivity_results_contingency_ids", &pypowsybl::getSensitivityResultsContingencyIds, "Get the contingency IDs in sensitivity analysis results order",
+          py::arg("sensitivity_analysis_result_context"));
+
+    m.def("get_sensitivity_results_matrices_layout", &pypowsybl::getSensitivityResultsMatricesLayout, "Get the position of each matrix in sensitivity analysis results",
+          py::arg("sensitivity_analysis_result_context"));
+
     py::class_<series>(m, "Series")
             .def_property_readonly("name", [](const series& s) {
                 return s.name;
@@ -1159,6 +1293,11 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("get_switch_flows", &pypowsybl::getSwitchFlows, "get active and reactive flows for the provided switches", py::arg("network"), py::arg("switch_ids"));
     m.def("get_limit_violations", &pypowsybl::getLimitViolations, "get limit violations of a security analysis", py::arg("result"));
 
+    m.def("get_filtered_security_analysis_results", &pypowsybl::getFilteredSecurityAnalysisResults,
+          "get a security analysis result table filtered by contingencies, elements, threshold and top K values",
+          py::arg("result"), py::arg("table"), py::arg("contingency_ids"), py::arg("element_ids"), py::arg("value_column"),
+          py::arg("threshold"), py::arg("top_k"));
+
     m.def("get_branch_results", &pypowsybl::getBranchResults, "create a table with all branch results computed after security analysis",
           py::arg("result"));
     m.def("get_bus_results", &pypowsybl::getBusResults, "create a table with all bus results computed after security analysis",
@@ -1222,6 +1361,9 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("add_contingency_for_flow_decomposition", &pypowsybl::addContingencyForFlowDecomposition, "Add a contingency for flow decomposition",
           py::arg("flow_decomposition_context"), py::arg("contingency_id"), py::arg("elements_ids"));
 
+    m.def("add_contingency_list_for_flow_decomposition", &pypowsybl::addContingencyListForFlowDecomposition, "Add the contingencies of a contingency list for flow decomposition",
+          py::arg("flow_decomposition_context"), py::arg("contingency_list"));
+
     m.def("add_precontingency_monitored_elements_for_flow_decomposition", &pypowsybl::addPrecontingencyMonitoredElementsForFlowDecomposition, "Add elements before contingency to be monitored for a flow decomposition",
           py::arg("flow_decomposition_context"), py::arg("branch_ids"));
 
@@ -1355,6 +1497,9 @@ PYBIND11_MODULE(_pypowsybl, m) {
 
     m.def("get_faults_dataframes_metadata", &pypowsybl::getFaultsMetaData, "Get faults metadata");
     m.def("set_faults", &pypowsybl::setFaults, "define faults for a short-circuit analysis", py::arg("analysisContext"),  py::arg("dataframe"));
+    m.def("set_short_circuit_analysis_fault_partition_count", &pypowsybl::setShortCircuitAnalysisFaultPartitionCount,
+          "Split faults into partitions computed concurrently, each on its own variant",
+          py::arg("shortcircuit_analysis_context"), py::arg("partition_count"));
     m.def("get_fault_results", &pypowsybl::getFaultResults, "gets the fault results computed after short-circuit analysis",
           py::arg("result"), py::arg("with_fortescue_result"));
     m.def("get_feeder_results", &pypowsybl::getFeederResults, "gets the feeder results computed after short-circuit analysis",
@@ -1492,6 +1637,12 @@ PYBIND11_MODULE(_pypowsybl, m) {
     m.def("check_grid2op_isolated_and_disconnected_injections", &pypowsybl::checkGrid2opIsolatedAndDisconnectedInjections, "From a Grid2op backend check if there is isolated or disconnected injections", py::arg("backend"));
     m.def("run_grid2op_loadflow", &pypowsybl::runGrid2opLoadFlow, "From a Grid2op backend, run a load flow", py::call_guard<py::gil_scoped_release>(), py::arg("backend"), py::arg("parameters"),
         py::arg("report_node"));
+    m.def("run_grid2op_loadflow_async", &runGrid2opLoadFlowAsyncPython, "From a Grid2op backend, run a load flow asynchronously", py::call_guard<py::gil_scoped_release>(),
+          py::arg("backend"), py::arg("parameters"), py::arg("report_node"), py::arg("results_future"));
+    m.def("run_grid2op_dc_power_flow", &pypowsybl::runGrid2opDcPowerFlow, "From a Grid2op backend, run a fast DC power flow", py::call_guard<py::gil_scoped_release>(), py::arg("backend"));
+    m.def("create_grid2op_backend_snapshot", &pypowsybl::createGrid2opBackendSnapshot, "Save the state of a Grid2op backend", py::arg("backend"));
+    m.def("restore_grid2op_backend_snapshot", &pypowsybl::restoreGrid2opBackendSnapshot, "Restore a Grid2op backend to a previously saved state", py::arg("backend"), py::arg("snapshot"));
+    m.def("free_grid2op_backend_snapshot", &pypowsybl::freeGrid2opBackendSnapshot, "Free a Grid2op backend saved state", py::arg("backend"), py::arg("snapshot"));
 }
 
 void onLoadFlowResult(array* resultsPtr, void* resultFuturePtr) {
@@ -1533,6 +1684,83 @@ void runLoadFlowAsyncPython(const pypowsybl::JavaHandle& network, const std::str
                                               (void*) resultsFuturePtr);
 }
 
+void runGrid2opLoadFlowAsyncPython(const pypowsybl::JavaHandle& backend, const pypowsybl::LoadFlowParameters& parameters,
+                                   pypowsybl::JavaHandle* reportNode, py::object resultsFuture) {
+    auto c_parameters = parameters.to_c_struct();
+    auto onLoadFlowResultPtr = &onLoadFlowResult;
+    auto onLoadFlowExceptionPtr = &onLoadFlowException;
+    PyObject* resultsFuturePtr = resultsFuture.ptr();
+    Py_INCREF(resultsFuturePtr);  // to ensure we own the reference
+    pypowsybl::PowsyblCaller::get()->callJava(::runGrid2opLoadFlowAsync,
+                                              backend,
+                                              c_parameters.get(),
+                                              (reportNode == nullptr) ? nullptr : *reportNode,
+                                              reinterpret_cast<void *&>(onLoadFlowResultPtr),
+                                              reinterpret_cast<void *&>(onLoadFlowExceptionPtr),
+                                              (void*) resultsFuturePtr);
+}
+
+void runLoadFlowAsyncWithPreparedParametersPython(const pypowsybl::JavaHandle& network, const std::string& variantId,
+                                                  const pypowsybl::JavaHandle& preparedParameters, bool dc,
+                                                  pypowsybl::JavaHandle* reportNode, py::object resultsFuture) {
+    auto onLoadFlowResultPtr = &onLoadFlowResult;
+    auto onLoadFlowExceptionPtr = &onLoadFlowException;
+    PyObject* resultsFuturePtr = resultsFuture.ptr();
+    Py_INCREF(resultsFuturePtr);  // to ensure we own the reference
+    pypowsybl::PowsyblCaller::get()->callJava(::runLoadFlowAsyncWithPreparedParameters,
+                                              network,
+                                              (char*) variantId.data(),
+                                              preparedParameters,
+                                              dc,
+                                              (reportNode == nullptr) ? nullptr : *reportNode,
+                                              reinterpret_cast<void *&>(onLoadFlowResultPtr),
+                                              reinterpret_cast<void *&>(onLoadFlowExceptionPtr),
+                                              (void*) resultsFuturePtr);
+}
+
+py::array_t<double> copyMatrix(const matrix* m) {
+    py::array_t<double> array({m->row_count, m->column_count});
+    std::copy(m->values, m->values + m->row_count * m->column_count, array.mutable_data());
+    return array;
+}
+
+int onSensitivityMatrix(const char* contingencyId, const char* matrixId, matrix* values, matrix* references, void* matrixCallbackPtr) {
+    py::gil_scoped_acquire acquire;
+    py::handle matrixCallback((PyObject*) matrixCallbackPtr);
+    try {
+        // matrices are freed by Java once the callback returns, so they have to be copied
+        py::object result = matrixCallback(contingencyId, matrixId, copyMatrix(values), copyMatrix(references));
+        if (result.is_none()) {
+            return 1;
+        }
+        int carryOn = PyObject_IsTrue(result.ptr());
+        if (carryOn < 0) {
+            throw py::error_already_set();
+        }
+        return carryOn;
+    } catch (py::error_already_set& err) {
+        err.discard_as_unraisable(__func__);
+        return 0;
+    }
+}
+
+bool runSensitivityAnalysisStreamingPython(const pypowsybl::JavaHandle& sensitivityAnalysisContext, const pypowsybl::JavaHandle& network,
+                                           pypowsybl::SensitivityAnalysisParameters& parameters, const std::string& provider,
+                                           pypowsybl::JavaHandle* reportNode, py::function matrixCallback) {
+    auto c_parameters = parameters.to_c_struct();
+    auto onSensitivityMatrixPtr = &onSensitivityMatrix;
+    // the callback stays referenced by the caller for the whole (synchronous) run
+    PyObject* matrixCallbackPtr = matrixCallback.ptr();
+    return pypowsybl::PowsyblCaller::get()->callJava<bool>(::runSensitivityAnalysisStreaming,
+                                                           sensitivityAnalysisContext,
+                                                           network,
+                                                           c_parameters.get(),
+                                                           (char*) provider.data(),
+                                                           (reportNode == nullptr) ? nullptr : *reportNode,
+                                                           reinterpret_cast<void *&>(onSensitivityMatrixPtr),
+                                                           (void*) matrixCallbackPtr);
+}
+
 void setLogLevelFromPythonLogger(pypowsybl::GraalVmGuard* guard, exception_handler* exc) {
     py::object logger = CppToPythonLogger::get()->getLogger();
     if (!logger.is_none()) {
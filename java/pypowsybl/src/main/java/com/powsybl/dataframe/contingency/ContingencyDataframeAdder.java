@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dataframe.contingency;
+
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.dataframe.network.adders.SeriesUtils;
+import com.powsybl.dataframe.update.StringSeries;
+import com.powsybl.dataframe.update.UpdatingDataframe;
+import com.powsybl.python.contingency.ContingencyContainer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds contingencies defined by one row per contingency element, rows of a same contingency ID being grouped into
+ * one contingency, in order of first appearance.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class ContingencyDataframeAdder {
+
+    private static final List<SeriesMetadata> METADATA = List.of(
+            SeriesMetadata.stringIndex("contingency_id"),
+            SeriesMetadata.strings("element_id")
+    );
+
+    public List<SeriesMetadata> getMetadata() {
+        return METADATA;
+    }
+
+    public void addElements(ContingencyContainer container, UpdatingDataframe dataframe) {
+        if (dataframe.getRowCount() > 0) {
+            StringSeries contingencyIds = SeriesUtils.getRequiredStrings(dataframe, "contingency_id");
+            StringSeries elementIds = SeriesUtils.getRequiredStrings(dataframe, "element_id");
+            Map<String, List<String>> elementIdsByContingencyId = new LinkedHashMap<>();
+            for (int row = 0; row < dataframe.getRowCount(); row++) {
+                elementIdsByContingencyId.computeIfAbsent(contingencyIds.get(row), k -> new ArrayList<>(1))
+                        .add(elementIds.get(row));
+            }
+            elementIdsByContingencyId.forEach(container::addContingency);
+        }
+    }
+}
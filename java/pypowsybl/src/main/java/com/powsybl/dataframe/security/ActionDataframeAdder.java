@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dataframe.security;
+
+import com.powsybl.action.*;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.dataframe.network.adders.SeriesUtils;
+import com.powsybl.dataframe.update.DoubleSeries;
+import com.powsybl.dataframe.update.IntSeries;
+import com.powsybl.dataframe.update.StringSeries;
+import com.powsybl.dataframe.update.UpdatingDataframe;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.python.security.SecurityAnalysisContext;
+
+import java.util.List;
+
+/**
+ * Adds actions of one type defined by one row per action.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class ActionDataframeAdder {
+
+    public enum ActionType {
+        LOAD_ACTIVE_POWER(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("load_id"),
+                SeriesMetadata.booleans("is_relative"),
+                SeriesMetadata.doubles("active_power"))),
+        LOAD_REACTIVE_POWER(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("load_id"),
+                SeriesMetadata.booleans("is_relative"),
+                SeriesMetadata.doubles("reactive_power"))),
+        GENERATOR_ACTIVE_POWER(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("generator_id"),
+                SeriesMetadata.booleans("is_relative"),
+                SeriesMetadata.doubles("active_power"))),
+        SWITCH(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("switch_id"),
+                SeriesMetadata.booleans("open"))),
+        PHASE_TAP_CHANGER_POSITION(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("transformer_id"),
+                SeriesMetadata.booleans("is_relative"),
+                SeriesMetadata.ints("tap_position"),
+                SeriesMetadata.strings("side"))),
+        RATIO_TAP_CHANGER_POSITION(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("transformer_id"),
+                SeriesMetadata.booleans("is_relative"),
+                SeriesMetadata.ints("tap_position"),
+                SeriesMetadata.strings("side"))),
+        SHUNT_COMPENSATOR_POSITION(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("shunt_id"),
+                SeriesMetadata.ints("section"))),
+        TERMINALS_CONNECTION(List.of(
+                SeriesMetadata.stringIndex("action_id"),
+                SeriesMetadata.strings("element_id"),
+                SeriesMetadata.strings("side"),
+                SeriesMetadata.booleans("opening")));
+
+        private final List<SeriesMetadata> metadata;
+
+        ActionType(List<SeriesMetadata> metadata) {
+            this.metadata = metadata;
+        }
+    }
+
+    public List<SeriesMetadata> getMetadata(ActionType type) {
+        return type.metadata;
+    }
+
+    /**
+     * @return the side, null if the side column is missing or empty
+     */
+    private static ThreeSides getSide(StringSeries sides, int row) {
+        if (sides == null || sides.get(row) == null || sides.get(row).isEmpty()) {
+            return null;
+        }
+        return ThreeSides.valueOf(sides.get(row));
+    }
+
+    public void addElements(SecurityAnalysisContext context, ActionType type, UpdatingDataframe dataframe) {
+        if (dataframe.getRowCount() == 0) {
+            return;
+        }
+        StringSeries actionIds = SeriesUtils.getRequiredStrings(dataframe, "action_id");
+        switch (type) {
+            case LOAD_ACTIVE_POWER, LOAD_REACTIVE_POWER -> {
+                StringSeries loadIds = SeriesUtils.getRequiredStrings(dataframe, "load_id");
+                IntSeries relatives = SeriesUtils.getRequiredInts(dataframe, "is_relative");
+                DoubleSeries values = SeriesUtils.getRequiredDoubles(dataframe,
+                        type == ActionType.LOAD_ACTIVE_POWER ? "active_power" : "reactive_power");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    LoadActionBuilder builder = new LoadActionBuilder().withId(actionIds.get(row))
+                            .withLoadId(loadIds.get(row))
+                            .withRelativeValue(relatives.get(row) == 1);
+                    if (type == ActionType.LOAD_ACTIVE_POWER) {
+                        builder.withActivePowerValue(values.get(row));
+                    } else {
+                        builder.withReactivePowerValue(values.get(row));
+                    }
+                    context.addAction(builder.build());
+                }
+            }
+            case GENERATOR_ACTIVE_POWER -> {
+                StringSeries generatorIds = SeriesUtils.getRequiredStrings(dataframe, "generator_id");
+                IntSeries relatives = SeriesUtils.getRequiredInts(dataframe, "is_relative");
+                DoubleSeries activePowers = SeriesUtils.getRequiredDoubles(dataframe, "active_power");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    context.addAction(new GeneratorActionBuilder().withId(actionIds.get(row))
+                            .withGeneratorId(generatorIds.get(row))
+                            .withActivePowerRelativeValue(relatives.get(row) == 1)
+                            .withActivePowerValue(activePowers.get(row))
+                            .build());
+                }
+            }
+            case SWITCH -> {
+                StringSeries switchIds = SeriesUtils.getRequiredStrings(dataframe, "switch_id");
+                IntSeries opens = SeriesUtils.getRequiredInts(dataframe, "open");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    context.addAction(new SwitchAction(actionIds.get(row), switchIds.get(row), opens.get(row) == 1));
+                }
+            }
+            case PHASE_TAP_CHANGER_POSITION, RATIO_TAP_CHANGER_POSITION -> {
+                StringSeries transformerIds = SeriesUtils.getRequiredStrings(dataframe, "transformer_id");
+                IntSeries relatives = SeriesUtils.getRequiredInts(dataframe, "is_relative");
+                IntSeries tapPositions = SeriesUtils.getRequiredInts(dataframe, "tap_position");
+                StringSeries sides = dataframe.getStrings("side");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    String actionId = actionIds.get(row);
+                    String transformerId = transformerIds.get(row);
+                    boolean relative = relatives.get(row) == 1;
+                    int tapPosition = tapPositions.get(row);
+                    ThreeSides side = getSide(sides, row);
+                    context.addAction(type == ActionType.PHASE_TAP_CHANGER_POSITION
+                            ? new PhaseTapChangerTapPositionAction(actionId, transformerId, relative, tapPosition, side)
+                            : new RatioTapChangerTapPositionAction(actionId, transformerId, relative, tapPosition, side));
+                }
+            }
+            case SHUNT_COMPENSATOR_POSITION -> {
+                StringSeries shuntIds = SeriesUtils.getRequiredStrings(dataframe, "shunt_id");
+                IntSeries sections = SeriesUtils.getRequiredInts(dataframe, "section");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    context.addAction(new ShuntCompensatorPositionActionBuilder().withId(actionIds.get(row))
+                            .withShuntCompensatorId(shuntIds.get(row))
+                            .withSectionCount(sections.get(row))
+                            .build());
+                }
+            }
+            case TERMINALS_CONNECTION -> {
+                StringSeries elementIds = SeriesUtils.getRequiredStrings(dataframe, "element_id");
+                StringSeries sides = dataframe.getStrings("side");
+                IntSeries openings = dataframe.getInts("opening");
+                for (int row = 0; row < dataframe.getRowCount(); row++) {
+                    context.addAction(new TerminalsConnectionActionBuilder().withId(actionIds.get(row))
+                            .withNetworkElementId(elementIds.get(row))
+                            .withSide(getSide(sides, row))
+                            .withOpen(openings == null || openings.get(row) == 1)
+                            .build());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.dataframe.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.strategy.OperatorStrategy;
+import com.powsybl.contingency.strategy.condition.*;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.dataframe.network.adders.SeriesUtils;
+import com.powsybl.dataframe.update.StringSeries;
+import com.powsybl.dataframe.update.UpdatingDataframe;
+import com.powsybl.python.security.SecurityAnalysisContext;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Adds operator strategies defined by one row per strategy action, rows of a same operator strategy ID being grouped
+ * into one strategy, in order of first appearance. Contingency and condition of a strategy are read from its first
+ * row.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class OperatorStrategyDataframeAdder {
+
+    private static final List<SeriesMetadata> METADATA = List.of(
+            SeriesMetadata.stringIndex("operator_strategy_id"),
+            SeriesMetadata.strings("contingency_id"),
+            SeriesMetadata.strings("action_id"),
+            SeriesMetadata.strings("condition_type"),
+            SeriesMetadata.strings("violation_subject_ids"),
+            SeriesMetadata.strings("violation_types")
+    );
+
+    public List<SeriesMetadata> getMetadata() {
+        return METADATA;
+    }
+
+    private static List<String> split(StringSeries series, int row) {
+        if (series == null || series.get(row) == null || series.get(row).isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(series.get(row).split(",")).map(String::trim).toList();
+    }
+
+    public static Condition createCondition(String conditionType, List<String> subjectIds, Set<LimitViolationType> violationTypes) {
+        return switch (conditionType) {
+            case "TRUE_CONDITION" -> new TrueCondition();
+            case "ALL_VIOLATION_CONDITION" -> new AllViolationCondition(subjectIds, violationTypes);
+            case "ANY_VIOLATION_CONDITION" -> new AnyViolationCondition(violationTypes);
+            case "AT_LEAST_ONE_VIOLATION_CONDITION" -> new AtLeastOneViolationCondition(subjectIds, violationTypes);
+            default -> throw new PowsyblException("Unsupported condition type " + conditionType);
+        };
+    }
+
+    public void addElements(SecurityAnalysisContext context, UpdatingDataframe dataframe) {
+        if (dataframe.getRowCount() == 0) {
+            return;
+        }
+        StringSeries strategyIds = SeriesUtils.getRequiredStrings(dataframe, "operator_strategy_id");
+        StringSeries contingencyIds = SeriesUtils.getRequiredStrings(dataframe, "contingency_id");
+        StringSeries actionIds = SeriesUtils.getRequiredStrings(dataframe, "action_id");
+        StringSeries conditionTypes = dataframe.getStrings("condition_type");
+        StringSeries subjectIds = dataframe.getStrings("violation_subject_ids");
+        StringSeries violationTypes = dataframe.getStrings("violation_types");
+
+        Map<String, Integer> firstRows = new LinkedHashMap<>();
+        Map<String, List<String>> actionIdsByStrategyId = new HashMap<>();
+        for (int row = 0; row < dataframe.getRowCount(); row++) {
+            String strategyId = strategyIds.get(row);
+            firstRows.putIfAbsent(strategyId, row);
+            actionIdsByStrategyId.computeIfAbsent(strategyId, k -> new ArrayList<>(1)).add(actionIds.get(row));
+        }
+        firstRows.forEach((strategyId, row) -> {
+            String conditionType = conditionTypes == null || conditionTypes.get(row) == null || conditionTypes.get(row).isEmpty()
+                    ? "TRUE_CONDITION" : conditionTypes.get(row);
+            Set<LimitViolationType> types = split(violationTypes, row).stream()
+                    .map(LimitViolationType::valueOf)
+                    .collect(Collectors.toSet());
+            Condition condition = createCondition(conditionType, split(subjectIds, row), types);
+            context.addOperatorStrategy(new OperatorStrategy(strategyId, ContingencyContext.specificContingency(contingencyIds.get(row)),
+                    condition, actionIdsByStrategyId.get(strategyId)));
+        });
+    }
+}
@@ -7,9 +7,12 @@
  */
 package com.powsybl.python.commons;
 
+import com.powsybl.dataframe.DataframeMapper;
+import com.powsybl.dataframe.DataframeMapperBuilder;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.python.commons.Util.PointerProvider;
 import com.powsybl.python.dataframe.CDataframeHandler;
+import com.powsybl.python.network.Dataframes;
 import com.powsybl.tools.Version;
 import org.graalvm.nativeimage.IsolateThread;
 import org.graalvm.nativeimage.ObjectHandle;
@@ -22,6 +25,8 @@ import org.graalvm.nativeimage.c.type.CCharPointerPointer;
 import org.graalvm.word.PointerBase;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 import static com.powsybl.python.commons.PyPowsyblApiHeader.*;
 import static com.powsybl.python.commons.Util.doCatch;
 
@@ -32,6 +37,15 @@ import static com.powsybl.python.commons.Util.doCatch;
 @CContext(Directives.class)
 public final class CommonCFunctions {
 
+    private static final DataframeMapper<CommonObjects.ExecutorMetrics, Void> EXECUTOR_METRICS_MAPPER = new DataframeMapperBuilder<CommonObjects.ExecutorMetrics, CommonObjects.ExecutorMetrics, Void>()
+            .itemsProvider(metrics -> List.of(metrics))
+            .stringsIndex("executor_type", CommonObjects.ExecutorMetrics::executorType)
+            .ints("thread_count", CommonObjects.ExecutorMetrics::threadCount)
+            .ints("active_task_count", CommonObjects.ExecutorMetrics::activeTaskCount)
+            .doubles("queued_task_count", m -> m.queuedTaskCount())
+            .doubles("completed_task_count", m -> m.completedTaskCount())
+            .build();
+
     private CommonCFunctions() {
     }
 
@@ -70,6 +84,37 @@ public final class CommonCFunctions {
         return doCatch(exceptionHandlerPtr, PyPowsyblConfiguration::isReadConfig);
     }
 
+    @CEntryPoint(name = "configureComputationManager")
+    public static void configureComputationManager(IsolateThread thread, int threadCount, CCharPointer threadNamePrefix,
+                                                   boolean workStealing, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                CommonObjects.configureComputationManager(threadCount, CTypeUtil.toString(threadNamePrefix), workStealing);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "resetComputationManager")
+    public static void resetComputationManager(IsolateThread thread, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                CommonObjects.resetComputationManager();
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getComputationManagerExecutorMetrics")
+    public static ArrayPointer<SeriesPointer> getComputationManagerExecutorMetrics(IsolateThread thread, ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<SeriesPointer> get() {
+                return Dataframes.createCDataframe(EXECUTOR_METRICS_MAPPER, CommonObjects.getExecutorMetrics());
+            }
+        });
+    }
+
     @CEntryPoint(name = "getVersionTable")
     public static CCharPointer getVersionTable(IsolateThread thread, ExceptionHandlerPointer exceptionHandlerPtr) {
         return doCatch(exceptionHandlerPtr, () -> {
@@ -131,7 +176,11 @@ public final class CommonCFunctions {
         doCatch(exceptionHandlerPtr, new Runnable() {
             @Override
             public void run() {
+                Object object = ObjectHandles.getGlobal().get(objectHandle);
                 ObjectHandles.getGlobal().destroy(objectHandle);
+                if (object instanceof UnmanagedResource unmanagedResource) {
+                    unmanagedResource.free();
+                }
             }
         });
     }
@@ -7,9 +7,14 @@
  */
 package com.powsybl.python.commons;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.local.LocalComputationManager;
 
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Manages common runtime objects, typically library-wide singletons.
  *
@@ -17,8 +22,20 @@ import com.powsybl.computation.local.LocalComputationManager;
  */
 public final class CommonObjects {
 
+    /**
+     * State of the computation manager executor. Counts are -1 when not available for the executor type.
+     */
+    public record ExecutorMetrics(String executorType, int threadCount, int activeTaskCount, long queuedTaskCount,
+                                  long completedTaskCount) {
+    }
+
     private static ComputationManager computationManager;
 
+    /**
+     * Executor owned by the configured computation manager, null when the default computation manager is used.
+     */
+    private static ExecutorService executor;
+
     private CommonObjects() {
     }
 
@@ -29,9 +46,109 @@ public final class CommonObjects {
         return computationManager;
     }
 
+    /**
+     * Replace the computation manager by a local one running its tasks on a dedicated executor.
+     * Tasks already submitted to the previous executor are completed before this method returns.
+     *
+     * @param threadCount number of threads of the executor, number of available processors if not strictly positive
+     * @param threadNamePrefix prefix of the executor threads name
+     * @param workStealing true to use a work stealing pool, false to use a fixed thread pool
+     */
+    public static void configureComputationManager(int threadCount, String threadNamePrefix, boolean workStealing) {
+        Objects.requireNonNull(threadNamePrefix);
+        if (threadNamePrefix.isEmpty()) {
+            throw new PowsyblException("Thread name prefix cannot be empty");
+        }
+        int actualThreadCount = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        ExecutorService newExecutor = workStealing ? createWorkStealingPool(actualThreadCount, threadNamePrefix)
+                                                   : createFixedThreadPool(actualThreadCount, threadNamePrefix);
+        replaceComputationManager(new LocalComputationManager(newExecutor), newExecutor);
+    }
+
+    /**
+     * Go back to the default computation manager, configured by the platform configuration.
+     * Tasks already submitted to the previous executor are completed before this method returns.
+     */
+    public static void resetComputationManager() {
+        replaceComputationManager(null, null);
+    }
+
+    /**
+     * The previous executor is awaited outside of the lock, as its running tasks may need the computation manager.
+     */
+    private static void replaceComputationManager(ComputationManager newComputationManager, ExecutorService newExecutor) {
+        ComputationManager previousComputationManager;
+        ExecutorService previousExecutor;
+        synchronized (CommonObjects.class) {
+            previousComputationManager = computationManager;
+            previousExecutor = executor;
+            if (previousExecutor == null && newExecutor == null) {
+                return;
+            }
+            computationManager = newComputationManager;
+            executor = newExecutor;
+        }
+        if (previousExecutor != null) {
+            release(previousComputationManager, previousExecutor);
+        }
+    }
+
+    private static void release(ComputationManager previousComputationManager, ExecutorService previousExecutor) {
+        previousExecutor.shutdown();
+        try {
+            while (!previousExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // keep waiting for the running tasks
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } finally {
+            previousComputationManager.close();
+        }
+    }
+
+    public static synchronized ExecutorMetrics getExecutorMetrics() {
+        Executor currentExecutor = getComputationManager().getExecutor();
+        if (currentExecutor instanceof ThreadPoolExecutor threadPool) {
+            return new ExecutorMetrics("FIXED", threadPool.getMaximumPoolSize(), threadPool.getActiveCount(),
+                    threadPool.getQueue().size(), threadPool.getCompletedTaskCount());
+        } else if (currentExecutor instanceof ForkJoinPool forkJoinPool) {
+            return new ExecutorMetrics("WORK_STEALING", forkJoinPool.getParallelism(), forkJoinPool.getActiveThreadCount(),
+                    forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount(), -1);
+        }
+        return new ExecutorMetrics(currentExecutor.getClass().getSimpleName(), -1, -1, -1, -1);
+    }
+
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadNum = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNum.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ExecutorService createFixedThreadPool(int threadCount, String threadNamePrefix) {
+        return Executors.newFixedThreadPool(threadCount, createThreadFactory(threadNamePrefix));
+    }
+
+    private static ExecutorService createWorkStealingPool(int threadCount, String threadNamePrefix) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadNamePrefix + "-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // same configuration as Executors.newWorkStealingPool
+        return new ForkJoinPool(threadCount, threadFactory, null, true);
+    }
+
     public static synchronized void close() {
         if (computationManager != null) {
             computationManager.close();
         }
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 }
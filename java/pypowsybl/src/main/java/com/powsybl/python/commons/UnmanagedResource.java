@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.commons;
+
+/**
+ * An object referenced by an object handle which owns unmanaged memory, released when its handle is destroyed.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public interface UnmanagedResource {
+
+    void free();
+}
@@ -204,6 +204,21 @@ public final class Util {
         return allocArrayPointer(intListPtr, integerList.size());
     }
 
+    public static MatrixPointer createDoubleMatrix(double[] values, int rowCount, int colCount) {
+        if (values.length != rowCount * colCount) {
+            throw new IllegalArgumentException("Matrix(" + rowCount + "*" + colCount + ") is not suitable for arrays size:" + values.length);
+        }
+        CDoublePointer valuePtr = UnmanagedMemory.calloc(rowCount * colCount * SizeOf.get(CDoublePointer.class));
+        for (int i = 0; i < colCount * rowCount; i++) {
+            valuePtr.addressOf(i).write(values[i]);
+        }
+        MatrixPointer matrixPtr = UnmanagedMemory.calloc(SizeOf.get(MatrixPointer.class));
+        matrixPtr.setRowCount(rowCount);
+        matrixPtr.setColumnCount(colCount);
+        matrixPtr.setValues(valuePtr);
+        return matrixPtr;
+    }
+
     public static ArrayPointer<CCharPointer> createByteArray(byte[] bytes) {
         return allocArrayPointer(CTypeUtil.toBytePtr(bytes), bytes.length);
     }
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.commons;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Runs partitions of a computation concurrently, each one on its own clone of the working variant of the network.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class VariantPartitionRunner {
+
+    /**
+     * Creates the computation of a partition.
+     */
+    @FunctionalInterface
+    public interface PartitionTask<T> {
+
+        /**
+         * Called in the calling thread, before any computation starts.
+         *
+         * @param partition index of the partition
+         * @param variantId id of the variant of the partition, which is also the working variant of the thread running
+         *                  the returned computation
+         */
+        Callable<T> create(int partition, String variantId);
+    }
+
+    private VariantPartitionRunner() {
+    }
+
+    /**
+     * @return index of the first element of the partition, when splitting the elements in contiguous partitions of
+     * nearly equal sizes, so that concatenated partition results keep the order of the elements
+     */
+    public static int getPartitionStart(int elementCount, int partition, int partitionCount) {
+        return (int) ((long) elementCount * partition / partitionCount);
+    }
+
+    /**
+     * Runs the partitions concurrently and waits for all of them. Variants of the partitions are removed, and the
+     * working variant and variant multi thread access of the calling thread are restored, even if a partition fails.
+     *
+     * @param computationName name of the computation in the error message when a partition fails
+     * @return results of the partitions, in the order of the partitions
+     */
+    public static <T> List<T> run(Network network, int partitionCount, String computationName, PartitionTask<T> task) {
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        List<String> partitionVariantIds = new ArrayList<>(partitionCount);
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        ExecutorService executor = Executors.newFixedThreadPool(partitionCount);
+        try {
+            // variants are all created before the computations start, as variant creation is not thread safe
+            List<Callable<T>> partitionRuns = new ArrayList<>(partitionCount);
+            for (int partition = 0; partition < partitionCount; partition++) {
+                String partitionVariantId = workingVariantId + "_partition_" + UUID.randomUUID();
+                variantManager.cloneVariant(workingVariantId, partitionVariantId);
+                partitionVariantIds.add(partitionVariantId);
+                Callable<T> partitionRun = task.create(partition, partitionVariantId);
+                partitionRuns.add(() -> {
+                    // working variant is local to the thread when multi thread access is allowed
+                    variantManager.setWorkingVariant(partitionVariantId);
+                    return partitionRun.call();
+                });
+            }
+            variantManager.allowVariantMultiThreadAccess(true);
+            List<Future<T>> futures = new ArrayList<>(partitionCount);
+            for (Callable<T> partitionRun : partitionRuns) {
+                futures.add(executor.submit(partitionRun));
+            }
+            List<T> results = new ArrayList<>(partitionCount);
+            for (Future<T> future : futures) {
+                results.add(getResult(future, computationName));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+            variantManager.setWorkingVariant(workingVariantId);
+            partitionVariantIds.forEach(variantManager::removeVariant);
+        }
+    }
+
+    private static <T> T getResult(Future<T> future, String computationName) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            throw new PowsyblException(computationName + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
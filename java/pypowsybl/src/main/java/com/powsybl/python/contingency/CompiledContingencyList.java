@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.contingency;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.contingency.ContingencyElementFactory;
+import com.powsybl.contingency.list.ContingencyList;
+import com.powsybl.iidm.network.DefaultNetworkListener;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * A list of contingencies that can be shared by several analyses: JSON files are parsed once when added, and
+ * contingencies are resolved once per network, then reused by all the runs until an element is created or removed
+ * from the network.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class CompiledContingencyList implements ContingencyContainer {
+
+    /**
+     * Contingencies resolved for a network, valid until the structure of the network changes.
+     */
+    private static final class ResolvedContingencies extends DefaultNetworkListener {
+
+        private final List<Contingency> contingencies;
+
+        private volatile boolean valid = true;
+
+        private ResolvedContingencies(List<Contingency> contingencies) {
+            this.contingencies = contingencies;
+        }
+
+        @Override
+        public void onCreation(Identifiable<?> identifiable) {
+            valid = false;
+        }
+
+        @Override
+        public void afterRemoval(String id) {
+            valid = false;
+        }
+    }
+
+    private final Map<String, List<String>> elementIdsByContingencyId = new LinkedHashMap<>();
+
+    private final List<ContingencyList> contingencyLists = new ArrayList<>();
+
+    /**
+     * Networks are weakly referenced, the listener of a network is released with the network.
+     */
+    private final Map<Network, ResolvedContingencies> resolvedContingenciesByNetwork = new WeakHashMap<>();
+
+    private long modificationCount;
+
+    @Override
+    public synchronized void addContingency(String contingencyId, List<String> elementIds) {
+        elementIdsByContingencyId.put(contingencyId, elementIds);
+        invalidate();
+    }
+
+    @Override
+    public synchronized void addContingencyFromJsonFile(Path pathToJsonFile) {
+        if (!Files.exists(pathToJsonFile)) {
+            throw new PowsyblException("File not found: " + pathToJsonFile);
+        }
+        contingencyLists.add(ContingencyList.load(pathToJsonFile));
+        invalidate();
+    }
+
+    @Override
+    public synchronized void addContingencyList(CompiledContingencyList contingencyList) {
+        if (contingencyList == this) {
+            return;
+        }
+        synchronized (contingencyList) {
+            elementIdsByContingencyId.putAll(contingencyList.elementIdsByContingencyId);
+            contingencyLists.addAll(contingencyList.contingencyLists);
+        }
+        invalidate();
+    }
+
+    private void invalidate() {
+        modificationCount++;
+        resolvedContingenciesByNetwork.forEach((network, resolved) -> network.removeListener(resolved));
+        resolvedContingenciesByNetwork.clear();
+    }
+
+    /**
+     * @return number of modifications of the list, so that users of the list can detect that contingencies they
+     * keep from a previous run are outdated
+     */
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * @return contingencies of the list, resolved on the network if not already done since its last structural change
+     */
+    public synchronized List<Contingency> getContingencies(Network network) {
+        ResolvedContingencies resolved = resolvedContingenciesByNetwork.get(network);
+        if (resolved == null || !resolved.valid) {
+            if (resolved != null) {
+                network.removeListener(resolved);
+            }
+            resolved = new ResolvedContingencies(resolve(network));
+            network.addListener(resolved);
+            resolvedContingenciesByNetwork.put(network, resolved);
+        }
+        return resolved.contingencies;
+    }
+
+    private List<Contingency> resolve(Network network) {
+        List<Contingency> contingencies = new ArrayList<>(elementIdsByContingencyId.size());
+        for (ContingencyList contingencyList : contingencyLists) {
+            contingencies.addAll(contingencyList.getContingencies(network));
+        }
+        for (Map.Entry<String, List<String>> e : elementIdsByContingencyId.entrySet()) {
+            List<ContingencyElement> elements = new ArrayList<>(e.getValue().size());
+            for (String elementId : e.getValue()) {
+                Identifiable<?> identifiable = network.getIdentifiable(elementId);
+                if (identifiable == null) {
+                    throw new PowsyblException("Element '" + elementId + "' not found");
+                }
+                elements.add(ContingencyElementFactory.create(identifiable));
+            }
+            contingencies.add(new Contingency(e.getKey(), elements));
+        }
+        return Collections.unmodifiableList(contingencies);
+    }
+
+}
@@ -18,4 +18,9 @@ public interface ContingencyContainer {
     void addContingency(String contingencyId, List<String> elementIds);
 
     void addContingencyFromJsonFile(Path pathToJsonFile);
+
+    /**
+     * Add all the contingencies of a shared list, resolved when the analysis is run.
+     */
+    void addContingencyList(CompiledContingencyList contingencyList);
 }
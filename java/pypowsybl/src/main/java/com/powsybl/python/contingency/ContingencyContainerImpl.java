@@ -23,6 +23,7 @@ public class ContingencyContainerImpl implements ContingencyContainer {
 
     private final Map<String, List<String>> elementIdsByContingencyId = new HashMap<>();
     private Path pathToContingencyJsonFile = null;
+    private final List<CompiledContingencyList> contingencyLists = new ArrayList<>();
 
     @Override
     public void addContingency(String contingencyId, List<String> elementIds) {
@@ -34,6 +35,11 @@ public class ContingencyContainerImpl implements ContingencyContainer {
         pathToContingencyJsonFile = pathToJsonFile;
     }
 
+    @Override
+    public void addContingencyList(CompiledContingencyList contingencyList) {
+        contingencyLists.add(Objects.requireNonNull(contingencyList));
+    }
+
     private static ContingencyElement createContingencyElement(Network network, String elementId) {
         Identifiable<?> identifiable = network.getIdentifiable(elementId);
         if (identifiable == null) {
@@ -42,6 +48,17 @@ public class ContingencyContainerImpl implements ContingencyContainer {
         return ContingencyElementFactory.create(identifiable);
     }
 
+    /**
+     * @return sum of the modification counts of the contingency lists, which changes whenever one of them is modified
+     */
+    protected long getContingencyListsModificationCount() {
+        long modificationCount = 0;
+        for (CompiledContingencyList contingencyList : contingencyLists) {
+            modificationCount += contingencyList.getModificationCount();
+        }
+        return modificationCount;
+    }
+
     protected List<Contingency> createContingencies(Network network) {
         List<Contingency> contingencies = new ArrayList<>(elementIdsByContingencyId.size());
 
@@ -63,6 +80,10 @@ public class ContingencyContainerImpl implements ContingencyContainer {
                     .toList();
             contingencies.add(new Contingency(contingencyId, elements));
         }
+
+        for (CompiledContingencyList contingencyList : contingencyLists) {
+            contingencies.addAll(contingencyList.getContingencies(network));
+        }
         return contingencies;
     }
 }
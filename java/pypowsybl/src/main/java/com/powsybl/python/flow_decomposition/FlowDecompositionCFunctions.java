@@ -16,6 +16,7 @@ import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowProvider;
 import com.powsybl.python.commons.*;
 import com.powsybl.python.commons.PyPowsyblApiHeader.*;
+import com.powsybl.python.contingency.CompiledContingencyList;
 import com.powsybl.python.loadflow.LoadFlowCUtils;
 import com.powsybl.python.network.Dataframes;
 import org.graalvm.nativeimage.IsolateThread;
@@ -67,7 +68,21 @@ public final class FlowDecompositionCFunctions {
                 FlowDecompositionContext flowDecompositionContext = ObjectHandles.getGlobal().get(flowDecompositionContextHandle);
                 Set<String> elementsIds = new HashSet<>(toStringList(elementIdPtrPtr, elementCount));
                 String contingencyId = CTypeUtil.toString(contingencyIdPtr);
-                flowDecompositionContext.getXnecProviderByIdsBuilder().addContingency(contingencyId, elementsIds);
+                flowDecompositionContext.addContingency(contingencyId, elementsIds);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addContingencyListForFlowDecomposition")
+    public static void addContingencyList(IsolateThread thread, ObjectHandle flowDecompositionContextHandle,
+                                          ObjectHandle contingencyListHandle,
+                                          PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                FlowDecompositionContext flowDecompositionContext = ObjectHandles.getGlobal().get(flowDecompositionContextHandle);
+                CompiledContingencyList contingencyList = ObjectHandles.getGlobal().get(contingencyListHandle);
+                flowDecompositionContext.addContingencyList(contingencyList);
             }
         });
     }
@@ -81,7 +96,7 @@ public final class FlowDecompositionCFunctions {
             public void run() {
                 FlowDecompositionContext flowDecompositionContext = ObjectHandles.getGlobal().get(flowDecompositionContextHandle);
                 Set<String> elementsIds = new HashSet<>(toStringList(elementIdPtrPtr, elementCount));
-                flowDecompositionContext.getXnecProviderByIdsBuilder().addNetworkElementsOnBasecase(elementsIds);
+                flowDecompositionContext.addNetworkElementsOnBasecase(elementsIds);
             }
         });
     }
@@ -97,7 +112,7 @@ public final class FlowDecompositionCFunctions {
                 FlowDecompositionContext flowDecompositionContext = ObjectHandles.getGlobal().get(flowDecompositionContextHandle);
                 Set<String> elementsIds = new HashSet<>(toStringList(elementIdPtrPtr, elementCount));
                 Set<String> contingenciesIds = new HashSet<>(toStringList(contingenciesIdPtrPtr, contingenciesCount));
-                flowDecompositionContext.getXnecProviderByIdsBuilder().addNetworkElementsAfterContingencies(elementsIds, contingenciesIds);
+                flowDecompositionContext.addNetworkElementsAfterContingencies(elementsIds, contingenciesIds);
             }
         });
     }
@@ -141,7 +156,7 @@ public final class FlowDecompositionCFunctions {
                 logger().debug("Flow decomposition parameters : {}", flowDecompositionParameters);
 
                 FlowDecompositionComputer flowDecompositionComputer = new FlowDecompositionComputer(flowDecompositionParameters, loadFlowParameters, lfProviderName, sensiProviderName);
-                XnecProvider xnecProvider = flowDecompositionContext.getXnecProvider();
+                XnecProvider xnecProvider = flowDecompositionContext.getXnecProvider(network);
                 FlowDecompositionResults flowDecompositionResults = flowDecompositionComputer.run(xnecProvider, network);
 
                 return Dataframes.createCDataframe(Dataframes.flowDecompositionMapper(flowDecompositionResults.getZoneSet()), flowDecompositionResults);
@@ -7,25 +7,45 @@
  */
 package com.powsybl.python.flow_decomposition;
 
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.flow_decomposition.XnecProvider;
 import com.powsybl.flow_decomposition.xnec_provider.XnecProvider5percPtdf;
 import com.powsybl.flow_decomposition.xnec_provider.XnecProviderAllBranches;
 import com.powsybl.flow_decomposition.xnec_provider.XnecProviderByIds;
 import com.powsybl.flow_decomposition.xnec_provider.XnecProviderInterconnection;
 import com.powsybl.flow_decomposition.xnec_provider.XnecProviderUnion;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.python.contingency.CompiledContingencyList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
  */
 final class FlowDecompositionContext {
-    private final XnecProviderByIds.Builder xnecProviderByIdsBuilder = XnecProviderByIds.builder();
+    /**
+     * Calls to replay on the XNEC provider builder of each run, so that contingencies resolved from the contingency
+     * lists for a run are not kept in the context.
+     */
+    private final List<Consumer<XnecProviderByIds.Builder>> xnecProviderByIdsBuilderCalls = new ArrayList<>();
     private final List<XnecProvider> additionalXnecProviderList = new ArrayList<>();
+    private final List<CompiledContingencyList> contingencyLists = new ArrayList<>();
 
-    public XnecProviderByIds.Builder getXnecProviderByIdsBuilder() {
-        return xnecProviderByIdsBuilder;
+    public void addContingency(String contingencyId, Set<String> elementsIds) {
+        xnecProviderByIdsBuilderCalls.add(builder -> builder.addContingency(contingencyId, elementsIds));
+    }
+
+    public void addNetworkElementsOnBasecase(Set<String> elementsIds) {
+        xnecProviderByIdsBuilderCalls.add(builder -> builder.addNetworkElementsOnBasecase(elementsIds));
+    }
+
+    public void addNetworkElementsAfterContingencies(Set<String> elementsIds, Set<String> contingenciesIds) {
+        xnecProviderByIdsBuilderCalls.add(builder -> builder.addNetworkElementsAfterContingencies(elementsIds, contingenciesIds));
     }
 
     public void addAdditionalXnecProviderList(DefaultXnecProvider defaultXnecProvider) {
@@ -40,7 +60,20 @@ final class FlowDecompositionContext {
         };
     }
 
-    XnecProvider getXnecProvider() {
+    public void addContingencyList(CompiledContingencyList contingencyList) {
+        contingencyLists.add(contingencyList);
+    }
+
+    XnecProvider getXnecProvider(Network network) {
+        XnecProviderByIds.Builder xnecProviderByIdsBuilder = XnecProviderByIds.builder();
+        for (CompiledContingencyList contingencyList : contingencyLists) {
+            for (Contingency contingency : contingencyList.getContingencies(network)) {
+                xnecProviderByIdsBuilder.addContingency(contingency.getId(), contingency.getElements().stream()
+                        .map(ContingencyElement::getId)
+                        .collect(Collectors.toSet()));
+            }
+        }
+        xnecProviderByIdsBuilderCalls.forEach(call -> call.accept(xnecProviderByIdsBuilder));
         List<XnecProvider> xnecProviderList = new ArrayList<>(additionalXnecProviderList);
         xnecProviderList.add(xnecProviderByIdsBuilder.build());
         return new XnecProviderUnion(xnecProviderList);
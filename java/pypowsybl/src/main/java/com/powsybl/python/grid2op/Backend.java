@@ -7,11 +7,14 @@
  */
 package com.powsybl.python.grid2op;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.modification.SetGeneratorToLocalRegulation;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.util.Identifiables;
 import com.powsybl.loadflow.*;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import com.powsybl.python.commons.CommonObjects;
 import com.powsybl.python.commons.PyPowsyblApiHeader;
 import com.powsybl.python.commons.PyPowsyblApiHeader.ArrayPointer;
 import com.powsybl.python.commons.Util;
@@ -25,6 +28,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.powsybl.python.commons.PyPowsyblApiHeader.allocArrayPointer;
 
@@ -106,12 +111,55 @@ public class Backend implements Closeable {
 
     private final List<TopoChange> topoChanges = new ArrayList<>();
 
+    /**
+     * Backend state saved for a later rollback: network state is kept on a dedicated IIDM variant and primitive
+     * arrays exposed to grid2op are copied as is.
+     */
+    public static final class Snapshot {
+
+        private final String variantId;
+        private final List<TopoChange> topoChanges;
+        private final double[] busV;
+        private final double[] busAngle;
+        private final int[][] busGlobalNums;
+        private final double[][] doubleValues;
+        private final int[][] integerValues;
+
+        private Snapshot(String variantId, List<TopoChange> topoChanges, double[] busV, double[] busAngle,
+                         int[][] busGlobalNums, double[][] doubleValues, int[][] integerValues) {
+            this.variantId = variantId;
+            this.topoChanges = topoChanges;
+            this.busV = busV;
+            this.busAngle = busAngle;
+            this.busGlobalNums = busGlobalNums;
+            this.doubleValues = doubleValues;
+            this.integerValues = integerValues;
+        }
+
+        public String getVariantId() {
+            return variantId;
+        }
+    }
+
+    private static final String SNAPSHOT_VARIANT_ID_PREFIX = "grid2op_snapshot_";
+
+    private static final double DC_MIN_X = 1e-5; // in ohm, to avoid infinite susceptance on zero impedance branches
+
+    private final List<int[]> busGlobalNums;
+    private final List<ArrayPointer<CDoublePointer>> stateDoubleValues;
+    private final List<ArrayPointer<CIntPointer>> stateIntegerValues;
+    private final Set<Snapshot> snapshots = new HashSet<>();
+
     private final LoadFlowProvider loadFlowProvider = LoadFlowProvider.findAll().stream()
             .filter(p -> p.getName().equals("OpenLoadFlow"))
             .findFirst()
             .orElseThrow();
     private final LoadFlow.Runner loadFlowRunner = new LoadFlow.Runner(loadFlowProvider);
 
+    private DcPowerFlow dcPowerFlow;
+
+    private final AtomicBoolean loadFlowRunning = new AtomicBoolean(false);
+
     public Backend(Network network, boolean considerOpenBranchReactiveFlow, boolean checkIsolatedAndDisconnectedInjections,
                    int busesPerVoltageLevel, boolean connectAllElementsToFirstBus) {
         this.network = Objects.requireNonNull(network);
@@ -234,6 +282,14 @@ public class Backend implements Closeable {
 
         computeBigTopo();
 
+        busGlobalNums = List.of(loadBusGlobalNum, generatorBusGlobalNum, shuntBusGlobalNum, branchBusGlobalNum1, branchBusGlobalNum2);
+        stateDoubleValues = List.of(loadP, loadQ, loadV, loadAngle,
+                                    generatorP, generatorQ, generatorV, generatorAngle,
+                                    shuntP, shuntQ, shuntV, shuntAngle,
+                                    branchP1, branchP2, branchQ1, branchQ2, branchV1, branchV2,
+                                    branchAngle1, branchAngle2, branchI1, branchI2);
+        stateIntegerValues = List.of(shuntBusLocalNum, topoVect);
+
         updateState();
         updateTopoVect();
 
@@ -857,19 +913,252 @@ public class Backend implements Closeable {
         return checkIsolatedAndDisconnectedInjections(shunts, false);
     }
 
+    private void startLoadFlow() {
+        if (!loadFlowRunning.compareAndSet(false, true)) {
+            throw new PowsyblException("A load flow is already running on this backend");
+        }
+    }
+
     public LoadFlowResult runLoadFlow(LoadFlowParameters parameters, ReportNode reportNode) {
-        checkIsolatedAndDisconnectedInjections();
+        startLoadFlow();
+        try {
+            checkIsolatedAndDisconnectedInjections();
+            ensureTopoVectIsUpToDate();
+            LoadFlowRunParameters runParameters = new LoadFlowRunParameters()
+                    .setParameters(parameters)
+                    .setReportNode(reportNode);
+            LoadFlowResult result = loadFlowRunner.run(network, runParameters);
+            updateState();
+            return result;
+        } finally {
+            loadFlowRunning.set(false);
+        }
+    }
+
+    /**
+     * Run the load flow and refresh the state arrays on a worker thread. Until the returned future completes,
+     * the backend must not be modified nor its values read.
+     */
+    public CompletableFuture<LoadFlowResult> runLoadFlowAsync(LoadFlowParameters parameters, ReportNode reportNode) {
+        startLoadFlow();
+        try {
+            checkIsolatedAndDisconnectedInjections();
+            ensureTopoVectIsUpToDate();
+            return loadFlowRunner.runAsync(network, network.getVariantManager().getWorkingVariantId(),
+                            CommonObjects.getComputationManager(), parameters, reportNode)
+                    .thenApply(result -> {
+                        updateState();
+                        return result;
+                    })
+                    .whenComplete((result, throwable) -> loadFlowRunning.set(false));
+        } catch (RuntimeException e) {
+            loadFlowRunning.set(false);
+            throw e;
+        }
+    }
+
+    private static double[] copyOf(ArrayPointer<CDoublePointer> array) {
+        double[] values = new double[array.getLength()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.getPtr().read(i);
+        }
+        return values;
+    }
+
+    private static int[] copyOf(ArrayPointer<CIntPointer> array) {
+        int[] values = new int[array.getLength()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.getPtr().read(i);
+        }
+        return values;
+    }
+
+    private static void copyInto(double[] values, ArrayPointer<CDoublePointer> array) {
+        for (int i = 0; i < values.length; i++) {
+            array.getPtr().write(i, values[i]);
+        }
+    }
+
+    private static void copyInto(int[] values, ArrayPointer<CIntPointer> array) {
+        for (int i = 0; i < values.length; i++) {
+            array.getPtr().write(i, values[i]);
+        }
+    }
+
+    public Snapshot createSnapshot() {
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = SNAPSHOT_VARIANT_ID_PREFIX + UUID.randomUUID();
+        variantManager.cloneVariant(variantManager.getWorkingVariantId(), variantId);
+        Snapshot snapshot = new Snapshot(variantId,
+                                         List.copyOf(topoChanges),
+                                         busV.clone(),
+                                         busAngle.clone(),
+                                         busGlobalNums.stream().map(int[]::clone).toArray(int[][]::new),
+                                         stateDoubleValues.stream().map(Backend::copyOf).toArray(double[][]::new),
+                                         stateIntegerValues.stream().map(Backend::copyOf).toArray(int[][]::new));
+        snapshots.add(snapshot);
+        LOGGER.debug("Backend snapshot created on variant '{}'", variantId);
+        return snapshot;
+    }
+
+    private void checkSnapshot(Snapshot snapshot) {
+        Objects.requireNonNull(snapshot);
+        if (!snapshots.contains(snapshot)) {
+            throw new PowsyblException("Snapshot on variant '" + snapshot.getVariantId() + "' does not belong to this backend or has been released");
+        }
+    }
+
+    public void restoreSnapshot(Snapshot snapshot) {
+        checkSnapshot(snapshot);
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(snapshot.variantId, variantManager.getWorkingVariantId(), true);
+        topoChanges.clear();
+        topoChanges.addAll(snapshot.topoChanges);
+        System.arraycopy(snapshot.busV, 0, busV, 0, busV.length);
+        System.arraycopy(snapshot.busAngle, 0, busAngle, 0, busAngle.length);
+        for (int i = 0; i < busGlobalNums.size(); i++) {
+            int[] busGlobalNum = busGlobalNums.get(i);
+            System.arraycopy(snapshot.busGlobalNums[i], 0, busGlobalNum, 0, busGlobalNum.length);
+        }
+        for (int i = 0; i < stateDoubleValues.size(); i++) {
+            copyInto(snapshot.doubleValues[i], stateDoubleValues.get(i));
+        }
+        for (int i = 0; i < stateIntegerValues.size(); i++) {
+            copyInto(snapshot.integerValues[i], stateIntegerValues.get(i));
+        }
+        LOGGER.debug("Backend snapshot restored from variant '{}'", snapshot.variantId);
+    }
+
+    public void releaseSnapshot(Snapshot snapshot) {
+        Objects.requireNonNull(snapshot);
+        // already released snapshots (for instance when the backend has been closed) are ignored
+        if (snapshots.remove(snapshot)) {
+            network.getVariantManager().removeVariant(snapshot.variantId);
+        }
+    }
+
+    private static double getDcSusceptance(Branch<?> branch) {
+        double nominalV1 = branch.getTerminal1().getVoltageLevel().getNominalV();
+        double nominalV2 = branch.getTerminal2().getVoltageLevel().getNominalV();
+        double x;
+        double ratio = 1;
+        if (branch instanceof Line line) {
+            x = line.getX();
+        } else if (branch instanceof TieLine tieLine) {
+            x = tieLine.getX();
+        } else if (branch instanceof TwoWindingsTransformer twt) {
+            // reactance is expressed on side 2, tap changers are neglected
+            x = twt.getX();
+            ratio = twt.getRatedU2() / twt.getRatedU1();
+        } else {
+            throw new PowsyblException("Unsupported branch type: " + branch.getClass().getSimpleName());
+        }
+        return nominalV1 * nominalV2 * ratio / Math.max(Math.abs(x), DC_MIN_X);
+    }
+
+    private DcPowerFlow getDcPowerFlow() {
+        if (dcPowerFlow == null) {
+            double[] branchB = new double[branches.size()];
+            for (int i = 0; i < branches.size(); i++) {
+                branchB[i] = getDcSusceptance(branches.get(i));
+            }
+            dcPowerFlow = new DcPowerFlow(new SparseMatrixFactory(), buses.length, branchB);
+        }
+        return dcPowerFlow;
+    }
+
+    /**
+     * Fast linearized power flow: state arrays are filled from a DC approximation, the network is not modified
+     * and the susceptance matrix factorization is reused between calls while the topology does not change.
+     */
+    public void runDcPowerFlow() {
+        startLoadFlow();
+        try {
+            updateDcState();
+        } finally {
+            loadFlowRunning.set(false);
+        }
+    }
+
+    private void updateDcState() {
         ensureTopoVectIsUpToDate();
-        LoadFlowRunParameters runParameters = new LoadFlowRunParameters()
-                .setParameters(parameters)
-                .setReportNode(reportNode);
-        LoadFlowResult result = loadFlowRunner.run(network, runParameters);
-        updateState();
-        return result;
+
+        double[] busSlackPriority = new double[buses.length];
+        double[] busInjection = new double[buses.length];
+        for (int i = 0; i < loads.size(); i++) {
+            int globalNum = loadBusGlobalNum[i];
+            if (globalNum != -1) {
+                busInjection[globalNum] -= loads.get(i).getP0();
+            }
+        }
+        for (int i = 0; i < generators.size(); i++) {
+            int globalNum = generatorBusGlobalNum[i];
+            if (globalNum != -1) {
+                Generator generator = generators.get(i);
+                busInjection[globalNum] += generator.getTargetP();
+                busSlackPriority[globalNum] += generator.getMaxP();
+            }
+        }
+
+        DcPowerFlow dc = getDcPowerFlow();
+        double[] angle = dc.solve(branchBusGlobalNum1, branchBusGlobalNum2, busSlackPriority, busInjection);
+
+        for (int i = 0; i < buses.length; i++) {
+            Bus bus = buses[i];
+            if (bus != null) {
+                busV[i] = bus.getVoltageLevel().getNominalV();
+                busAngle[i] = angle[i];
+            }
+        }
+        for (int i = 0; i < loads.size(); i++) {
+            loadP.getPtr().write(i, loadBusGlobalNum[i] == -1 ? 0 : loads.get(i).getP0());
+            loadQ.getPtr().write(i, 0);
+            loadV.getPtr().write(i, getV(i, loadBusGlobalNum));
+            loadAngle.getPtr().write(i, getAngle(i, loadBusGlobalNum));
+        }
+        for (int i = 0; i < generators.size(); i++) {
+            generatorP.getPtr().write(i, generatorBusGlobalNum[i] == -1 ? 0 : generators.get(i).getTargetP());
+            generatorQ.getPtr().write(i, 0);
+            generatorV.getPtr().write(i, getV(i, generatorBusGlobalNum));
+            generatorAngle.getPtr().write(i, getAngle(i, generatorBusGlobalNum));
+        }
+        for (int i = 0; i < shunts.size(); i++) {
+            shuntP.getPtr().write(i, 0);
+            shuntQ.getPtr().write(i, 0);
+            shuntV.getPtr().write(i, getV(i, shuntBusGlobalNum));
+            shuntAngle.getPtr().write(i, getAngle(i, shuntBusGlobalNum));
+        }
+        for (int i = 0; i < branches.size(); i++) {
+            double p1 = dc.getBranchP1(i, branchBusGlobalNum1[i], branchBusGlobalNum2[i], angle);
+            double v1 = getV(i, branchBusGlobalNum1);
+            double v2 = getV(i, branchBusGlobalNum2);
+            branchP1.getPtr().write(i, p1);
+            branchP2.getPtr().write(i, -p1);
+            branchQ1.getPtr().write(i, 0);
+            branchQ2.getPtr().write(i, 0);
+            branchV1.getPtr().write(i, v1);
+            branchV2.getPtr().write(i, v2);
+            branchAngle1.getPtr().write(i, getAngle(i, branchBusGlobalNum1));
+            branchAngle2.getPtr().write(i, getAngle(i, branchBusGlobalNum2));
+            branchI1.getPtr().write(i, getDcI(p1, v1));
+            branchI2.getPtr().write(i, getDcI(p1, v2));
+        }
+    }
+
+    private static double getDcI(double p, double v) {
+        return v == 0 ? 0 : Math.abs(p) * 1000 / (Math.sqrt(3) * v);
     }
 
     @Override
     public void close() {
+        if (dcPowerFlow != null) {
+            dcPowerFlow.close();
+        }
+
+        for (Snapshot snapshot : new ArrayList<>(snapshots)) {
+            releaseSnapshot(snapshot);
+        }
+
         Util.freeCharPtrArray(voltageLevelName);
 
         Util.freeCharPtrArray(loadName);
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.grid2op;
+
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.MatrixFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.*;
+
+/**
+ * Linearized (DC) power flow working directly on grid2op global bus numbering.
+ * <p>
+ * The susceptance matrix only depends on the topology, so its LU decomposition is kept and reused as long as
+ * the branches connectivity and the slack buses do not change. A solve then costs a single forward/backward
+ * substitution.
+ * <p>
+ * One slack bus per island is chosen as the bus with the highest slack priority (typically the generation
+ * capacity connected to it); its angle is set to zero and it absorbs the island active power mismatch.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class DcPowerFlow implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcPowerFlow.class);
+
+    private final MatrixFactory matrixFactory;
+    private final int busCount;
+    private final double[] branchB;
+
+    private int[] factorizedBusGlobalNum1;
+    private int[] factorizedBusGlobalNum2;
+    private double[] factorizedBusSlackPriority;
+    private boolean[] slackBus;
+    private LUDecomposition lu;
+
+    /**
+     * @param busCount number of global buses
+     * @param branchB branch susceptance in MW/rad
+     */
+    DcPowerFlow(MatrixFactory matrixFactory, int busCount, double[] branchB) {
+        this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        this.busCount = busCount;
+        this.branchB = Objects.requireNonNull(branchB);
+    }
+
+    private static int findRoot(int[] parent, int i) {
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // path compression
+        while (parent[i] != root) {
+            int next = parent[i];
+            parent[i] = root;
+            i = next;
+        }
+        return root;
+    }
+
+    private static boolean isConnected(int busGlobalNum1, int busGlobalNum2) {
+        return busGlobalNum1 != -1 && busGlobalNum2 != -1 && busGlobalNum1 != busGlobalNum2;
+    }
+
+    private boolean[] findSlackBuses(int[] branchBusGlobalNum1, int[] branchBusGlobalNum2, double[] busSlackPriority) {
+        int[] parent = new int[busCount];
+        for (int i = 0; i < busCount; i++) {
+            parent[i] = i;
+        }
+        for (int i = 0; i < branchB.length; i++) {
+            if (isConnected(branchBusGlobalNum1[i], branchBusGlobalNum2[i])) {
+                int root1 = findRoot(parent, branchBusGlobalNum1[i]);
+                int root2 = findRoot(parent, branchBusGlobalNum2[i]);
+                if (root1 != root2) {
+                    parent[root2] = root1;
+                }
+            }
+        }
+        // for each island, the bus with the highest priority
+        int[] islandSlackBus = new int[busCount];
+        Arrays.fill(islandSlackBus, -1);
+        for (int i = 0; i < busCount; i++) {
+            int root = findRoot(parent, i);
+            int slack = islandSlackBus[root];
+            if (slack == -1 || busSlackPriority[i] > busSlackPriority[slack]) {
+                islandSlackBus[root] = i;
+            }
+        }
+        boolean[] slack = new boolean[busCount];
+        for (int i = 0; i < busCount; i++) {
+            if (islandSlackBus[i] != -1) {
+                slack[islandSlackBus[i]] = true;
+            }
+        }
+        return slack;
+    }
+
+    private void factorize(int[] branchBusGlobalNum1, int[] branchBusGlobalNum2, double[] busSlackPriority) {
+        closeLu();
+
+        slackBus = findSlackBuses(branchBusGlobalNum1, branchBusGlobalNum2, busSlackPriority);
+
+        // sparse matrix has to be filled column by column, so first accumulate terms per column
+        List<SortedMap<Integer, Double>> columns = new ArrayList<>(busCount);
+        for (int i = 0; i < busCount; i++) {
+            columns.add(new TreeMap<>());
+        }
+        for (int i = 0; i < branchB.length; i++) {
+            int num1 = branchBusGlobalNum1[i];
+            int num2 = branchBusGlobalNum2[i];
+            if (isConnected(num1, num2)) {
+                double b = branchB[i];
+                addTerm(columns, num1, num1, b);
+                addTerm(columns, num2, num2, b);
+                addTerm(columns, num1, num2, -b);
+                addTerm(columns, num2, num1, -b);
+            }
+        }
+        int valueCount = 0;
+        for (int i = 0; i < busCount; i++) {
+            if (slackBus[i]) {
+                // angle is fixed to zero
+                columns.get(i).clear();
+                columns.get(i).put(i, 1.0);
+            }
+            valueCount += columns.get(i).size();
+        }
+
+        Matrix matrix = matrixFactory.create(busCount, busCount, valueCount);
+        for (int j = 0; j < busCount; j++) {
+            for (Map.Entry<Integer, Double> e : columns.get(j).entrySet()) {
+                matrix.set(e.getKey(), j, e.getValue());
+            }
+        }
+        lu = matrix.decomposeLU();
+
+        factorizedBusGlobalNum1 = branchBusGlobalNum1.clone();
+        factorizedBusGlobalNum2 = branchBusGlobalNum2.clone();
+        factorizedBusSlackPriority = busSlackPriority.clone();
+
+        LOGGER.debug("DC susceptance matrix factorized ({} buses, {} non zero values)", busCount, valueCount);
+    }
+
+    private void addTerm(List<SortedMap<Integer, Double>> columns, int row, int column, double value) {
+        // terms involving a slack bus are removed as its angle is known
+        if (slackBus[row] || slackBus[column]) {
+            return;
+        }
+        columns.get(column).merge(row, value, Double::sum);
+    }
+
+    private boolean isFactorizationValid(int[] branchBusGlobalNum1, int[] branchBusGlobalNum2, double[] busSlackPriority) {
+        return lu != null
+                && Arrays.equals(factorizedBusGlobalNum1, branchBusGlobalNum1)
+                && Arrays.equals(factorizedBusGlobalNum2, branchBusGlobalNum2)
+                && Arrays.equals(factorizedBusSlackPriority, busSlackPriority);
+    }
+
+    /**
+     * Solve the DC power flow.
+     *
+     * @param branchBusGlobalNum1 global bus number of each branch side 1, -1 if disconnected
+     * @param branchBusGlobalNum2 global bus number of each branch side 2, -1 if disconnected
+     * @param busSlackPriority per bus priority used to choose island slack buses
+     * @param busInjection per bus active power injection in MW (generation minus consumption)
+     * @return voltage angle in radians of each global bus
+     */
+    double[] solve(int[] branchBusGlobalNum1, int[] branchBusGlobalNum2, double[] busSlackPriority, double[] busInjection) {
+        if (!isFactorizationValid(branchBusGlobalNum1, branchBusGlobalNum2, busSlackPriority)) {
+            factorize(branchBusGlobalNum1, branchBusGlobalNum2, busSlackPriority);
+        }
+        double[] angle = busInjection.clone();
+        for (int i = 0; i < busCount; i++) {
+            if (slackBus[i]) {
+                angle[i] = 0;
+            }
+        }
+        lu.solve(angle);
+        return angle;
+    }
+
+    /**
+     * Active power flowing from side 1 to side 2 of a branch.
+     */
+    double getBranchP1(int branchNum, int busGlobalNum1, int busGlobalNum2, double[] angle) {
+        if (!isConnected(busGlobalNum1, busGlobalNum2)) {
+            return 0;
+        }
+        return branchB[branchNum] * (angle[busGlobalNum1] - angle[busGlobalNum2]);
+    }
+
+    private void closeLu() {
+        if (lu != null) {
+            lu.close();
+            lu = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        closeLu();
+    }
+}
@@ -18,6 +18,8 @@ import com.powsybl.python.commons.PyPowsyblApiHeader.ExceptionHandlerPointer;
 import com.powsybl.python.commons.PyPowsyblApiHeader.LoadFlowComponentResultPointer;
 import com.powsybl.python.commons.Util;
 import com.powsybl.python.commons.Util.PointerProvider;
+import com.powsybl.python.loadflow.LoadFlowCFunctions.LoadFlowExceptionCallback;
+import com.powsybl.python.loadflow.LoadFlowCFunctions.LoadFlowResultCallback;
 import com.powsybl.python.loadflow.LoadFlowCUtils;
 import com.powsybl.python.report.ReportCUtils;
 import org.graalvm.nativeimage.IsolateThread;
@@ -31,11 +33,13 @@ import org.graalvm.nativeimage.c.function.CEntryPoint;
 import org.graalvm.nativeimage.c.type.CCharPointerPointer;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.CIntPointer;
+import org.graalvm.nativeimage.c.type.VoidPointer;
 
 import java.io.IOException;
 import java.util.function.BooleanSupplier;
 
 import static com.powsybl.python.commons.Util.doCatch;
+import static com.powsybl.python.loadflow.LoadFlowCFunctions.createCallbacksInvoker;
 import static com.powsybl.python.loadflow.LoadFlowCFunctions.createLoadFlowComponentResultArrayPointer;
 
 /**
@@ -235,6 +239,73 @@ public final class Grid2opCFunctions {
         });
     }
 
+    @CEntryPoint(name = "runGrid2opLoadFlowAsync")
+    public static void runLoadFlowAsync(IsolateThread thread, ObjectHandle backendHandle,
+                                        PyPowsyblApiHeader.LoadFlowParametersPointer loadFlowParametersPtr,
+                                        ObjectHandle reportNodeHandle,
+                                        LoadFlowResultCallback loadFlowResultCallback,
+                                        LoadFlowExceptionCallback loadFlowExceptionCallback,
+                                        VoidPointer resultFuturePtr,
+                                        ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Backend backend = ObjectHandles.getGlobal().get(backendHandle);
+                ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
+                LoadFlowParameters parameters = LoadFlowCUtils.createLoadFlowParameters(loadFlowParametersPtr, backend.getLoadFlowProvider());
+                backend.runLoadFlowAsync(parameters, reportNode)
+                        .whenComplete(createCallbacksInvoker(loadFlowResultCallback, loadFlowExceptionCallback, resultFuturePtr));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "runGrid2opDcPowerFlow")
+    public static void runDcPowerFlow(IsolateThread thread, ObjectHandle backendHandle, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Backend backend = ObjectHandles.getGlobal().get(backendHandle);
+                backend.runDcPowerFlow();
+            }
+        });
+    }
+
+    @CEntryPoint(name = "createGrid2opBackendSnapshot")
+    public static ObjectHandle createSnapshot(IsolateThread thread, ObjectHandle backendHandle, ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<ObjectHandle>() {
+            @Override
+            public ObjectHandle get() {
+                Backend backend = ObjectHandles.getGlobal().get(backendHandle);
+                return ObjectHandles.getGlobal().create(backend.createSnapshot());
+            }
+        });
+    }
+
+    @CEntryPoint(name = "restoreGrid2opBackendSnapshot")
+    public static void restoreSnapshot(IsolateThread thread, ObjectHandle backendHandle, ObjectHandle snapshotHandle, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Backend backend = ObjectHandles.getGlobal().get(backendHandle);
+                Backend.Snapshot snapshot = ObjectHandles.getGlobal().get(snapshotHandle);
+                backend.restoreSnapshot(snapshot);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "freeGrid2opBackendSnapshot")
+    public static void freeSnapshot(IsolateThread thread, ObjectHandle backendHandle, ObjectHandle snapshotHandle, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Backend backend = ObjectHandles.getGlobal().get(backendHandle);
+                Backend.Snapshot snapshot = ObjectHandles.getGlobal().get(snapshotHandle);
+                backend.releaseSnapshot(snapshot);
+                ObjectHandles.getGlobal().destroy(snapshotHandle);
+            }
+        });
+    }
+
     @CEntryPoint(name = "runGrid2opLoadFlow")
     public static ArrayPointer<LoadFlowComponentResultPointer> runLoadFlow(IsolateThread thread, ObjectHandle backendHandle,
                                                                            PyPowsyblApiHeader.LoadFlowParametersPointer loadFlowParametersPtr,
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.loadflow;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.dataframe.DataframeMapper;
+import com.powsybl.dataframe.DataframeMapperBuilder;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Runs a load flow on many variants of a same network concurrently.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class LoadFlowBatch {
+
+    public record VariantComponentResult(String variantId, LoadFlowResult.ComponentResult componentResult) {
+    }
+
+    private static final DataframeMapper<List<VariantComponentResult>, Void> COMPONENT_RESULTS_MAPPER = new DataframeMapperBuilder<List<VariantComponentResult>, VariantComponentResult, Void>()
+            .itemsProvider(Function.identity())
+            .stringsIndex("variant_id", VariantComponentResult::variantId)
+            .intsIndex("connected_component_num", r -> r.componentResult().getConnectedComponentNum())
+            .ints("synchronous_component_num", r -> r.componentResult().getSynchronousComponentNum())
+            .enums("status", LoadFlowResult.ComponentResult.Status.class, r -> r.componentResult().getStatus())
+            .strings("status_text", r -> r.componentResult().getStatusText())
+            .ints("iteration_count", r -> r.componentResult().getIterationCount())
+            .strings("reference_bus_id", r -> Objects.toString(r.componentResult().getReferenceBusId(), ""))
+            .doubles("active_power_mismatch", r -> r.componentResult().getSlackBusResults().stream()
+                    .mapToDouble(LoadFlowResult.SlackBusResult::getActivePowerMismatch)
+                    .sum())
+            .doubles("distributed_active_power", r -> r.componentResult().getDistributedActivePower())
+            .build();
+
+    private LoadFlowBatch() {
+    }
+
+    public static DataframeMapper<List<VariantComponentResult>, Void> componentResultsMapper() {
+        return COMPONENT_RESULTS_MAPPER;
+    }
+
+    /**
+     * Run the load flow on each of the variants, using at most {@code threadCount} threads (all available
+     * processors if not strictly positive). Multi-thread variant access is enabled on the network for the
+     * duration of the batch.
+     *
+     * @return component results of all the variants, in variant order
+     */
+    public static List<VariantComponentResult> run(Network network, List<String> variantIds, LoadFlow.Runner runner,
+                                                   LoadFlowParameters parameters, ComputationManager computationManager,
+                                                   int threadCount) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(variantIds);
+        Objects.requireNonNull(runner);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(computationManager);
+        if (variantIds.isEmpty()) {
+            return List.of();
+        }
+        int actualThreadCount = Math.min(threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors(), variantIds.size());
+
+        VariantManager variantManager = network.getVariantManager();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        variantManager.allowVariantMultiThreadAccess(true);
+        ExecutorService executor = Executors.newFixedThreadPool(actualThreadCount);
+        try {
+            List<Future<LoadFlowResult>> futures = new ArrayList<>(variantIds.size());
+            for (String variantId : variantIds) {
+                futures.add(executor.submit(() -> runner.run(network, variantId, computationManager, parameters, ReportNode.NO_OP)));
+            }
+            List<VariantComponentResult> results = new ArrayList<>();
+            for (int i = 0; i < variantIds.size(); i++) {
+                String variantId = variantIds.get(i);
+                LoadFlowResult result = getResult(futures.get(i), variantId);
+                for (LoadFlowResult.ComponentResult componentResult : result.getComponentResults()) {
+                    results.add(new VariantComponentResult(variantId, componentResult));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+        }
+    }
+
+    private static LoadFlowResult getResult(Future<LoadFlowResult> future, String variantId) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            throw new PowsyblException("Load flow failed on variant '" + variantId + "': " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.graalvm.nativeimage.c.function.InvokeCFunctionPointer;
 import org.graalvm.nativeimage.c.struct.SizeOf;
 import org.graalvm.nativeimage.c.type.CCharPointer;
 import org.graalvm.nativeimage.c.type.CCharPointerPointer;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.nativeimage.c.type.VoidPointer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +44,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
@@ -166,6 +168,120 @@ public final class LoadFlowCFunctions {
         });
     }
 
+    @CEntryPoint(name = "runLoadFlowBatch")
+    public static ArrayPointer<SeriesPointer> runLoadFlowBatch(IsolateThread thread, ObjectHandle networkHandle,
+                                                               CCharPointerPointer variantIdsPtrPtr, int variantIdCount,
+                                                               LoadFlowParametersPointer loadFlowParametersPtr,
+                                                               CCharPointer provider, int threadCount,
+                                                               PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return Util.doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<SeriesPointer> get() {
+                Network network = ObjectHandles.getGlobal().get(networkHandle);
+                List<String> variantIds = CTypeUtil.toStringList(variantIdsPtrPtr, variantIdCount);
+                String providerStr = CTypeUtil.toString(provider);
+                LoadFlowProvider loadFlowProvider = LoadFlowCUtils.getLoadFlowProvider(providerStr);
+                logger().info("loadflow provider used is : {}", loadFlowProvider.getName());
+
+                LoadFlowParameters parameters = LoadFlowCUtils.createLoadFlowParameters(loadFlowParametersPtr, loadFlowProvider);
+                LoadFlow.Runner runner = new LoadFlow.Runner(loadFlowProvider);
+                List<LoadFlowBatch.VariantComponentResult> results = LoadFlowBatch.run(network, variantIds, runner, parameters,
+                        CommonObjects.getComputationManager(), threadCount);
+                return Dataframes.createCDataframe(LoadFlowBatch.componentResultsMapper(), results);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "createTimeSeriesLoadFlow")
+    public static ObjectHandle createTimeSeriesLoadFlow(IsolateThread thread, int timestepCount,
+                                                        PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ObjectHandle get() {
+                return ObjectHandles.getGlobal().create(new TimeSeriesLoadFlowContext(timestepCount));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addTimeSeriesLoadFlowInjectionProfile")
+    public static void addTimeSeriesLoadFlowInjectionProfile(IsolateThread thread, ObjectHandle timeSeriesLoadFlowHandle,
+                                                             CCharPointer attributePtr,
+                                                             CCharPointerPointer elementIdsPtrPtr, int elementIdCount,
+                                                             CDoublePointer valuesPtr, int valueCount,
+                                                             PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                TimeSeriesLoadFlowContext context = ObjectHandles.getGlobal().get(timeSeriesLoadFlowHandle);
+                TimeSeriesLoadFlowContext.InjectionAttribute attribute = TimeSeriesLoadFlowContext.parseAttribute(
+                        TimeSeriesLoadFlowContext.InjectionAttribute.class, CTypeUtil.toString(attributePtr));
+                List<String> elementIds = CTypeUtil.toStringList(elementIdsPtrPtr, elementIdCount);
+                double[] values = new double[valueCount];
+                for (int i = 0; i < valueCount; i++) {
+                    values[i] = valuesPtr.read(i);
+                }
+                context.addInjectionProfile(attribute, elementIds, values);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addTimeSeriesLoadFlowOutput")
+    public static void addTimeSeriesLoadFlowOutput(IsolateThread thread, ObjectHandle timeSeriesLoadFlowHandle,
+                                                   CCharPointer attributePtr,
+                                                   CCharPointerPointer elementIdsPtrPtr, int elementIdCount,
+                                                   PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                TimeSeriesLoadFlowContext context = ObjectHandles.getGlobal().get(timeSeriesLoadFlowHandle);
+                TimeSeriesLoadFlowContext.OutputAttribute attribute = TimeSeriesLoadFlowContext.parseAttribute(
+                        TimeSeriesLoadFlowContext.OutputAttribute.class, CTypeUtil.toString(attributePtr));
+                context.addOutput(attribute, CTypeUtil.toStringList(elementIdsPtrPtr, elementIdCount));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "runTimeSeriesLoadFlow")
+    public static ArrayPointer<SeriesPointer> runTimeSeriesLoadFlow(IsolateThread thread, ObjectHandle timeSeriesLoadFlowHandle,
+                                                                    ObjectHandle networkHandle,
+                                                                    LoadFlowParametersPointer loadFlowParametersPtr,
+                                                                    CCharPointer provider, ObjectHandle reportNodeHandle,
+                                                                    PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<SeriesPointer> get() {
+                TimeSeriesLoadFlowContext context = ObjectHandles.getGlobal().get(timeSeriesLoadFlowHandle);
+                Network network = ObjectHandles.getGlobal().get(networkHandle);
+                String providerStr = CTypeUtil.toString(provider);
+                LoadFlowProvider loadFlowProvider = LoadFlowCUtils.getLoadFlowProvider(providerStr);
+                logger().info("loadflow provider used is : {}", loadFlowProvider.getName());
+
+                LoadFlowParameters parameters = LoadFlowCUtils.createLoadFlowParameters(loadFlowParametersPtr, loadFlowProvider);
+                LoadFlow.Runner runner = new LoadFlow.Runner(loadFlowProvider);
+                ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
+                List<TimeSeriesLoadFlowContext.TimestepResult> results = context.run(network, runner, parameters,
+                        CommonObjects.getComputationManager(), reportNode);
+                return Dataframes.createCDataframe(TimeSeriesLoadFlowContext.timestepResultsMapper(), results);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getTimeSeriesLoadFlowOutputMatrix")
+    public static PyPowsyblApiHeader.MatrixPointer getTimeSeriesLoadFlowOutputMatrix(IsolateThread thread, ObjectHandle timeSeriesLoadFlowHandle,
+                                                                                     CCharPointer attributePtr,
+                                                                                     PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public PyPowsyblApiHeader.MatrixPointer get() {
+                TimeSeriesLoadFlowContext context = ObjectHandles.getGlobal().get(timeSeriesLoadFlowHandle);
+                TimeSeriesLoadFlowContext.OutputAttribute attribute = TimeSeriesLoadFlowContext.parseAttribute(
+                        TimeSeriesLoadFlowContext.OutputAttribute.class, CTypeUtil.toString(attributePtr));
+                return Util.createDoubleMatrix(context.getOutputValues(attribute), context.getTimestepCount(),
+                        context.getOutputElementIds(attribute).size());
+            }
+        });
+    }
+
     public interface LoadFlowResultCallback extends CFunctionPointer {
         @InvokeCFunctionPointer
         void invoke(ArrayPointer<PyPowsyblApiHeader.LoadFlowComponentResultPointer> resultsPtr, VoidPointer resultFuturePtr);
@@ -200,18 +316,79 @@ public final class LoadFlowCFunctions {
                 ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
                 runner.runAsync(network, variantIdStr,
                                 CommonObjects.getComputationManager(), parameters, reportNode)
-                        .whenComplete(new BiConsumer<>() {
-                            @Override
-                            public void accept(LoadFlowResult loadFlowResult, Throwable throwable) {
-                                if (throwable != null) {
-                                    var messagePtr = CTypeUtil.toCharPtr(Util.getNonNullMessage(throwable));
-                                    loadFlowExceptionCallback.invoke(messagePtr, resultFuturePtr);
-                                } else {
-                                    var resultsPtr = createLoadFlowComponentResultArrayPointer(loadFlowResult);
-                                    loadFlowResultCallback.invoke(resultsPtr, resultFuturePtr);
-                                }
-                            }
-                        });
+                        .whenComplete(createCallbacksInvoker(loadFlowResultCallback, loadFlowExceptionCallback, resultFuturePtr));
+            }
+        });
+    }
+
+    public static BiConsumer<LoadFlowResult, Throwable> createCallbacksInvoker(LoadFlowResultCallback loadFlowResultCallback,
+                                                                              LoadFlowExceptionCallback loadFlowExceptionCallback,
+                                                                              VoidPointer resultFuturePtr) {
+        return new BiConsumer<>() {
+            @Override
+            public void accept(LoadFlowResult loadFlowResult, Throwable throwable) {
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                    var messagePtr = CTypeUtil.toCharPtr(Util.getNonNullMessage(cause));
+                    loadFlowExceptionCallback.invoke(messagePtr, resultFuturePtr);
+                } else {
+                    var resultsPtr = createLoadFlowComponentResultArrayPointer(loadFlowResult);
+                    loadFlowResultCallback.invoke(resultsPtr, resultFuturePtr);
+                }
+            }
+        };
+    }
+
+    @CEntryPoint(name = "createPreparedLoadFlowParameters")
+    public static ObjectHandle createPreparedLoadFlowParameters(IsolateThread thread, LoadFlowParametersPointer loadFlowParametersPtr,
+                                                                CCharPointer provider,
+                                                                PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ObjectHandle get() {
+                return ObjectHandles.getGlobal().create(PreparedLoadFlowParameters.create(loadFlowParametersPtr, CTypeUtil.toString(provider)));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "runLoadFlowWithPreparedParameters")
+    public static ArrayPointer<LoadFlowComponentResultPointer> runLoadFlowWithPreparedParameters(IsolateThread thread, ObjectHandle networkHandle,
+                                                                                                 ObjectHandle preparedParametersHandle, boolean dc,
+                                                                                                 ObjectHandle reportNodeHandle,
+                                                                                                 PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<LoadFlowComponentResultPointer> get() {
+                Network network = ObjectHandles.getGlobal().get(networkHandle);
+                PreparedLoadFlowParameters preparedParameters = ObjectHandles.getGlobal().get(preparedParametersHandle);
+                ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
+                LoadFlowResult result = preparedParameters.getRunner().run(network, network.getVariantManager().getWorkingVariantId(),
+                        CommonObjects.getComputationManager(), preparedParameters.getParameters(dc), reportNode);
+                return createLoadFlowComponentResultArrayPointer(result);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "runLoadFlowAsyncWithPreparedParameters")
+    public static void runLoadFlowAsyncWithPreparedParameters(IsolateThread thread,
+                                                              ObjectHandle networkHandle,
+                                                              CCharPointer variantId,
+                                                              ObjectHandle preparedParametersHandle, boolean dc,
+                                                              ObjectHandle reportNodeHandle,
+                                                              LoadFlowResultCallback loadFlowResultCallback,
+                                                              LoadFlowExceptionCallback loadFlowExceptionCallback,
+                                                              VoidPointer resultFuturePtr,
+                                                              PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Network network = ObjectHandles.getGlobal().get(networkHandle);
+                String variantIdStr = CTypeUtil.toString(variantId);
+                PreparedLoadFlowParameters preparedParameters = ObjectHandles.getGlobal().get(preparedParametersHandle);
+                ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
+                preparedParameters.getRunner().runAsync(network, variantIdStr,
+                                CommonObjects.getComputationManager(), preparedParameters.getParameters(dc), reportNode)
+                        .whenComplete(createCallbacksInvoker(loadFlowResultCallback, loadFlowExceptionCallback, resultFuturePtr));
             }
         });
     }
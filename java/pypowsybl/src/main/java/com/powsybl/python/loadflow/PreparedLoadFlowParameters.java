@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.loadflow;
+
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowProvider;
+import com.powsybl.python.commons.PyPowsyblApiHeader.LoadFlowParametersPointer;
+
+import java.util.Objects;
+
+/**
+ * Load flow parameters converted once from their C representation, together with the resolved provider,
+ * so that they can be reused by many load flow runs.
+ * <p>
+ * As run functions force the DC mode, both an AC and a DC version of the parameters are kept.
+ * Parameters must not be modified once prepared, as they may be shared by concurrent runs.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class PreparedLoadFlowParameters {
+
+    private final LoadFlowProvider provider;
+
+    private final LoadFlow.Runner runner;
+
+    private final LoadFlowParameters acParameters;
+
+    private final LoadFlowParameters dcParameters;
+
+    private PreparedLoadFlowParameters(LoadFlowProvider provider, LoadFlowParameters acParameters, LoadFlowParameters dcParameters) {
+        this.provider = Objects.requireNonNull(provider);
+        this.runner = new LoadFlow.Runner(provider);
+        this.acParameters = Objects.requireNonNull(acParameters);
+        this.dcParameters = Objects.requireNonNull(dcParameters);
+    }
+
+    public static PreparedLoadFlowParameters create(LoadFlowParametersPointer cParameters, String providerName) {
+        LoadFlowProvider provider = LoadFlowCUtils.getLoadFlowProvider(providerName);
+        LoadFlowParameters acParameters = LoadFlowCUtils.createLoadFlowParameters(cParameters, provider).setDc(false);
+        LoadFlowParameters dcParameters = LoadFlowCUtils.createLoadFlowParameters(cParameters, provider).setDc(true);
+        return new PreparedLoadFlowParameters(provider, acParameters, dcParameters);
+    }
+
+    public LoadFlowProvider getProvider() {
+        return provider;
+    }
+
+    public LoadFlow.Runner getRunner() {
+        return runner;
+    }
+
+    public LoadFlowParameters getParameters(boolean dc) {
+        return dc ? dcParameters : acParameters;
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.loadflow;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.dataframe.DataframeMapper;
+import com.powsybl.dataframe.DataframeMapperBuilder;
+import com.powsybl.iidm.network.*;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Runs a sequence of load flows, one per timestep, on injection setpoints profiles and collects a selection
+ * of results into timestep x element matrices.
+ * <p>
+ * All the timesteps are computed on a temporary copy of the working variant, so that the working variant
+ * is left untouched and each load flow can start from the previous timestep solution.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class TimeSeriesLoadFlowContext {
+
+    private static final String VARIANT_ID_PREFIX = "time_series_loadflow_";
+
+    public enum InjectionAttribute {
+        LOAD_P0,
+        LOAD_Q0,
+        GENERATOR_TARGET_P,
+    }
+
+    public enum OutputAttribute {
+        BRANCH_P1,
+        BRANCH_Q1,
+        BRANCH_I1,
+        BRANCH_P2,
+        BRANCH_Q2,
+        BRANCH_I2,
+        BUS_V_MAG,
+        BUS_V_ANGLE,
+    }
+
+    public record TimestepResult(int timestep, LoadFlowResult.ComponentResult.Status status, String statusText,
+                                 int iterationCount) {
+    }
+
+    private static final DataframeMapper<List<TimestepResult>, Void> TIMESTEP_RESULTS_MAPPER = new DataframeMapperBuilder<List<TimestepResult>, TimestepResult, Void>()
+            .itemsProvider(Function.identity())
+            .intsIndex("timestep", TimestepResult::timestep)
+            .enums("status", LoadFlowResult.ComponentResult.Status.class, TimestepResult::status)
+            .strings("status_text", TimestepResult::statusText)
+            .ints("iteration_count", TimestepResult::iterationCount)
+            .build();
+
+    private record InjectionProfile(InjectionAttribute attribute, List<String> elementIds, double[] values) {
+    }
+
+    private final int timestepCount;
+
+    private final List<InjectionProfile> injectionProfiles = new ArrayList<>();
+
+    private final Map<OutputAttribute, List<String>> outputs = new EnumMap<>(OutputAttribute.class);
+
+    private final Map<OutputAttribute, double[]> outputValues = new EnumMap<>(OutputAttribute.class);
+
+    public TimeSeriesLoadFlowContext(int timestepCount) {
+        if (timestepCount <= 0) {
+            throw new PowsyblException("Timestep count has to be strictly positive: " + timestepCount);
+        }
+        this.timestepCount = timestepCount;
+    }
+
+    public static DataframeMapper<List<TimestepResult>, Void> timestepResultsMapper() {
+        return TIMESTEP_RESULTS_MAPPER;
+    }
+
+    public static <E extends Enum<E>> E parseAttribute(Class<E> enumClass, String name) {
+        try {
+            return Enum.valueOf(enumClass, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new PowsyblException("Unknown attribute '" + name + "', expected one of " + EnumSet.allOf(enumClass));
+        }
+    }
+
+    /**
+     * Add setpoints profiles for a set of elements.
+     *
+     * @param values row major timestep x element matrix, a NaN value keeps the setpoint of the previous timestep
+     */
+    public void addInjectionProfile(InjectionAttribute attribute, List<String> elementIds, double[] values) {
+        Objects.requireNonNull(attribute);
+        Objects.requireNonNull(elementIds);
+        Objects.requireNonNull(values);
+        if (values.length != timestepCount * elementIds.size()) {
+            throw new PowsyblException("Profile of " + elementIds.size() + " elements over " + timestepCount
+                    + " timesteps is not suitable for " + values.length + " values");
+        }
+        injectionProfiles.add(new InjectionProfile(attribute, elementIds, values));
+    }
+
+    public void addOutput(OutputAttribute attribute, List<String> elementIds) {
+        Objects.requireNonNull(attribute);
+        Objects.requireNonNull(elementIds);
+        if (outputs.containsKey(attribute)) {
+            throw new PowsyblException("Output '" + attribute + "' already exists");
+        }
+        outputs.put(attribute, elementIds);
+    }
+
+    private static void applyInjections(Injection<?>[] injections, InjectionProfile profile, int timestep) {
+        int offset = timestep * injections.length;
+        for (int i = 0; i < injections.length; i++) {
+            double value = profile.values()[offset + i];
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            switch (profile.attribute()) {
+                case LOAD_P0 -> ((Load) injections[i]).setP0(value);
+                case LOAD_Q0 -> ((Load) injections[i]).setQ0(value);
+                case GENERATOR_TARGET_P -> ((Generator) injections[i]).setTargetP(value);
+            }
+        }
+    }
+
+    private static Injection<?>[] getInjections(Network network, InjectionProfile profile) {
+        Injection<?>[] injections = new Injection<?>[profile.elementIds().size()];
+        for (int i = 0; i < injections.length; i++) {
+            String id = profile.elementIds().get(i);
+            injections[i] = switch (profile.attribute()) {
+                case LOAD_P0, LOAD_Q0 -> network.getLoad(id);
+                case GENERATOR_TARGET_P -> network.getGenerator(id);
+            };
+            if (injections[i] == null) {
+                throw new PowsyblException("Injection '" + id + "' not found for attribute " + profile.attribute());
+            }
+        }
+        return injections;
+    }
+
+    private static ToDoubleFunction<Branch<?>> getBranchFunction(OutputAttribute attribute) {
+        return switch (attribute) {
+            case BRANCH_P1 -> b -> b.getTerminal1().getP();
+            case BRANCH_Q1 -> b -> b.getTerminal1().getQ();
+            case BRANCH_I1 -> b -> b.getTerminal1().getI();
+            case BRANCH_P2 -> b -> b.getTerminal2().getP();
+            case BRANCH_Q2 -> b -> b.getTerminal2().getQ();
+            case BRANCH_I2 -> b -> b.getTerminal2().getI();
+            default -> throw new IllegalStateException("Not a branch attribute: " + attribute);
+        };
+    }
+
+    private static ToDoubleFunction<Bus> getBusFunction(OutputAttribute attribute) {
+        return switch (attribute) {
+            case BUS_V_MAG -> Bus::getV;
+            case BUS_V_ANGLE -> Bus::getAngle;
+            default -> throw new IllegalStateException("Not a bus attribute: " + attribute);
+        };
+    }
+
+    private static boolean isBusAttribute(OutputAttribute attribute) {
+        return attribute == OutputAttribute.BUS_V_MAG || attribute == OutputAttribute.BUS_V_ANGLE;
+    }
+
+    /**
+     * Reads one output attribute of all its elements into a matrix row.
+     */
+    private interface OutputReader {
+        void read(double[] values, int offset, boolean valid);
+    }
+
+    private static <T> OutputReader createReader(List<T> elements, ToDoubleFunction<T> function) {
+        return (values, offset, valid) -> {
+            for (int i = 0; i < elements.size(); i++) {
+                values[offset + i] = valid ? function.applyAsDouble(elements.get(i)) : Double.NaN;
+            }
+        };
+    }
+
+    private OutputReader createReader(Network network, OutputAttribute attribute, List<String> elementIds) {
+        if (isBusAttribute(attribute)) {
+            List<Bus> buses = new ArrayList<>(elementIds.size());
+            for (String id : elementIds) {
+                Bus bus = network.getBusView().getBus(id);
+                if (bus == null) {
+                    throw new PowsyblException("Bus '" + id + "' not found");
+                }
+                buses.add(bus);
+            }
+            return createReader(buses, getBusFunction(attribute));
+        } else {
+            List<Branch<?>> branches = new ArrayList<>(elementIds.size());
+            for (String id : elementIds) {
+                Branch<?> branch = network.getBranch(id);
+                if (branch == null) {
+                    throw new PowsyblException("Branch '" + id + "' not found");
+                }
+                branches.add(branch);
+            }
+            return createReader(branches, getBranchFunction(attribute));
+        }
+    }
+
+    /**
+     * Run the load flow on each timestep. Outputs of a timestep for which the main component load flow has not
+     * converged are set to NaN.
+     *
+     * @return the main component result of each timestep
+     */
+    public List<TimestepResult> run(Network network, LoadFlow.Runner runner, LoadFlowParameters parameters,
+                                    ComputationManager computationManager, ReportNode reportNode) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(runner);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(computationManager);
+
+        // resolve all elements once, identifiables are shared by all the variants
+        List<Injection<?>[]> injections = new ArrayList<>(injectionProfiles.size());
+        for (InjectionProfile profile : injectionProfiles) {
+            injections.add(getInjections(network, profile));
+        }
+
+        VariantManager variantManager = network.getVariantManager();
+        String initialVariantId = variantManager.getWorkingVariantId();
+        String variantId = VARIANT_ID_PREFIX + UUID.randomUUID();
+        variantManager.cloneVariant(initialVariantId, variantId);
+        variantManager.setWorkingVariant(variantId);
+        try {
+            // bus view buses have to be retrieved on the variant the load flow is run on
+            Map<OutputAttribute, OutputReader> readers = new EnumMap<>(OutputAttribute.class);
+            outputValues.clear();
+            for (Map.Entry<OutputAttribute, List<String>> e : outputs.entrySet()) {
+                readers.put(e.getKey(), createReader(network, e.getKey(), e.getValue()));
+                outputValues.put(e.getKey(), new double[timestepCount * e.getValue().size()]);
+            }
+
+            List<TimestepResult> results = new ArrayList<>(timestepCount);
+            for (int t = 0; t < timestepCount; t++) {
+                for (int i = 0; i < injectionProfiles.size(); i++) {
+                    applyInjections(injections.get(i), injectionProfiles.get(i), t);
+                }
+                LoadFlowResult result = runner.run(network, variantId, computationManager, parameters,
+                        reportNode == null ? ReportNode.NO_OP : reportNode);
+                TimestepResult timestepResult = createTimestepResult(t, result);
+                results.add(timestepResult);
+                boolean valid = timestepResult.status() == LoadFlowResult.ComponentResult.Status.CONVERGED;
+                for (Map.Entry<OutputAttribute, OutputReader> e : readers.entrySet()) {
+                    int elementCount = outputs.get(e.getKey()).size();
+                    e.getValue().read(outputValues.get(e.getKey()), t * elementCount, valid);
+                }
+            }
+            return results;
+        } finally {
+            variantManager.setWorkingVariant(initialVariantId);
+            variantManager.removeVariant(variantId);
+        }
+    }
+
+    private static TimestepResult createTimestepResult(int timestep, LoadFlowResult result) {
+        return result.getComponentResults().stream()
+                .filter(r -> r.getConnectedComponentNum() == ComponentConstants.MAIN_NUM)
+                .findFirst()
+                .map(r -> new TimestepResult(timestep, r.getStatus(), r.getStatusText(), r.getIterationCount()))
+                .orElseGet(() -> new TimestepResult(timestep, LoadFlowResult.ComponentResult.Status.FAILED,
+                        "No main component result", 0));
+    }
+
+    public List<String> getOutputElementIds(OutputAttribute attribute) {
+        List<String> elementIds = outputs.get(attribute);
+        if (elementIds == null) {
+            throw new PowsyblException("Output '" + attribute + "' not found");
+        }
+        return elementIds;
+    }
+
+    /**
+     * @return row major timestep x element matrix of the output values, computed by the last run
+     */
+    public double[] getOutputValues(OutputAttribute attribute) {
+        getOutputElementIds(attribute);
+        double[] values = outputValues.get(attribute);
+        if (values == null) {
+            throw new PowsyblException("Time series load flow has not been run");
+        }
+        return values;
+    }
+
+    public int getTimestepCount() {
+        return timestepCount;
+    }
+}
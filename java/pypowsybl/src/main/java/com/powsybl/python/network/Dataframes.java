@@ -21,10 +21,8 @@ import com.powsybl.python.commons.PyPowsyblApiHeader.ArrayPointer;
 import com.powsybl.python.commons.PyPowsyblApiHeader.SeriesPointer;
 import com.powsybl.python.dataframe.CDataframeHandler;
 import com.powsybl.python.flow_decomposition.XnecWithDecompositionContext;
-import com.powsybl.python.security.BranchResultContext;
-import com.powsybl.python.security.BusResultContext;
-import com.powsybl.python.security.LimitViolationContext;
-import com.powsybl.python.security.ThreeWindingsTransformerResultContext;
+import com.powsybl.python.security.ColumnarTableMapper;
+import com.powsybl.python.security.SecurityAnalysisResultTables;
 import com.powsybl.python.shortcircuit.*;
 import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.contingency.violations.LimitViolationType;
@@ -166,127 +164,21 @@ public final class Dataframes {
         return FEEDER_MAP_MAPPER;
     }
 
-    private static List<BranchResultContext> getBranchResults(SecurityAnalysisResult result) {
-        List<BranchResultContext> branchResults = result.getPreContingencyResult().getNetworkResult()
-                .getBranchResults().stream()
-                .map(branchResult -> new BranchResultContext(branchResult, null, null))
-                .collect(Collectors.toList());
-        result.getPostContingencyResults().forEach(postContingencyResult -> {
-            postContingencyResult.getNetworkResult().getBranchResults()
-                    .forEach(branchResult -> branchResults.add(new BranchResultContext(branchResult, postContingencyResult.getContingency().getId(), null)));
-        });
-        result.getOperatorStrategyResults().forEach(operatorStrategyResult -> {
-            operatorStrategyResult.getNetworkResult().getBranchResults()
-                    .forEach(branchResult -> branchResults.add(new BranchResultContext(branchResult,
-                            operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
-                            operatorStrategyResult.getOperatorStrategy().getId())));
-        });
-        return branchResults;
-    }
-
     private static DataframeMapper<SecurityAnalysisResult, Void> createBranchResultsMapper() {
-        return new DataframeMapperBuilder<SecurityAnalysisResult, BranchResultContext, Void>()
-                .itemsProvider(Dataframes::getBranchResults)
-                .stringsIndex("contingency_id", BranchResultContext::getContingencyId)
-                .stringsIndex("operator_strategy_id", BranchResultContext::getOperatorStrategyId)
-                .stringsIndex("branch_id", BranchResultContext::getBranchId)
-                .doubles("p1", BranchResultContext::getP1)
-                .doubles("q1", BranchResultContext::getQ1)
-                .doubles("i1", BranchResultContext::getI1)
-                .doubles("p2", BranchResultContext::getP2)
-                .doubles("q2", BranchResultContext::getQ2)
-                .doubles("i2", BranchResultContext::getI2)
-                .doubles("flow_transfer", BranchResultContext::getFlowTransfer)
-                .build();
-    }
-
-    private static List<BusResultContext> getBusResults(SecurityAnalysisResult result) {
-        List<BusResultContext> busResults = result.getPreContingencyResult()
-                .getNetworkResult()
-                .getBusResults().stream()
-                .map(busResult -> new BusResultContext(busResult, null, null))
-                .collect(Collectors.toList());
-        result.getPostContingencyResults().forEach(postContingencyResult -> {
-            postContingencyResult.getNetworkResult().getBusResults()
-                    .forEach(busResult -> busResults.add(new BusResultContext(busResult, postContingencyResult.getContingency().getId(), null)));
-        });
-        result.getOperatorStrategyResults().forEach(operatorStrategyResult -> {
-            operatorStrategyResult.getNetworkResult().getBusResults()
-                    .forEach(busResult -> busResults.add(new BusResultContext(busResult,
-                            operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
-                            operatorStrategyResult.getOperatorStrategy().getId())));
-        });
-        return busResults;
+        return new ColumnarTableMapper<>(SecurityAnalysisResultTables.BRANCH_RESULTS_COLUMNS, SecurityAnalysisResultTables::createBranchResults);
     }
 
     private static DataframeMapper<SecurityAnalysisResult, Void> createBusResultsMapper() {
-        return new DataframeMapperBuilder<SecurityAnalysisResult, BusResultContext, Void>()
-                .itemsProvider(Dataframes::getBusResults)
-                .stringsIndex("contingency_id", BusResultContext::getContingencyId)
-                .stringsIndex("operator_strategy_id", BusResultContext::getOperatorStrategyId)
-                .stringsIndex("voltage_level_id", BusResultContext::getVoltageLevelId)
-                .stringsIndex("bus_id", BusResultContext::getBusId)
-                .doubles("v_mag", BusResultContext::getV)
-                .doubles("v_angle", BusResultContext::getAngle)
-                .build();
-    }
-
-    private static List<ThreeWindingsTransformerResultContext> getThreeWindingsTransformerResults(SecurityAnalysisResult result) {
-        List<ThreeWindingsTransformerResultContext> threeWindingsTransformerResults = result.getPreContingencyResult()
-                .getNetworkResult().getThreeWindingsTransformerResults().stream()
-                .map(threeWindingsTransformerResult -> new ThreeWindingsTransformerResultContext(threeWindingsTransformerResult, null))
-                .collect(Collectors.toList());
-        result.getPostContingencyResults().forEach(postContingencyResult -> {
-            postContingencyResult.getNetworkResult().getThreeWindingsTransformerResults()
-                    .forEach(threeWindingsTransformerResult ->
-                            threeWindingsTransformerResults.add(new ThreeWindingsTransformerResultContext(threeWindingsTransformerResult,
-                                    postContingencyResult.getContingency().getId())));
-        });
-        return threeWindingsTransformerResults;
+        return new ColumnarTableMapper<>(SecurityAnalysisResultTables.BUS_RESULTS_COLUMNS, SecurityAnalysisResultTables::createBusResults);
     }
 
     private static DataframeMapper<SecurityAnalysisResult, Void> createThreeWindingsTransformersResults() {
-        return new DataframeMapperBuilder<SecurityAnalysisResult, ThreeWindingsTransformerResultContext, Void>()
-                .itemsProvider(Dataframes::getThreeWindingsTransformerResults)
-                .stringsIndex("contingency_id", ThreeWindingsTransformerResultContext::getContingencyId)
-                .stringsIndex("transformer_id", ThreeWindingsTransformerResultContext::getThreeWindingsTransformerId)
-                .doubles("p1", ThreeWindingsTransformerResultContext::getP1)
-                .doubles("q1", ThreeWindingsTransformerResultContext::getQ1)
-                .doubles("i1", ThreeWindingsTransformerResultContext::getI1)
-                .doubles("p2", ThreeWindingsTransformerResultContext::getP2)
-                .doubles("q2", ThreeWindingsTransformerResultContext::getQ2)
-                .doubles("i2", ThreeWindingsTransformerResultContext::getI2)
-                .doubles("p3", ThreeWindingsTransformerResultContext::getP3)
-                .doubles("q3", ThreeWindingsTransformerResultContext::getQ3)
-                .doubles("i3", ThreeWindingsTransformerResultContext::getI3)
-                .build();
-    }
-
-    private static List<LimitViolationContext> getLimitViolations(SecurityAnalysisResult result) {
-        List<LimitViolationContext> limitViolations = result.getPreContingencyResult().getLimitViolationsResult().getLimitViolations()
-                .stream().map(limitViolation -> new LimitViolationContext("", limitViolation)).collect(Collectors.toList());
-        result.getPostContingencyResults()
-                .forEach(postContingencyResult -> limitViolations.addAll(postContingencyResult.getLimitViolationsResult()
-                        .getLimitViolations().stream()
-                        .map(limitViolation -> new LimitViolationContext(postContingencyResult.getContingency().getId(), limitViolation))
-                        .toList()));
-        return limitViolations;
+        return new ColumnarTableMapper<>(SecurityAnalysisResultTables.THREE_WINDINGS_TRANSFORMER_RESULTS_COLUMNS,
+                SecurityAnalysisResultTables::createThreeWindingsTransformerResults);
     }
 
     private static DataframeMapper<SecurityAnalysisResult, Void> createLimitViolationsMapper() {
-        return new DataframeMapperBuilder<SecurityAnalysisResult, LimitViolationContext, Void>()
-                .itemsProvider(Dataframes::getLimitViolations)
-                .stringsIndex("contingency_id", LimitViolationContext::getContingencyId)
-                .stringsIndex("subject_id", LimitViolation::getSubjectId)
-                .strings("subject_name", p -> Objects.toString(p.getSubjectName(), ""))
-                .enums("limit_type", LimitViolationType.class, LimitViolation::getLimitType)
-                .strings("limit_name", p -> Objects.toString(p.getLimitName(), ""))
-                .doubles("limit", LimitViolation::getLimit)
-                .ints("acceptable_duration", LimitViolation::getAcceptableDuration)
-                .doubles("limit_reduction", LimitViolation::getLimitReduction)
-                .doubles("value", LimitViolation::getValue)
-                .strings("side", p -> Objects.toString(p.getSide(), ""))
-                .build();
+        return new ColumnarTableMapper<>(SecurityAnalysisResultTables.LIMIT_VIOLATIONS_COLUMNS, SecurityAnalysisResultTables::createLimitViolations);
     }
 
     private static List<NodeBreakerViewSwitchContext> getNodeBreakerViewSwitches(VoltageLevel.NodeBreakerView nodeBreakerView) {
@@ -490,54 +382,12 @@ public final class Dataframes {
         return withFortescueResult ? SHORT_CIRCUIT_FORTESCUE_RESULTS_MAPPER : SHORT_CIRCUIT_MAGNITUDE_RESULTS_MAPPER;
     }
 
-    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_MAGNITUDE_RESULTS_MAPPER = createMagnitudeFaultResultsMapper();
-    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_FORTESCUE_RESULTS_MAPPER = createFortescueFaultResultsMapper();
-
-    private static List<MagnitudeFaultResult> getMagnitudeFaultResults(ShortCircuitAnalysisResult result) {
-        return result.getFaultResults().stream().filter(f -> f instanceof MagnitudeFaultResult)
-                .map(f -> (MagnitudeFaultResult) f)
-                .collect(Collectors.toList());
-    }
-
-    private static List<FortescueFaultResult> getFortescueFaultResults(ShortCircuitAnalysisResult result) {
-        return result.getFaultResults().stream().filter(f -> f instanceof FortescueFaultResult)
-                .map(f -> (FortescueFaultResult) f)
-                .collect(Collectors.toList());
-    }
-
-    private static DataframeMapper<ShortCircuitAnalysisResult, Void> createMagnitudeFaultResultsMapper() {
-        return new DataframeMapperBuilder<ShortCircuitAnalysisResult, MagnitudeFaultResult, Void>()
-                .itemsProvider(Dataframes::getMagnitudeFaultResults)
-                .stringsIndex("id", f -> f.getFault().getId())
-                .enums("status", FaultResult.Status.class, f -> f.getStatus())
-                .doubles("short_circuit_power", MagnitudeFaultResult::getShortCircuitPower)
-                .strings("time_constant", f -> f.getTimeConstant() != null ? f.getTimeConstant().toString() : null)
-                .doubles("current", MagnitudeFaultResult::getCurrent)
-                .doubles("voltage", MagnitudeFaultResult::getVoltage)
-                .build();
-    }
-
-    private static DataframeMapper<ShortCircuitAnalysisResult, Void> createFortescueFaultResultsMapper() {
-        return new DataframeMapperBuilder<ShortCircuitAnalysisResult, FortescueFaultResult, Void>()
-                .itemsProvider(Dataframes::getFortescueFaultResults)
-                .stringsIndex("id", f -> f.getFault().getId())
-                .enums("status", FaultResult.Status.class, f -> f.getStatus())
-                .doubles("short_circuit_power", FortescueFaultResult::getShortCircuitPower)
-                .strings("time_constant", f -> f.getTimeConstant() != null ? f.getTimeConstant().toString() : null)
-                .doubles("current_negative_angle", fortescueFaultResult -> fortescueFaultResult.getCurrent().getNegativeAngle(), false)
-                .doubles("current_positive_angle", fortescueFaultResult -> fortescueFaultResult.getCurrent().getPositiveAngle())
-                .doubles("current_negative_magnitude", fortescueFaultResult -> fortescueFaultResult.getCurrent().getNegativeMagnitude(), false)
-                .doubles("current_positive_magnitude", fortescueFaultResult -> fortescueFaultResult.getCurrent().getPositiveMagnitude())
-                .doubles("current_zero_magnitude", fortescueFaultResult -> fortescueFaultResult.getCurrent().getZeroMagnitude(), false)
-                .doubles("current_zero_angle", fortescueFaultResult -> fortescueFaultResult.getCurrent().getZeroAngle(), false)
-                .doubles("voltage_negative_angle", fortescueFaultResult -> fortescueFaultResult.getVoltage().getNegativeAngle(), false)
-                .doubles("voltage_positive_angle", fortescueFaultResult -> fortescueFaultResult.getVoltage().getPositiveAngle())
-                .doubles("voltage_negative_magnitude", fortescueFaultResult -> fortescueFaultResult.getVoltage().getNegativeMagnitude(), false)
-                .doubles("voltage_positive_magnitude", fortescueFaultResult -> fortescueFaultResult.getVoltage().getPositiveMagnitude())
-                .doubles("voltage_zero_magnitude", fortescueFaultResult -> fortescueFaultResult.getVoltage().getZeroMagnitude(), false)
-                .doubles("voltage_zero_angle", fortescueFaultResult -> fortescueFaultResult.getVoltage().getZeroAngle(), false)
-                .build();
-    }
+    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_MAGNITUDE_RESULTS_MAPPER =
+            new ColumnarTableMapper<>(ShortCircuitAnalysisResultTables.MAGNITUDE_FAULT_RESULTS_COLUMNS,
+                result -> ShortCircuitAnalysisResultTables.getFaultResults(result, false));
+    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_FORTESCUE_RESULTS_MAPPER =
+            new ColumnarTableMapper<>(ShortCircuitAnalysisResultTables.FORTESCUE_FAULT_RESULTS_COLUMNS,
+                result -> ShortCircuitAnalysisResultTables.getFaultResults(result, true));
 
     public static DataframeMapper<ShortCircuitAnalysisResult, Void> shortCircuitAnalysisLimitViolationsResultsMapper() {
         return SHORT_CIRCUIT_LIMIT_VIOLATIONS_RESULTS_MAPPER;
@@ -573,55 +423,12 @@ public final class Dataframes {
         return withFortescueResult ? SHORT_CIRCUIT_FORTESCUE_FEEDER_RESULTS_MAPPER : SHORT_CIRCUIT_MAGNITUDE_FEEDER_RESULTS_MAPPER;
     }
 
-    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_MAGNITUDE_FEEDER_RESULTS_MAPPER = createMagnitudeFeederMapper();
-    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_FORTESCUE_FEEDER_RESULTS_MAPPER = createFortescueFeederMapper();
-
-    public static List<MagnitudeFeederResultContext> getMagnitudeFeederResultContexts(ShortCircuitAnalysisResult result) {
-        return result.getFaultResults().stream()
-                .flatMap(a -> a.getFeederResults()
-                        .stream()
-                        .map(ss -> new MagnitudeFeederResultContext(a.getFault().getId(), (MagnitudeFeederResult) ss)))
-                .collect(Collectors.toList());
-    }
-
-    public static List<FortescueFeederResultContext> getFortescueFeederResultContexts(ShortCircuitAnalysisResult result) {
-        return result.getFaultResults().stream()
-                .flatMap(a -> a.getFeederResults()
-                        .stream()
-                        .map(ss -> new FortescueFeederResultContext(a.getFault().getId(), (FortescueFeederResult) ss)))
-                .collect(Collectors.toList());
-    }
-
-    private static DataframeMapper<ShortCircuitAnalysisResult, Void> createMagnitudeFeederMapper() {
-        return new DataframeMapperBuilder<ShortCircuitAnalysisResult, MagnitudeFeederResultContext, Void>()
-                .itemsProvider(Dataframes::getMagnitudeFeederResultContexts)
-                .stringsIndex("id", MagnitudeFeederResultContext::getFaultId)
-                .stringsIndex("connectable_id", MagnitudeFeederResultContext::getConnectableId)
-                .doubles("current", MagnitudeFeederResultContext::getCurrent)
-                .enums("side", ThreeSides.class, MagnitudeFeederResultContext::getSide)
-                .build();
-    }
-
-    private static DataframeMapper<ShortCircuitAnalysisResult, Void> createFortescueFeederMapper() {
-        return new DataframeMapperBuilder<ShortCircuitAnalysisResult, FortescueFeederResultContext, Void>()
-                .itemsProvider(Dataframes::getFortescueFeederResultContexts)
-                .stringsIndex("id", FortescueFeederResultContext::getFaultId)
-                .stringsIndex("connectable_id", FortescueFeederResultContext::getConnectableId)
-                .doubles("current_negative_angle", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getNegativeAngle(), false)
-                .doubles("current_positive_angle", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getPositiveAngle())
-                .doubles("current_negative_magnitude", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getNegativeMagnitude(), false)
-                .doubles("current_positive_magnitude", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getPositiveMagnitude())
-                .doubles("current_zero_magnitude", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getZeroMagnitude(), false)
-                .doubles("current_zero_angle", fortescueFeederResultContext ->
-                        fortescueFeederResultContext.getCurrent().getZeroAngle(), false)
-                .enums("side", ThreeSides.class, FortescueFeederResultContext::getSide)
-                .build();
-    }
+    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_MAGNITUDE_FEEDER_RESULTS_MAPPER =
+            new ColumnarTableMapper<>(ShortCircuitAnalysisResultTables.MAGNITUDE_FEEDER_RESULTS_COLUMNS,
+                result -> ShortCircuitAnalysisResultTables.getFeederResults(result, false));
+    private static final DataframeMapper<ShortCircuitAnalysisResult, Void> SHORT_CIRCUIT_FORTESCUE_FEEDER_RESULTS_MAPPER =
+            new ColumnarTableMapper<>(ShortCircuitAnalysisResultTables.FORTESCUE_FEEDER_RESULTS_COLUMNS,
+                result -> ShortCircuitAnalysisResultTables.getFeederResults(result, true));
 
     public static DataframeMapper<ShortCircuitAnalysisResult, Void> shortCircuitAnalysisMagnitudeBusResultsMapper(boolean withFortescueResult) {
         return withFortescueResult ? SHORT_CIRCUIT_FORTESCUE_BUS_RESULTS_MAPPER : SHORT_CIRCUIT_MAGNITUDE_BUS_RESULTS_MAPPER;
@@ -333,4 +333,24 @@ public final class NetworkUtil {
                     .findFirst();
         }
     }
+
+    /**
+     * Hash of the elements of the network, of the state of its switches and of the bus of each terminal in the bus
+     * view, for the working variant. Injection, tap position and other state changes do not modify it.
+     */
+    public static long computeTopologyHash(Network network) {
+        long hash = 1;
+        for (Switch sw : network.getSwitches()) {
+            hash = 31 * hash + sw.getId().hashCode();
+            hash = 31 * hash + Boolean.hashCode(sw.isOpen());
+        }
+        for (Connectable<?> connectable : network.getConnectables()) {
+            hash = 31 * hash + connectable.getId().hashCode();
+            for (Terminal terminal : connectable.getTerminals()) {
+                Bus bus = terminal.getBusView().getBus();
+                hash = 31 * hash + (bus == null ? 0 : bus.getId().hashCode());
+            }
+        }
+        return hash;
+    }
 }
@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dataframe.DataframeHandler;
+import com.powsybl.dataframe.SeriesDataType;
+import com.powsybl.dataframe.SeriesMetadata;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * A table of string, int and double columns, stored as one primitive array per column, that can be written to and
+ * read from a stream as record batches.
+ * <p>
+ * Strings are dictionary encoded: string columns store the index of their values in a dictionary shared by all the
+ * columns of the table, so that a contingency or element ID repeated on many rows is stored once.
+ * <p>
+ * Stream layout:
+ * <ul>
+ *     <li>a header: format version, column count, and name, type and index flag of each column</li>
+ *     <li>record batches: the strings added to the dictionary since the previous batch, row count, then the values
+ *     of each column, one column after the other</li>
+ *     <li>an end marker: a dictionary entry count of -1</li>
+ * </ul>
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class ColumnarTable {
+
+    /**
+     * Dictionary code of a null string.
+     */
+    public static final int NULL_CODE = -1;
+
+    /**
+     * Code returned by {@link #lookup} for a string which is not in the dictionary.
+     */
+    public static final int UNKNOWN_CODE = -2;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int END_OF_BATCHES = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<SeriesMetadata> columns;
+
+    /**
+     * int[] of dictionary codes for string and int columns, double[] for double columns.
+     */
+    private final Object[] data;
+
+    private final List<String> dictionary = new ArrayList<>();
+
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    /**
+     * Number of dictionary entries already written to a stream.
+     */
+    private int writtenDictionarySize = 0;
+
+    private int capacity = INITIAL_CAPACITY;
+
+    private int rowCount = 0;
+
+    public ColumnarTable(List<SeriesMetadata> columns) {
+        this.columns = List.copyOf(columns);
+        data = new Object[this.columns.size()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = switch (getType(i)) {
+                case STRING, INT -> new int[capacity];
+                case DOUBLE -> new double[capacity];
+                default -> throw new PowsyblException("Unsupported column type: " + getType(i));
+            };
+        }
+    }
+
+    private SeriesDataType getType(int column) {
+        return columns.get(column).getType();
+    }
+
+    public List<SeriesMetadata> getColumns() {
+        return columns;
+    }
+
+    public int getColumnIndex(String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        throw new PowsyblException("No column named " + name);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Adds a row, its values have then to be set with {@link #setString}, {@link #setInt} and {@link #setDouble}.
+     *
+     * @return the index of the new row
+     */
+    public int addRow() {
+        if (rowCount == capacity) {
+            capacity *= 2;
+            for (int i = 0; i < data.length; i++) {
+                data[i] = data[i] instanceof int[] ints ? Arrays.copyOf(ints, capacity) : Arrays.copyOf((double[]) data[i], capacity);
+            }
+        }
+        return rowCount++;
+    }
+
+    /**
+     * @return the dictionary code of the string, to be set with {@link #setStringCode}
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * @return the dictionary code of the string, without adding it to the dictionary
+     */
+    public int lookup(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        return codes.getOrDefault(value, UNKNOWN_CODE);
+    }
+
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+
+    public String decode(int code) {
+        return code == NULL_CODE ? null : dictionary.get(code);
+    }
+
+    public void setString(int row, int column, String value) {
+        setStringCode(row, column, encode(value));
+    }
+
+    public void setStringCode(int row, int column, int code) {
+        ((int[]) data[column])[row] = code;
+    }
+
+    public void setInt(int row, int column, int value) {
+        ((int[]) data[column])[row] = value;
+    }
+
+    public void setDouble(int row, int column, double value) {
+        ((double[]) data[column])[row] = value;
+    }
+
+    public String getString(int row, int column) {
+        return decode(getStringCode(row, column));
+    }
+
+    public int getStringCode(int row, int column) {
+        return ((int[]) data[column])[row];
+    }
+
+    public int getInt(int row, int column) {
+        return ((int[]) data[column])[row];
+    }
+
+    public double getDouble(int row, int column) {
+        return ((double[]) data[column])[row];
+    }
+
+    /**
+     * Removes all the rows, keeping the dictionary and the allocated arrays.
+     */
+    public void clear() {
+        rowCount = 0;
+    }
+
+    public void createDataframe(DataframeHandler handler) {
+        createDataframe(handler, IntStream.range(0, columns.size()).toArray(), null);
+    }
+
+    /**
+     * @param selectedColumns indices of the columns to be provided to the handler
+     * @param selectedRows indices of the rows to be provided to the handler, null for all the rows
+     */
+    public void createDataframe(DataframeHandler handler, int[] selectedColumns, int[] selectedRows) {
+        int size = selectedRows == null ? rowCount : selectedRows.length;
+        handler.allocate(selectedColumns.length);
+        for (int i : selectedColumns) {
+            SeriesMetadata column = columns.get(i);
+            switch (column.getType()) {
+                case STRING -> {
+                    DataframeHandler.StringSeriesWriter writer = column.isIndex() ? handler.newStringIndex(column.getName(), size)
+                            : handler.newStringSeries(column.getName(), size);
+                    int[] values = (int[]) data[i];
+                    for (int row = 0; row < size; row++) {
+                        writer.set(row, decode(values[selectedRows == null ? row : selectedRows[row]]));
+                    }
+                }
+                case INT -> {
+                    DataframeHandler.IntSeriesWriter writer = column.isIndex() ? handler.newIntIndex(column.getName(), size)
+                            : handler.newIntSeries(column.getName(), size);
+                    int[] values = (int[]) data[i];
+                    for (int row = 0; row < size; row++) {
+                        writer.set(row, values[selectedRows == null ? row : selectedRows[row]]);
+                    }
+                }
+                case DOUBLE -> {
+                    DataframeHandler.DoubleSeriesWriter writer = handler.newDoubleSeries(column.getName(), size);
+                    double[] values = (double[]) data[i];
+                    for (int row = 0; row < size; row++) {
+                        writer.set(row, values[selectedRows == null ? row : selectedRows[row]]);
+                    }
+                }
+                default -> throw new IllegalStateException();
+            }
+        }
+    }
+
+    public void writeHeader(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(columns.size());
+        for (SeriesMetadata column : columns) {
+            out.writeUTF(column.getName());
+            out.writeUTF(column.getType().name());
+            out.writeBoolean(column.isIndex());
+            out.writeBoolean(column.isDefaultAttribute());
+        }
+    }
+
+    /**
+     * Writes the rows of the table as a record batch.
+     */
+    public void writeBatch(DataOutputStream out) throws IOException {
+        out.writeInt(dictionary.size() - writtenDictionarySize);
+        for (String value : dictionary.subList(writtenDictionarySize, dictionary.size())) {
+            out.writeUTF(value);
+        }
+        writtenDictionarySize = dictionary.size();
+        out.writeInt(rowCount);
+        for (Object array : data) {
+            if (array instanceof int[] ints) {
+                for (int row = 0; row < rowCount; row++) {
+                    out.writeInt(ints[row]);
+                }
+            } else {
+                double[] doubles = (double[]) array;
+                for (int row = 0; row < rowCount; row++) {
+                    out.writeDouble(doubles[row]);
+                }
+            }
+        }
+    }
+
+    public static void writeEnd(DataOutputStream out) throws IOException {
+        out.writeInt(END_OF_BATCHES);
+    }
+
+    /**
+     * Writes the whole table, with its whole dictionary, as a single record batch.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        writeHeader(out);
+        writtenDictionarySize = 0;
+        writeBatch(out);
+        writeEnd(out);
+    }
+
+    private void readBatch(DataInputStream in) throws IOException {
+        int batchRowCount = in.readInt();
+        int offset = rowCount;
+        for (int row = 0; row < batchRowCount; row++) {
+            addRow();
+        }
+        for (Object array : data) {
+            if (array instanceof int[] ints) {
+                for (int row = offset; row < rowCount; row++) {
+                    ints[row] = in.readInt();
+                }
+            } else {
+                double[] doubles = (double[]) array;
+                for (int row = offset; row < rowCount; row++) {
+                    doubles[row] = in.readDouble();
+                }
+            }
+        }
+    }
+
+    public static ColumnarTable read(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new PowsyblException("Unsupported columnar table format version: " + version);
+        }
+        int columnCount = in.readInt();
+        List<SeriesMetadata> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            String name = in.readUTF();
+            SeriesDataType type = SeriesDataType.valueOf(in.readUTF());
+            boolean index = in.readBoolean();
+            boolean defaultAttribute = in.readBoolean();
+            columns.add(new SeriesMetadata(index, name, false, type, defaultAttribute));
+        }
+        ColumnarTable table = new ColumnarTable(columns);
+        int dictionaryEntryCount = in.readInt();
+        while (dictionaryEntryCount != END_OF_BATCHES) {
+            for (int i = 0; i < dictionaryEntryCount; i++) {
+                table.encode(in.readUTF());
+            }
+            table.readBatch(in);
+            dictionaryEntryCount = in.readInt();
+        }
+        table.writtenDictionarySize = table.dictionary.size();
+        return table;
+    }
+
+    public static ColumnarTable read(Path file) {
+        Objects.requireNonNull(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return read(in);
+        } catch (EOFException e) {
+            throw new PowsyblException("Truncated columnar table file: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dataframe.SeriesDataType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Selection of the rows of a result table, by contingency and element IDs, by threshold on a value, and keeping
+ * only the K highest values of each element.
+ * <p>
+ * IDs are compared on dictionary codes, so that no string is decoded for rejected rows. The value of a row is the
+ * absolute value of the chosen column, or a table specific metric when no column is chosen.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class ColumnarTableFilter {
+
+    private Collection<String> contingencyIds;
+
+    private Collection<String> elementIds;
+
+    private String valueColumn;
+
+    private double threshold = Double.NaN;
+
+    private int topK = 0;
+
+    /**
+     * @param contingencyIds contingencies to keep, an empty ID selects the pre-contingency state, null to keep all
+     */
+    public ColumnarTableFilter setContingencyIds(Collection<String> contingencyIds) {
+        this.contingencyIds = contingencyIds;
+        return this;
+    }
+
+    /**
+     * @param elementIds elements to keep, null to keep all
+     */
+    public ColumnarTableFilter setElementIds(Collection<String> elementIds) {
+        this.elementIds = elementIds;
+        return this;
+    }
+
+    /**
+     * @param valueColumn name of the double column whose absolute value is compared, null for the default metric
+     */
+    public ColumnarTableFilter setValueColumn(String valueColumn) {
+        this.valueColumn = valueColumn;
+        return this;
+    }
+
+    /**
+     * @param threshold minimum value of the rows to keep, NaN to keep all
+     */
+    public ColumnarTableFilter setThreshold(double threshold) {
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * @param topK number of rows with the highest values to keep for each element, 0 to keep all
+     */
+    public ColumnarTableFilter setTopK(int topK) {
+        if (topK < 0) {
+            throw new PowsyblException("Top K has to be positive: " + topK);
+        }
+        this.topK = topK;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return contingencyIds == null && elementIds == null && Double.isNaN(threshold) && topK == 0;
+    }
+
+    /**
+     * @return accepted flag of each dictionary code, null if every code is accepted
+     */
+    private static boolean[] getAcceptedCodes(ColumnarTable table, Collection<String> ids) {
+        if (ids == null) {
+            return null;
+        }
+        boolean[] accepted = new boolean[table.getDictionarySize()];
+        for (String id : ids) {
+            int code = table.lookup(id);
+            if (code >= 0) {
+                accepted[code] = true;
+            }
+        }
+        return accepted;
+    }
+
+    private static boolean isAccepted(boolean[] acceptedCodes, boolean nullAccepted, int code) {
+        return acceptedCodes == null || (code == ColumnarTable.NULL_CODE ? nullAccepted : acceptedCodes[code]);
+    }
+
+    private IntToDoubleFunction getMetric(ColumnarTable table, IntToDoubleFunction defaultMetric) {
+        if (valueColumn == null) {
+            return defaultMetric;
+        }
+        int column = table.getColumnIndex(valueColumn);
+        if (table.getColumns().get(column).getType() != SeriesDataType.DOUBLE) {
+            throw new PowsyblException("Column " + valueColumn + " is not a double column");
+        }
+        return row -> Math.abs(table.getDouble(row, column));
+    }
+
+    /**
+     * @param contingencyColumn index of the contingency ID column
+     * @param elementColumn index of the element ID column
+     * @param defaultMetric value of a row when no value column is set, null if the table has none
+     * @return indices of the selected rows, in ascending order
+     */
+    public int[] selectRows(ColumnarTable table, int contingencyColumn, int elementColumn, IntToDoubleFunction defaultMetric) {
+        Objects.requireNonNull(table);
+        IntToDoubleFunction metric = getMetric(table, defaultMetric);
+        if (metric == null && (!Double.isNaN(threshold) || topK > 0)) {
+            throw new PowsyblException("A value column is required to filter on a threshold or to keep top values");
+        }
+        boolean[] acceptedContingencies = getAcceptedCodes(table, contingencyIds);
+        // pre-contingency state has a null contingency ID in network results
+        boolean nullContingencyAccepted = contingencyIds != null && contingencyIds.contains("");
+        boolean[] acceptedElements = getAcceptedCodes(table, elementIds);
+
+        int[] rows = new int[table.getRowCount()];
+        double[] values = metric != null ? new double[table.getRowCount()] : null;
+        int count = 0;
+        for (int row = 0; row < table.getRowCount(); row++) {
+            if (!isAccepted(acceptedContingencies, nullContingencyAccepted, table.getStringCode(row, contingencyColumn))
+                    || !isAccepted(acceptedElements, false, table.getStringCode(row, elementColumn))) {
+                continue;
+            }
+            if (metric != null) {
+                double value = metric.applyAsDouble(row);
+                // NaN values are never above the threshold
+                if (!Double.isNaN(threshold) && !(value >= threshold)) {
+                    continue;
+                }
+                values[row] = value;
+            }
+            rows[count++] = row;
+        }
+        rows = Arrays.copyOf(rows, count);
+        return topK > 0 ? selectTopK(table, elementColumn, rows, values) : rows;
+    }
+
+    /**
+     * Keeps the K rows with the highest values of each element, with an insertion sort in a K sized slot per element.
+     */
+    private int[] selectTopK(ColumnarTable table, int elementColumn, int[] rows, double[] values) {
+        int[][] best = new int[table.getDictionarySize()][];
+        int[] bestCounts = new int[table.getDictionarySize()];
+        for (int row : rows) {
+            int element = table.getStringCode(row, elementColumn);
+            if (best[element] == null) {
+                best[element] = new int[topK];
+            }
+            int[] slots = best[element];
+            int n = bestCounts[element];
+            if (n == topK && !(values[row] > values[slots[n - 1]])) {
+                continue;
+            }
+            int i = n == topK ? n - 1 : n;
+            while (i > 0 && values[row] > values[slots[i - 1]]) {
+                slots[i] = slots[i - 1];
+                i--;
+            }
+            slots[i] = row;
+            bestCounts[element] = Math.min(n + 1, topK);
+        }
+        int[] selected = new int[rows.length];
+        int count = 0;
+        for (int element = 0; element < best.length; element++) {
+            if (best[element] != null) {
+                System.arraycopy(best[element], 0, selected, count, bestCounts[element]);
+                count += bestCounts[element];
+            }
+        }
+        selected = Arrays.copyOf(selected, count);
+        // back to the table order
+        Arrays.sort(selected);
+        return selected;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dataframe.DataframeFilter;
+import com.powsybl.dataframe.DataframeHandler;
+import com.powsybl.dataframe.DataframeMapper;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.dataframe.update.UpdatingDataframe;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only mapper of an object to a dataframe, through a columnar table built from the object.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class ColumnarTableMapper<T> implements DataframeMapper<T, Void> {
+
+    private final List<SeriesMetadata> columns;
+
+    private final Function<T, ColumnarTable> tableProvider;
+
+    public ColumnarTableMapper(List<SeriesMetadata> columns, Function<T, ColumnarTable> tableProvider) {
+        this.columns = List.copyOf(columns);
+        this.tableProvider = Objects.requireNonNull(tableProvider);
+    }
+
+    private static boolean filterColumn(SeriesMetadata column, DataframeFilter dataframeFilter) {
+        return switch (dataframeFilter.getAttributeFilterType()) {
+            case DEFAULT_ATTRIBUTES -> column.isDefaultAttribute() || column.isIndex();
+            case INPUT_ATTRIBUTES -> dataframeFilter.getInputAttributes().contains(column.getName()) || column.isIndex();
+            case ALL_ATTRIBUTES -> true;
+        };
+    }
+
+    @Override
+    public void createDataframe(T object, DataframeHandler dataframeHandler, DataframeFilter dataframeFilter, Void context) {
+        int[] selectedColumns = IntStream.range(0, columns.size())
+                .filter(i -> filterColumn(columns.get(i), dataframeFilter))
+                .toArray();
+        tableProvider.apply(object).createDataframe(dataframeHandler, selectedColumns, null);
+    }
+
+    @Override
+    public void createDataframe(T object, DataframeHandler dataframeHandler, DataframeFilter dataframeFilter) {
+        createDataframe(object, dataframeHandler, dataframeFilter, null);
+    }
+
+    @Override
+    public List<SeriesMetadata> getSeriesMetadata() {
+        return columns;
+    }
+
+    @Override
+    public SeriesMetadata getSeriesMetadata(String seriesName) {
+        return columns.stream()
+                .filter(column -> column.getName().equals(seriesName))
+                .findFirst()
+                .orElseThrow(() -> new PowsyblException("No series named " + seriesName));
+    }
+
+    @Override
+    public void updateSeries(T object, UpdatingDataframe updatingDataframe, Void context) {
+        throw new UnsupportedOperationException("Columnar table dataframes are not modifiable");
+    }
+
+    @Override
+    public void updateSeries(T object, UpdatingDataframe updatingDataframe) {
+        updateSeries(object, updatingDataframe, null);
+    }
+
+    @Override
+    public boolean isSeriesMetaDataExists(String seriesName) {
+        return columns.stream().anyMatch(column -> column.getName().equals(seriesName));
+    }
+}
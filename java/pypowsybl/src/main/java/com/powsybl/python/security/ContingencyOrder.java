@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+/**
+ * Order in which contingencies are computed by a security screening.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public enum ContingencyOrder {
+    /**
+     * Order in which contingencies have been defined.
+     */
+    INPUT,
+    /**
+     * Decreasing severity of the contingencies in a preliminary DC security analysis, so that the likely critical
+     * contingencies are computed first.
+     */
+    DC_SEVERITY
+}
@@ -0,0 +1,298 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.*;
+import com.powsybl.python.network.NetworkUtil;
+import com.powsybl.security.PostContingencyComputationStatus;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.BranchResult;
+import com.powsybl.security.results.NetworkResult;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.util.*;
+
+/**
+ * Post-contingency results of a previous DC security analysis run, with the active power margin of each contingency,
+ * used to skip the contingencies that cannot create a limit violation under new injections.
+ * <p>
+ * In DC approximation, the flow change on any branch caused by a balanced injection change is lower than the sum of
+ * the absolute injection changes, whatever the compensation of the imbalance by the slack distribution. So a
+ * contingency whose margin to its most loaded branch is higher than this sum cannot create a branch limit violation,
+ * and there is no voltage limit violation in DC approximation.
+ * Margins of skipped contingencies are decreased by the injection change, so that they remain lower bounds.
+ * <p>
+ * The bound only holds for a same network state: every contingency is computed again when the topology, the
+ * connection status of a terminal, a tap position or an HVDC line setpoint changes, see {@link #computeStateHash},
+ * or when the configuration of the run changes, see {@link Configuration}.
+ * A disconnected injection is counted as a zero injection, so that its disconnection is a full change of its setpoint.
+ * <p>
+ * As the flows of a skipped contingency are not known, only contingencies whose result has no network result are
+ * skipped, so that a kept result is still exact: no limit violation and the same connectivity. Contingencies with
+ * limit violations or whose computation failed in the previous run are never skipped, nor contingencies without
+ * margin, which is the case of all the contingencies of an AC run.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class IncrementalSecurityAnalysisCache {
+
+    /**
+     * Everything the results depend on besides the network: compared with equals between runs. Actions, monitors,
+     * limit reductions and operator strategies are the ones of the security analysis context, which are only added,
+     * so they are compared as they are. Contingencies are compared by the ids and types of their elements, as they
+     * are created again for each run.
+     */
+    record Configuration(String provider, String parameters, List<Object> actions, List<Object> monitors,
+                         List<Object> limitReductions, List<Object> operatorStrategies, List<List<String>> contingencies) {
+    }
+
+    private record CachedContingency(PostContingencyResult result, List<OperatorStrategyResult> operatorStrategyResults,
+                                     double margin) {
+    }
+
+    private String networkId;
+
+    private Configuration configuration;
+
+    private long stateHash;
+
+    private Map<String, Double> injections = Map.of();
+
+    private final Map<String, CachedContingency> contingencies = new HashMap<>();
+
+    /**
+     * Hash of the topology of the network, see {@link NetworkUtil#computeTopologyHash}, of the connection status of
+     * the terminals, of the tap positions and of the HVDC line setpoints, for the working variant.
+     */
+    static long computeStateHash(Network network) {
+        long hash = NetworkUtil.computeTopologyHash(network);
+        for (Connectable<?> connectable : network.getConnectables()) {
+            for (Terminal terminal : connectable.getTerminals()) {
+                hash = 31 * hash + Boolean.hashCode(terminal.isConnected());
+            }
+        }
+        for (TwoWindingsTransformer transformer : network.getTwoWindingsTransformers()) {
+            hash = 31 * hash + getTapPositionsHash(transformer);
+        }
+        for (ThreeWindingsTransformer transformer : network.getThreeWindingsTransformers()) {
+            for (ThreeWindingsTransformer.Leg leg : transformer.getLegs()) {
+                hash = 31 * hash + getTapPositionsHash(leg);
+            }
+        }
+        for (HvdcLine hvdcLine : network.getHvdcLines()) {
+            hash = 31 * hash + hvdcLine.getConvertersMode().hashCode();
+            hash = 31 * hash + Double.hashCode(hvdcLine.getActivePowerSetpoint());
+        }
+        return hash;
+    }
+
+    private static int getTapPositionsHash(RatioTapChangerHolder ratioTapChangerHolder) {
+        int hash = ratioTapChangerHolder.getOptionalRatioTapChanger().map(RatioTapChanger::getTapPosition).orElse(-1);
+        if (ratioTapChangerHolder instanceof PhaseTapChangerHolder phaseTapChangerHolder) {
+            hash = 31 * hash + phaseTapChangerHolder.getOptionalPhaseTapChanger().map(PhaseTapChanger::getTapPosition).orElse(-1);
+        }
+        return hash;
+    }
+
+    /**
+     * @return active power injections of generators, batteries, loads, dangling lines and HVDC converter stations,
+     * zero for disconnected ones
+     */
+    static Map<String, Double> getInjections(Network network) {
+        Map<String, Double> injections = new HashMap<>();
+        network.getGenerators().forEach(generator -> injections.put(generator.getId(), getInjection(generator, generator.getTargetP())));
+        network.getBatteries().forEach(battery -> injections.put(battery.getId(), getInjection(battery, battery.getTargetP())));
+        network.getLoads().forEach(load -> injections.put(load.getId(), getInjection(load, -load.getP0())));
+        network.getDanglingLines().forEach(danglingLine -> injections.put(danglingLine.getId(), getInjection(danglingLine, -danglingLine.getP0())));
+        network.getHvdcConverterStations().forEach(station -> injections.put(station.getId(),
+                getInjection(station, getConverterStationSetpoint(station))));
+        return injections;
+    }
+
+    /**
+     * @return active power injected by the converter station according to the setpoint of its HVDC line and to the
+     * loss factors of the converter stations, line losses being ignored
+     */
+    private static double getConverterStationSetpoint(HvdcConverterStation<?> station) {
+        HvdcLine hvdcLine = station.getHvdcLine();
+        if (hvdcLine == null) {
+            return 0;
+        }
+        boolean side1Rectifier = hvdcLine.getConvertersMode() == HvdcLine.ConvertersMode.SIDE_1_RECTIFIER_SIDE_2_INVERTER;
+        HvdcConverterStation<?> rectifier = side1Rectifier ? hvdcLine.getConverterStation1() : hvdcLine.getConverterStation2();
+        HvdcConverterStation<?> inverter = side1Rectifier ? hvdcLine.getConverterStation2() : hvdcLine.getConverterStation1();
+        double setpoint = hvdcLine.getActivePowerSetpoint();
+        return station == rectifier ? -setpoint
+                : setpoint * (1 - rectifier.getLossFactor() / 100) * (1 - inverter.getLossFactor() / 100);
+    }
+
+    private static double getInjection(Injection<?> injection, double setpoint) {
+        return injection.getTerminal().isConnected() ? setpoint : 0;
+    }
+
+    /**
+     * @return sum of the absolute injection changes since the previous run, infinite if there is no previous run of
+     * this network, or if its state or the configuration have changed since the previous run
+     */
+    double getInjectionChange(Network network, Configuration newConfiguration, long newStateHash, Map<String, Double> newInjections) {
+        if (!network.getId().equals(networkId) || !newConfiguration.equals(configuration) || newStateHash != stateHash) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double change = 0;
+        for (Map.Entry<String, Double> e : newInjections.entrySet()) {
+            change += Math.abs(e.getValue() - injections.getOrDefault(e.getKey(), 0.0));
+        }
+        for (Map.Entry<String, Double> e : injections.entrySet()) {
+            if (!newInjections.containsKey(e.getKey())) {
+                change += Math.abs(e.getValue());
+            }
+        }
+        return change;
+    }
+
+    boolean canSkip(String contingencyId, double injectionChange) {
+        CachedContingency cached = contingencies.get(contingencyId);
+        if (cached == null) {
+            return false;
+        }
+        PostContingencyResult result = cached.result();
+        NetworkResult networkResult = result.getNetworkResult();
+        return result.getStatus() == PostContingencyComputationStatus.CONVERGED
+                && result.getLimitViolationsResult().getLimitViolations().isEmpty()
+                && networkResult.getBranchResults().isEmpty()
+                && networkResult.getBusResults().isEmpty()
+                && networkResult.getThreeWindingsTransformerResults().isEmpty()
+                && cached.margin() > injectionChange;
+    }
+
+    /**
+     * @param reduction lowest limit reduction, applied to all the limits
+     * @return active power limits of each side of branches, NaN if a side has no limit, current limits being
+     * converted with the nominal voltage and the DC power factor
+     */
+    static Map<String, double[]> getActivePowerLimits(Network network, double dcPowerFactor, double reduction) {
+        Map<String, double[]> limits = new HashMap<>();
+        network.getBranchStream().forEach(branch -> {
+            double limit1 = getActivePowerLimit(branch, TwoSides.ONE, dcPowerFactor) * reduction;
+            double limit2 = getActivePowerLimit(branch, TwoSides.TWO, dcPowerFactor) * reduction;
+            if (!Double.isNaN(limit1) || !Double.isNaN(limit2)) {
+                limits.put(branch.getId(), new double[] {limit1, limit2});
+            }
+        });
+        return limits;
+    }
+
+    private static double getActivePowerLimit(Branch<?> branch, TwoSides side, double dcPowerFactor) {
+        double nominalV = branch.getTerminal(side).getVoltageLevel().getNominalV();
+        double limit = branch.getCurrentLimits(side)
+                .map(limits -> limits.getPermanentLimit() * Math.sqrt(3) * nominalV * dcPowerFactor / 1000)
+                .orElse(Double.NaN);
+        double activePowerLimit = branch.getActivePowerLimits(side).map(LoadingLimits::getPermanentLimit).orElse(Double.NaN);
+        if (Double.isNaN(limit) || activePowerLimit < limit) {
+            limit = activePowerLimit;
+        }
+        return limit;
+    }
+
+    /**
+     * @param dcResult DC security analysis result with post-contingency results of the limited branches
+     * @return lowest margin of the limited branches of each contingency, infinite if no branch is limited, negative
+     * infinite if the computation failed
+     */
+    static Map<String, Double> getMargins(SecurityAnalysisResult dcResult, Map<String, double[]> activePowerLimits) {
+        Map<String, Double> margins = new HashMap<>();
+        for (PostContingencyResult postContingencyResult : dcResult.getPostContingencyResults()) {
+            double margin = Double.POSITIVE_INFINITY;
+            if (postContingencyResult.getStatus() != PostContingencyComputationStatus.CONVERGED) {
+                margin = Double.NEGATIVE_INFINITY;
+            } else {
+                for (BranchResult branchResult : postContingencyResult.getNetworkResult().getBranchResults()) {
+                    double[] limits = activePowerLimits.get(branchResult.getBranchId());
+                    if (limits != null) {
+                        margin = Math.min(margin, getMargin(limits[0], branchResult.getP1()));
+                        margin = Math.min(margin, getMargin(limits[1], branchResult.getP2()));
+                    }
+                }
+            }
+            margins.put(postContingencyResult.getContingency().getId(), margin);
+        }
+        return margins;
+    }
+
+    private static double getMargin(double limit, double p) {
+        return Double.isNaN(limit) || Double.isNaN(p) ? Double.POSITIVE_INFINITY : limit - Math.abs(p);
+    }
+
+    /**
+     * @param monitoredBranchIds branch ids monitored by the context of each contingency
+     * @return the result with only the branch results of the monitored branches of each contingency
+     */
+    static SecurityAnalysisResult keepMonitoredBranchResults(SecurityAnalysisResult result, Map<String, Set<String>> monitoredBranchIds) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>(result.getPostContingencyResults().size());
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            Set<String> branchIds = monitoredBranchIds.getOrDefault(postContingencyResult.getContingency().getId(), Set.of());
+            NetworkResult networkResult = postContingencyResult.getNetworkResult();
+            List<BranchResult> branchResults = networkResult.getBranchResults().stream()
+                    .filter(branchResult -> branchIds.contains(branchResult.getBranchId()))
+                    .toList();
+            postContingencyResults.add(new PostContingencyResult(postContingencyResult.getContingency(), postContingencyResult.getStatus(),
+                    postContingencyResult.getLimitViolationsResult(),
+                    new NetworkResult(branchResults, networkResult.getBusResults(), networkResult.getThreeWindingsTransformerResults()),
+                    postContingencyResult.getConnectivityResult()));
+        }
+        return new SecurityAnalysisResult(result.getPreContingencyResult(), postContingencyResults, result.getOperatorStrategyResults());
+    }
+
+    /**
+     * Replaces the cache content by the results of the new run, and merges them with the cached results of skipped
+     * contingencies.
+     *
+     * @param rerunResult result of the contingencies which have been computed again
+     * @param rerunMargins DC margins of the contingencies which have been computed again, none for an AC run
+     * @return result of all the contingencies, in their order
+     */
+    SecurityAnalysisResult update(Network network, Configuration newConfiguration, long newStateHash, Map<String, Double> newInjections, double injectionChange,
+                                  List<Contingency> allContingencies, SecurityAnalysisResult rerunResult,
+                                  Map<String, Double> rerunMargins) {
+        Map<String, List<OperatorStrategyResult>> rerunOperatorStrategyResults = new HashMap<>();
+        for (OperatorStrategyResult operatorStrategyResult : rerunResult.getOperatorStrategyResults()) {
+            rerunOperatorStrategyResults.computeIfAbsent(operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
+                    k -> new ArrayList<>()).add(operatorStrategyResult);
+        }
+        Map<String, PostContingencyResult> rerunPostContingencyResults = new HashMap<>();
+        rerunResult.getPostContingencyResults().forEach(r -> rerunPostContingencyResults.put(r.getContingency().getId(), r));
+
+        Map<String, CachedContingency> newContingencies = new HashMap<>();
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>(allContingencies.size());
+        List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
+        for (Contingency contingency : allContingencies) {
+            PostContingencyResult rerun = rerunPostContingencyResults.get(contingency.getId());
+            CachedContingency cached;
+            if (rerun != null) {
+                cached = new CachedContingency(rerun, rerunOperatorStrategyResults.getOrDefault(contingency.getId(), List.of()),
+                        rerunMargins.getOrDefault(contingency.getId(), Double.NEGATIVE_INFINITY));
+            } else {
+                CachedContingency previous = contingencies.get(contingency.getId());
+                cached = new CachedContingency(previous.result(), previous.operatorStrategyResults(),
+                        previous.margin() - injectionChange);
+            }
+            newContingencies.put(contingency.getId(), cached);
+            postContingencyResults.add(cached.result());
+            operatorStrategyResults.addAll(cached.operatorStrategyResults());
+        }
+        networkId = network.getId();
+        configuration = newConfiguration;
+        stateHash = newStateHash;
+        injections = newInjections;
+        contingencies.clear();
+        contingencies.putAll(newContingencies);
+        return new SecurityAnalysisResult(rerunResult.getPreContingencyResult(), postContingencyResults, operatorStrategyResults);
+    }
+}
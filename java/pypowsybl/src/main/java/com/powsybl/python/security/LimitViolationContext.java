@@ -1,24 +0,0 @@
-package com.powsybl.python.security;
-
-import com.powsybl.contingency.violations.LimitViolation;
-
-import java.util.Objects;
-
-/**
- * @author Etienne Lesot {@literal <etienne.lesot at rte-france.com>}
- */
-public class LimitViolationContext extends LimitViolation {
-
-    private final String contingencyId;
-
-    public LimitViolationContext(String contingencyId, LimitViolation limitViolation) {
-        super(limitViolation.getSubjectId(), limitViolation.getSubjectName(), limitViolation.getLimitType(),
-            limitViolation.getLimitName(), limitViolation.getAcceptableDuration(), limitViolation.getLimit(),
-            limitViolation.getLimitReduction(), limitViolation.getValue(), limitViolation.getSide());
-        this.contingencyId = Objects.requireNonNull(contingencyId);
-    }
-
-    public String getContingencyId() {
-        return contingencyId;
-    }
-}
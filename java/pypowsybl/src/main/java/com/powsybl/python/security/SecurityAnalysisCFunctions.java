@@ -15,12 +15,17 @@ import com.powsybl.contingency.strategy.OperatorStrategy;
 import com.powsybl.contingency.strategy.condition.*;
 import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.dataframe.contingency.ContingencyDataframeAdder;
+import com.powsybl.dataframe.security.ActionDataframeAdder;
 import com.powsybl.dataframe.security.LimitReductionDataframeAdder;
+import com.powsybl.dataframe.security.OperatorStrategyDataframeAdder;
 import com.powsybl.dataframe.update.UpdatingDataframe;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.python.commons.*;
 import com.powsybl.python.commons.PyPowsyblApiHeader.*;
+import com.powsybl.python.contingency.CompiledContingencyList;
 import com.powsybl.python.contingency.ContingencyContainer;
+import com.powsybl.python.dataframe.CDataframeHandler;
 import com.powsybl.python.loadflow.LoadFlowCFunctions;
 import com.powsybl.python.loadflow.LoadFlowCUtils;
 import com.powsybl.python.network.Dataframes;
@@ -56,6 +61,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.powsybl.python.commons.CTypeUtil.toStringList;
 import static com.powsybl.python.commons.PyPowsyblApiHeader.allocArrayPointer;
@@ -137,8 +143,11 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<SeriesPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResult);
-                return Dataframes.createCDataframe(Dataframes.branchResultsMapper(), result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResult);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createCDataframe(storedResult.getBranchResults());
+                }
+                return Dataframes.createCDataframe(Dataframes.branchResultsMapper(), (SecurityAnalysisResult) result);
             }
         });
     }
@@ -148,8 +157,11 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<SeriesPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResult);
-                return Dataframes.createCDataframe(Dataframes.busResultsMapper(), result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResult);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createCDataframe(storedResult.getBusResults());
+                }
+                return Dataframes.createCDataframe(Dataframes.busResultsMapper(), (SecurityAnalysisResult) result);
             }
         });
     }
@@ -159,8 +171,11 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<SeriesPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResult);
-                return Dataframes.createCDataframe(Dataframes.threeWindingsTransformerResultsMapper(), result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResult);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createCDataframe(storedResult.getThreeWindingsTransformerResults());
+                }
+                return Dataframes.createCDataframe(Dataframes.threeWindingsTransformerResultsMapper(), (SecurityAnalysisResult) result);
             }
         });
     }
@@ -189,6 +204,54 @@ public final class SecurityAnalysisCFunctions {
         });
     }
 
+    @CEntryPoint(name = "getContingenciesDataframeMetadata")
+    public static DataframeMetadataPointer getContingenciesDataframeMetadata(IsolateThread thread,
+                                                                             PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public DataframeMetadataPointer get() {
+                return CTypeUtil.createSeriesMetadata(new ContingencyDataframeAdder().getMetadata());
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addContingencies")
+    public static void addContingencies(IsolateThread thread, ObjectHandle contingencyContainerHandle,
+                                        PyPowsyblApiHeader.DataframePointer cDataframe,
+                                        PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                ContingencyContainer contingencyContainer = ObjectHandles.getGlobal().get(contingencyContainerHandle);
+                UpdatingDataframe contingencyDataframe = NetworkCFunctions.createDataframe(cDataframe);
+                new ContingencyDataframeAdder().addElements(contingencyContainer, contingencyDataframe);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "createContingencyList")
+    public static ObjectHandle createContingencyList(IsolateThread thread, PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ObjectHandle get() {
+                return ObjectHandles.getGlobal().create(new CompiledContingencyList());
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addContingencyList")
+    public static void addContingencyList(IsolateThread thread, ObjectHandle contingencyContainerHandle, ObjectHandle contingencyListHandle,
+                                          PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                ContingencyContainer contingencyContainer = ObjectHandles.getGlobal().get(contingencyContainerHandle);
+                CompiledContingencyList contingencyList = ObjectHandles.getGlobal().get(contingencyListHandle);
+                contingencyContainer.addContingencyList(contingencyList);
+            }
+        });
+    }
+
     @CEntryPoint(name = "addContingencyFromJsonFile")
     public static void addContingencyFromJsonFile(IsolateThread thread, ObjectHandle contingencyContainerHandle, CCharPointer jsonFilePath,
                                            PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
@@ -204,16 +267,19 @@ public final class SecurityAnalysisCFunctions {
     }
 
     private static void setPostContingencyResultInSecurityAnalysisResultPointer(PostContingencyResultPointer contingencyPtr, PostContingencyResult postContingencyResult) {
-        contingencyPtr.setContingencyId(CTypeUtil.toCharPtr(postContingencyResult.getContingency().getId()));
-        contingencyPtr.setStatus(postContingencyResult.getStatus().ordinal());
-        List<LimitViolation> limitViolations = postContingencyResult.getLimitViolationsResult().getLimitViolations();
+        setPostContingencyResultInSecurityAnalysisResultPointer(contingencyPtr, StoredSecurityAnalysisResult.StateResult.of(postContingencyResult),
+                postContingencyResult.getLimitViolationsResult().getLimitViolations());
+    }
+
+    private static void setPostContingencyResultInSecurityAnalysisResultPointer(PostContingencyResultPointer contingencyPtr, StoredSecurityAnalysisResult.StateResult postContingencyResult,
+                                                                                List<LimitViolation> limitViolations) {
+        contingencyPtr.setContingencyId(CTypeUtil.toCharPtr(postContingencyResult.id()));
+        contingencyPtr.setStatus(postContingencyResult.status().ordinal());
         PyPowsyblApiHeader.LimitViolationPointer limitViolationPtr = UnmanagedMemory.calloc(limitViolations.size() * SizeOf.get(PyPowsyblApiHeader.LimitViolationPointer.class));
         createLimitViolationPtr(limitViolationPtr, limitViolations);
         contingencyPtr.limitViolations().setLength(limitViolations.size());
         contingencyPtr.limitViolations().setPtr(limitViolationPtr);
-        List<String> disconnectedElements = postContingencyResult.getConnectivityResult() == null
-            ? List.of()
-            : List.copyOf(postContingencyResult.getConnectivityResult().getDisconnectedElements());
+        List<String> disconnectedElements = postContingencyResult.disconnectedElements();
         PyPowsyblApiHeader.ArrayPointer<CCharPointerPointer> disconnectedElementsPtr = createCharPtrArray(disconnectedElements);
         contingencyPtr.disconnectedElements().setLength(disconnectedElementsPtr.getLength());
         contingencyPtr.disconnectedElements().setPtr(disconnectedElementsPtr.getPtr());
@@ -221,9 +287,14 @@ public final class SecurityAnalysisCFunctions {
     }
 
     private static void setOperatorStrategyResultInSecurityAnalysisResultPointer(OperatorStrategyResultPointer operatorStrategyPtr, OperatorStrategyResult result) {
-        operatorStrategyPtr.setOperatorStrategyId(CTypeUtil.toCharPtr(result.getOperatorStrategy().getId()));
-        operatorStrategyPtr.setStatus(result.getStatus().ordinal());
-        List<LimitViolation> limitViolations = result.getLimitViolationsResult().getLimitViolations();
+        setOperatorStrategyResultInSecurityAnalysisResultPointer(operatorStrategyPtr, StoredSecurityAnalysisResult.StateResult.of(result),
+                result.getLimitViolationsResult().getLimitViolations());
+    }
+
+    private static void setOperatorStrategyResultInSecurityAnalysisResultPointer(OperatorStrategyResultPointer operatorStrategyPtr, StoredSecurityAnalysisResult.StateResult result,
+                                                                                 List<LimitViolation> limitViolations) {
+        operatorStrategyPtr.setOperatorStrategyId(CTypeUtil.toCharPtr(result.id()));
+        operatorStrategyPtr.setStatus(result.status().ordinal());
         PyPowsyblApiHeader.LimitViolationPointer limitViolationPtr = UnmanagedMemory.calloc(limitViolations.size() * SizeOf.get(PyPowsyblApiHeader.LimitViolationPointer.class));
         createLimitViolationPtr(limitViolationPtr, limitViolations);
         operatorStrategyPtr.limitViolations().setLength(limitViolations.size());
@@ -231,8 +302,13 @@ public final class SecurityAnalysisCFunctions {
     }
 
     private static void setPreContingencyResultInSecurityAnalysisResultPointer(PreContingencyResultPointer contingencyPtr, PreContingencyResult preContingencyResult) {
-        contingencyPtr.setStatus(preContingencyResult.getStatus().ordinal());
-        List<LimitViolation> limitViolations = preContingencyResult.getLimitViolationsResult().getLimitViolations();
+        setPreContingencyResultInSecurityAnalysisResultPointer(contingencyPtr, StoredSecurityAnalysisResult.StateResult.of(preContingencyResult),
+                preContingencyResult.getLimitViolationsResult().getLimitViolations());
+    }
+
+    private static void setPreContingencyResultInSecurityAnalysisResultPointer(PreContingencyResultPointer contingencyPtr, StoredSecurityAnalysisResult.StateResult preContingencyResult,
+                                                                               List<LimitViolation> limitViolations) {
+        contingencyPtr.setStatus(preContingencyResult.status().ordinal());
         PyPowsyblApiHeader.LimitViolationPointer limitViolationPtr = UnmanagedMemory.calloc(limitViolations.size() * SizeOf.get(PyPowsyblApiHeader.LimitViolationPointer.class));
         createLimitViolationPtr(limitViolationPtr, limitViolations);
         contingencyPtr.limitViolations().setLength(limitViolations.size());
@@ -272,6 +348,41 @@ public final class SecurityAnalysisCFunctions {
         return allocArrayPointer(contingencyPtr, resultCount);
     }
 
+    private static PreContingencyResultPointer createPreContingencyResultArrayPointer(StoredSecurityAnalysisResult result) {
+        PreContingencyResultPointer contingencyPtr = UnmanagedMemory.calloc(SizeOf.get(PreContingencyResultPointer.class));
+        setPreContingencyResultInSecurityAnalysisResultPointer(contingencyPtr, result.getPreContingencyResult(),
+                result.getStateLimitViolations().getPreContingencyLimitViolations());
+        return contingencyPtr;
+    }
+
+    private static ArrayPointer<PostContingencyResultPointer> createPostContingencyResultArrayPointer(StoredSecurityAnalysisResult result) {
+        List<StoredSecurityAnalysisResult.StateResult> postContingencyResults = result.getPostContingencyResults();
+        StoredSecurityAnalysisResult.StateLimitViolations limitViolations = result.getStateLimitViolations();
+        PostContingencyResultPointer contingencyPtr = UnmanagedMemory.calloc(postContingencyResults.size() * SizeOf.get(PostContingencyResultPointer.class));
+        for (int i = 0; i < postContingencyResults.size(); i++) {
+            setPostContingencyResultInSecurityAnalysisResultPointer(contingencyPtr.addressOf(i), postContingencyResults.get(i),
+                    limitViolations.getPostContingencyLimitViolations(i));
+        }
+        return allocArrayPointer(contingencyPtr, postContingencyResults.size());
+    }
+
+    private static ArrayPointer<OperatorStrategyResultPointer> createOperatorStrategyResultsArrayPointer(StoredSecurityAnalysisResult result) {
+        List<StoredSecurityAnalysisResult.StateResult> operatorStrategyResults = result.getOperatorStrategyResults();
+        StoredSecurityAnalysisResult.StateLimitViolations limitViolations = result.getStateLimitViolations();
+        OperatorStrategyResultPointer strategyPtr = UnmanagedMemory.calloc(operatorStrategyResults.size() * SizeOf.get(OperatorStrategyResultPointer.class));
+        for (int i = 0; i < operatorStrategyResults.size(); i++) {
+            setOperatorStrategyResultInSecurityAnalysisResultPointer(strategyPtr.addressOf(i), operatorStrategyResults.get(i),
+                    limitViolations.getOperatorStrategyLimitViolations(i));
+        }
+        return allocArrayPointer(strategyPtr, operatorStrategyResults.size());
+    }
+
+    private static ArrayPointer<SeriesPointer> createCDataframe(ColumnarTable table) {
+        CDataframeHandler handler = new CDataframeHandler();
+        table.createDataframe(handler);
+        return handler.getDataframePtr();
+    }
+
     private static ArrayPointer<OperatorStrategyResultPointer> createOperatorStrategyResultsArrayPointer(SecurityAnalysisResult result) {
         int resultCount = result.getOperatorStrategyResults().size();
         OperatorStrategyResultPointer strategyPtr = UnmanagedMemory.calloc(resultCount * SizeOf.get(OperatorStrategyResultPointer.class));
@@ -297,23 +408,86 @@ public final class SecurityAnalysisCFunctions {
                 logger().info("Security analysis provider used for security analysis is : {}", provider.getName());
                 SecurityAnalysisParameters securityAnalysisParameters = SecurityAnalysisCUtils.createSecurityAnalysisParameters(securityAnalysisParametersPointer, provider);
                 ReportNode reportNode = ObjectHandles.getGlobal().get(reportNodeHandle);
+                analysisContext.checkRunMode();
+                if (analysisContext.getResultsDirectory() != null) {
+                    return ObjectHandles.getGlobal().create(analysisContext.runToDirectory(network, securityAnalysisParameters, provider.getName(), reportNode));
+                }
+                if (analysisContext.isScreening()) {
+                    return ObjectHandles.getGlobal().create(analysisContext.runScreening(network, securityAnalysisParameters, provider.getName(), reportNode));
+                }
+                if (analysisContext.isIncremental()) {
+                    return ObjectHandles.getGlobal().create(analysisContext.runIncremental(network, securityAnalysisParameters, provider.getName(), reportNode));
+                }
                 SecurityAnalysisResult result = analysisContext.run(network, securityAnalysisParameters, provider.getName(), reportNode);
                 return ObjectHandles.getGlobal().create(result);
             }
         });
     }
 
+    @CEntryPoint(name = "setSecurityAnalysisResultsDirectory")
+    public static void setResultsDirectory(IsolateThread thread, ObjectHandle securityAnalysisContextHandle, CCharPointer directory,
+                                           int contingencyBatchSize, PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                String directoryStr = CTypeUtil.toStringOrNull(directory);
+                analysisContext.setResultsDirectory(directoryStr == null ? null : Paths.get(directoryStr), contingencyBatchSize);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSecurityAnalysisScreening")
+    public static void setScreening(IsolateThread thread, ObjectHandle securityAnalysisContextHandle, int criticalContingencyCount,
+                                    double severityBudget, CCharPointer contingencyOrder, int batchSize,
+                                    PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                analysisContext.setScreening(criticalContingencyCount, severityBudget,
+                        ContingencyOrder.valueOf(CTypeUtil.toString(contingencyOrder)), batchSize);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSecurityAnalysisIncremental")
+    public static void setIncremental(IsolateThread thread, ObjectHandle securityAnalysisContextHandle, boolean incremental,
+                                      PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                analysisContext.setIncremental(incremental);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSecurityAnalysisContingencyPartitionCount")
+    public static void setContingencyPartitionCount(IsolateThread thread, ObjectHandle securityAnalysisContextHandle, int partitionCount,
+                                                    PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                analysisContext.setContingencyPartitionCount(partitionCount);
+            }
+        });
+    }
+
     @CEntryPoint(name = "exportToJson")
     public static void exportToJson(IsolateThread thread, ObjectHandle securityAnalysisResultHandle, CCharPointer jsonFilePath,
                                      PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
         doCatch(exceptionHandlerPtr, new Runnable() {
             @Override
             public void run() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                Object handle = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                if (!(handle instanceof SecurityAnalysisResult result)) {
+                    throw new PowsyblException("Security analysis results stored in a directory cannot be exported to JSON");
+                }
                 String stringPath = CTypeUtil.toString(jsonFilePath);
                 Path path = Paths.get(stringPath);
-                try {
-                    Writer writer = Files.newBufferedWriter(path);
+                try (Writer writer = Files.newBufferedWriter(path)) {
                     SecurityAnalysisResultExporter exporter = SecurityAnalysisResultExporters.getExporter("JSON");
                     exporter.export(result, writer);
                 } catch (IOException e) {
@@ -323,13 +497,45 @@ public final class SecurityAnalysisCFunctions {
         });
     }
 
+    @CEntryPoint(name = "exportSecurityAnalysisResultToBinary")
+    public static void exportToBinary(IsolateThread thread, ObjectHandle securityAnalysisResultHandle, CCharPointer filePath,
+                                      PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                Path path = Paths.get(CTypeUtil.toString(filePath));
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    SecurityAnalysisResultArchive.write(storedResult, path);
+                } else {
+                    SecurityAnalysisResultArchive.write((SecurityAnalysisResult) result, path);
+                }
+            }
+        });
+    }
+
+    @CEntryPoint(name = "importSecurityAnalysisResultFromBinary")
+    public static ObjectHandle importFromBinary(IsolateThread thread, CCharPointer filePath,
+                                                PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ObjectHandle get() {
+                Path path = Paths.get(CTypeUtil.toString(filePath));
+                return ObjectHandles.getGlobal().create(SecurityAnalysisResultArchive.read(path));
+            }
+        });
+    }
+
     @CEntryPoint(name = "getPostContingencyResults")
     public static ArrayPointer<PostContingencyResultPointer> getPostContingencyResults(IsolateThread thread, ObjectHandle securityAnalysisResultHandle, PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<PostContingencyResultPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
-                return createPostContingencyResultArrayPointer(result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createPostContingencyResultArrayPointer(storedResult);
+                }
+                return createPostContingencyResultArrayPointer((SecurityAnalysisResult) result);
             }
         });
     }
@@ -339,8 +545,11 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<OperatorStrategyResultPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
-                return createOperatorStrategyResultsArrayPointer(result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createOperatorStrategyResultsArrayPointer(storedResult);
+                }
+                return createOperatorStrategyResultsArrayPointer((SecurityAnalysisResult) result);
             }
         });
     }
@@ -350,8 +559,11 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public PreContingencyResultPointer get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
-                return createPreContingencyResultArrayPointer(result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createPreContingencyResultArrayPointer(storedResult);
+                }
+                return createPreContingencyResultArrayPointer((SecurityAnalysisResult) result);
             }
         });
     }
@@ -361,8 +573,39 @@ public final class SecurityAnalysisCFunctions {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
             @Override
             public ArrayPointer<SeriesPointer> get() {
-                SecurityAnalysisResult result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
-                return Dataframes.createCDataframe(Dataframes.limitViolationsMapper(), result);
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                if (result instanceof StoredSecurityAnalysisResult storedResult) {
+                    return createCDataframe(storedResult.getLimitViolations());
+                }
+                return Dataframes.createCDataframe(Dataframes.limitViolationsMapper(), (SecurityAnalysisResult) result);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getFilteredSecurityAnalysisResults")
+    public static ArrayPointer<SeriesPointer> getFilteredResults(IsolateThread thread, ObjectHandle securityAnalysisResultHandle, CCharPointer tableName,
+                                                                 CCharPointerPointer contingencyIdsPtr, int contingencyIdCount,
+                                                                 CCharPointerPointer elementIdsPtr, int elementIdCount,
+                                                                 CCharPointer valueColumn, double threshold, int topK,
+                                                                 PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<SeriesPointer> get() {
+                Object result = ObjectHandles.getGlobal().get(securityAnalysisResultHandle);
+                SecurityAnalysisResultTables.Table tableType = SecurityAnalysisResultTables.Table.valueOf(CTypeUtil.toString(tableName));
+                ColumnarTableFilter filter = new ColumnarTableFilter()
+                        .setContingencyIds(contingencyIdCount > 0 ? Set.copyOf(toStringList(contingencyIdsPtr, contingencyIdCount)) : null)
+                        .setElementIds(elementIdCount > 0 ? Set.copyOf(toStringList(elementIdsPtr, elementIdCount)) : null)
+                        .setValueColumn(CTypeUtil.toStringOrNull(valueColumn))
+                        .setThreshold(threshold)
+                        .setTopK(topK);
+                ColumnarTable table = result instanceof StoredSecurityAnalysisResult storedResult
+                        ? storedResult.getTable(tableType)
+                        : tableType.create((SecurityAnalysisResult) result);
+                int[] rows = SecurityAnalysisResultTables.selectRows(table, tableType, filter);
+                CDataframeHandler handler = new CDataframeHandler();
+                table.createDataframe(handler, IntStream.range(0, table.getColumns().size()).toArray(), rows);
+                return handler.getDataframePtr();
             }
         });
     }
@@ -673,14 +916,59 @@ public final class SecurityAnalysisCFunctions {
                 violationTypes, violationTypesCount, PyPowsyblApiHeader.LimitViolationType::fromCValue);
         Set<LimitViolationType> violationTypesFilter = violationTypesC.stream().map(Util::convert).collect(Collectors.toSet());
 
-        return switch (conditionType) {
-            case TRUE_CONDITION -> new TrueCondition();
-            case ALL_VIOLATION_CONDITION -> new AllViolationCondition(subjectIdsStrList, violationTypesFilter);
-            case ANY_VIOLATION_CONDITION -> new AnyViolationCondition(violationTypesFilter);
-            case AT_LEAST_ONE_VIOLATION_CONDITION ->
-                new AtLeastOneViolationCondition(subjectIdsStrList, violationTypesFilter);
-            default -> throw new PowsyblException("Unsupported condition type " + conditionType);
-        };
+        return OperatorStrategyDataframeAdder.createCondition(conditionType.name(), subjectIdsStrList, violationTypesFilter);
+    }
+
+    @CEntryPoint(name = "getActionsDataframeMetadata")
+    public static DataframeMetadataPointer getActionsDataframeMetadata(IsolateThread thread, CCharPointer actionType,
+                                                                       PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public DataframeMetadataPointer get() {
+                ActionDataframeAdder.ActionType type = ActionDataframeAdder.ActionType.valueOf(CTypeUtil.toString(actionType));
+                return CTypeUtil.createSeriesMetadata(new ActionDataframeAdder().getMetadata(type));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addActions")
+    public static void addActions(IsolateThread thread, ObjectHandle securityAnalysisContextHandle, CCharPointer actionType,
+                                  PyPowsyblApiHeader.DataframePointer cDataframe,
+                                  PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                ActionDataframeAdder.ActionType type = ActionDataframeAdder.ActionType.valueOf(CTypeUtil.toString(actionType));
+                UpdatingDataframe actionDataframe = NetworkCFunctions.createDataframe(cDataframe);
+                new ActionDataframeAdder().addElements(analysisContext, type, actionDataframe);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getOperatorStrategiesDataframeMetadata")
+    public static DataframeMetadataPointer getOperatorStrategiesDataframeMetadata(IsolateThread thread,
+                                                                                  PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public DataframeMetadataPointer get() {
+                return CTypeUtil.createSeriesMetadata(new OperatorStrategyDataframeAdder().getMetadata());
+            }
+        });
+    }
+
+    @CEntryPoint(name = "addOperatorStrategies")
+    public static void addOperatorStrategies(IsolateThread thread, ObjectHandle securityAnalysisContextHandle,
+                                             PyPowsyblApiHeader.DataframePointer cDataframe,
+                                             PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SecurityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(securityAnalysisContextHandle);
+                UpdatingDataframe strategyDataframe = NetworkCFunctions.createDataframe(cDataframe);
+                new OperatorStrategyDataframeAdder().addElements(analysisContext, strategyDataframe);
+            }
+        });
     }
 
     @CEntryPoint(name = "getLimitReductionDataframeMetadata")
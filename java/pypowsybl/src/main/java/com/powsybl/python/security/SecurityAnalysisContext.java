@@ -9,28 +9,43 @@ package com.powsybl.python.security;
 
 import com.powsybl.action.Action;
 import com.powsybl.action.ActionList;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyContextType;
+import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.contingency.strategy.OperatorStrategy;
 import com.powsybl.contingency.strategy.OperatorStrategyList;
+import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.python.commons.CommonObjects;
+import com.powsybl.python.commons.VariantPartitionRunner;
 import com.powsybl.python.contingency.ContingencyContainerImpl;
 import com.powsybl.security.*;
+import com.powsybl.security.json.JsonSecurityAnalysisParameters;
 import com.powsybl.security.limitreduction.LimitReduction;
 import com.powsybl.security.monitor.StateMonitor;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class SecurityAnalysisContext extends ContingencyContainerImpl {
 
+    public static final int DEFAULT_CONTINGENCY_BATCH_SIZE = 100;
+
+    public static final int DEFAULT_SCREENING_BATCH_SIZE = 10;
+
     private final List<Action> actions = new ArrayList<>();
 
     private final List<OperatorStrategy> operatorStrategies = new ArrayList<>();
@@ -39,9 +54,25 @@ public class SecurityAnalysisContext extends ContingencyContainerImpl {
 
     private final List<LimitReduction> limitReductions = new ArrayList<>();
 
-    SecurityAnalysisResult run(Network network, SecurityAnalysisParameters securityAnalysisParameters, String provider, ReportNode reportNode) {
-        ContingenciesProvider contingencies = this::createContingencies;
-        SecurityAnalysisRunParameters runParameters = new SecurityAnalysisRunParameters()
+    private Path resultsDirectory;
+
+    private int contingencyBatchSize = DEFAULT_CONTINGENCY_BATCH_SIZE;
+
+    private int contingencyPartitionCount = 1;
+
+    private int screeningCriticalContingencyCount = 0;
+
+    private double screeningSeverityBudget = Double.NaN;
+
+    private ContingencyOrder screeningContingencyOrder = ContingencyOrder.INPUT;
+
+    private int screeningBatchSize = DEFAULT_SCREENING_BATCH_SIZE;
+
+    private IncrementalSecurityAnalysisCache incrementalCache;
+
+    private SecurityAnalysisRunParameters createRunParameters(SecurityAnalysisParameters securityAnalysisParameters,
+                                                              List<OperatorStrategy> operatorStrategies, ReportNode reportNode) {
+        return new SecurityAnalysisRunParameters()
                 .setSecurityAnalysisParameters(securityAnalysisParameters)
                 .setComputationManager(CommonObjects.getComputationManager())
                 .setOperatorStrategies(operatorStrategies)
@@ -49,11 +80,397 @@ public class SecurityAnalysisContext extends ContingencyContainerImpl {
                 .setMonitors(monitors)
                 .setLimitReductions(limitReductions)
                 .setReportNode(reportNode == null ? ReportNode.NO_OP : reportNode);
+    }
+
+    SecurityAnalysisResult run(Network network, SecurityAnalysisParameters securityAnalysisParameters, String provider, ReportNode reportNode) {
+        if (contingencyPartitionCount > 1) {
+            List<Contingency> contingencies = createContingencies(network);
+            int partitionCount = Math.min(contingencyPartitionCount, contingencies.size());
+            if (partitionCount > 1) {
+                return runPartitions(network, securityAnalysisParameters, provider, reportNode, contingencies, partitionCount);
+            }
+        }
+        ContingenciesProvider contingencies = this::createContingencies;
+        SecurityAnalysisRunParameters runParameters = createRunParameters(securityAnalysisParameters, operatorStrategies, reportNode);
         SecurityAnalysisReport report = SecurityAnalysis.find(provider)
                 .run(network, network.getVariantManager().getWorkingVariantId(), contingencies, runParameters);
         return report.getResult();
     }
 
+    /**
+     * @return operator strategies of the contingencies, when only a subset of the contingencies is computed
+     * @throws PowsyblException if an operator strategy is not specific to a contingency, as it cannot be assigned to
+     * a single subset
+     */
+    private List<OperatorStrategy> getOperatorStrategies(List<Contingency> contingencies) {
+        for (OperatorStrategy strategy : operatorStrategies) {
+            if (strategy.getContingencyContext().getContextType() != ContingencyContextType.SPECIFIC) {
+                throw new PowsyblException("Operator strategy '" + strategy.getId() + "' has a contingency context of type "
+                        + strategy.getContingencyContext().getContextType() + ", only operator strategies of a specific contingency are "
+                        + "supported when contingencies are computed by partitions, batches or incrementally");
+            }
+        }
+        Set<String> contingencyIds = contingencies.stream().map(Contingency::getId).collect(Collectors.toSet());
+        return operatorStrategies.stream()
+                .filter(strategy -> contingencyIds.contains(strategy.getContingencyContext().getContingencyId()))
+                .toList();
+    }
+
+    /**
+     * Runs each partition of contingencies concurrently on its own clone of the working variant, with the operator
+     * strategies of its contingencies, and merges the partial results. Every partition also computes the
+     * pre-contingency state, only the one of the first partition is kept, and only the first partition is reported.
+     */
+    private SecurityAnalysisResult runPartitions(Network network, SecurityAnalysisParameters securityAnalysisParameters, String provider,
+                                                 ReportNode reportNode, List<Contingency> contingencies, int partitionCount) {
+        List<SecurityAnalysisResult> partialResults = VariantPartitionRunner.run(network, partitionCount, "Security analysis",
+            (partition, variantId) -> {
+                List<Contingency> partitionContingencies = contingencies.subList(
+                        VariantPartitionRunner.getPartitionStart(contingencies.size(), partition, partitionCount),
+                        VariantPartitionRunner.getPartitionStart(contingencies.size(), partition + 1, partitionCount));
+                SecurityAnalysisRunParameters runParameters = createRunParameters(securityAnalysisParameters,
+                        getOperatorStrategies(partitionContingencies), partition == 0 ? reportNode : null);
+                return () -> SecurityAnalysis.find(provider)
+                        .run(network, variantId, n -> partitionContingencies, runParameters)
+                        .getResult();
+            });
+        return merge(partialResults);
+    }
+
+    /**
+     * @return pre-contingency result of the first partial result, post-contingency and operator strategy results of
+     * all of them, in the order of the partial results
+     */
+    static SecurityAnalysisResult merge(List<SecurityAnalysisResult> partialResults) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
+        for (SecurityAnalysisResult partialResult : partialResults) {
+            postContingencyResults.addAll(partialResult.getPostContingencyResults());
+            operatorStrategyResults.addAll(partialResult.getOperatorStrategyResults());
+        }
+        return new SecurityAnalysisResult(partialResults.get(0).getPreContingencyResult(), postContingencyResults, operatorStrategyResults);
+    }
+
+    /**
+     * @return relative distance of the value beyond the reduced limit
+     */
+    static double getSeverity(LimitViolation limitViolation) {
+        return getSeverity(limitViolation.getValue(), limitViolation.getLimit(), limitViolation.getLimitReduction());
+    }
+
+    /**
+     * @return relative distance of the value beyond the reduced limit, absolute distance if the limit is zero, so that
+     * it also applies to low limits
+     */
+    static double getSeverity(double value, double limit, double limitReduction) {
+        double reducedLimit = limit * limitReduction;
+        double excess = Math.abs(value - reducedLimit);
+        return reducedLimit != 0 ? excess / Math.abs(reducedLimit) : excess;
+    }
+
+    /**
+     * @return sum of the severities of the limit violations of the contingency, infinite if its computation failed
+     */
+    static double getSeverity(PostContingencyResult postContingencyResult) {
+        if (postContingencyResult.getStatus() != PostContingencyComputationStatus.CONVERGED) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double severity = 0;
+        for (LimitViolation limitViolation : postContingencyResult.getLimitViolationsResult().getLimitViolations()) {
+            severity += getSeverity(limitViolation);
+        }
+        return severity;
+    }
+
+    private static boolean isCritical(PostContingencyResult postContingencyResult) {
+        return postContingencyResult.getStatus() != PostContingencyComputationStatus.CONVERGED
+                || !postContingencyResult.getLimitViolationsResult().getLimitViolations().isEmpty();
+    }
+
+    /**
+     * Runs a DC security analysis of the contingencies, without operator strategies.
+     */
+    private SecurityAnalysisResult runDc(Network network, List<Contingency> contingencies, SecurityAnalysisParameters securityAnalysisParameters,
+                                         String provider) {
+        SecurityAnalysisParameters dcParameters = new SecurityAnalysisParameters()
+                .setLoadFlowParameters(securityAnalysisParameters.getLoadFlowParameters().copy().setDc(true))
+                .setIncreasedViolationsParameters(securityAnalysisParameters.getIncreasedViolationsParameters());
+        SecurityAnalysisRunParameters runParameters = new SecurityAnalysisRunParameters()
+                .setSecurityAnalysisParameters(dcParameters)
+                .setComputationManager(CommonObjects.getComputationManager())
+                .setLimitReductions(limitReductions);
+        return SecurityAnalysis.find(provider)
+                .run(network, network.getVariantManager().getWorkingVariantId(), n -> contingencies, runParameters)
+                .getResult();
+    }
+
+    /**
+     * Sorts contingencies by decreasing severity in a DC security analysis, which is much cheaper than an AC one and
+     * has no convergence issue, keeping the input order for contingencies of same severity.
+     */
+    private List<Contingency> sortByDcSeverity(Network network, List<Contingency> contingencies,
+                                               SecurityAnalysisParameters securityAnalysisParameters, String provider) {
+        SecurityAnalysisResult dcResult = runDc(network, contingencies, securityAnalysisParameters, provider);
+        Map<String, Double> severities = new HashMap<>();
+        for (PostContingencyResult postContingencyResult : dcResult.getPostContingencyResults()) {
+            severities.put(postContingencyResult.getContingency().getId(), getSeverity(postContingencyResult));
+        }
+        List<Contingency> sortedContingencies = new ArrayList<>(contingencies);
+        sortedContingencies.sort(Comparator.comparingDouble((Contingency contingency) -> severities.getOrDefault(contingency.getId(), 0.0))
+                .reversed());
+        return sortedContingencies;
+    }
+
+    boolean isScreening() {
+        return screeningCriticalContingencyCount > 0 || !Double.isNaN(screeningSeverityBudget);
+    }
+
+    /**
+     * Runs the security analysis by batches of contingencies, stopping after the batch where the number of critical
+     * contingencies, with limit violations or failed, or the sum of their severities reaches the screening limits.
+     * <p>
+     * Only computed contingencies are in the result. The pre-contingency state is computed again for each batch, its
+     * result is the one of the first batch.
+     */
+    SecurityAnalysisResult runScreening(Network network, SecurityAnalysisParameters securityAnalysisParameters,
+                                        String provider, ReportNode reportNode) {
+        List<Contingency> contingencies = createContingencies(network);
+        if (screeningContingencyOrder == ContingencyOrder.DC_SEVERITY && contingencies.size() > 1) {
+            contingencies = sortByDcSeverity(network, contingencies, securityAnalysisParameters, provider);
+        }
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        List<SecurityAnalysisResult> batchResults = new ArrayList<>();
+        int criticalContingencyCount = 0;
+        double severity = 0;
+        int start = 0;
+        do {
+            List<Contingency> batch = contingencies.subList(start, Math.min(contingencies.size(), start + screeningBatchSize));
+            // reports only the first batch, as others would repeat the pre-contingency computation
+            SecurityAnalysisRunParameters runParameters = createRunParameters(securityAnalysisParameters, getOperatorStrategies(batch),
+                    start == 0 ? reportNode : null);
+            SecurityAnalysisResult batchResult = SecurityAnalysis.find(provider)
+                    .run(network, workingVariantId, n -> batch, runParameters)
+                    .getResult();
+            batchResults.add(batchResult);
+            for (PostContingencyResult postContingencyResult : batchResult.getPostContingencyResults()) {
+                if (isCritical(postContingencyResult)) {
+                    criticalContingencyCount++;
+                    severity += getSeverity(postContingencyResult);
+                }
+            }
+            start += screeningBatchSize;
+        } while (start < contingencies.size()
+                && (screeningCriticalContingencyCount == 0 || criticalContingencyCount < screeningCriticalContingencyCount)
+                && (Double.isNaN(screeningSeverityBudget) || severity < screeningSeverityBudget));
+        return merge(batchResults);
+    }
+
+    /**
+     * @throws PowsyblException if more than one of the results directory, screening, incremental and contingency
+     * partition modes is enabled, as only one of them can be used for a run
+     */
+    void checkRunMode() {
+        List<String> modes = new ArrayList<>();
+        if (resultsDirectory != null) {
+            modes.add("results directory");
+        }
+        if (isScreening()) {
+            modes.add("screening");
+        }
+        if (isIncremental()) {
+            modes.add("incremental");
+        }
+        if (contingencyPartitionCount > 1) {
+            modes.add("contingency partitions");
+        }
+        if (modes.size() > 1) {
+            throw new PowsyblException("Security analysis modes cannot be combined: " + String.join(", ", modes));
+        }
+    }
+
+    boolean isIncremental() {
+        return incrementalCache != null;
+    }
+
+    /**
+     * @param incremental true to keep the results of each run and only compute again the contingencies of next runs
+     *                    whose branch limits may be violated, false to compute all the contingencies and clear the
+     *                    kept results
+     */
+    void setIncremental(boolean incremental) {
+        incrementalCache = incremental ? new IncrementalSecurityAnalysisCache() : null;
+    }
+
+    /**
+     * @return configuration of the run, parameters being compared through their JSON serialization
+     */
+    private IncrementalSecurityAnalysisCache.Configuration getIncrementalConfiguration(String provider,
+                                                                                     SecurityAnalysisParameters securityAnalysisParameters,
+                                                                                     List<Contingency> contingencies) {
+        ByteArrayOutputStream parameters = new ByteArrayOutputStream();
+        JsonSecurityAnalysisParameters.write(securityAnalysisParameters, parameters);
+        List<List<String>> contingencyElements = new ArrayList<>(contingencies.size());
+        for (Contingency contingency : contingencies) {
+            List<String> elements = new ArrayList<>();
+            elements.add(contingency.getId());
+            for (ContingencyElement element : contingency.getElements()) {
+                elements.add(element.getType() + " " + element.getId());
+            }
+            contingencyElements.add(elements);
+        }
+        return new IncrementalSecurityAnalysisCache.Configuration(provider, parameters.toString(StandardCharsets.UTF_8),
+                List.copyOf(actions), List.copyOf(monitors), List.copyOf(limitReductions), List.copyOf(operatorStrategies),
+                contingencyElements);
+    }
+
+    /**
+     * @return branch ids monitored by the context of each contingency
+     */
+    private Map<String, Set<String>> getMonitoredBranchIds(List<Contingency> contingencies) {
+        Map<String, Set<String>> monitoredBranchIds = new HashMap<>();
+        for (Contingency contingency : contingencies) {
+            Set<String> branchIds = new HashSet<>();
+            for (StateMonitor monitor : monitors) {
+                ContingencyContext context = monitor.getContingencyContext();
+                if (context.getContextType() == ContingencyContextType.ALL
+                        || context.getContextType() == ContingencyContextType.ONLY_CONTINGENCIES
+                        || (context.getContextType() == ContingencyContextType.SPECIFIC && contingency.getId().equals(context.getContingencyId()))) {
+                    branchIds.addAll(monitor.getBranchIds());
+                }
+            }
+            monitoredBranchIds.put(contingency.getId(), branchIds);
+        }
+        return monitoredBranchIds;
+    }
+
+    /**
+     * Runs the security analysis of the contingencies which cannot be skipped according to the results of the previous
+     * run, see {@link IncrementalSecurityAnalysisCache}, and merges their results with the kept results of the other
+     * ones. The pre-contingency state is always computed, and so are the contingencies with operator strategies, as
+     * the bound does not cover the states after actions.
+     * <p>
+     * In DC, margins of the computed contingencies are those of their post-contingency flows, which are monitored on
+     * all the limited branches for the run, and only kept in the result for the branches monitored by the context.
+     * In AC, the bound does not cover losses, reactive flows and voltages, so all the contingencies are computed.
+     */
+    SecurityAnalysisResult runIncremental(Network network, SecurityAnalysisParameters securityAnalysisParameters,
+                                          String provider, ReportNode reportNode) {
+        List<Contingency> contingencies = createContingencies(network);
+        IncrementalSecurityAnalysisCache.Configuration configuration = getIncrementalConfiguration(provider, securityAnalysisParameters, contingencies);
+        long stateHash = IncrementalSecurityAnalysisCache.computeStateHash(network);
+        Map<String, Double> injections = IncrementalSecurityAnalysisCache.getInjections(network);
+        double injectionChange = incrementalCache.getInjectionChange(network, configuration, stateHash, injections);
+        Set<String> strategyContingencyIds = getOperatorStrategies(contingencies).stream()
+                .map(strategy -> strategy.getContingencyContext().getContingencyId())
+                .collect(Collectors.toSet());
+        List<Contingency> rerunContingencies = contingencies.stream()
+                .filter(contingency -> strategyContingencyIds.contains(contingency.getId())
+                        || !incrementalCache.canSkip(contingency.getId(), injectionChange))
+                .toList();
+        SecurityAnalysisRunParameters runParameters = createRunParameters(securityAnalysisParameters,
+                getOperatorStrategies(rerunContingencies), reportNode);
+        boolean dc = securityAnalysisParameters.getLoadFlowParameters().isDc();
+        Map<String, double[]> activePowerLimits = Map.of();
+        if (dc) {
+            // lowest reduction of all the limits, as a conservative approximation of limit reductions
+            double reduction = Math.min(1, limitReductions.stream().mapToDouble(LimitReduction::getValue).min().orElse(1));
+            activePowerLimits = IncrementalSecurityAnalysisCache.getActivePowerLimits(network,
+                    securityAnalysisParameters.getLoadFlowParameters().getDcPowerFactor(), reduction);
+            List<StateMonitor> runMonitors = new ArrayList<>(monitors);
+            runMonitors.add(new StateMonitor(ContingencyContext.onlyContingencies(), activePowerLimits.keySet(),
+                    Collections.emptySet(), Collections.emptySet()));
+            runParameters.setMonitors(runMonitors);
+        }
+        SecurityAnalysisResult rerunResult = SecurityAnalysis.find(provider)
+                .run(network, network.getVariantManager().getWorkingVariantId(), n -> rerunContingencies, runParameters)
+                .getResult();
+        Map<String, Double> rerunMargins = Map.of();
+        if (dc) {
+            rerunMargins = IncrementalSecurityAnalysisCache.getMargins(rerunResult, activePowerLimits);
+            rerunResult = IncrementalSecurityAnalysisCache.keepMonitoredBranchResults(rerunResult, getMonitoredBranchIds(rerunContingencies));
+        }
+        return incrementalCache.update(network, configuration, stateHash, injections, injectionChange, contingencies, rerunResult, rerunMargins);
+    }
+
+    /**
+     * Runs the security analysis by batches of contingencies, writing the network results and limit violations of each
+     * batch to the results directory before computing the next one, so that only one batch of results is in memory
+     * at a time.
+     * <p>
+     * The pre-contingency state is computed again for each batch, its results are only stored for the first one.
+     */
+    StoredSecurityAnalysisResult runToDirectory(Network network, SecurityAnalysisParameters securityAnalysisParameters,
+                                                String provider, ReportNode reportNode) {
+        if (resultsDirectory == null) {
+            throw new PowsyblException("Results directory is not set");
+        }
+        List<Contingency> contingencies = createContingencies(network);
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        StoredSecurityAnalysisResult result = new StoredSecurityAnalysisResult(resultsDirectory);
+        try (result) {
+            int start = 0;
+            do {
+                List<Contingency> batch = contingencies.subList(start, Math.min(contingencies.size(), start + contingencyBatchSize));
+                // reports only the first batch, as others would repeat the pre-contingency computation
+                SecurityAnalysisRunParameters runParameters = createRunParameters(securityAnalysisParameters, getOperatorStrategies(batch),
+                        start == 0 ? reportNode : null);
+                SecurityAnalysisReport report = SecurityAnalysis.find(provider)
+                        .run(network, workingVariantId, n -> batch, runParameters);
+                result.add(report.getResult(), start == 0);
+                start += contingencyBatchSize;
+            } while (start < contingencies.size());
+        }
+        return result;
+    }
+
+    Path getResultsDirectory() {
+        return resultsDirectory;
+    }
+
+    /**
+     * @param resultsDirectory directory where network results are written while running, or null to keep all the
+     *                         results in memory
+     * @param contingencyBatchSize number of contingencies computed before writing their results
+     */
+    void setResultsDirectory(Path resultsDirectory, int contingencyBatchSize) {
+        if (contingencyBatchSize < 1) {
+            throw new PowsyblException("Contingency batch size has to be strictly positive: " + contingencyBatchSize);
+        }
+        this.resultsDirectory = resultsDirectory;
+        this.contingencyBatchSize = contingencyBatchSize;
+    }
+
+    /**
+     * @param contingencyPartitionCount number of partitions of contingencies computed concurrently by
+     *                                  {@link #run}, 1 to compute all the contingencies in a single run
+     */
+    void setContingencyPartitionCount(int contingencyPartitionCount) {
+        if (contingencyPartitionCount < 1) {
+            throw new PowsyblException("Contingency partition count has to be strictly positive: " + contingencyPartitionCount);
+        }
+        this.contingencyPartitionCount = contingencyPartitionCount;
+    }
+
+    /**
+     * @param criticalContingencyCount number of critical contingencies after which the screening stops, 0 for no limit
+     * @param severityBudget sum of the severities of critical contingencies after which the screening stops, NaN for
+     *                       no limit
+     * @param contingencyOrder order in which contingencies are computed
+     * @param batchSize number of contingencies computed between two checks of the limits
+     */
+    void setScreening(int criticalContingencyCount, double severityBudget, ContingencyOrder contingencyOrder, int batchSize) {
+        if (criticalContingencyCount < 0) {
+            throw new PowsyblException("Critical contingency count has to be positive: " + criticalContingencyCount);
+        }
+        if (batchSize < 1) {
+            throw new PowsyblException("Screening batch size has to be strictly positive: " + batchSize);
+        }
+        this.screeningCriticalContingencyCount = criticalContingencyCount;
+        this.screeningSeverityBudget = severityBudget;
+        this.screeningContingencyOrder = Objects.requireNonNull(contingencyOrder);
+        this.screeningBatchSize = batchSize;
+    }
+
     void addActionFromJsonFile(Path path) {
         if (Files.exists(path)) {
             ActionList actionList;
@@ -74,11 +491,11 @@ public class SecurityAnalysisContext extends ContingencyContainerImpl {
         }
     }
 
-    void addAction(Action action) {
+    public void addAction(Action action) {
         actions.add(action);
     }
 
-    void addOperatorStrategy(OperatorStrategy strategy) {
+    public void addOperatorStrategy(OperatorStrategy strategy) {
         operatorStrategies.add(strategy);
     }
 
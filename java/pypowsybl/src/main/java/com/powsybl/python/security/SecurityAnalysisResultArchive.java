@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.PostContingencyComputationStatus;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.powsybl.dataframe.SeriesMetadata.*;
+
+/**
+ * Compact binary export and import of security analysis results.
+ * <p>
+ * An archive is a gzip compressed sequence of {@link ColumnarTable}s, so that IDs are written once per table thanks
+ * to dictionary encoding:
+ * <ul>
+ *     <li>states: kind, ID and status of the pre-contingency state, of each contingency and of each operator strategy</li>
+ *     <li>limit violations of the states, as stored by {@link StoredSecurityAnalysisResult}</li>
+ *     <li>disconnected elements of the states</li>
+ *     <li>branch, bus and three windings transformer results</li>
+ * </ul>
+ * Enums are written as their names, so that archives remain readable if enum constants are added or reordered.
+ * <p>
+ * Imported results are {@link StoredSecurityAnalysisResult}s with their tables in memory.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class SecurityAnalysisResultArchive {
+
+    private static final int MAGIC = 0x50534152; // "PSAR"
+
+    private static final int FORMAT_VERSION = 4;
+
+    private static final List<SeriesMetadata> STATES_COLUMNS = List.of(
+            ints("kind"),
+            strings("id"),
+            strings("status"));
+
+    private static final List<SeriesMetadata> DISCONNECTED_ELEMENTS_COLUMNS = List.of(
+            ints("state"),
+            strings("element_id"));
+
+    private SecurityAnalysisResultArchive() {
+    }
+
+    public static void write(SecurityAnalysisResult result, Path file) {
+        List<StoredSecurityAnalysisResult.StateResult> states = new ArrayList<>();
+        ColumnarTable limitViolations = new ColumnarTable(StoredSecurityAnalysisResult.STATE_LIMIT_VIOLATIONS_COLUMNS);
+        states.add(StoredSecurityAnalysisResult.StateResult.of(result.getPreContingencyResult()));
+        StoredSecurityAnalysisResult.addLimitViolations(limitViolations, StoredSecurityAnalysisResult.PRE_CONTINGENCY_STATE, 0,
+                result.getPreContingencyResult().getLimitViolationsResult().getLimitViolations());
+        List<PostContingencyResult> postContingencyResults = result.getPostContingencyResults();
+        for (int i = 0; i < postContingencyResults.size(); i++) {
+            states.add(StoredSecurityAnalysisResult.StateResult.of(postContingencyResults.get(i)));
+            StoredSecurityAnalysisResult.addLimitViolations(limitViolations, StoredSecurityAnalysisResult.POST_CONTINGENCY_STATE, i,
+                    postContingencyResults.get(i).getLimitViolationsResult().getLimitViolations());
+        }
+        List<OperatorStrategyResult> operatorStrategyResults = result.getOperatorStrategyResults();
+        for (int i = 0; i < operatorStrategyResults.size(); i++) {
+            states.add(StoredSecurityAnalysisResult.StateResult.of(operatorStrategyResults.get(i)));
+            StoredSecurityAnalysisResult.addLimitViolations(limitViolations, StoredSecurityAnalysisResult.OPERATOR_STRATEGY_STATE, i,
+                    operatorStrategyResults.get(i).getLimitViolationsResult().getLimitViolations());
+        }
+        write(file, states, postContingencyResults.size(), limitViolations,
+                SecurityAnalysisResultTables.createBranchResults(result),
+                SecurityAnalysisResultTables.createBusResults(result),
+                SecurityAnalysisResultTables.createThreeWindingsTransformerResults(result));
+    }
+
+    public static void write(StoredSecurityAnalysisResult result, Path file) {
+        List<StoredSecurityAnalysisResult.StateResult> states = new ArrayList<>();
+        states.add(result.getPreContingencyResult());
+        states.addAll(result.getPostContingencyResults());
+        states.addAll(result.getOperatorStrategyResults());
+        write(file, states, result.getPostContingencyResults().size(), result.getStateLimitViolationsTable(),
+                result.getBranchResults(), result.getBusResults(), result.getThreeWindingsTransformerResults());
+    }
+
+    /**
+     * @param states pre-contingency state, then post-contingency states, then operator strategy states
+     */
+    private static void write(Path file, List<StoredSecurityAnalysisResult.StateResult> states, int postContingencyCount,
+                              ColumnarTable limitViolations, ColumnarTable branchResults, ColumnarTable busResults, ColumnarTable threeWindingsTransformerResults) {
+        Objects.requireNonNull(file);
+        ColumnarTable statesTable = new ColumnarTable(STATES_COLUMNS);
+        ColumnarTable disconnectedElements = new ColumnarTable(DISCONNECTED_ELEMENTS_COLUMNS);
+        for (int state = 0; state < states.size(); state++) {
+            StoredSecurityAnalysisResult.StateResult stateResult = states.get(state);
+            int row = statesTable.addRow();
+            int kind;
+            if (state == 0) {
+                kind = StoredSecurityAnalysisResult.PRE_CONTINGENCY_STATE;
+            } else {
+                kind = state <= postContingencyCount
+                        ? StoredSecurityAnalysisResult.POST_CONTINGENCY_STATE
+                        : StoredSecurityAnalysisResult.OPERATOR_STRATEGY_STATE;
+            }
+            statesTable.setInt(row, 0, kind);
+            statesTable.setString(row, 1, stateResult.id());
+            statesTable.setString(row, 2, stateResult.status().name());
+            for (String elementId : stateResult.disconnectedElements()) {
+                int elementRow = disconnectedElements.addRow();
+                disconnectedElements.setInt(elementRow, 0, state);
+                disconnectedElements.setString(elementRow, 1, elementId);
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            for (ColumnarTable table : List.of(statesTable, limitViolations, disconnectedElements, branchResults, busResults, threeWindingsTransformerResults)) {
+                table.write(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static StoredSecurityAnalysisResult read(Path file) {
+        Objects.requireNonNull(file);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new PowsyblException("Not a security analysis result archive: " + file);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new PowsyblException("Unsupported security analysis result archive version: " + version);
+            }
+            ColumnarTable statesTable = ColumnarTable.read(in);
+            ColumnarTable limitViolations = ColumnarTable.read(in);
+            ColumnarTable disconnectedElements = ColumnarTable.read(in);
+            ColumnarTable branchResults = ColumnarTable.read(in);
+            ColumnarTable busResults = ColumnarTable.read(in);
+            ColumnarTable threeWindingsTransformerResults = ColumnarTable.read(in);
+
+            int stateCount = statesTable.getRowCount();
+            List<List<String>> stateDisconnectedElements = new ArrayList<>(stateCount);
+            for (int state = 0; state < stateCount; state++) {
+                stateDisconnectedElements.add(new ArrayList<>());
+            }
+            for (int row = 0; row < disconnectedElements.getRowCount(); row++) {
+                stateDisconnectedElements.get(disconnectedElements.getInt(row, 0)).add(disconnectedElements.getString(row, 1));
+            }
+
+            StoredSecurityAnalysisResult.StateResult preContingencyResult = null;
+            List<StoredSecurityAnalysisResult.StateResult> postContingencyResults = new ArrayList<>();
+            List<StoredSecurityAnalysisResult.StateResult> operatorStrategyResults = new ArrayList<>();
+            for (int state = 0; state < stateCount; state++) {
+                int kind = statesTable.getInt(state, 0);
+                String status = statesTable.getString(state, 2);
+                StoredSecurityAnalysisResult.StateResult stateResult = new StoredSecurityAnalysisResult.StateResult(
+                        statesTable.getString(state, 1),
+                        kind == StoredSecurityAnalysisResult.PRE_CONTINGENCY_STATE ? LoadFlowResult.ComponentResult.Status.valueOf(status) : PostContingencyComputationStatus.valueOf(status),
+                        stateDisconnectedElements.get(state));
+                switch (kind) {
+                    case StoredSecurityAnalysisResult.PRE_CONTINGENCY_STATE -> preContingencyResult = stateResult;
+                    case StoredSecurityAnalysisResult.POST_CONTINGENCY_STATE -> postContingencyResults.add(stateResult);
+                    case StoredSecurityAnalysisResult.OPERATOR_STRATEGY_STATE -> operatorStrategyResults.add(stateResult);
+                    default -> throw new PowsyblException("Unknown state kind: " + kind);
+                }
+            }
+            return new StoredSecurityAnalysisResult(preContingencyResult, postContingencyResults, operatorStrategyResults,
+                    limitViolations, branchResults, busResults, threeWindingsTransformerResults);
+        } catch (EOFException e) {
+            throw new PowsyblException("Truncated security analysis result archive: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntToDoubleFunction;
+
+import static com.powsybl.dataframe.SeriesMetadata.*;
+
+/**
+ * Columnar tables of security analysis results, filled directly from the results without any intermediate object
+ * per row.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class SecurityAnalysisResultTables {
+
+    public static final List<SeriesMetadata> BRANCH_RESULTS_COLUMNS = List.of(
+            stringIndex("contingency_id"),
+            stringIndex("operator_strategy_id"),
+            stringIndex("branch_id"),
+            doubles("p1"),
+            doubles("q1"),
+            doubles("i1"),
+            doubles("p2"),
+            doubles("q2"),
+            doubles("i2"),
+            doubles("flow_transfer"));
+
+    public static final List<SeriesMetadata> BUS_RESULTS_COLUMNS = List.of(
+            stringIndex("contingency_id"),
+            stringIndex("operator_strategy_id"),
+            stringIndex("voltage_level_id"),
+            stringIndex("bus_id"),
+            doubles("v_mag"),
+            doubles("v_angle"));
+
+    public static final List<SeriesMetadata> THREE_WINDINGS_TRANSFORMER_RESULTS_COLUMNS = List.of(
+            stringIndex("contingency_id"),
+            stringIndex("transformer_id"),
+            doubles("p1"),
+            doubles("q1"),
+            doubles("i1"),
+            doubles("p2"),
+            doubles("q2"),
+            doubles("i2"),
+            doubles("p3"),
+            doubles("q3"),
+            doubles("i3"));
+
+    public static final List<SeriesMetadata> LIMIT_VIOLATIONS_COLUMNS = List.of(
+            stringIndex("contingency_id"),
+            stringIndex("subject_id"),
+            strings("subject_name"),
+            strings("limit_type"),
+            strings("limit_name"),
+            doubles("limit"),
+            ints("acceptable_duration"),
+            doubles("limit_reduction"),
+            doubles("value"),
+            strings("side"));
+
+    /**
+     * Result tables that can be filtered, with the column of their element ID and their default metric.
+     */
+    public enum Table {
+        BRANCH_RESULTS(2),
+        BUS_RESULTS(3),
+        THREE_WINDINGS_TRANSFORMER_RESULTS(1),
+        LIMIT_VIOLATIONS(1);
+
+        private final int elementColumn;
+
+        Table(int elementColumn) {
+            this.elementColumn = elementColumn;
+        }
+
+        public int getContingencyColumn() {
+            return 0;
+        }
+
+        public int getElementColumn() {
+            return elementColumn;
+        }
+
+        /**
+         * @return highest current of the sides for branches and three windings transformers, relative distance of the
+         * value beyond the reduced limit for limit violations, see {@link SecurityAnalysisContext#getSeverity(LimitViolation)},
+         * null for buses
+         */
+        public IntToDoubleFunction getDefaultMetric(ColumnarTable table) {
+            return switch (this) {
+                case BRANCH_RESULTS -> row -> Math.max(Math.abs(table.getDouble(row, 5)), Math.abs(table.getDouble(row, 8)));
+                case BUS_RESULTS -> null;
+                case THREE_WINDINGS_TRANSFORMER_RESULTS -> row -> Math.max(Math.abs(table.getDouble(row, 4)),
+                        Math.max(Math.abs(table.getDouble(row, 7)), Math.abs(table.getDouble(row, 10))));
+                case LIMIT_VIOLATIONS -> row -> SecurityAnalysisContext.getSeverity(table.getDouble(row, 8), table.getDouble(row, 5), table.getDouble(row, 7));
+            };
+        }
+
+        public ColumnarTable create(SecurityAnalysisResult result) {
+            return switch (this) {
+                case BRANCH_RESULTS -> createBranchResults(result);
+                case BUS_RESULTS -> createBusResults(result);
+                case THREE_WINDINGS_TRANSFORMER_RESULTS -> createThreeWindingsTransformerResults(result);
+                case LIMIT_VIOLATIONS -> createLimitViolations(result);
+            };
+        }
+    }
+
+    private SecurityAnalysisResultTables() {
+    }
+
+    /**
+     * @return indices of the rows of the table selected by the filter
+     */
+    public static int[] selectRows(ColumnarTable table, Table type, ColumnarTableFilter filter) {
+        return filter.selectRows(table, type.getContingencyColumn(), type.getElementColumn(), type.getDefaultMetric(table));
+    }
+
+    /**
+     * @return pre-contingency, post-contingency and operator strategy branch results
+     */
+    public static ColumnarTable createBranchResults(SecurityAnalysisResult result) {
+        ColumnarTable table = new ColumnarTable(BRANCH_RESULTS_COLUMNS);
+        addBranchResults(table, result.getPreContingencyResult().getNetworkResult(), null, null);
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            addBranchResults(table, postContingencyResult.getNetworkResult(), postContingencyResult.getContingency().getId(), null);
+        }
+        for (OperatorStrategyResult operatorStrategyResult : result.getOperatorStrategyResults()) {
+            addBranchResults(table, operatorStrategyResult.getNetworkResult(),
+                    operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
+                    operatorStrategyResult.getOperatorStrategy().getId());
+        }
+        return table;
+    }
+
+    /**
+     * @return pre-contingency, post-contingency and operator strategy bus results
+     */
+    public static ColumnarTable createBusResults(SecurityAnalysisResult result) {
+        ColumnarTable table = new ColumnarTable(BUS_RESULTS_COLUMNS);
+        addBusResults(table, result.getPreContingencyResult().getNetworkResult(), null, null);
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            addBusResults(table, postContingencyResult.getNetworkResult(), postContingencyResult.getContingency().getId(), null);
+        }
+        for (OperatorStrategyResult operatorStrategyResult : result.getOperatorStrategyResults()) {
+            addBusResults(table, operatorStrategyResult.getNetworkResult(),
+                    operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
+                    operatorStrategyResult.getOperatorStrategy().getId());
+        }
+        return table;
+    }
+
+    /**
+     * @return pre-contingency and post-contingency three windings transformer results
+     */
+    public static ColumnarTable createThreeWindingsTransformerResults(SecurityAnalysisResult result) {
+        ColumnarTable table = new ColumnarTable(THREE_WINDINGS_TRANSFORMER_RESULTS_COLUMNS);
+        addThreeWindingsTransformerResults(table, result.getPreContingencyResult().getNetworkResult(), null);
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            addThreeWindingsTransformerResults(table, postContingencyResult.getNetworkResult(), postContingencyResult.getContingency().getId());
+        }
+        return table;
+    }
+
+    /**
+     * @return pre-contingency and post-contingency limit violations, pre-contingency ones with an empty contingency ID
+     */
+    public static ColumnarTable createLimitViolations(SecurityAnalysisResult result) {
+        ColumnarTable table = new ColumnarTable(LIMIT_VIOLATIONS_COLUMNS);
+        addLimitViolations(table, result.getPreContingencyResult().getLimitViolationsResult().getLimitViolations(), "");
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            addLimitViolations(table, postContingencyResult.getLimitViolationsResult().getLimitViolations(),
+                    postContingencyResult.getContingency().getId());
+        }
+        return table;
+    }
+
+    public static void addBranchResults(ColumnarTable table, NetworkResult networkResult, String contingencyId, String operatorStrategyId) {
+        int contingencyCode = table.encode(contingencyId);
+        int operatorStrategyCode = table.encode(operatorStrategyId);
+        for (BranchResult branchResult : networkResult.getBranchResults()) {
+            int row = table.addRow();
+            table.setStringCode(row, 0, contingencyCode);
+            table.setStringCode(row, 1, operatorStrategyCode);
+            table.setString(row, 2, branchResult.getBranchId());
+            table.setDouble(row, 3, branchResult.getP1());
+            table.setDouble(row, 4, branchResult.getQ1());
+            table.setDouble(row, 5, branchResult.getI1());
+            table.setDouble(row, 6, branchResult.getP2());
+            table.setDouble(row, 7, branchResult.getQ2());
+            table.setDouble(row, 8, branchResult.getI2());
+            table.setDouble(row, 9, branchResult.getFlowTransfer());
+        }
+    }
+
+    public static void addBusResults(ColumnarTable table, NetworkResult networkResult, String contingencyId, String operatorStrategyId) {
+        int contingencyCode = table.encode(contingencyId);
+        int operatorStrategyCode = table.encode(operatorStrategyId);
+        for (BusResult busResult : networkResult.getBusResults()) {
+            int row = table.addRow();
+            table.setStringCode(row, 0, contingencyCode);
+            table.setStringCode(row, 1, operatorStrategyCode);
+            table.setString(row, 2, busResult.getVoltageLevelId());
+            table.setString(row, 3, busResult.getBusId());
+            table.setDouble(row, 4, busResult.getV());
+            table.setDouble(row, 5, busResult.getAngle());
+        }
+    }
+
+    public static void addThreeWindingsTransformerResults(ColumnarTable table, NetworkResult networkResult, String contingencyId) {
+        int contingencyCode = table.encode(contingencyId);
+        for (ThreeWindingsTransformerResult result : networkResult.getThreeWindingsTransformerResults()) {
+            int row = table.addRow();
+            table.setStringCode(row, 0, contingencyCode);
+            table.setString(row, 1, result.getThreeWindingsTransformerId());
+            table.setDouble(row, 2, result.getP1());
+            table.setDouble(row, 3, result.getQ1());
+            table.setDouble(row, 4, result.getI1());
+            table.setDouble(row, 5, result.getP2());
+            table.setDouble(row, 6, result.getQ2());
+            table.setDouble(row, 7, result.getI2());
+            table.setDouble(row, 8, result.getP3());
+            table.setDouble(row, 9, result.getQ3());
+            table.setDouble(row, 10, result.getI3());
+        }
+    }
+
+    public static void addLimitViolations(ColumnarTable table, List<LimitViolation> limitViolations, String contingencyId) {
+        int contingencyCode = table.encode(contingencyId);
+        for (LimitViolation limitViolation : limitViolations) {
+            int row = table.addRow();
+            table.setStringCode(row, 0, contingencyCode);
+            table.setString(row, 1, limitViolation.getSubjectId());
+            table.setString(row, 2, Objects.toString(limitViolation.getSubjectName(), ""));
+            table.setString(row, 3, Objects.toString(limitViolation.getLimitType(), ""));
+            table.setString(row, 4, Objects.toString(limitViolation.getLimitName(), ""));
+            table.setDouble(row, 5, limitViolation.getLimit());
+            table.setInt(row, 6, limitViolation.getAcceptableDuration());
+            table.setDouble(row, 7, limitViolation.getLimitReduction());
+            table.setDouble(row, 8, limitViolation.getValue());
+            table.setString(row, 9, Objects.toString(limitViolation.getSide(), ""));
+        }
+    }
+}
@@ -0,0 +1,434 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.results.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.powsybl.dataframe.SeriesMetadata.*;
+
+/**
+ * Security analysis result whose branch, bus, three windings transformer results and limit violations are written
+ * to columnar files as the contingencies are computed, and read back only when requested, so that they never have
+ * to be entirely in memory.
+ * <p>
+ * Only the ID, status and disconnected elements of each state are kept in memory.
+ * <p>
+ * A result imported from a binary archive, see {@link SecurityAnalysisResultArchive}, has no directory and keeps
+ * its tables in memory.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class StoredSecurityAnalysisResult implements Closeable {
+
+    public static final String BRANCH_RESULTS_FILE_NAME = "branch_results.bin";
+
+    public static final String BUS_RESULTS_FILE_NAME = "bus_results.bin";
+
+    public static final String THREE_WINDINGS_TRANSFORMER_RESULTS_FILE_NAME = "three_windings_transformer_results.bin";
+
+    public static final String LIMIT_VIOLATIONS_FILE_NAME = "limit_violations.bin";
+
+    static final int PRE_CONTINGENCY_STATE = 0;
+
+    static final int POST_CONTINGENCY_STATE = 1;
+
+    static final int OPERATOR_STRATEGY_STATE = 2;
+
+    /**
+     * Limit violations of all the states, each one being identified by its kind and by its index in the results of
+     * this kind. Enums are written as their names.
+     */
+    static final List<SeriesMetadata> STATE_LIMIT_VIOLATIONS_COLUMNS = List.of(
+            ints("state_kind"),
+            ints("state_index"),
+            strings("subject_id"),
+            strings("subject_name"),
+            strings("limit_type"),
+            strings("limit_name"),
+            doubles("limit"),
+            ints("acceptable_duration"),
+            doubles("limit_reduction"),
+            doubles("value"),
+            strings("side"));
+
+    /**
+     * Status and disconnected elements of the pre-contingency state, of a contingency or of an operator strategy.
+     * <p>
+     * Disconnected elements are kept in memory, as they are only reported for contingencies which split the network.
+     *
+     * @param id ID of the contingency or of the operator strategy, null for the pre-contingency state
+     * @param status computation status, a {@link com.powsybl.loadflow.LoadFlowResult.ComponentResult.Status} for the
+     *               pre-contingency state, a {@link com.powsybl.security.PostContingencyComputationStatus} otherwise
+     */
+    public record StateResult(String id, Enum<?> status, List<String> disconnectedElements) {
+
+        public static StateResult of(PreContingencyResult result) {
+            return new StateResult(null, result.getStatus(), List.of());
+        }
+
+        public static StateResult of(PostContingencyResult result) {
+            List<String> disconnectedElements = result.getConnectivityResult() == null
+                    ? List.of()
+                    : List.copyOf(result.getConnectivityResult().getDisconnectedElements());
+            return new StateResult(result.getContingency().getId(), result.getStatus(), disconnectedElements);
+        }
+
+        public static StateResult of(OperatorStrategyResult result) {
+            return new StateResult(result.getOperatorStrategy().getId(), result.getStatus(), List.of());
+        }
+    }
+
+    /**
+     * Limit violations of each state, read back from the limit violations table.
+     */
+    public static final class StateLimitViolations {
+
+        private final List<LimitViolation> preContingencyLimitViolations = new ArrayList<>();
+
+        private final List<List<LimitViolation>> postContingencyLimitViolations;
+
+        private final List<List<LimitViolation>> operatorStrategyLimitViolations;
+
+        private StateLimitViolations(ColumnarTable table, int postContingencyCount, int operatorStrategyCount) {
+            postContingencyLimitViolations = createLists(postContingencyCount);
+            operatorStrategyLimitViolations = createLists(operatorStrategyCount);
+            for (int row = 0; row < table.getRowCount(); row++) {
+                int index = table.getInt(row, 1);
+                List<LimitViolation> limitViolations = switch (table.getInt(row, 0)) {
+                    case PRE_CONTINGENCY_STATE -> preContingencyLimitViolations;
+                    case POST_CONTINGENCY_STATE -> postContingencyLimitViolations.get(index);
+                    case OPERATOR_STRATEGY_STATE -> operatorStrategyLimitViolations.get(index);
+                    default -> throw new PowsyblException("Unknown state kind: " + table.getInt(row, 0));
+                };
+                limitViolations.add(readLimitViolation(table, row));
+            }
+        }
+
+        private static List<List<LimitViolation>> createLists(int count) {
+            List<List<LimitViolation>> lists = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                lists.add(new ArrayList<>());
+            }
+            return lists;
+        }
+
+        public List<LimitViolation> getPreContingencyLimitViolations() {
+            return preContingencyLimitViolations;
+        }
+
+        public List<LimitViolation> getPostContingencyLimitViolations(int index) {
+            return postContingencyLimitViolations.get(index);
+        }
+
+        public List<LimitViolation> getOperatorStrategyLimitViolations(int index) {
+            return operatorStrategyLimitViolations.get(index);
+        }
+    }
+
+    /**
+     * Appends the rows of a table to its file, one record batch per call to {@link #flush()}.
+     */
+    private static final class TableWriter implements Closeable {
+
+        private final ColumnarTable buffer;
+
+        private final DataOutputStream out;
+
+        private TableWriter(Path file, List<SeriesMetadata> columns) throws IOException {
+            buffer = new ColumnarTable(columns);
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            buffer.writeHeader(out);
+        }
+
+        private void flush() throws IOException {
+            if (buffer.getRowCount() > 0) {
+                buffer.writeBatch(out);
+                buffer.clear();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (out) {
+                flush();
+                ColumnarTable.writeEnd(out);
+            }
+        }
+    }
+
+    private final Path directory;
+
+    private StateResult preContingencyResult;
+
+    private final List<StateResult> postContingencyResults = new ArrayList<>();
+
+    private final List<StateResult> operatorStrategyResults = new ArrayList<>();
+
+    private TableWriter branchResultsWriter;
+
+    private TableWriter busResultsWriter;
+
+    private TableWriter threeWindingsTransformerResultsWriter;
+
+    private TableWriter limitViolationsWriter;
+
+    private final Map<String, ColumnarTable> loadedTables;
+
+    StoredSecurityAnalysisResult(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+        loadedTables = null;
+        try {
+            Files.createDirectories(directory);
+            branchResultsWriter = new TableWriter(directory.resolve(BRANCH_RESULTS_FILE_NAME), SecurityAnalysisResultTables.BRANCH_RESULTS_COLUMNS);
+            busResultsWriter = new TableWriter(directory.resolve(BUS_RESULTS_FILE_NAME), SecurityAnalysisResultTables.BUS_RESULTS_COLUMNS);
+            threeWindingsTransformerResultsWriter = new TableWriter(directory.resolve(THREE_WINDINGS_TRANSFORMER_RESULTS_FILE_NAME),
+                    SecurityAnalysisResultTables.THREE_WINDINGS_TRANSFORMER_RESULTS_COLUMNS);
+            limitViolationsWriter = new TableWriter(directory.resolve(LIMIT_VIOLATIONS_FILE_NAME), STATE_LIMIT_VIOLATIONS_COLUMNS);
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a result whose tables are already in memory.
+     *
+     * @param limitViolations limit violations of the states, with {@link #STATE_LIMIT_VIOLATIONS_COLUMNS}
+     */
+    StoredSecurityAnalysisResult(StateResult preContingencyResult, List<StateResult> postContingencyResults, List<StateResult> operatorStrategyResults,
+                                 ColumnarTable limitViolations, ColumnarTable branchResults, ColumnarTable busResults,
+                                 ColumnarTable threeWindingsTransformerResults) {
+        directory = null;
+        this.preContingencyResult = preContingencyResult;
+        this.postContingencyResults.addAll(postContingencyResults);
+        this.operatorStrategyResults.addAll(operatorStrategyResults);
+        loadedTables = Map.of(BRANCH_RESULTS_FILE_NAME, branchResults,
+                BUS_RESULTS_FILE_NAME, busResults,
+                THREE_WINDINGS_TRANSFORMER_RESULTS_FILE_NAME, threeWindingsTransformerResults,
+                LIMIT_VIOLATIONS_FILE_NAME, limitViolations);
+    }
+
+    /**
+     * @return the directory of the result files, null if the tables are in memory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private boolean isWriting() {
+        return branchResultsWriter != null;
+    }
+
+    /**
+     * Writes the network results and the limit violations of a partial security analysis result, and keeps its
+     * statuses.
+     *
+     * @param withPreContingencyResult true to also store the pre-contingency state, which has to be done once
+     */
+    void add(SecurityAnalysisResult result, boolean withPreContingencyResult) {
+        if (!isWriting()) {
+            throw new PowsyblException("Security analysis result store is closed");
+        }
+        if (withPreContingencyResult) {
+            preContingencyResult = StateResult.of(result.getPreContingencyResult());
+            addLimitViolations(limitViolationsWriter.buffer, PRE_CONTINGENCY_STATE, 0,
+                    result.getPreContingencyResult().getLimitViolationsResult().getLimitViolations());
+            addNetworkResult(result.getPreContingencyResult().getNetworkResult(), null, null);
+        }
+        for (PostContingencyResult postResult : result.getPostContingencyResults()) {
+            addLimitViolations(limitViolationsWriter.buffer, POST_CONTINGENCY_STATE, postContingencyResults.size(),
+                    postResult.getLimitViolationsResult().getLimitViolations());
+            postContingencyResults.add(StateResult.of(postResult));
+            addNetworkResult(postResult.getNetworkResult(), postResult.getContingency().getId(), null);
+        }
+        for (OperatorStrategyResult strategyResult : result.getOperatorStrategyResults()) {
+            addLimitViolations(limitViolationsWriter.buffer, OPERATOR_STRATEGY_STATE, operatorStrategyResults.size(),
+                    strategyResult.getLimitViolationsResult().getLimitViolations());
+            operatorStrategyResults.add(StateResult.of(strategyResult));
+            addNetworkResult(strategyResult.getNetworkResult(),
+                    strategyResult.getOperatorStrategy().getContingencyContext().getContingencyId(),
+                    strategyResult.getOperatorStrategy().getId());
+        }
+        try {
+            branchResultsWriter.flush();
+            busResultsWriter.flush();
+            threeWindingsTransformerResultsWriter.flush();
+            limitViolationsWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void addNetworkResult(NetworkResult networkResult, String contingencyId, String operatorStrategyId) {
+        SecurityAnalysisResultTables.addBranchResults(branchResultsWriter.buffer, networkResult, contingencyId, operatorStrategyId);
+        SecurityAnalysisResultTables.addBusResults(busResultsWriter.buffer, networkResult, contingencyId, operatorStrategyId);
+        // like in-memory results, three windings transformer results are not reported for operator strategies
+        if (operatorStrategyId == null) {
+            SecurityAnalysisResultTables.addThreeWindingsTransformerResults(threeWindingsTransformerResultsWriter.buffer, networkResult, contingencyId);
+        }
+    }
+
+    /**
+     * Ends the writing of the files, results can only be read once closed.
+     */
+    @Override
+    public void close() {
+        if (!isWriting()) {
+            return;
+        }
+        try (TableWriter w1 = branchResultsWriter; TableWriter w2 = busResultsWriter; TableWriter w3 = threeWindingsTransformerResultsWriter;
+             TableWriter w4 = limitViolationsWriter) {
+            branchResultsWriter = null;
+            busResultsWriter = null;
+            threeWindingsTransformerResultsWriter = null;
+            limitViolationsWriter = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ColumnarTable readTable(String fileName) {
+        if (isWriting()) {
+            throw new PowsyblException("Security analysis results are still being written");
+        }
+        if (loadedTables != null) {
+            return loadedTables.get(fileName);
+        }
+        return ColumnarTable.read(directory.resolve(fileName));
+    }
+
+    public StateResult getPreContingencyResult() {
+        return preContingencyResult;
+    }
+
+    public List<StateResult> getPostContingencyResults() {
+        return Collections.unmodifiableList(postContingencyResults);
+    }
+
+    public List<StateResult> getOperatorStrategyResults() {
+        return Collections.unmodifiableList(operatorStrategyResults);
+    }
+
+    public ColumnarTable getBranchResults() {
+        return readTable(BRANCH_RESULTS_FILE_NAME);
+    }
+
+    public ColumnarTable getBusResults() {
+        return readTable(BUS_RESULTS_FILE_NAME);
+    }
+
+    public ColumnarTable getThreeWindingsTransformerResults() {
+        return readTable(THREE_WINDINGS_TRANSFORMER_RESULTS_FILE_NAME);
+    }
+
+    public ColumnarTable getTable(SecurityAnalysisResultTables.Table table) {
+        return switch (table) {
+            case BRANCH_RESULTS -> getBranchResults();
+            case BUS_RESULTS -> getBusResults();
+            case THREE_WINDINGS_TRANSFORMER_RESULTS -> getThreeWindingsTransformerResults();
+            case LIMIT_VIOLATIONS -> getLimitViolations();
+        };
+    }
+
+    /**
+     * @return limit violations of all the states, with {@link #STATE_LIMIT_VIOLATIONS_COLUMNS}
+     */
+    public ColumnarTable getStateLimitViolationsTable() {
+        return readTable(LIMIT_VIOLATIONS_FILE_NAME);
+    }
+
+    public StateLimitViolations getStateLimitViolations() {
+        return new StateLimitViolations(getStateLimitViolationsTable(), postContingencyResults.size(), operatorStrategyResults.size());
+    }
+
+    /**
+     * @return pre-contingency and post-contingency limit violations, copied column by column from the limit
+     * violations table, string codes being translated once per dictionary entry
+     */
+    public ColumnarTable getLimitViolations() {
+        ColumnarTable stateLimitViolations = getStateLimitViolationsTable();
+        ColumnarTable table = new ColumnarTable(SecurityAnalysisResultTables.LIMIT_VIOLATIONS_COLUMNS);
+        int[] codes = new int[stateLimitViolations.getDictionarySize()];
+        for (int code = 0; code < codes.length; code++) {
+            codes[code] = table.encode(stateLimitViolations.decode(code));
+        }
+        // null strings are written as empty strings, as the pre-contingency state ID
+        int emptyCode = table.encode("");
+        int[] contingencyCodes = new int[postContingencyResults.size()];
+        Arrays.fill(contingencyCodes, ColumnarTable.UNKNOWN_CODE);
+        for (int row = 0; row < stateLimitViolations.getRowCount(); row++) {
+            int kind = stateLimitViolations.getInt(row, 0);
+            if (kind == OPERATOR_STRATEGY_STATE) {
+                continue;
+            }
+            int contingencyCode = emptyCode;
+            if (kind == POST_CONTINGENCY_STATE) {
+                int index = stateLimitViolations.getInt(row, 1);
+                if (contingencyCodes[index] == ColumnarTable.UNKNOWN_CODE) {
+                    contingencyCodes[index] = table.encode(postContingencyResults.get(index).id());
+                }
+                contingencyCode = contingencyCodes[index];
+            }
+            int newRow = table.addRow();
+            table.setStringCode(newRow, 0, contingencyCode);
+            for (int column = 2; column < STATE_LIMIT_VIOLATIONS_COLUMNS.size(); column++) {
+                int newColumn = column - 1;
+                switch (STATE_LIMIT_VIOLATIONS_COLUMNS.get(column).getType()) {
+                    case STRING -> {
+                        int code = stateLimitViolations.getStringCode(row, column);
+                        table.setStringCode(newRow, newColumn, code == ColumnarTable.NULL_CODE ? emptyCode : codes[code]);
+                    }
+                    case INT -> table.setInt(newRow, newColumn, stateLimitViolations.getInt(row, column));
+                    default -> table.setDouble(newRow, newColumn, stateLimitViolations.getDouble(row, column));
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Adds the limit violations of a state to a table with {@link #STATE_LIMIT_VIOLATIONS_COLUMNS}.
+     *
+     * @param index index of the state in the results of its kind
+     */
+    static void addLimitViolations(ColumnarTable table, int kind, int index, List<LimitViolation> limitViolations) {
+        for (LimitViolation limitViolation : limitViolations) {
+            int row = table.addRow();
+            table.setInt(row, 0, kind);
+            table.setInt(row, 1, index);
+            table.setString(row, 2, limitViolation.getSubjectId());
+            table.setString(row, 3, limitViolation.getSubjectName());
+            table.setString(row, 4, limitViolation.getLimitType().name());
+            table.setString(row, 5, limitViolation.getLimitName());
+            table.setDouble(row, 6, limitViolation.getLimit());
+            table.setInt(row, 7, limitViolation.getAcceptableDuration());
+            table.setDouble(row, 8, limitViolation.getLimitReduction());
+            table.setDouble(row, 9, limitViolation.getValue());
+            table.setString(row, 10, limitViolation.getSide() != null ? limitViolation.getSide().name() : null);
+        }
+    }
+
+    private static LimitViolation readLimitViolation(ColumnarTable table, int row) {
+        String side = table.getString(row, 10);
+        return new LimitViolation(table.getString(row, 2), table.getString(row, 3),
+                LimitViolationType.valueOf(table.getString(row, 4)), table.getString(row, 5), table.getInt(row, 7),
+                table.getDouble(row, 6), table.getDouble(row, 8), table.getDouble(row, 9),
+                side == null ? null : ThreeSides.valueOf(side));
+    }
+}
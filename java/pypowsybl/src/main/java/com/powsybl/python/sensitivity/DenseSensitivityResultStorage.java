@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+/**
+ * Stores all the values in on-heap arrays, allocated before the run.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class DenseSensitivityResultStorage implements SensitivityResultStorage {
+
+    private final double[] baseCaseValues;
+
+    private final double[][] valuesByContingencyIndex;
+
+    private final double[] baseCaseReferences;
+
+    private final double[][] referencesByContingencyIndex;
+
+    DenseSensitivityResultStorage(int contingencyCount, int valueCount, int referenceCount) {
+        baseCaseValues = new double[valueCount];
+        valuesByContingencyIndex = new double[contingencyCount][valueCount];
+        baseCaseReferences = new double[referenceCount];
+        referencesByContingencyIndex = new double[contingencyCount][referenceCount];
+    }
+
+    private double[] getValues(int contingencyIndex) {
+        return contingencyIndex == BASE_CASE ? baseCaseValues : valuesByContingencyIndex[contingencyIndex];
+    }
+
+    private double[] getReferences(int contingencyIndex) {
+        return contingencyIndex == BASE_CASE ? baseCaseReferences : referencesByContingencyIndex[contingencyIndex];
+    }
+
+    @Override
+    public void writeValue(int contingencyIndex, int factorIndex, double value) {
+        getValues(contingencyIndex)[factorIndex] = value;
+    }
+
+    @Override
+    public void writeReference(int contingencyIndex, int columnIndex, double reference) {
+        getReferences(contingencyIndex)[columnIndex] = reference;
+    }
+
+    @Override
+    public void readValues(int contingencyIndex, int offset, double[] values) {
+        System.arraycopy(getValues(contingencyIndex), offset, values, 0, values.length);
+    }
+
+    @Override
+    public void readReferences(int contingencyIndex, int offset, double[] references) {
+        System.arraycopy(getReferences(contingencyIndex), offset, references, 0, references.length);
+    }
+}
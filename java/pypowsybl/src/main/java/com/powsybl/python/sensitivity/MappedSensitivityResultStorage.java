@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Stores the values off-heap, in a memory-mapped file, so that results larger than the heap (or than the memory)
+ * can be computed and then read without any copy by other processes.
+ * <p>
+ * The file is a raw array of little endian doubles, without any header:
+ * <ul>
+ *     <li>sensitivity values, laid out as [state][matrix][row][column]</li>
+ *     <li>followed by function references, laid out as [state][matrix][column]</li>
+ * </ul>
+ * State 0 is the base case, state i + 1 the contingency of index i.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class MappedSensitivityResultStorage implements SensitivityResultStorage {
+
+    /**
+     * Maximum size of one mapping, a mapped buffer being limited to 2 GB.
+     */
+    private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    /**
+     * Part of the file made of one array of doubles per state, split into several mapped chunks of whole states.
+     */
+    private static final class MappedRegion {
+
+        private final int stateDoubleCount;
+
+        private final int statesPerChunk;
+
+        private final DoubleBuffer[] chunks;
+
+        private MappedRegion(FileChannel channel, long position, int stateCount, int stateDoubleCount) throws IOException {
+            this.stateDoubleCount = stateDoubleCount;
+            long stateBytes = (long) stateDoubleCount * Double.BYTES;
+            if (stateBytes > MAX_CHUNK_BYTES) {
+                throw new PowsyblException("Too many sensitivity values per state to be memory mapped: " + stateDoubleCount);
+            }
+            statesPerChunk = stateBytes == 0 ? stateCount : (int) Math.min(stateCount, MAX_CHUNK_BYTES / stateBytes);
+            int chunkCount = statesPerChunk == 0 ? 0 : (stateCount + statesPerChunk - 1) / statesPerChunk;
+            chunks = new DoubleBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                int chunkStateCount = Math.min(statesPerChunk, stateCount - i * statesPerChunk);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, position + i * statesPerChunk * stateBytes, chunkStateCount * stateBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+            }
+        }
+
+        private DoubleBuffer getChunk(int stateNum) {
+            return chunks[stateNum / statesPerChunk];
+        }
+
+        private int getIndex(int stateNum, int index) {
+            return (stateNum % statesPerChunk) * stateDoubleCount + index;
+        }
+
+        void write(int stateNum, int index, double value) {
+            // absolute put does not modify the buffer position, so concurrent writes are safe
+            getChunk(stateNum).put(getIndex(stateNum, index), value);
+        }
+
+        void read(int stateNum, int offset, double[] dest) {
+            getChunk(stateNum).get(getIndex(stateNum, offset), dest, 0, dest.length);
+        }
+    }
+
+    private final Path file;
+
+    private final MappedRegion values;
+
+    private final MappedRegion references;
+
+    MappedSensitivityResultStorage(Path file, int contingencyCount, int valueCount, int referenceCount) {
+        this.file = Objects.requireNonNull(file);
+        int stateCount = contingencyCount + 1;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                   StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // mappings stay valid once the channel is closed
+            values = new MappedRegion(channel, 0, stateCount, valueCount);
+            references = new MappedRegion(channel, (long) stateCount * valueCount * Double.BYTES, stateCount, referenceCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private static int getStateNum(int contingencyIndex) {
+        return contingencyIndex + 1;
+    }
+
+    @Override
+    public void writeValue(int contingencyIndex, int factorIndex, double value) {
+        values.write(getStateNum(contingencyIndex), factorIndex, value);
+    }
+
+    @Override
+    public void writeReference(int contingencyIndex, int columnIndex, double reference) {
+        references.write(getStateNum(contingencyIndex), columnIndex, reference);
+    }
+
+    @Override
+    public void readValues(int contingencyIndex, int offset, double[] values) {
+        this.values.read(getStateNum(contingencyIndex), offset, values);
+    }
+
+    @Override
+    public void readReferences(int contingencyIndex, int offset, double[] references) {
+        this.references.read(getStateNum(contingencyIndex), offset, references);
+    }
+}
@@ -9,14 +9,18 @@ package com.powsybl.python.sensitivity;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.dataframe.DataframeMapper;
+import com.powsybl.dataframe.DataframeMapperBuilder;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.python.commons.*;
 import com.powsybl.python.commons.PyPowsyblApiHeader.ArrayPointer;
 import com.powsybl.python.commons.PyPowsyblApiHeader.ExceptionHandlerPointer;
 import com.powsybl.python.commons.PyPowsyblApiHeader.SensitivityAnalysisParametersPointer;
+import com.powsybl.python.commons.PyPowsyblApiHeader.SeriesPointer;
 import com.powsybl.python.commons.Util.PointerProvider;
 import com.powsybl.python.loadflow.LoadFlowCFunctions;
 import com.powsybl.python.loadflow.LoadFlowCUtils;
+import com.powsybl.python.network.Dataframes;
 import com.powsybl.python.report.ReportCUtils;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityAnalysisProvider;
@@ -28,14 +32,20 @@ import org.graalvm.nativeimage.ObjectHandles;
 import org.graalvm.nativeimage.UnmanagedMemory;
 import org.graalvm.nativeimage.c.CContext;
 import org.graalvm.nativeimage.c.function.CEntryPoint;
+import org.graalvm.nativeimage.c.function.CFunctionPointer;
+import org.graalvm.nativeimage.c.function.InvokeCFunctionPointer;
 import org.graalvm.nativeimage.c.struct.SizeOf;
 import org.graalvm.nativeimage.c.type.CCharPointer;
 import org.graalvm.nativeimage.c.type.CCharPointerPointer;
+import org.graalvm.nativeimage.c.type.VoidPointer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 import static com.powsybl.python.commons.CTypeUtil.toStringList;
@@ -50,6 +60,15 @@ import static com.powsybl.python.commons.Util.*;
 @CContext(Directives.class)
 public final class SensitivityAnalysisCFunctions {
 
+    private static final DataframeMapper<SensitivityAnalysisResultContext, Void> MATRICES_LAYOUT_MAPPER = new DataframeMapperBuilder<SensitivityAnalysisResultContext, SensitivityAnalysisResultContext.MatrixLayout, Void>()
+            .itemsProvider(SensitivityAnalysisResultContext::getMatricesLayout)
+            .stringsIndex("matrix_id", SensitivityAnalysisResultContext.MatrixLayout::matrixId)
+            .ints("value_offset", SensitivityAnalysisResultContext.MatrixLayout::valueOffset)
+            .ints("reference_offset", SensitivityAnalysisResultContext.MatrixLayout::referenceOffset)
+            .ints("row_count", SensitivityAnalysisResultContext.MatrixLayout::rowCount)
+            .ints("column_count", SensitivityAnalysisResultContext.MatrixLayout::columnCount)
+            .build();
+
     private SensitivityAnalysisCFunctions() {
     }
 
@@ -147,6 +166,67 @@ public final class SensitivityAnalysisCFunctions {
         });
     }
 
+    @CEntryPoint(name = "setSensitivityAnalysisSparseResults")
+    public static void setSensitivityAnalysisSparseResults(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                           double threshold, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                analysisContext.setSparseResultsThreshold(threshold);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSensitivityAnalysisContingencyChunkCount")
+    public static void setSensitivityAnalysisContingencyChunkCount(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                                   int chunkCount, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                analysisContext.setContingencyChunkCount(chunkCount);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSensitivityAnalysisSessionEnabled")
+    public static void setSensitivityAnalysisSessionEnabled(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                            boolean sessionEnabled, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                analysisContext.setSessionEnabled(sessionEnabled);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSensitivityAnalysisUnmanagedResults")
+    public static void setSensitivityAnalysisUnmanagedResults(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                              boolean unmanagedResults, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                analysisContext.setUnmanagedResults(unmanagedResults);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "setSensitivityAnalysisResultsFile")
+    public static void setSensitivityAnalysisResultsFile(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                         CCharPointer resultsFile, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                String resultsFileStr = CTypeUtil.toString(resultsFile);
+                analysisContext.setResultsFile(resultsFileStr.isEmpty() ? null : Paths.get(resultsFileStr));
+            }
+        });
+    }
+
     @CEntryPoint(name = "runSensitivityAnalysis")
     public static ObjectHandle runSensitivityAnalysis(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
                                                       ObjectHandle networkHandle, SensitivityAnalysisParametersPointer sensitivityAnalysisParametersPtr,
@@ -167,6 +247,49 @@ public final class SensitivityAnalysisCFunctions {
         });
     }
 
+    public interface SensitivityMatrixCallback extends CFunctionPointer {
+        /**
+         * @return 0 to stop the sensitivity analysis, non zero to continue
+         */
+        @InvokeCFunctionPointer
+        int invoke(CCharPointer contingencyId, CCharPointer matrixId, PyPowsyblApiHeader.MatrixPointer values,
+                   PyPowsyblApiHeader.MatrixPointer references, VoidPointer callbackData);
+    }
+
+    @CEntryPoint(name = "runSensitivityAnalysisStreaming")
+    public static boolean runSensitivityAnalysisStreaming(IsolateThread thread, ObjectHandle sensitivityAnalysisContextHandle,
+                                                          ObjectHandle networkHandle, SensitivityAnalysisParametersPointer sensitivityAnalysisParametersPtr,
+                                                          CCharPointer providerName, ObjectHandle reportNodeHandle,
+                                                          SensitivityMatrixCallback matrixCallback, VoidPointer callbackData,
+                                                          ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new BooleanSupplier() {
+            @Override
+            public boolean getAsBoolean() {
+                SensitivityAnalysisContext analysisContext = ObjectHandles.getGlobal().get(sensitivityAnalysisContextHandle);
+                Network network = ObjectHandles.getGlobal().get(networkHandle);
+                SensitivityAnalysisProvider provider = SensitivityAnalysisCUtils.getSensitivityAnalysisProvider(CTypeUtil.toString(providerName));
+                logger().info("Sensitivity analysis provider used for sensitivity analysis is : {}", provider.getName());
+                SensitivityAnalysisParameters sensitivityAnalysisParameters = SensitivityAnalysisCUtils.createSensitivityAnalysisParameters(sensitivityAnalysisParametersPtr, provider);
+                ReportNode reportNode = ReportCUtils.getReportNode(reportNodeHandle);
+                return analysisContext.runStreaming(network, sensitivityAnalysisParameters, provider.getName(), reportNode,
+                    (contingencyId, matrixId, matrix, values, references) -> {
+                        CCharPointer contingencyIdPtr = CTypeUtil.toCharPtr(contingencyId == null ? "" : contingencyId);
+                        CCharPointer matrixIdPtr = CTypeUtil.toCharPtr(matrixId);
+                        PyPowsyblApiHeader.MatrixPointer valuesPtr = Util.createDoubleMatrix(values, matrix.getRowCount(), matrix.getColumnCount());
+                        PyPowsyblApiHeader.MatrixPointer referencesPtr = Util.createDoubleMatrix(references, 1, matrix.getColumnCount());
+                        try {
+                            return matrixCallback.invoke(contingencyIdPtr, matrixIdPtr, valuesPtr, referencesPtr, callbackData) != 0;
+                        } finally {
+                            UnmanagedMemory.free(contingencyIdPtr);
+                            UnmanagedMemory.free(matrixIdPtr);
+                            freeMatrix(valuesPtr);
+                            freeMatrix(referencesPtr);
+                        }
+                    });
+            }
+        });
+    }
+
     @CEntryPoint(name = "getSensitivityMatrix")
     public static PyPowsyblApiHeader.MatrixPointer getSensitivityMatrix(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
                                                                         CCharPointer matrixIdPtr, CCharPointer contingencyIdPtr,
@@ -197,6 +320,78 @@ public final class SensitivityAnalysisCFunctions {
         });
     }
 
+    @CEntryPoint(name = "getSensitivityMatrices")
+    public static PyPowsyblApiHeader.MatrixPointer getSensitivityMatrices(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                                          CCharPointer matrixIdPtr, ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public PyPowsyblApiHeader.MatrixPointer get() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                return resultContext.createSensitivityMatrices(CTypeUtil.toString(matrixIdPtr));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getReferenceMatrices")
+    public static PyPowsyblApiHeader.MatrixPointer getReferenceMatrices(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                                        CCharPointer matrixIdPtr, ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public PyPowsyblApiHeader.MatrixPointer get() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                return resultContext.createReferenceMatrices(CTypeUtil.toString(matrixIdPtr));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "freeSensitivityResultMatrix")
+    public static void freeSensitivityResultMatrix(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                   PyPowsyblApiHeader.MatrixPointer matrixPtr, ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                resultContext.freeMatrix(matrixPtr);
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getSensitivityResultsFile")
+    public static CCharPointer getSensitivityResultsFile(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                         ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public CCharPointer get() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                return CTypeUtil.toCharPtr(resultContext.getResultsFile().map(Path::toString).orElse(""));
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getSensitivityResultsContingencyIds")
+    public static ArrayPointer<CCharPointerPointer> getSensitivityResultsContingencyIds(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                                                        ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<CCharPointerPointer> get() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                return createCharPtrArray(resultContext.getContingencyIds());
+            }
+        });
+    }
+
+    @CEntryPoint(name = "getSensitivityResultsMatricesLayout")
+    public static ArrayPointer<SeriesPointer> getSensitivityResultsMatricesLayout(IsolateThread thread, ObjectHandle sensitivityAnalysisResultContextHandle,
+                                                                                  ExceptionHandlerPointer exceptionHandlerPtr) {
+        return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
+            @Override
+            public ArrayPointer<SeriesPointer> get() {
+                SensitivityAnalysisResultContext resultContext = ObjectHandles.getGlobal().get(sensitivityAnalysisResultContextHandle);
+                return Dataframes.createCDataframe(MATRICES_LAYOUT_MAPPER, resultContext);
+            }
+        });
+    }
+
     public static SensitivityAnalysisProvider getProvider(String name) {
         String actualName = name.isEmpty() ? PyPowsyblConfiguration.getDefaultSensitivityAnalysisProvider() : name;
         return SensitivityAnalysisProvider.findAll().stream()
@@ -224,14 +419,18 @@ public final class SensitivityAnalysisCFunctions {
         doCatch(exceptionHandlerPtr, new Runnable() {
             @Override
             public void run() {
-                if (matrixPtr.isNonNull()) {
-                    UnmanagedMemory.free(matrixPtr.getValues());
-                    UnmanagedMemory.free(matrixPtr);
-                }
+                freeMatrix(matrixPtr);
             }
         });
     }
 
+    private static void freeMatrix(PyPowsyblApiHeader.MatrixPointer matrixPtr) {
+        if (matrixPtr.isNonNull()) {
+            UnmanagedMemory.free(matrixPtr.getValues());
+            UnmanagedMemory.free(matrixPtr);
+        }
+    }
+
     @CEntryPoint(name = "createSensitivityAnalysisParameters")
     public static SensitivityAnalysisParametersPointer createSensitivityAnalysisParameters(IsolateThread thread, ExceptionHandlerPointer exceptionHandlerPtr) {
         return doCatch(exceptionHandlerPtr, new PointerProvider<>() {
@@ -14,9 +14,13 @@ import com.powsybl.contingency.ContingencyContext;
 import com.powsybl.contingency.ContingencyContextType;
 import com.powsybl.iidm.network.*;
 import com.powsybl.python.commons.CommonObjects;
+import com.powsybl.python.commons.VariantPartitionRunner;
+import com.powsybl.python.contingency.CompiledContingencyList;
 import com.powsybl.python.contingency.ContingencyContainerImpl;
+import com.powsybl.python.network.NetworkUtil;
 import com.powsybl.sensitivity.*;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -27,6 +31,18 @@ class SensitivityAnalysisContext extends ContingencyContainerImpl {
 
     private List<SensitivityVariableSet> variableSets = Collections.emptyList();
 
+    private double sparseResultsThreshold = Double.NaN;
+
+    private Path resultsFile;
+
+    private boolean unmanagedResults = false;
+
+    private int contingencyChunkCount = 1;
+
+    private boolean sessionEnabled = false;
+
+    private SensitivityAnalysisSession session;
+
     public static class MatrixInfo {
         private final ContingencyContextType contingencyContextType;
 
@@ -113,10 +129,95 @@ class SensitivityAnalysisContext extends ContingencyContainerImpl {
         }
         MatrixInfo info = new MatrixInfo(contingencyContextType, sensitivityFunctionType, sensitivityVariableType, branchesIds, variablesIds, contingencies);
         factorsMatrix.put(matrixId, info);
+        session = null;
     }
 
     public void setVariableSets(List<SensitivityVariableSet> variableSets) {
         this.variableSets = Objects.requireNonNull(variableSets);
+        session = null;
+    }
+
+    @Override
+    public void addContingency(String contingencyId, List<String> elementIds) {
+        super.addContingency(contingencyId, elementIds);
+        session = null;
+    }
+
+    @Override
+    public void addContingencyFromJsonFile(Path pathToJsonFile) {
+        super.addContingencyFromJsonFile(pathToJsonFile);
+        session = null;
+    }
+
+    @Override
+    public void addContingencyList(CompiledContingencyList contingencyList) {
+        super.addContingencyList(contingencyList);
+        session = null;
+    }
+
+    /**
+     * Keep contingencies and resolved factors between runs, as long as the network and its topology do not
+     * change. Contingency files and lists are then only read by the first run.
+     */
+    public void setSessionEnabled(boolean sessionEnabled) {
+        this.sessionEnabled = sessionEnabled;
+        session = null;
+    }
+
+    /**
+     * Only keep sensitivity values whose absolute value is greater or equal to the threshold, other values are
+     * read as zero. A NaN threshold goes back to dense storage of all the values.
+     */
+    public void setSparseResultsThreshold(double sparseResultsThreshold) {
+        if (sparseResultsThreshold < 0) {
+            throw new PowsyblException("Sparse results threshold has to be positive: " + sparseResultsThreshold);
+        }
+        this.sparseResultsThreshold = sparseResultsThreshold;
+    }
+
+    /**
+     * Store sensitivity values and references in a memory-mapped file instead of the heap, null to go back to
+     * heap storage.
+     */
+    public void setResultsFile(Path resultsFile) {
+        this.resultsFile = resultsFile;
+    }
+
+    /**
+     * Store sensitivity values and references in unmanaged memory, so that matrices can be returned without copy.
+     */
+    public void setUnmanagedResults(boolean unmanagedResults) {
+        this.unmanagedResults = unmanagedResults;
+    }
+
+    /**
+     * Split the contingencies into chunks that are computed concurrently, each on its own copy of the working
+     * variant, 1 to run all the contingencies at once.
+     */
+    public void setContingencyChunkCount(int contingencyChunkCount) {
+        if (contingencyChunkCount < 1) {
+            throw new PowsyblException("Contingency chunk count has to be strictly positive: " + contingencyChunkCount);
+        }
+        this.contingencyChunkCount = contingencyChunkCount;
+    }
+
+    private SensitivityResultStorage createResultStorage(List<MatrixInfo> matrices, int contingencyCount, int valueCount, int referenceCount) {
+        if (unmanagedResults) {
+            if (resultsFile != null || !Double.isNaN(sparseResultsThreshold)) {
+                throw new PowsyblException("Unmanaged results cannot be sparse or stored in a memory-mapped file");
+            }
+            return new UnmanagedSensitivityResultStorage(matrices, contingencyCount, valueCount, referenceCount);
+        }
+        if (resultsFile != null) {
+            if (!Double.isNaN(sparseResultsThreshold)) {
+                throw new PowsyblException("Sparse results cannot be stored in a memory-mapped file");
+            }
+            return new MappedSensitivityResultStorage(resultsFile, contingencyCount, valueCount, referenceCount);
+        }
+        if (Double.isNaN(sparseResultsThreshold)) {
+            return new DenseSensitivityResultStorage(contingencyCount, valueCount, referenceCount);
+        }
+        return new SparseSensitivityResultStorage(contingencyCount, referenceCount, sparseResultsThreshold);
     }
 
     List<MatrixInfo> prepareMatrices() {
@@ -180,92 +281,295 @@ class SensitivityAnalysisContext extends ContingencyContainerImpl {
         }
     }
 
-    SensitivityAnalysisResultContext run(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider, ReportNode reportNode) {
+    /**
+     * @return contingencies and factors of the run, from the session if it is still valid for the network
+     */
+    SensitivityAnalysisSession getSession(Network network) {
+        long topologyHash = sessionEnabled ? NetworkUtil.computeTopologyHash(network) : 0;
+        long contingencyListsModificationCount = getContingencyListsModificationCount();
+        if (session != null && session.isValidFor(network, topologyHash, contingencyListsModificationCount)) {
+            return session;
+        }
         List<Contingency> contingencies = createContingencies(network);
-
         List<MatrixInfo> matrices = prepareMatrices();
+        SensitivityAnalysisSession newSession = new SensitivityAnalysisSession(network, topologyHash, contingencyListsModificationCount, contingencies, matrices,
+                prepareFactors(network, matrices));
+        if (sessionEnabled) {
+            session = newSession;
+        }
+        return newSession;
+    }
+
+    SensitivityAnalysisResultContext run(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider, ReportNode reportNode) {
+        SensitivityAnalysisSession runSession = getSession(network);
+        List<Contingency> contingencies = runSession.getContingencies();
+        List<MatrixInfo> matrices = runSession.getMatrices();
+
+        SensitivityResultStorage storage = createResultStorage(matrices, contingencies.size(), getTotalNumberOfMatrixFactors(matrices),
+                getTotalNumberOfMatrixFactorsColumns(matrices));
+
+        try {
+            run(network, sensitivityAnalysisParameters, provider, reportNode, runSession, storage);
+        } catch (RuntimeException e) {
+            if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+                unmanagedStorage.free();
+            }
+            throw e;
+        }
 
-        Map<String, SensitivityVariableSet> variableSetsById = variableSets.stream().collect(Collectors.toMap(SensitivityVariableSet::getId, e -> e));
+        List<String> contingencyIds = contingencies.stream().map(Contingency::getId).toList();
+        return new SensitivityAnalysisResultContext(factorsMatrix, contingencyIds, storage);
+    }
 
-        SensitivityFactorReader factorReader = handler -> {
+    /**
+     * Run the sensitivity analysis, handing the matrices of each state to the consumer as soon as the state is
+     * computed instead of keeping them.
+     *
+     * @return false if the consumer has stopped the analysis, true otherwise
+     */
+    boolean runStreaming(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider, ReportNode reportNode,
+                         StreamingSensitivityResultStorage.MatrixConsumer consumer) {
+        SensitivityAnalysisSession runSession = getSession(network);
+        List<Contingency> contingencies = runSession.getContingencies();
+
+        List<String> contingencyIds = contingencies.stream().map(Contingency::getId).toList();
+        SensitivityResultStorage storage = new StreamingSensitivityResultStorage(factorsMatrix, contingencyIds, consumer);
+
+        try {
+            run(network, sensitivityAnalysisParameters, provider, reportNode, runSession, storage);
+        } catch (RuntimeException e) {
+            if (StreamingSensitivityResultStorage.isStopped(e)) {
+                return false;
+            }
+            throw e;
+        }
+        return true;
+    }
 
-            for (MatrixInfo matrix : matrices) {
-                List<String> columns = matrix.getColumnIds();
-                List<String> rows = matrix.getRowIds();
-                List<ContingencyContext> contingencyContexts = new ArrayList<>();
-                if (matrix.getContingencyContextType() == ContingencyContextType.ALL) {
-                    contingencyContexts.add(ContingencyContext.all());
-                } else if (matrix.getContingencyContextType() == ContingencyContextType.NONE) {
-                    contingencyContexts.add(ContingencyContext.none());
-                } else {
-                    for (String c : matrix.getContingencyIds()) {
-                        contingencyContexts.add(ContingencyContext.specificContingency(c));
+    /**
+     * Factors of all the matrices, with everything that depends on the network resolved once per row or column, and
+     * the position of each factor results in the storage.
+     */
+    static final class PreparedFactors {
+
+        private final List<PreparedMatrix> matrices;
+
+        /**
+         * Index of the value of each factor in the storage.
+         */
+        private final int[] valueIndices;
+
+        /**
+         * Index of the function reference of each factor in the storage.
+         */
+        private final int[] columnIndices;
+
+        private PreparedFactors(List<PreparedMatrix> matrices) {
+            this.matrices = matrices;
+            int factorCount = 0;
+            for (PreparedMatrix matrix : matrices) {
+                factorCount += matrix.getFactorCount();
+            }
+            valueIndices = new int[factorCount];
+            columnIndices = new int[factorCount];
+            // same order as the factors read by the provider
+            int factorIndex = 0;
+            for (PreparedMatrix preparedMatrix : matrices) {
+                MatrixInfo matrix = preparedMatrix.matrix;
+                for (int row = 0; row < matrix.getRowCount(); row++) {
+                    for (int column = 0; column < matrix.getColumnCount(); column++) {
+                        for (int i = 0; i < preparedMatrix.contingencyContexts.size(); i++) {
+                            valueIndices[factorIndex] = matrix.getOffsetData() + row * matrix.getColumnCount() + column;
+                            columnIndices[factorIndex] = matrix.getOffsetColumn() + column;
+                            factorIndex++;
+                        }
                     }
                 }
+            }
+        }
 
-                for (String variableId : rows) {
-                    for (String functionId : columns) {
-                        SensitivityVariableType variableType = matrix.getVariableType();
-                        boolean variableSet = false;
-                        if (variableType == null) {
-                            variableType = getVariableType(network, variableId);
-                            if (variableType == null) {
-                                if (variableSetsById.containsKey(variableId)) {
-                                    variableSet = true;
-                                    variableType = SensitivityVariableType.INJECTION_ACTIVE_POWER;
-                                } else {
-                                    throw new PowsyblException("Variable '" + variableId + "' not found");
-                                }
-                            }
-                        }
-                        for (ContingencyContext cCtx : contingencyContexts) {
-                            SensitivityFunctionType functionType = matrix.getFunctionType();
-                            String finalFunctionId = SensitivityFactor.resolveBusId(functionId, matrix.getFunctionType(), network);
-                            handler.onFactor(functionType, finalFunctionId, variableType, variableId, variableSet, cCtx);
+        int getValueIndex(int factorIndex) {
+            return valueIndices[factorIndex];
+        }
+
+        int getColumnIndex(int factorIndex) {
+            return columnIndices[factorIndex];
+        }
+
+        void read(SensitivityFactorReader.Handler handler) {
+            for (PreparedMatrix preparedMatrix : matrices) {
+                MatrixInfo matrix = preparedMatrix.matrix;
+                for (int row = 0; row < matrix.getRowCount(); row++) {
+                    String variableId = matrix.getRowIds().get(row);
+                    for (String functionId : preparedMatrix.functionIds) {
+                        for (ContingencyContext contingencyContext : preparedMatrix.contingencyContexts) {
+                            handler.onFactor(matrix.getFunctionType(), functionId, preparedMatrix.variableTypes[row], variableId,
+                                    preparedMatrix.variableSets[row], contingencyContext);
                         }
                     }
                 }
             }
-        };
+        }
+    }
+
+    private static final class PreparedMatrix {
+
+        private final MatrixInfo matrix;
 
-        int baseCaseValueSize = getTotalNumberOfMatrixFactors(matrices);
-        double[] baseCaseValues = new double[baseCaseValueSize];
-        double[][] valuesByContingencyIndex = new double[contingencies.size()][baseCaseValueSize];
+        private final List<ContingencyContext> contingencyContexts;
 
-        int totalColumnsCount = getTotalNumberOfMatrixFactorsColumns(matrices);
-        double[] baseCaseReferences = new double[totalColumnsCount];
-        double[][] referencesByContingencyIndex = new double[contingencies.size()][totalColumnsCount];
+        private final String[] functionIds;
 
-        NavigableMap<Integer, MatrixInfo> factorIndexMatrixMap = new TreeMap<>();
-        for (MatrixInfo m : matrices) {
-            factorIndexMatrixMap.put(m.getOffsetData(), m);
+        private final SensitivityVariableType[] variableTypes;
+
+        private final boolean[] variableSets;
+
+        private PreparedMatrix(MatrixInfo matrix, List<ContingencyContext> contingencyContexts, String[] functionIds,
+                               SensitivityVariableType[] variableTypes, boolean[] variableSets) {
+            this.matrix = matrix;
+            this.contingencyContexts = contingencyContexts;
+            this.functionIds = functionIds;
+            this.variableTypes = variableTypes;
+            this.variableSets = variableSets;
         }
 
+        private int getFactorCount() {
+            return matrix.getRowCount() * matrix.getColumnCount() * contingencyContexts.size();
+        }
+    }
+
+    PreparedFactors prepareFactors(Network network, List<MatrixInfo> matrices) {
+        return prepareFactors(network, matrices, null, true);
+    }
+
+    /**
+     * @param contingencyIds contingencies of the run, factors of other contingencies are skipped, null for all
+     * @param withPreContingencyMatrices false to skip the matrices that are only computed on the base case
+     */
+    PreparedFactors prepareFactors(Network network, List<MatrixInfo> matrices, Set<String> contingencyIds,
+                                   boolean withPreContingencyMatrices) {
+        Set<String> variableSetIds = variableSets.stream().map(SensitivityVariableSet::getId).collect(Collectors.toSet());
+        List<PreparedMatrix> preparedMatrices = new ArrayList<>(matrices.size());
+        for (MatrixInfo matrix : matrices) {
+            List<ContingencyContext> contingencyContexts = new ArrayList<>();
+            if (matrix.getContingencyContextType() == ContingencyContextType.ALL) {
+                contingencyContexts.add(ContingencyContext.all());
+            } else if (matrix.getContingencyContextType() == ContingencyContextType.NONE) {
+                if (!withPreContingencyMatrices) {
+                    continue;
+                }
+                contingencyContexts.add(ContingencyContext.none());
+            } else {
+                for (String c : matrix.getContingencyIds()) {
+                    if (contingencyIds == null || contingencyIds.contains(c)) {
+                        contingencyContexts.add(ContingencyContext.specificContingency(c));
+                    }
+                }
+            }
+
+            String[] functionIds = new String[matrix.getColumnCount()];
+            for (int column = 0; column < matrix.getColumnCount(); column++) {
+                functionIds[column] = SensitivityFactor.resolveBusId(matrix.getColumnIds().get(column), matrix.getFunctionType(), network);
+            }
+
+            SensitivityVariableType[] variableTypes = new SensitivityVariableType[matrix.getRowCount()];
+            boolean[] variableSetFlags = new boolean[matrix.getRowCount()];
+            for (int row = 0; row < matrix.getRowCount(); row++) {
+                String variableId = matrix.getRowIds().get(row);
+                SensitivityVariableType variableType = matrix.getVariableType();
+                if (variableType == null) {
+                    variableType = getVariableType(network, variableId);
+                    if (variableType == null) {
+                        if (variableSetIds.contains(variableId)) {
+                            variableSetFlags[row] = true;
+                            variableType = SensitivityVariableType.INJECTION_ACTIVE_POWER;
+                        } else {
+                            throw new PowsyblException("Variable '" + variableId + "' not found");
+                        }
+                    }
+                }
+                variableTypes[row] = variableType;
+            }
+
+            preparedMatrices.add(new PreparedMatrix(matrix, contingencyContexts, functionIds, variableTypes, variableSetFlags));
+        }
+        return new PreparedFactors(preparedMatrices);
+    }
+
+    private void run(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider, ReportNode reportNode,
+                     SensitivityAnalysisSession runSession, SensitivityResultStorage storage) {
+        List<Contingency> contingencies = runSession.getContingencies();
+        int chunkCount = Math.min(contingencyChunkCount, contingencies.size());
+        if (chunkCount > 1) {
+            runChunks(network, sensitivityAnalysisParameters, provider, reportNode, contingencies, runSession.getMatrices(), storage, chunkCount);
+        } else {
+            runChunk(network, network.getVariantManager().getWorkingVariantId(), sensitivityAnalysisParameters, provider,
+                    reportNode, contingencies, 0, runSession.getFactors(), storage);
+        }
+        storage.finish();
+    }
+
+    /**
+     * Run each chunk of contingencies concurrently on its own clone of the working variant. Every chunk also
+     * computes the base case, only the one of the first chunk is kept, and only the first chunk is reported.
+     */
+    private void runChunks(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider, ReportNode reportNode,
+                           List<Contingency> contingencies, List<MatrixInfo> matrices, SensitivityResultStorage storage, int chunkCount) {
+        VariantPartitionRunner.run(network, chunkCount, "Sensitivity analysis", (chunk, variantId) -> {
+            // contiguous chunks, so that the contingency index in the storage is the chunk offset plus the index in the chunk
+            int from = VariantPartitionRunner.getPartitionStart(contingencies.size(), chunk, chunkCount);
+            List<Contingency> chunkContingencies = contingencies.subList(from,
+                    VariantPartitionRunner.getPartitionStart(contingencies.size(), chunk + 1, chunkCount));
+            Set<String> chunkContingencyIds = chunkContingencies.stream().map(Contingency::getId).collect(Collectors.toSet());
+            PreparedFactors factors = prepareFactors(network, matrices, chunkContingencyIds, chunk == 0);
+            ReportNode chunkReportNode = chunk == 0 ? reportNode : ReportNode.NO_OP;
+            return () -> {
+                runChunk(network, variantId, sensitivityAnalysisParameters, provider, chunkReportNode, chunkContingencies, from,
+                        factors, storage);
+                return null;
+            };
+        });
+    }
+
+    /**
+     * @param contingencyOffset index in the storage of the first contingency of the chunk, base case values are
+     *                          only written by the chunk of offset 0
+     */
+    private void runChunk(Network network, String variantId, SensitivityAnalysisParameters sensitivityAnalysisParameters, String provider,
+                          ReportNode reportNode, List<Contingency> contingencies, int contingencyOffset, PreparedFactors factors,
+                          SensitivityResultStorage storage) {
+        SensitivityFactorReader factorReader = factors::read;
+
         SensitivityResultWriter valueWriter = new SensitivityResultWriter() {
             @Override
             public void writeSensitivityValue(int factorContext, int contingencyIndex, int strategyIndex,
                                               double value, double functionReference) {
-                MatrixInfo m = factorIndexMatrixMap.floorEntry(factorContext).getValue();
-
-                int columnIdx = m.getOffsetColumn() + (factorContext - m.getOffsetData()) % m.getColumnCount();
-                if (contingencyIndex != -1) {
-                    valuesByContingencyIndex[contingencyIndex][factorContext] = value;
-                    referencesByContingencyIndex[contingencyIndex][columnIdx] = functionReference;
-                } else {
-                    baseCaseValues[factorContext] = value;
-                    baseCaseReferences[columnIdx] = functionReference;
+                if (isStored(contingencyIndex)) {
+                    int storageContingencyIndex = toStorageIndex(contingencyIndex);
+                    storage.writeValue(storageContingencyIndex, factors.getValueIndex(factorContext), value);
+                    storage.writeReference(storageContingencyIndex, factors.getColumnIndex(factorContext), functionReference);
                 }
             }
 
             @Override
             public void writeStateStatus(int i, int strategy, SensitivityAnalysisResult.Status status) {
-                // nothing to do
+                if (isStored(i)) {
+                    storage.finishState(toStorageIndex(i));
+                }
+            }
+
+            private boolean isStored(int contingencyIndex) {
+                return contingencyIndex != SensitivityResultStorage.BASE_CASE || contingencyOffset == 0;
+            }
+
+            private int toStorageIndex(int contingencyIndex) {
+                return contingencyIndex == SensitivityResultStorage.BASE_CASE ? contingencyIndex : contingencyOffset + contingencyIndex;
             }
         };
 
         SensitivityAnalysis.find(provider)
                 .run(network,
-                        network.getVariantManager().getWorkingVariantId(),
+                        variantId,
                         factorReader,
                         valueWriter,
                         contingencies,
@@ -273,20 +577,6 @@ class SensitivityAnalysisContext extends ContingencyContainerImpl {
                         sensitivityAnalysisParameters,
                         CommonObjects.getComputationManager(),
                         (reportNode == null) ? ReportNode.NO_OP : reportNode);
-
-        Map<String, double[]> valuesByContingencyId = new HashMap<>(contingencies.size());
-        Map<String, double[]> referencesByContingencyId = new HashMap<>(contingencies.size());
-        for (int contingencyIndex = 0; contingencyIndex < contingencies.size(); contingencyIndex++) {
-            Contingency contingency = contingencies.get(contingencyIndex);
-            valuesByContingencyId.put(contingency.getId(), valuesByContingencyIndex[contingencyIndex]);
-            referencesByContingencyId.put(contingency.getId(), referencesByContingencyIndex[contingencyIndex]);
-        }
-
-        return new SensitivityAnalysisResultContext(factorsMatrix,
-                                                    baseCaseValues,
-                                                    valuesByContingencyId,
-                                                    baseCaseReferences,
-                                                    referencesByContingencyId);
     }
 
 }
@@ -9,45 +9,77 @@ package com.powsybl.python.sensitivity;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.python.commons.PyPowsyblApiHeader;
+import com.powsybl.python.commons.UnmanagedResource;
+import com.powsybl.python.commons.Util;
 import org.graalvm.nativeimage.UnmanagedMemory;
 import org.graalvm.nativeimage.c.struct.SizeOf;
 import org.graalvm.nativeimage.c.type.CDoublePointer;
 import org.graalvm.word.WordFactory;
 
-import java.util.Map;
-import java.util.function.Supplier;
+import java.nio.file.Path;
+import java.util.*;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
-public class SensitivityAnalysisResultContext {
+public class SensitivityAnalysisResultContext implements UnmanagedResource {
 
-    private final Map<String, SensitivityAnalysisContext.MatrixInfo> factorsMatrix;
+    /**
+     * Position of a factor matrix values in the storage.
+     */
+    public record MatrixLayout(String matrixId, int valueOffset, int referenceOffset, int rowCount, int columnCount) {
+    }
 
-    private final double[] baseCaseValues;
+    private final Map<String, SensitivityAnalysisContext.MatrixInfo> factorsMatrix;
 
-    private final Map<String, double[]> valuesByContingencyId;
+    private final List<String> contingencyIds;
 
-    private final double[] baseCaseReferences;
+    private final Map<String, Integer> contingencyIndexById;
 
-    private final Map<String, double[]> referencesByContingencyId;
+    private final SensitivityResultStorage storage;
 
-    public SensitivityAnalysisResultContext(Map<String, SensitivityAnalysisContext.MatrixInfo> factorsMatrix,
-                                            double[] baseCaseValues, Map<String, double[]> valuesByContingencyId,
-                                            double[] baseCaseReferences, Map<String, double[]> referencesByContingencyId) {
+    SensitivityAnalysisResultContext(Map<String, SensitivityAnalysisContext.MatrixInfo> factorsMatrix,
+                                     List<String> contingencyIds, SensitivityResultStorage storage) {
         this.factorsMatrix = factorsMatrix;
-        this.baseCaseValues = baseCaseValues;
-        this.valuesByContingencyId = valuesByContingencyId;
-        this.baseCaseReferences = baseCaseReferences;
-        this.referencesByContingencyId = referencesByContingencyId;
+        this.contingencyIds = contingencyIds;
+        this.storage = storage;
+        contingencyIndexById = new HashMap<>(contingencyIds.size());
+        for (int contingencyIndex = 0; contingencyIndex < contingencyIds.size(); contingencyIndex++) {
+            contingencyIndexById.put(contingencyIds.get(contingencyIndex), contingencyIndex);
+        }
     }
 
-    private double[] getValues(String contingencyId) {
-        return contingencyId.isEmpty() ? baseCaseValues : valuesByContingencyId.get(contingencyId);
+    /**
+     * @return IDs of the contingencies, in the order of the post contingency states in the storage and in
+     * matrices of all the states
+     */
+    public List<String> getContingencyIds() {
+        return contingencyIds;
     }
 
-    private double[] getReferences(String contingencyId) {
-        return contingencyId.isEmpty() ? baseCaseReferences : referencesByContingencyId.get(contingencyId);
+    /**
+     * @return file where values and references are memory-mapped, empty if stored on the heap
+     */
+    public Optional<Path> getResultsFile() {
+        return storage instanceof MappedSensitivityResultStorage mappedStorage ? Optional.of(mappedStorage.getFile()) : Optional.empty();
+    }
+
+    /**
+     * @return the factor matrices sorted by their position in the storage
+     */
+    public List<MatrixLayout> getMatricesLayout() {
+        return factorsMatrix.entrySet().stream()
+                .map(e -> new MatrixLayout(e.getKey(), e.getValue().getOffsetData(), e.getValue().getOffsetColumn(),
+                        e.getValue().getRowCount(), e.getValue().getColumnCount()))
+                .sorted(Comparator.comparingInt(MatrixLayout::valueOffset))
+                .toList();
+    }
+
+    /**
+     * @return index of the contingency in the storage, base case index for an empty id, null if not found
+     */
+    private Integer getContingencyIndex(String contingencyId) {
+        return contingencyId.isEmpty() ? SensitivityResultStorage.BASE_CASE : contingencyIndexById.get(contingencyId);
     }
 
     private SensitivityAnalysisContext.MatrixInfo getFactorsMatrix(String matrixId) {
@@ -58,38 +90,125 @@ public class SensitivityAnalysisResultContext {
         return m;
     }
 
+    double[] getSensitivityValues(String matrixId, String contingencyId) {
+        SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
+        Integer contingencyIndex = getContingencyIndex(contingencyId);
+        if (contingencyIndex == null) {
+            return null;
+        }
+        double[] values = new double[m.getRowCount() * m.getColumnCount()];
+        storage.readValues(contingencyIndex, m.getOffsetData(), values);
+        return values;
+    }
+
+    double[] getReferenceValues(String matrixId, String contingencyId) {
+        SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
+        Integer contingencyIndex = getContingencyIndex(contingencyId);
+        if (contingencyIndex == null) {
+            return null;
+        }
+        double[] references = new double[m.getColumnCount()];
+        storage.readReferences(contingencyIndex, m.getOffsetColumn(), references);
+        return references;
+    }
+
+    /**
+     * With unmanaged storage, the returned matrix values point to the storage and are only valid until this result
+     * is freed. In any case, the matrix has to be freed with {@link #freeMatrix}.
+     */
     public PyPowsyblApiHeader.MatrixPointer createSensitivityMatrix(String matrixId, String contingencyId) {
         SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
-        return createDoubleMatrix(() -> getValues(contingencyId), m.getOffsetData(), m.getRowCount(), m.getColumnCount());
+        if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+            Integer contingencyIndex = getContingencyIndex(contingencyId);
+            if (contingencyIndex == null) {
+                return WordFactory.nullPointer();
+            }
+            return createMatrixView(unmanagedStorage.getValues(contingencyIndex, m), m.getRowCount(), m.getColumnCount());
+        }
+        return createDoubleMatrix(getSensitivityValues(matrixId, contingencyId), m.getRowCount(), m.getColumnCount());
     }
 
     public PyPowsyblApiHeader.MatrixPointer createReferenceMatrix(String matrixId, String contingencyId) {
         SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
-        return createDoubleMatrix(() -> getReferences(contingencyId), m.getOffsetColumn(), 1, m.getColumnCount());
+        if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+            Integer contingencyIndex = getContingencyIndex(contingencyId);
+            if (contingencyIndex == null) {
+                return WordFactory.nullPointer();
+            }
+            return createMatrixView(unmanagedStorage.getReferences(contingencyIndex, m), 1, m.getColumnCount());
+        }
+        return createDoubleMatrix(getReferenceValues(matrixId, contingencyId), 1, m.getColumnCount());
     }
 
-    private static PyPowsyblApiHeader.MatrixPointer createDoubleMatrix(Supplier<double[]> srcSupplier, int srcPos, int matRow, int matCol) {
-        final double[] sources = srcSupplier.get();
-        if (sources == null) {
-            return WordFactory.nullPointer();
+    /**
+     * Sensitivity values of a matrix for all the states, base case first then contingencies in the order of
+     * {@link #getContingencyIds()}, as a (state count * row count) x column count matrix.
+     */
+    public PyPowsyblApiHeader.MatrixPointer createSensitivityMatrices(String matrixId) {
+        SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
+        int stateCount = contingencyIds.size() + 1;
+        if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+            return createMatrixView(unmanagedStorage.getValues(m), stateCount * m.getRowCount(), m.getColumnCount());
         }
-        double[] values = new double[matRow * matCol];
-        System.arraycopy(sources, srcPos, values, 0, values.length);
-        return doubleArrToMatrix(values, matRow, matCol);
+        int matrixSize = m.getRowCount() * m.getColumnCount();
+        double[] values = new double[stateCount * matrixSize];
+        double[] stateValues = new double[matrixSize];
+        for (int stateNum = 0; stateNum < stateCount; stateNum++) {
+            storage.readValues(stateNum - 1, m.getOffsetData(), stateValues);
+            System.arraycopy(stateValues, 0, values, stateNum * matrixSize, matrixSize);
+        }
+        return Util.createDoubleMatrix(values, stateCount * m.getRowCount(), m.getColumnCount());
     }
 
-    private static PyPowsyblApiHeader.MatrixPointer doubleArrToMatrix(double[] values, int rowCount, int colCount) {
-        if (values.length != rowCount * colCount) {
-            throw new IllegalArgumentException("Matrix(" + rowCount + "*" + colCount + ") is not suitable for arrays size:" + values.length);
+    /**
+     * Reference values of a matrix for all the states, as a state count x column count matrix.
+     */
+    public PyPowsyblApiHeader.MatrixPointer createReferenceMatrices(String matrixId) {
+        SensitivityAnalysisContext.MatrixInfo m = getFactorsMatrix(matrixId);
+        int stateCount = contingencyIds.size() + 1;
+        if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+            return createMatrixView(unmanagedStorage.getReferences(m), stateCount, m.getColumnCount());
         }
-        CDoublePointer valuePtr = UnmanagedMemory.calloc(rowCount * colCount * SizeOf.get(CDoublePointer.class));
-        for (int i = 0; i < colCount * rowCount; i++) {
-            valuePtr.addressOf(i).write(values[i]);
+        double[] references = new double[stateCount * m.getColumnCount()];
+        double[] stateReferences = new double[m.getColumnCount()];
+        for (int stateNum = 0; stateNum < stateCount; stateNum++) {
+            storage.readReferences(stateNum - 1, m.getOffsetColumn(), stateReferences);
+            System.arraycopy(stateReferences, 0, references, stateNum * m.getColumnCount(), m.getColumnCount());
         }
+        return Util.createDoubleMatrix(references, stateCount, m.getColumnCount());
+    }
+
+    private static PyPowsyblApiHeader.MatrixPointer createMatrixView(CDoublePointer values, int rowCount, int columnCount) {
         PyPowsyblApiHeader.MatrixPointer matrixPtr = UnmanagedMemory.calloc(SizeOf.get(PyPowsyblApiHeader.MatrixPointer.class));
         matrixPtr.setRowCount(rowCount);
-        matrixPtr.setColumnCount(colCount);
-        matrixPtr.setValues(valuePtr);
+        matrixPtr.setColumnCount(columnCount);
+        matrixPtr.setValues(values);
         return matrixPtr;
     }
+
+    /**
+     * Free a matrix created by this result, values being only freed if they are a copy.
+     */
+    public void freeMatrix(PyPowsyblApiHeader.MatrixPointer matrixPtr) {
+        if (matrixPtr.isNonNull()) {
+            if (!(storage instanceof UnmanagedSensitivityResultStorage)) {
+                UnmanagedMemory.free(matrixPtr.getValues());
+            }
+            UnmanagedMemory.free(matrixPtr);
+        }
+    }
+
+    @Override
+    public void free() {
+        if (storage instanceof UnmanagedSensitivityResultStorage unmanagedStorage) {
+            unmanagedStorage.free();
+        }
+    }
+
+    private static PyPowsyblApiHeader.MatrixPointer createDoubleMatrix(double[] values, int matRow, int matCol) {
+        if (values == null) {
+            return WordFactory.nullPointer();
+        }
+        return Util.createDoubleMatrix(values, matRow, matCol);
+    }
 }
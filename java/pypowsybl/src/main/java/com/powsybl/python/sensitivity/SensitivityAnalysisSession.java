@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Contingencies and resolved factors of a sensitivity analysis, kept between runs on a same network as long as
+ * its topology and its contingency lists do not change, so that repeated runs where only injections change do not
+ * rebuild them.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+final class SensitivityAnalysisSession {
+
+    private final WeakReference<Network> networkRef;
+
+    private final long topologyHash;
+
+    private final long contingencyListsModificationCount;
+
+    private final List<Contingency> contingencies;
+
+    private final List<SensitivityAnalysisContext.MatrixInfo> matrices;
+
+    private final SensitivityAnalysisContext.PreparedFactors factors;
+
+    SensitivityAnalysisSession(Network network, long topologyHash, long contingencyListsModificationCount, List<Contingency> contingencies,
+                               List<SensitivityAnalysisContext.MatrixInfo> matrices, SensitivityAnalysisContext.PreparedFactors factors) {
+        this.networkRef = new WeakReference<>(Objects.requireNonNull(network));
+        this.topologyHash = topologyHash;
+        this.contingencyListsModificationCount = contingencyListsModificationCount;
+        this.contingencies = Objects.requireNonNull(contingencies);
+        this.matrices = Objects.requireNonNull(matrices);
+        this.factors = Objects.requireNonNull(factors);
+    }
+
+    boolean isValidFor(Network network, long topologyHash, long contingencyListsModificationCount) {
+        return networkRef.get() == network && this.topologyHash == topologyHash
+                && this.contingencyListsModificationCount == contingencyListsModificationCount;
+    }
+
+    List<Contingency> getContingencies() {
+        return contingencies;
+    }
+
+    List<SensitivityAnalysisContext.MatrixInfo> getMatrices() {
+        return matrices;
+    }
+
+    SensitivityAnalysisContext.PreparedFactors getFactors() {
+        return factors;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+/**
+ * Storage of sensitivity values and function references of all the factor matrices, for the base case and each
+ * post contingency state.
+ * <p>
+ * Sensitivity values are indexed by factor index (factors of all the matrices are stored one after the other,
+ * row major for each matrix) and function references by column index (columns of all the matrices one after the
+ * other). A contingency index of -1 stands for the base case.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+interface SensitivityResultStorage {
+
+    int BASE_CASE = -1;
+
+    void writeValue(int contingencyIndex, int factorIndex, double value);
+
+    void writeReference(int contingencyIndex, int columnIndex, double reference);
+
+    /**
+     * Called once the provider has written the status of a state, so once all its results have been written.
+     */
+    default void finishState(int contingencyIndex) {
+    }
+
+    /**
+     * Called once all the results have been written.
+     */
+    default void finish() {
+    }
+
+    /**
+     * Copy sensitivity values of factors [offset, offset + values.length) into values.
+     */
+    void readValues(int contingencyIndex, int offset, double[] values);
+
+    /**
+     * Copy function references of columns [offset, offset + references.length) into references.
+     */
+    void readReferences(int contingencyIndex, int offset, double[] references);
+}
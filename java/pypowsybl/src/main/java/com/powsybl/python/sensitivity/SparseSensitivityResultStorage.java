@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Only stores sensitivity values whose absolute value is greater or equal to a threshold, as compressed
+ * index/value arrays per state. Dropped values are read as zero.
+ * <p>
+ * Function references, which only have one value per column, are kept dense but only allocated for the states
+ * that are actually written.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class SparseSensitivityResultStorage implements SensitivityResultStorage {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Sparse vector of the values of one state, filled in any order and sorted by index once complete.
+     */
+    static final class SparseVector {
+
+        private int[] indices = new int[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size = 0;
+        private boolean sorted = true;
+
+        synchronized void add(int index, double value) {
+            if (size == indices.length) {
+                int newCapacity = indices.length + (indices.length >> 1);
+                indices = Arrays.copyOf(indices, newCapacity);
+                values = Arrays.copyOf(values, newCapacity);
+            }
+            if (size > 0 && indices[size - 1] > index) {
+                sorted = false;
+            }
+            indices[size] = index;
+            values[size] = value;
+            size++;
+        }
+
+        synchronized void compact() {
+            if (!sorted) {
+                // sort positions by index, packing index and position in a long to use a primitive sort
+                long[] keys = new long[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = ((long) indices[i] << 32) | i;
+                }
+                Arrays.sort(keys);
+                int[] sortedIndices = new int[size];
+                double[] sortedValues = new double[size];
+                for (int i = 0; i < size; i++) {
+                    int position = (int) keys[i];
+                    sortedIndices[i] = indices[position];
+                    sortedValues[i] = values[position];
+                }
+                indices = sortedIndices;
+                values = sortedValues;
+                sorted = true;
+            } else if (size < indices.length) {
+                indices = Arrays.copyOf(indices, size);
+                values = Arrays.copyOf(values, size);
+            }
+        }
+
+        synchronized void read(int offset, double[] dest) {
+            if (!sorted) {
+                throw new PowsyblException("Sparse vector is not compacted");
+            }
+            Arrays.fill(dest, 0);
+            int end = offset + dest.length;
+            int i = Arrays.binarySearch(indices, 0, size, offset);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            for (; i < size && indices[i] < end; i++) {
+                dest[indices[i] - offset] = values[i];
+            }
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    private final double threshold;
+
+    private final int referenceCount;
+
+    private final SparseVector baseCaseValues = new SparseVector();
+
+    private final SparseVector[] valuesByContingencyIndex;
+
+    private final AtomicReferenceArray<double[]> referencesByState;
+
+    SparseSensitivityResultStorage(int contingencyCount, int referenceCount, double threshold) {
+        if (Double.isNaN(threshold) || threshold < 0) {
+            throw new PowsyblException("Invalid sparse results threshold: " + threshold);
+        }
+        this.threshold = threshold;
+        this.referenceCount = referenceCount;
+        valuesByContingencyIndex = new SparseVector[contingencyCount];
+        for (int i = 0; i < contingencyCount; i++) {
+            valuesByContingencyIndex[i] = new SparseVector();
+        }
+        // base case references are stored last
+        referencesByState = new AtomicReferenceArray<>(contingencyCount + 1);
+    }
+
+    private SparseVector getValues(int contingencyIndex) {
+        return contingencyIndex == BASE_CASE ? baseCaseValues : valuesByContingencyIndex[contingencyIndex];
+    }
+
+    private int getStateNum(int contingencyIndex) {
+        return contingencyIndex == BASE_CASE ? referencesByState.length() - 1 : contingencyIndex;
+    }
+
+    @Override
+    public void writeValue(int contingencyIndex, int factorIndex, double value) {
+        if (Math.abs(value) < threshold) {
+            return;
+        }
+        getValues(contingencyIndex).add(factorIndex, value);
+    }
+
+    @Override
+    public void writeReference(int contingencyIndex, int columnIndex, double reference) {
+        int stateNum = getStateNum(contingencyIndex);
+        double[] references = referencesByState.get(stateNum);
+        if (references == null) {
+            referencesByState.compareAndSet(stateNum, null, new double[referenceCount]);
+            references = referencesByState.get(stateNum);
+        }
+        references[columnIndex] = reference;
+    }
+
+    @Override
+    public void finish() {
+        baseCaseValues.compact();
+        for (SparseVector values : valuesByContingencyIndex) {
+            values.compact();
+        }
+    }
+
+    @Override
+    public void readValues(int contingencyIndex, int offset, double[] values) {
+        getValues(contingencyIndex).read(offset, values);
+    }
+
+    @Override
+    public void readReferences(int contingencyIndex, int offset, double[] references) {
+        double[] stateReferences = referencesByState.get(getStateNum(contingencyIndex));
+        if (stateReferences == null) {
+            Arrays.fill(references, 0);
+        } else {
+            System.arraycopy(stateReferences, offset, references, 0, references.length);
+        }
+    }
+
+    /**
+     * @return the number of sensitivity values actually stored
+     */
+    long getStoredValueCount() {
+        long count = baseCaseValues.size();
+        for (SparseVector values : valuesByContingencyIndex) {
+            count += values.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.ContingencyContextType;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffers the values of each state and hands its matrices to a consumer as soon as the state is complete, instead
+ * of keeping all the results. A state is complete when all its factors have been written or when the provider
+ * writes its status, remaining states are handed to the consumer at the end of the run. Writing a value of a state
+ * which has already been handed to the consumer is an error.
+ * <p>
+ * Only the states being computed are buffered, each with the matrices of the state only, so memory is bounded by a
+ * few states whatever the number of contingencies.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class StreamingSensitivityResultStorage implements SensitivityResultStorage {
+
+    /**
+     * Receives the values of one matrix for one state. Calls are serialized.
+     */
+    @FunctionalInterface
+    interface MatrixConsumer {
+
+        /**
+         * @param contingencyId ID of the contingency, null for the base case
+         * @param values sensitivity values, row major
+         * @param references function references, one per column
+         * @return false to stop the sensitivity analysis
+         */
+        boolean accept(String contingencyId, String matrixId, SensitivityAnalysisContext.MatrixInfo matrix,
+                       double[] values, double[] references);
+    }
+
+    /**
+     * Thrown to abort the run once the consumer has asked to stop.
+     */
+    static final class StoppedException extends RuntimeException {
+        StoppedException() {
+            super("Sensitivity analysis stopped by results consumer", null, false, false);
+        }
+    }
+
+    /**
+     * Matrices of a state, stored next to each other in the state buffer.
+     */
+    private static final class StateLayout {
+
+        private final List<Map.Entry<String, SensitivityAnalysisContext.MatrixInfo>> matrices = new ArrayList<>();
+
+        private int[] valueOffsets;
+
+        private int[] localValueOffsets;
+
+        private int[] valueSizes;
+
+        private int[] columnOffsets;
+
+        private int[] localColumnOffsets;
+
+        private int[] columnSizes;
+
+        private int valueCount;
+
+        private int referenceCount;
+
+        private void build() {
+            matrices.sort(Comparator.comparingInt(e -> e.getValue().getOffsetData()));
+            valueOffsets = new int[matrices.size()];
+            localValueOffsets = new int[matrices.size()];
+            valueSizes = new int[matrices.size()];
+            columnOffsets = new int[matrices.size()];
+            localColumnOffsets = new int[matrices.size()];
+            columnSizes = new int[matrices.size()];
+            for (int i = 0; i < matrices.size(); i++) {
+                SensitivityAnalysisContext.MatrixInfo matrix = matrices.get(i).getValue();
+                valueOffsets[i] = matrix.getOffsetData();
+                localValueOffsets[i] = valueCount;
+                valueSizes[i] = matrix.getRowCount() * matrix.getColumnCount();
+                columnOffsets[i] = matrix.getOffsetColumn();
+                localColumnOffsets[i] = referenceCount;
+                columnSizes[i] = matrix.getColumnCount();
+                valueCount += valueSizes[i];
+                referenceCount += columnSizes[i];
+            }
+        }
+
+        /**
+         * @return index in the state buffer of a global index, -1 if it does not belong to a matrix of the state
+         */
+        private static int getLocalIndex(int[] offsets, int[] localOffsets, int[] sizes, int index) {
+            int i = Arrays.binarySearch(offsets, index);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            if (i < 0 || index - offsets[i] >= sizes[i]) {
+                return -1;
+            }
+            return localOffsets[i] + index - offsets[i];
+        }
+
+        private int getLocalValueIndex(int valueIndex) {
+            return getLocalIndex(valueOffsets, localValueOffsets, valueSizes, valueIndex);
+        }
+
+        private int getLocalColumnIndex(int columnIndex) {
+            return getLocalIndex(columnOffsets, localColumnOffsets, columnSizes, columnIndex);
+        }
+    }
+
+    private static final class StateBuffer {
+
+        private final double[] values;
+
+        private final double[] references;
+
+        private final AtomicInteger writtenValueCount = new AtomicInteger();
+
+        private StateBuffer(int valueCount, int referenceCount) {
+            values = new double[valueCount];
+            references = new double[referenceCount];
+        }
+    }
+
+    private static final StateBuffer CONSUMED = new StateBuffer(0, 0);
+
+    private final List<String> contingencyIds;
+
+    private final MatrixConsumer consumer;
+
+    private final StateLayout[] layouts;
+
+    private final AtomicReferenceArray<StateBuffer> buffers;
+
+    private volatile boolean stopped = false;
+
+    StreamingSensitivityResultStorage(Map<String, SensitivityAnalysisContext.MatrixInfo> factorsMatrix, List<String> contingencyIds,
+                                      MatrixConsumer consumer) {
+        this.contingencyIds = Objects.requireNonNull(contingencyIds);
+        this.consumer = Objects.requireNonNull(consumer);
+        int stateCount = contingencyIds.size() + 1;
+        layouts = new StateLayout[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            layouts[i] = new StateLayout();
+        }
+        Map<String, Integer> contingencyIndexById = new HashMap<>(contingencyIds.size());
+        for (int contingencyIndex = 0; contingencyIndex < contingencyIds.size(); contingencyIndex++) {
+            contingencyIndexById.put(contingencyIds.get(contingencyIndex), contingencyIndex);
+        }
+        for (Map.Entry<String, SensitivityAnalysisContext.MatrixInfo> e : factorsMatrix.entrySet()) {
+            SensitivityAnalysisContext.MatrixInfo matrix = e.getValue();
+            if (matrix.getContingencyContextType() == ContingencyContextType.SPECIFIC) {
+                for (String contingencyId : matrix.getContingencyIds()) {
+                    Integer contingencyIndex = contingencyIndexById.get(contingencyId);
+                    if (contingencyIndex != null) {
+                        layouts[getStateNum(contingencyIndex)].matrices.add(e);
+                    }
+                }
+            } else {
+                layouts[getStateNum(BASE_CASE)].matrices.add(e);
+                if (matrix.getContingencyContextType() == ContingencyContextType.ALL) {
+                    for (int contingencyIndex = 0; contingencyIndex < contingencyIds.size(); contingencyIndex++) {
+                        layouts[getStateNum(contingencyIndex)].matrices.add(e);
+                    }
+                }
+            }
+        }
+        for (StateLayout layout : layouts) {
+            layout.build();
+        }
+        buffers = new AtomicReferenceArray<>(stateCount);
+    }
+
+    private static int getStateNum(int contingencyIndex) {
+        return contingencyIndex + 1;
+    }
+
+    /**
+     * @return the buffer of the state, allocated for the matrices of the state only
+     */
+    private StateBuffer getBuffer(int stateNum) {
+        if (stopped) {
+            throw new StoppedException();
+        }
+        StateBuffer buffer = buffers.get(stateNum);
+        if (buffer == null) {
+            StateLayout layout = layouts[stateNum];
+            buffers.compareAndSet(stateNum, null, new StateBuffer(layout.valueCount, layout.referenceCount));
+            buffer = buffers.get(stateNum);
+        }
+        if (buffer == CONSUMED) {
+            throw new PowsyblException("Sensitivity result of state " + getStateId(stateNum) + " written after the state has been consumed");
+        }
+        return buffer;
+    }
+
+    private String getStateId(int stateNum) {
+        return stateNum == 0 ? "base case" : "'" + contingencyIds.get(stateNum - 1) + "'";
+    }
+
+    private int checkLocalIndex(int localIndex, int index, int stateNum) {
+        if (localIndex == -1) {
+            throw new PowsyblException("Sensitivity result index " + index + " does not belong to a matrix of state " + getStateId(stateNum));
+        }
+        return localIndex;
+    }
+
+    @Override
+    public void writeValue(int contingencyIndex, int factorIndex, double value) {
+        int stateNum = getStateNum(contingencyIndex);
+        StateBuffer buffer = getBuffer(stateNum);
+        int localIndex = checkLocalIndex(layouts[stateNum].getLocalValueIndex(factorIndex), factorIndex, stateNum);
+        buffer.values[localIndex] = value;
+    }
+
+    @Override
+    public void writeReference(int contingencyIndex, int columnIndex, double reference) {
+        int stateNum = getStateNum(contingencyIndex);
+        StateBuffer buffer = getBuffer(stateNum);
+        int localIndex = checkLocalIndex(layouts[stateNum].getLocalColumnIndex(columnIndex), columnIndex, stateNum);
+        buffer.references[localIndex] = reference;
+        // value and reference are written together, state is complete once all of its factors are written
+        if (buffer.writtenValueCount.incrementAndGet() == layouts[stateNum].valueCount) {
+            consume(stateNum);
+        }
+    }
+
+    @Override
+    public void finishState(int contingencyIndex) {
+        consume(getStateNum(contingencyIndex));
+    }
+
+    @Override
+    public void finish() {
+        for (int stateNum = 0; stateNum < buffers.length(); stateNum++) {
+            if (buffers.get(stateNum) != null) {
+                consume(stateNum);
+            }
+        }
+    }
+
+    private void consume(int stateNum) {
+        StateBuffer buffer = buffers.getAndSet(stateNum, CONSUMED);
+        if (buffer == null || buffer == CONSUMED) {
+            return;
+        }
+        String contingencyId = stateNum == 0 ? null : contingencyIds.get(stateNum - 1);
+        synchronized (consumer) {
+            if (stopped) {
+                throw new StoppedException();
+            }
+            StateLayout layout = layouts[stateNum];
+            for (int i = 0; i < layout.matrices.size(); i++) {
+                Map.Entry<String, SensitivityAnalysisContext.MatrixInfo> e = layout.matrices.get(i);
+                SensitivityAnalysisContext.MatrixInfo matrix = e.getValue();
+                double[] values = Arrays.copyOfRange(buffer.values, layout.localValueOffsets[i],
+                        layout.localValueOffsets[i] + matrix.getRowCount() * matrix.getColumnCount());
+                double[] references = Arrays.copyOfRange(buffer.references, layout.localColumnOffsets[i],
+                        layout.localColumnOffsets[i] + matrix.getColumnCount());
+                if (!consumer.accept(contingencyId, e.getKey(), matrix, values, references)) {
+                    stopped = true;
+                    throw new StoppedException();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the exception, or one of its causes, has been thrown because the consumer asked to stop
+     */
+    static boolean isStopped(Throwable throwable) {
+        Throwable t = throwable;
+        while (t != null) {
+            if (t instanceof StoppedException) {
+                return true;
+            }
+            t = t.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public void readValues(int contingencyIndex, int offset, double[] values) {
+        throw new PowsyblException("Streamed sensitivity values cannot be read back");
+    }
+
+    @Override
+    public void readReferences(int contingencyIndex, int offset, double[] references) {
+        throw new PowsyblException("Streamed sensitivity references cannot be read back");
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import org.graalvm.nativeimage.UnmanagedMemory;
+import org.graalvm.nativeimage.c.struct.SizeOf;
+import org.graalvm.nativeimage.c.type.CDoublePointer;
+import org.graalvm.word.WordFactory;
+
+import java.util.List;
+
+/**
+ * Stores the values in unmanaged memory, laid out so that the results of a matrix are contiguous, so that matrices
+ * can be handed to C code without any copy:
+ * <ul>
+ *     <li>sensitivity values as [matrix][state][row][column]</li>
+ *     <li>function references as [matrix][state][column]</li>
+ * </ul>
+ * State 0 is the base case, state i + 1 the contingency of index i. Memory has to be released with {@link #free()}.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+class UnmanagedSensitivityResultStorage implements SensitivityResultStorage {
+
+    private final int stateCount;
+
+    /**
+     * Offset of the block of the matrix of each value.
+     */
+    private final long[] valueBlockOffsets;
+
+    /**
+     * Size of the matrix of each value.
+     */
+    private final int[] valueBlockSizes;
+
+    /**
+     * Index of each value inside its matrix.
+     */
+    private final int[] valueIndicesInMatrix;
+
+    private final long[] referenceBlockOffsets;
+
+    private final int[] referenceBlockSizes;
+
+    private final int[] referenceIndicesInMatrix;
+
+    private CDoublePointer values;
+
+    private CDoublePointer references;
+
+    UnmanagedSensitivityResultStorage(List<SensitivityAnalysisContext.MatrixInfo> matrices, int contingencyCount, int valueCount,
+                                      int referenceCount) {
+        stateCount = contingencyCount + 1;
+        valueBlockOffsets = new long[valueCount];
+        valueBlockSizes = new int[valueCount];
+        valueIndicesInMatrix = new int[valueCount];
+        referenceBlockOffsets = new long[referenceCount];
+        referenceBlockSizes = new int[referenceCount];
+        referenceIndicesInMatrix = new int[referenceCount];
+        for (SensitivityAnalysisContext.MatrixInfo matrix : matrices) {
+            int matrixSize = matrix.getRowCount() * matrix.getColumnCount();
+            for (int i = 0; i < matrixSize; i++) {
+                valueBlockOffsets[matrix.getOffsetData() + i] = getValuesOffset(matrix);
+                valueBlockSizes[matrix.getOffsetData() + i] = matrixSize;
+                valueIndicesInMatrix[matrix.getOffsetData() + i] = i;
+            }
+            for (int i = 0; i < matrix.getColumnCount(); i++) {
+                referenceBlockOffsets[matrix.getOffsetColumn() + i] = getReferencesOffset(matrix);
+                referenceBlockSizes[matrix.getOffsetColumn() + i] = matrix.getColumnCount();
+                referenceIndicesInMatrix[matrix.getOffsetColumn() + i] = i;
+            }
+        }
+        values = allocate((long) stateCount * valueCount);
+        references = allocate((long) stateCount * referenceCount);
+    }
+
+    private static CDoublePointer allocate(long size) {
+        // at least one element so that a valid pointer is always returned
+        return UnmanagedMemory.calloc(WordFactory.unsigned(Math.max(size, 1) * SizeOf.get(CDoublePointer.class)));
+    }
+
+    private long getValuesOffset(SensitivityAnalysisContext.MatrixInfo matrix) {
+        return (long) matrix.getOffsetData() * stateCount;
+    }
+
+    private long getReferencesOffset(SensitivityAnalysisContext.MatrixInfo matrix) {
+        return (long) matrix.getOffsetColumn() * stateCount;
+    }
+
+    private static int getStateNum(int contingencyIndex) {
+        return contingencyIndex + 1;
+    }
+
+    private long getValueOffset(int contingencyIndex, int valueIndex) {
+        return valueBlockOffsets[valueIndex] + (long) getStateNum(contingencyIndex) * valueBlockSizes[valueIndex] + valueIndicesInMatrix[valueIndex];
+    }
+
+    private long getReferenceOffset(int contingencyIndex, int columnIndex) {
+        return referenceBlockOffsets[columnIndex] + (long) getStateNum(contingencyIndex) * referenceBlockSizes[columnIndex] + referenceIndicesInMatrix[columnIndex];
+    }
+
+    private void checkNotFreed() {
+        if (values.isNull()) {
+            throw new PowsyblException("Sensitivity results have been freed");
+        }
+    }
+
+    @Override
+    public void writeValue(int contingencyIndex, int factorIndex, double value) {
+        values.write(WordFactory.signed(getValueOffset(contingencyIndex, factorIndex)), value);
+    }
+
+    @Override
+    public void writeReference(int contingencyIndex, int columnIndex, double reference) {
+        references.write(WordFactory.signed(getReferenceOffset(contingencyIndex, columnIndex)), reference);
+    }
+
+    @Override
+    public void readValues(int contingencyIndex, int offset, double[] values) {
+        checkNotFreed();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.values.read(WordFactory.signed(getValueOffset(contingencyIndex, offset + i)));
+        }
+    }
+
+    @Override
+    public void readReferences(int contingencyIndex, int offset, double[] references) {
+        checkNotFreed();
+        for (int i = 0; i < references.length; i++) {
+            references[i] = this.references.read(WordFactory.signed(getReferenceOffset(contingencyIndex, offset + i)));
+        }
+    }
+
+    /**
+     * @return pointer to the row major values of the matrix for the state, valid until the storage is freed
+     */
+    CDoublePointer getValues(int contingencyIndex, SensitivityAnalysisContext.MatrixInfo matrix) {
+        checkNotFreed();
+        long size = (long) matrix.getRowCount() * matrix.getColumnCount();
+        return values.addressOf(WordFactory.signed(getValuesOffset(matrix) + getStateNum(contingencyIndex) * size));
+    }
+
+    /**
+     * @return pointer to the values of the matrix for all the states, valid until the storage is freed
+     */
+    CDoublePointer getValues(SensitivityAnalysisContext.MatrixInfo matrix) {
+        checkNotFreed();
+        return values.addressOf(WordFactory.signed(getValuesOffset(matrix)));
+    }
+
+    /**
+     * @return pointer to the references of the matrix for the state, valid until the storage is freed
+     */
+    CDoublePointer getReferences(int contingencyIndex, SensitivityAnalysisContext.MatrixInfo matrix) {
+        checkNotFreed();
+        return references.addressOf(WordFactory.signed(getReferencesOffset(matrix) + (long) getStateNum(contingencyIndex) * matrix.getColumnCount()));
+    }
+
+    /**
+     * @return pointer to the references of the matrix for all the states, valid until the storage is freed
+     */
+    CDoublePointer getReferences(SensitivityAnalysisContext.MatrixInfo matrix) {
+        checkNotFreed();
+        return references.addressOf(WordFactory.signed(getReferencesOffset(matrix)));
+    }
+
+    int getStateCount() {
+        return stateCount;
+    }
+
+    synchronized void free() {
+        if (values.isNonNull()) {
+            UnmanagedMemory.free(values);
+            UnmanagedMemory.free(references);
+            values = WordFactory.nullPointer();
+            references = WordFactory.nullPointer();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.shortcircuit;
+
+import com.powsybl.python.security.ColumnarTable;
+import com.powsybl.shortcircuit.FaultResult;
+import com.powsybl.shortcircuit.ShortCircuitAnalysisResult;
+
+import java.util.List;
+
+/**
+ * Short-circuit analysis result which stores its fault and feeder results as columnar tables, built once on first
+ * access, so that the result dataframes are created again without walking the fault results.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class ColumnarShortCircuitAnalysisResult extends ShortCircuitAnalysisResult {
+
+    private final boolean withFortescueResult;
+
+    private ColumnarTable faultResults;
+
+    private ColumnarTable feederResults;
+
+    /**
+     * @param withFortescueResult true if fault results are fortescue results
+     */
+    public ColumnarShortCircuitAnalysisResult(List<FaultResult> faultResults, boolean withFortescueResult) {
+        super(faultResults);
+        this.withFortescueResult = withFortescueResult;
+    }
+
+    public synchronized ColumnarTable getFaultResults(boolean withFortescueResult) {
+        if (withFortescueResult != this.withFortescueResult) {
+            return ShortCircuitAnalysisResultTables.createFaultResults(this, withFortescueResult);
+        }
+        if (faultResults == null) {
+            faultResults = ShortCircuitAnalysisResultTables.createFaultResults(this, withFortescueResult);
+        }
+        return faultResults;
+    }
+
+    public synchronized ColumnarTable getFeederResults(boolean withFortescueResult) {
+        if (withFortescueResult != this.withFortescueResult) {
+            return ShortCircuitAnalysisResultTables.createFeederResults(this, withFortescueResult);
+        }
+        if (feederResults == null) {
+            feederResults = ShortCircuitAnalysisResultTables.createFeederResults(this, withFortescueResult);
+        }
+        return feederResults;
+    }
+}
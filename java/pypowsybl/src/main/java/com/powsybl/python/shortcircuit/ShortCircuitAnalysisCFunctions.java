@@ -113,12 +113,24 @@ public final class ShortCircuitAnalysisCFunctions {
                 ShortCircuitParameters shortCircuitAnalysisParameters = ShortCircuitAnalysisCUtils.createShortCircuitAnalysisParameters(shortCircuitAnalysisParametersPointer, provider);
 
                 ReportNode reportNode = ObjectHandles.getGlobal().get(reportNodeHandle);
-                ShortCircuitAnalysisResult results = analysisContext.run(network, shortCircuitAnalysisParameters, provider.getName(), reportNode);
+                ColumnarShortCircuitAnalysisResult results = analysisContext.run(network, shortCircuitAnalysisParameters, provider.getName(), reportNode);
                 return ObjectHandles.getGlobal().create(results);
             }
         });
     }
 
+    @CEntryPoint(name = "setShortCircuitAnalysisFaultPartitionCount")
+    public static void setFaultPartitionCount(IsolateThread thread, ObjectHandle shortCircuitAnalysisContextHandle, int partitionCount,
+                                              PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
+        doCatch(exceptionHandlerPtr, new Runnable() {
+            @Override
+            public void run() {
+                ShortCircuitAnalysisContext analysisContext = ObjectHandles.getGlobal().get(shortCircuitAnalysisContextHandle);
+                analysisContext.setFaultPartitionCount(partitionCount);
+            }
+        });
+    }
+
     @CEntryPoint(name = "freeShortCircuitAnalysisParameters")
     public static void freeShortCircuitAnalysisParameters(IsolateThread thread, ShortCircuitAnalysisParametersPointer parameters,
                                                           PyPowsyblApiHeader.ExceptionHandlerPointer exceptionHandlerPtr) {
@@ -7,11 +7,14 @@
  */
 package com.powsybl.python.shortcircuit;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.python.commons.CommonObjects;
+import com.powsybl.python.commons.VariantPartitionRunner;
 import com.powsybl.shortcircuit.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,7 +33,21 @@ public class ShortCircuitAnalysisContext {
 
     List<Fault> faults = Collections.emptyList();
 
-    ShortCircuitAnalysisResult run(Network network, ShortCircuitParameters shortCircuitAnalysisParameters, String provider, ReportNode reportNode) {
+    private int faultPartitionCount = 1;
+
+    /**
+     * @param faultPartitionCount number of partitions of faults computed concurrently by {@link #run}, 1 to compute
+     *                            all the faults in a single run
+     */
+    void setFaultPartitionCount(int faultPartitionCount) {
+        if (faultPartitionCount < 1) {
+            throw new PowsyblException("Fault partition count has to be strictly positive: " + faultPartitionCount);
+        }
+        this.faultPartitionCount = faultPartitionCount;
+    }
+
+    private static ShortCircuitAnalysisResult run(Network network, List<Fault> faults, ShortCircuitParameters shortCircuitAnalysisParameters,
+                                                  String provider, ReportNode reportNode) {
         List <FaultParameters> faultsParameters = Collections.emptyList();
         return ShortCircuitAnalysis.find(provider)
                 .run(
@@ -42,4 +59,33 @@ public class ShortCircuitAnalysisContext {
                         (reportNode == null) ? ReportNode.NO_OP : reportNode
                 );
     }
+
+    ColumnarShortCircuitAnalysisResult run(Network network, ShortCircuitParameters shortCircuitAnalysisParameters, String provider, ReportNode reportNode) {
+        int partitionCount = Math.min(faultPartitionCount, faults.size());
+        List<FaultResult> faultResults = partitionCount > 1
+                ? runPartitions(network, shortCircuitAnalysisParameters, provider, reportNode, partitionCount)
+                : run(network, faults, shortCircuitAnalysisParameters, provider, reportNode).getFaultResults();
+        return new ColumnarShortCircuitAnalysisResult(faultResults, shortCircuitAnalysisParameters.isWithFortescueResult());
+    }
+
+    /**
+     * Runs each partition of faults concurrently on its own clone of the working variant, and concatenates the fault
+     * results in the order of the faults. Only the first partition is reported.
+     */
+    private List<FaultResult> runPartitions(Network network, ShortCircuitParameters shortCircuitAnalysisParameters, String provider,
+                                            ReportNode reportNode, int partitionCount) {
+        List<ShortCircuitAnalysisResult> partialResults = VariantPartitionRunner.run(network, partitionCount, "Short-circuit analysis",
+            (partition, variantId) -> {
+                List<Fault> partitionFaults = faults.subList(
+                        VariantPartitionRunner.getPartitionStart(faults.size(), partition, partitionCount),
+                        VariantPartitionRunner.getPartitionStart(faults.size(), partition + 1, partitionCount));
+                ReportNode partitionReportNode = partition == 0 ? reportNode : null;
+                return () -> run(network, partitionFaults, shortCircuitAnalysisParameters, provider, partitionReportNode);
+            });
+        List<FaultResult> faultResults = new ArrayList<>(faults.size());
+        for (ShortCircuitAnalysisResult partialResult : partialResults) {
+            faultResults.addAll(partialResult.getFaultResults());
+        }
+        return faultResults;
+    }
 }
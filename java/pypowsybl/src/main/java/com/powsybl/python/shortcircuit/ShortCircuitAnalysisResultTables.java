@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.shortcircuit;
+
+import com.powsybl.dataframe.SeriesDataType;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.python.security.ColumnarTable;
+import com.powsybl.shortcircuit.*;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.powsybl.dataframe.SeriesMetadata.*;
+
+/**
+ * Columnar tables of short-circuit fault and feeder results, filled directly from the results without any
+ * intermediate object per row. Sequence components other than the positive one are not default columns.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public final class ShortCircuitAnalysisResultTables {
+
+    public static final List<SeriesMetadata> MAGNITUDE_FAULT_RESULTS_COLUMNS = List.of(
+            stringIndex("id"),
+            strings("status"),
+            doubles("short_circuit_power"),
+            strings("time_constant"),
+            doubles("current"),
+            doubles("voltage"));
+
+    public static final List<SeriesMetadata> FORTESCUE_FAULT_RESULTS_COLUMNS = List.of(
+            stringIndex("id"),
+            strings("status"),
+            doubles("short_circuit_power"),
+            strings("time_constant"),
+            nonDefaultDoubles("current_negative_angle"),
+            doubles("current_positive_angle"),
+            nonDefaultDoubles("current_negative_magnitude"),
+            doubles("current_positive_magnitude"),
+            nonDefaultDoubles("current_zero_magnitude"),
+            nonDefaultDoubles("current_zero_angle"),
+            nonDefaultDoubles("voltage_negative_angle"),
+            doubles("voltage_positive_angle"),
+            nonDefaultDoubles("voltage_negative_magnitude"),
+            doubles("voltage_positive_magnitude"),
+            nonDefaultDoubles("voltage_zero_magnitude"),
+            nonDefaultDoubles("voltage_zero_angle"));
+
+    public static final List<SeriesMetadata> MAGNITUDE_FEEDER_RESULTS_COLUMNS = List.of(
+            stringIndex("id"),
+            stringIndex("connectable_id"),
+            doubles("current"),
+            strings("side"));
+
+    public static final List<SeriesMetadata> FORTESCUE_FEEDER_RESULTS_COLUMNS = List.of(
+            stringIndex("id"),
+            stringIndex("connectable_id"),
+            nonDefaultDoubles("current_negative_angle"),
+            doubles("current_positive_angle"),
+            nonDefaultDoubles("current_negative_magnitude"),
+            doubles("current_positive_magnitude"),
+            nonDefaultDoubles("current_zero_magnitude"),
+            nonDefaultDoubles("current_zero_angle"),
+            strings("side"));
+
+    private ShortCircuitAnalysisResultTables() {
+    }
+
+    private static SeriesMetadata nonDefaultDoubles(String name) {
+        return new SeriesMetadata(false, name, false, SeriesDataType.DOUBLE, false);
+    }
+
+    private static void setFortescueValue(ColumnarTable table, int row, int column, FortescueValue value) {
+        table.setDouble(row, column, value.getNegativeAngle());
+        table.setDouble(row, column + 1, value.getPositiveAngle());
+        table.setDouble(row, column + 2, value.getNegativeMagnitude());
+        table.setDouble(row, column + 3, value.getPositiveMagnitude());
+        table.setDouble(row, column + 4, value.getZeroMagnitude());
+        table.setDouble(row, column + 5, value.getZeroAngle());
+    }
+
+    private static void addFaultColumns(ColumnarTable table, int row, FaultResult faultResult) {
+        table.setString(row, 0, faultResult.getFault().getId());
+        table.setString(row, 1, Objects.toString(faultResult.getStatus(), ""));
+        table.setDouble(row, 2, faultResult.getShortCircuitPower());
+        table.setString(row, 3, faultResult.getTimeConstant() != null ? faultResult.getTimeConstant().toString() : null);
+    }
+
+    /**
+     * @param withFortescueResult true for fortescue results, false for magnitude results, other results being ignored
+     */
+    public static ColumnarTable createFaultResults(ShortCircuitAnalysisResult result, boolean withFortescueResult) {
+        ColumnarTable table = new ColumnarTable(withFortescueResult ? FORTESCUE_FAULT_RESULTS_COLUMNS : MAGNITUDE_FAULT_RESULTS_COLUMNS);
+        for (FaultResult faultResult : result.getFaultResults()) {
+            if (withFortescueResult && faultResult instanceof FortescueFaultResult fortescueResult) {
+                int row = table.addRow();
+                addFaultColumns(table, row, faultResult);
+                setFortescueValue(table, row, 4, fortescueResult.getCurrent());
+                setFortescueValue(table, row, 10, fortescueResult.getVoltage());
+            } else if (!withFortescueResult && faultResult instanceof MagnitudeFaultResult magnitudeResult) {
+                int row = table.addRow();
+                addFaultColumns(table, row, faultResult);
+                table.setDouble(row, 4, magnitudeResult.getCurrent());
+                table.setDouble(row, 5, magnitudeResult.getVoltage());
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return fault results table, cached by the result if it is a {@link ColumnarShortCircuitAnalysisResult}
+     */
+    public static ColumnarTable getFaultResults(ShortCircuitAnalysisResult result, boolean withFortescueResult) {
+        return result instanceof ColumnarShortCircuitAnalysisResult columnarResult
+                ? columnarResult.getFaultResults(withFortescueResult)
+                : createFaultResults(result, withFortescueResult);
+    }
+
+    /**
+     * @param withFortescueResult true for fortescue results, false for magnitude results, other results being ignored
+     */
+    public static ColumnarTable createFeederResults(ShortCircuitAnalysisResult result, boolean withFortescueResult) {
+        ColumnarTable table = new ColumnarTable(withFortescueResult ? FORTESCUE_FEEDER_RESULTS_COLUMNS : MAGNITUDE_FEEDER_RESULTS_COLUMNS);
+        for (FaultResult faultResult : result.getFaultResults()) {
+            // fault ID is encoded once for all its feeders
+            int faultCode = table.encode(faultResult.getFault().getId());
+            for (FeederResult feederResult : faultResult.getFeederResults()) {
+                if (withFortescueResult && feederResult instanceof FortescueFeederResult fortescueResult) {
+                    int row = table.addRow();
+                    table.setStringCode(row, 0, faultCode);
+                    table.setString(row, 1, feederResult.getConnectableId());
+                    setFortescueValue(table, row, 2, fortescueResult.getCurrent());
+                    table.setString(row, 8, Objects.toString(fortescueResult.getSide(), ""));
+                } else if (!withFortescueResult && feederResult instanceof MagnitudeFeederResult magnitudeResult) {
+                    int row = table.addRow();
+                    table.setStringCode(row, 0, faultCode);
+                    table.setString(row, 1, feederResult.getConnectableId());
+                    table.setDouble(row, 2, magnitudeResult.getCurrent());
+                    table.setString(row, 3, Objects.toString(magnitudeResult.getSide(), ""));
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @return feeder results table, cached by the result if it is a {@link ColumnarShortCircuitAnalysisResult}
+     */
+    public static ColumnarTable getFeederResults(ShortCircuitAnalysisResult result, boolean withFortescueResult) {
+        return result instanceof ColumnarShortCircuitAnalysisResult columnarResult
+                ? columnarResult.getFeederResults(withFortescueResult)
+                : createFeederResults(result, withFortescueResult);
+    }
+}
@@ -10,6 +10,9 @@ package com.powsybl.python.contingency;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.contingency.*;
+import com.powsybl.dataframe.contingency.ContingencyDataframeAdder;
+import com.powsybl.dataframe.update.DefaultUpdatingDataframe;
+import com.powsybl.dataframe.update.TestStringSeries;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.*;
 
@@ -114,4 +117,62 @@ class ContingencyContainerTest {
         assertEquals("contingency", contingencies.get(0).getId());
         assertEquals("contingency2", contingencies.get(1).getId());
     }
+
+    @Test
+    void testCompiledContingencyList() {
+        Network network = EurostagTutorialExample1Factory.create();
+        CompiledContingencyList contingencyList = new CompiledContingencyList();
+        contingencyList.addContingency("l1", List.of("NHV1_NHV2_1"));
+        contingencyList.addContingency("gen", List.of("GEN"));
+
+        List<Contingency> contingencies = contingencyList.getContingencies(network);
+        assertEquals(List.of("l1", "gen"), contingencies.stream().map(Contingency::getId).toList());
+        // resolved once per network
+        assertSame(contingencies, contingencyList.getContingencies(network));
+        network.getLoad("LOAD").setP0(700);
+        assertSame(contingencies, contingencyList.getContingencies(network));
+        assertNotSame(contingencies, contingencyList.getContingencies(EurostagTutorialExample1Factory.create()));
+
+        // shared by containers
+        var container1 = new ContingencyContainerImpl();
+        container1.addContingency("l2", List.of("NHV1_NHV2_2"));
+        container1.addContingencyList(contingencyList);
+        assertThat(container1.createContingencies(network)).extracting(Contingency::getId).containsExactly("l2", "l1", "gen");
+        assertSame(contingencies.get(0), container1.createContingencies(network).get(1));
+
+        // invalidated on structural change
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(10)
+                .setQ0(0)
+                .add();
+        List<Contingency> newContingencies = contingencyList.getContingencies(network);
+        assertNotSame(contingencies, newContingencies);
+        network.getLoad("LOAD2").remove();
+        assertNotSame(newContingencies, contingencyList.getContingencies(network));
+
+        // modifications of the list are seen by the containers
+        long modificationCount = container1.getContingencyListsModificationCount();
+        assertEquals(modificationCount, container1.getContingencyListsModificationCount());
+        contingencyList.addContingency("l3", List.of("NHV1_NHV2_2"));
+        assertNotEquals(modificationCount, container1.getContingencyListsModificationCount());
+
+        contingencyList.addContingency("exception", List.of("not_exists_id"));
+        assertThatThrownBy(() -> contingencyList.getContingencies(network))
+                .hasMessageContaining("Element 'not_exists_id' not found");
+    }
+
+    @Test
+    void testAddContingenciesFromDataframe() {
+        DefaultUpdatingDataframe dataframe = new DefaultUpdatingDataframe(4);
+        dataframe.addSeries("contingency_id", true, new TestStringSeries("l1", "n-2", "gen", "n-2"));
+        dataframe.addSeries("element_id", false, new TestStringSeries("NHV1_NHV2_1", "NHV1_NHV2_1", "GEN", "NHV1_NHV2_2"));
+        CompiledContingencyList contingencyList = new CompiledContingencyList();
+        new ContingencyDataframeAdder().addElements(contingencyList, dataframe);
+
+        List<Contingency> contingencies = contingencyList.getContingencies(EurostagTutorialExample1Factory.create());
+        assertThat(contingencies).extracting(Contingency::getId).containsExactly("l1", "n-2", "gen");
+        assertThat(contingencies.get(1).getElements()).extracting(ContingencyElement::getId).containsExactly("NHV1_NHV2_1", "NHV1_NHV2_2");
+    }
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.grid2op;
+
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class DcPowerFlowTest {
+
+    private static final double EPS = 1e-6;
+
+    @Test
+    void test() {
+        // triangle 0-1-2 with a generator at bus 0 and an isolated bus 3
+        int[] busGlobalNum1 = {0, 0, 2, 3};
+        int[] busGlobalNum2 = {1, 2, 1, -1};
+        double[] busSlackPriority = {100, 0, 0, 0};
+        try (DcPowerFlow dc = new DcPowerFlow(new DenseMatrixFactory(), 4, new double[] {100, 100, 100, 100})) {
+            double[] angle = dc.solve(busGlobalNum1, busGlobalNum2, busSlackPriority, new double[] {100, -100, 0, 10});
+            assertArrayEquals(new double[] {0, -2. / 3, -1. / 3, 0}, angle, EPS);
+            assertEquals(200. / 3, dc.getBranchP1(0, busGlobalNum1[0], busGlobalNum2[0], angle), EPS);
+            assertEquals(100. / 3, dc.getBranchP1(1, busGlobalNum1[1], busGlobalNum2[1], angle), EPS);
+            assertEquals(100. / 3, dc.getBranchP1(2, busGlobalNum1[2], busGlobalNum2[2], angle), EPS);
+            assertEquals(0, dc.getBranchP1(3, busGlobalNum1[3], busGlobalNum2[3], angle), EPS);
+
+            // only injections change, factorization is reused
+            angle = dc.solve(busGlobalNum1, busGlobalNum2, busSlackPriority, new double[] {50, 0, -50, 0});
+            assertEquals(50. / 3, dc.getBranchP1(0, busGlobalNum1[0], busGlobalNum2[0], angle), EPS);
+            assertEquals(100. / 3, dc.getBranchP1(1, busGlobalNum1[1], busGlobalNum2[1], angle), EPS);
+            assertEquals(-50. / 3, dc.getBranchP1(2, busGlobalNum1[2], busGlobalNum2[2], angle), EPS);
+
+            // open branch 0-2, bus 2 is now only fed through 1
+            busGlobalNum1[1] = -1;
+            angle = dc.solve(busGlobalNum1, busGlobalNum2, busSlackPriority, new double[] {50, 0, -50, 0});
+            assertEquals(50, dc.getBranchP1(0, busGlobalNum1[0], busGlobalNum2[0], angle), EPS);
+            assertEquals(0, dc.getBranchP1(1, busGlobalNum1[1], busGlobalNum2[1], angle), EPS);
+            assertEquals(-50, dc.getBranchP1(2, busGlobalNum1[2], busGlobalNum2[2], angle), EPS);
+        }
+    }
+}
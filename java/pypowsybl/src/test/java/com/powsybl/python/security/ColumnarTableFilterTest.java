@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.iidm.network.ThreeSides;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class ColumnarTableFilterTest {
+
+    private ColumnarTable table;
+
+    private void addRow(String contingencyId, String branchId, double p1) {
+        int row = table.addRow();
+        table.setString(row, 0, contingencyId);
+        table.setString(row, 1, branchId);
+        table.setDouble(row, 2, p1);
+    }
+
+    @BeforeEach
+    void setUp() {
+        table = new ColumnarTable(List.of(
+                SeriesMetadata.stringIndex("contingency_id"),
+                SeriesMetadata.stringIndex("branch_id"),
+                SeriesMetadata.doubles("p1")));
+        addRow(null, "l1", 10);
+        addRow(null, "l2", -20);
+        addRow("c1", "l1", -30);
+        addRow("c1", "l2", 5);
+        addRow("c2", "l1", 15);
+        addRow("c2", "l2", Double.NaN);
+    }
+
+    private int[] select(ColumnarTableFilter filter) {
+        return filter.selectRows(table, 0, 1, null);
+    }
+
+    @Test
+    void testIds() {
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, select(new ColumnarTableFilter()));
+        assertArrayEquals(new int[] {0, 1, 4, 5}, select(new ColumnarTableFilter().setContingencyIds(List.of("", "c2"))));
+        assertArrayEquals(new int[] {1, 3}, select(new ColumnarTableFilter().setContingencyIds(List.of("", "c1", "unknown"))
+                .setElementIds(List.of("l2"))));
+        assertArrayEquals(new int[] {}, select(new ColumnarTableFilter().setElementIds(List.of("unknown"))));
+    }
+
+    @Test
+    void testThresholdAndTopK() {
+        ColumnarTableFilter filter = new ColumnarTableFilter().setValueColumn("p1").setThreshold(15);
+        assertArrayEquals(new int[] {1, 2, 4}, select(filter));
+        assertArrayEquals(new int[] {1, 2}, select(filter.setThreshold(Double.NaN).setTopK(1)));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, select(filter.setTopK(2)));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, select(filter.setTopK(3)));
+    }
+
+    @Test
+    void testErrors() {
+        ColumnarTableFilter noValueColumn = new ColumnarTableFilter().setTopK(1);
+        assertThrows(PowsyblException.class, () -> select(noValueColumn));
+        ColumnarTableFilter unknownColumn = new ColumnarTableFilter().setValueColumn("p2").setThreshold(1);
+        assertThrows(PowsyblException.class, () -> select(unknownColumn));
+        ColumnarTableFilter stringColumn = new ColumnarTableFilter().setValueColumn("branch_id").setThreshold(1);
+        assertThrows(PowsyblException.class, () -> select(stringColumn));
+        ColumnarTableFilter filter = new ColumnarTableFilter();
+        assertThrows(PowsyblException.class, () -> filter.setTopK(-1));
+    }
+
+    @Test
+    void testLimitViolationsDefaultMetric() {
+        ColumnarTable limitViolations = new ColumnarTable(SecurityAnalysisResultTables.LIMIT_VIOLATIONS_COLUMNS);
+        SecurityAnalysisResultTables.addLimitViolations(limitViolations, List.of(
+                new LimitViolation("l1", "l1", LimitViolationType.CURRENT, "permanent", Integer.MAX_VALUE, 100, 0.8, 100, ThreeSides.ONE),
+                new LimitViolation("vl1", "vl1", LimitViolationType.LOW_VOLTAGE, null, Integer.MAX_VALUE, 380, 1, 342, null),
+                new LimitViolation("l2", "l2", LimitViolationType.ACTIVE_POWER, "permanent", Integer.MAX_VALUE, 0, 1, -5, ThreeSides.TWO)),
+                "c1");
+        IntToDoubleFunction metric = SecurityAnalysisResultTables.Table.LIMIT_VIOLATIONS.getDefaultMetric(limitViolations);
+        assertEquals(0.25, metric.applyAsDouble(0), 1e-9);
+        assertEquals(0.1, metric.applyAsDouble(1), 1e-9);
+        assertEquals(5, metric.applyAsDouble(2), 1e-9);
+        assertArrayEquals(new int[] {0, 2}, SecurityAnalysisResultTables.selectRows(limitViolations, SecurityAnalysisResultTables.Table.LIMIT_VIOLATIONS,
+                new ColumnarTableFilter().setThreshold(0.2)));
+    }
+}
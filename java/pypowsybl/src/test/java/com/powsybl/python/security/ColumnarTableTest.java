@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.security;
+
+import com.powsybl.dataframe.SeriesDataType;
+import com.powsybl.dataframe.SeriesMetadata;
+import com.powsybl.dataframe.impl.DefaultDataframeHandler;
+import com.powsybl.dataframe.impl.Series;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class ColumnarTableTest {
+
+    private static final List<SeriesMetadata> COLUMNS = List.of(
+            SeriesMetadata.stringIndex("contingency_id"),
+            SeriesMetadata.stringIndex("branch_id"),
+            SeriesMetadata.ints("count"),
+            SeriesMetadata.doubles("p1"),
+            new SeriesMetadata(false, "q1", false, SeriesDataType.DOUBLE, false));
+
+    private static void addRow(ColumnarTable table, String contingencyId, String branchId, int count, double p1) {
+        int row = table.addRow();
+        table.setString(row, 0, contingencyId);
+        table.setString(row, 1, branchId);
+        table.setInt(row, 2, count);
+        table.setDouble(row, 3, p1);
+        table.setDouble(row, 4, -p1);
+    }
+
+    @Test
+    void testDictionary() {
+        ColumnarTable table = new ColumnarTable(COLUMNS);
+        for (int i = 0; i < 100; i++) {
+            addRow(table, i % 2 == 0 ? null : "c1", "l" + (i % 3), i, i * 0.5);
+        }
+        assertEquals(100, table.getRowCount());
+        assertEquals(ColumnarTable.NULL_CODE, table.getStringCode(0, 0));
+        assertNull(table.getString(0, 0));
+        assertEquals("c1", table.getString(1, 0));
+        assertEquals(table.getStringCode(1, 0), table.getStringCode(99, 0));
+        assertEquals("l2", table.getString(98, 1));
+        assertEquals(99, table.getInt(99, 2));
+        assertEquals(49.5, table.getDouble(99, 3));
+
+        List<Series> series = new ArrayList<>();
+        table.createDataframe(new DefaultDataframeHandler(series::add), new int[] {1, 3}, null);
+        assertThat(series).extracting(Series::getName).containsExactly("branch_id", "p1");
+        assertThat(series.get(0).getStrings()).hasSize(100).startsWith("l0", "l1", "l2");
+    }
+
+    @Test
+    void testWriteRead() throws IOException {
+        ColumnarTable table = new ColumnarTable(COLUMNS);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            table.writeHeader(out);
+            addRow(table, null, "l1", 1, 1.5);
+            addRow(table, "c1", "l1", 2, 2.5);
+            table.writeBatch(out);
+            table.clear();
+            addRow(table, "c2", "l1", 3, 3.5);
+            addRow(table, "c2", "l2", 4, 4.5);
+            table.writeBatch(out);
+            ColumnarTable.writeEnd(out);
+        }
+
+        ColumnarTable read = ColumnarTable.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(read.getColumns()).extracting(SeriesMetadata::getName).containsExactly("contingency_id", "branch_id", "count", "p1", "q1");
+        assertThat(read.getColumns()).extracting(SeriesMetadata::isDefaultAttribute).containsExactly(true, true, true, true, false);
+        assertEquals(4, read.getRowCount());
+        assertNull(read.getString(0, 0));
+        assertEquals("c1", read.getString(1, 0));
+        assertEquals("c2", read.getString(3, 0));
+        assertEquals("l2", read.getString(3, 1));
+        assertEquals(3, read.getInt(2, 2));
+        assertEquals(4.5, read.getDouble(3, 3));
+        assertEquals(-4.5, read.getDouble(3, 4));
+    }
+}
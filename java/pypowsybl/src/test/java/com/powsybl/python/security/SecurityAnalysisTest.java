@@ -7,9 +7,13 @@
  */
 package com.powsybl.python.security;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.contingency.ContingencyContext;
 import com.powsybl.contingency.ContingencyContextType;
+import com.powsybl.contingency.strategy.OperatorStrategy;
+import com.powsybl.contingency.strategy.condition.TrueCondition;
+import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.dataframe.impl.Series;
 import com.powsybl.dataframe.security.LimitReductionDataframeAdder;
 import com.powsybl.dataframe.update.DefaultUpdatingDataframe;
@@ -21,7 +25,9 @@ import com.powsybl.iidm.criteria.duration.LimitDurationCriterion;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.LimitType;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
 import com.powsybl.python.network.Dataframes;
 import com.powsybl.python.network.Networks;
 import com.powsybl.security.SecurityAnalysisParameters;
@@ -32,12 +38,24 @@ import com.powsybl.security.results.BranchResult;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot at rte-france.com>}
@@ -117,4 +135,243 @@ class SecurityAnalysisTest {
         assertEquals(400.0, networkElementCriterion.getNominalVoltageCriterion().getVoltageInterval().getNominalVoltageHighBound().get());
         assertEquals(Country.FR, networkElementCriterion.getCountryCriterion().getCountries().getFirst());
     }
+
+    @Test
+    void testResultsDirectory(@TempDir Path directory) {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        SecurityAnalysisContext analysisContext = new SecurityAnalysisContext();
+        analysisContext.addContingency("NHV1_NHV2_1", Collections.singletonList("NHV1_NHV2_1"));
+        analysisContext.addContingency("NHV1_NHV2_2", Collections.singletonList("NHV1_NHV2_2"));
+        analysisContext.addContingency("GEN", Collections.singletonList("GEN"));
+        analysisContext.addMonitor(new StateMonitor(ContingencyContext.all(), Collections.singleton("NHV1_NHV2_1"),
+            Collections.singleton("VLHV2"), Collections.emptySet()));
+        SecurityAnalysisResult expected = analysisContext.run(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+
+        analysisContext.setResultsDirectory(directory, 2);
+        StoredSecurityAnalysisResult result = analysisContext.runToDirectory(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+        assertThat(result.getPostContingencyResults())
+            .extracting(StoredSecurityAnalysisResult.StateResult::id)
+            .containsExactly("NHV1_NHV2_1", "NHV1_NHV2_2", "GEN");
+        List<Series> expectedLimitViolations = Dataframes.createSeries(Dataframes.limitViolationsMapper(), expected);
+        ColumnarTable limitViolations = result.getLimitViolations();
+        assertThat(limitViolations.getRowCount()).isPositive().isEqualTo(expectedLimitViolations.get(0).getStrings().length);
+        List<String> expectedLimitViolationKeys = new ArrayList<>();
+        for (int row = 0; row < limitViolations.getRowCount(); row++) {
+            expectedLimitViolationKeys.add(expectedLimitViolations.get(0).getStrings()[row] + "/" + expectedLimitViolations.get(1).getStrings()[row]
+                + "/" + expectedLimitViolations.get(3).getStrings()[row] + "/" + expectedLimitViolations.get(9).getStrings()[row]);
+        }
+        List<String> limitViolationKeys = new ArrayList<>();
+        for (int row = 0; row < limitViolations.getRowCount(); row++) {
+            limitViolationKeys.add(limitViolations.getString(row, 0) + "/" + limitViolations.getString(row, 1)
+                + "/" + limitViolations.getString(row, 3) + "/" + limitViolations.getString(row, 9));
+        }
+        assertThat(limitViolationKeys).containsExactlyInAnyOrderElementsOf(expectedLimitViolationKeys);
+        // limit violations are streamed to their own file, and read back per state
+        assertTrue(Files.exists(directory.resolve(StoredSecurityAnalysisResult.LIMIT_VIOLATIONS_FILE_NAME)));
+        StoredSecurityAnalysisResult.StateLimitViolations stateLimitViolations = result.getStateLimitViolations();
+        assertThat(stateLimitViolations.getPreContingencyLimitViolations())
+            .hasSameSizeAs(expected.getPreContingencyResult().getLimitViolationsResult().getLimitViolations());
+        for (int i = 0; i < expected.getPostContingencyResults().size(); i++) {
+            assertThat(stateLimitViolations.getPostContingencyLimitViolations(i))
+                .extracting(LimitViolation::getSubjectId)
+                .containsExactlyElementsOf(expected.getPostContingencyResults().get(i).getLimitViolationsResult().getLimitViolations()
+                    .stream().map(LimitViolation::getSubjectId).toList());
+        }
+
+        List<Series> expectedBranchResults = Dataframes.createSeries(Dataframes.branchResultsMapper(), expected);
+        ColumnarTable branchResults = result.getBranchResults();
+        assertThat(branchResults.getRowCount()).isPositive().isEqualTo(expectedBranchResults.get(0).getStrings().length);
+        for (int row = 0; row < branchResults.getRowCount(); row++) {
+            assertEquals(expectedBranchResults.get(0).getStrings()[row], branchResults.getString(row, 0));
+            assertEquals(expectedBranchResults.get(2).getStrings()[row], branchResults.getString(row, 2));
+            assertEquals(expectedBranchResults.get(3).getDoubles()[row], branchResults.getDouble(row, 3), 1e-9);
+            assertEquals(expectedBranchResults.get(8).getDoubles()[row], branchResults.getDouble(row, 8), 1e-9);
+        }
+        assertThat(result.getBusResults().getRowCount())
+            .isEqualTo(Dataframes.createSeries(Dataframes.busResultsMapper(), expected).get(0).getStrings().length);
+        assertThat(result.getThreeWindingsTransformerResults().getRowCount()).isZero();
+    }
+
+    @Test
+    void testContingencyPartitions() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        SecurityAnalysisContext analysisContext = new SecurityAnalysisContext();
+        analysisContext.addContingency("NHV1_NHV2_1", Collections.singletonList("NHV1_NHV2_1"));
+        analysisContext.addContingency("NHV1_NHV2_2", Collections.singletonList("NHV1_NHV2_2"));
+        analysisContext.addContingency("GEN", Collections.singletonList("GEN"));
+        analysisContext.addMonitor(new StateMonitor(ContingencyContext.all(), Collections.singleton("NHV1_NHV2_1"),
+            Collections.singleton("VLHV2"), Collections.emptySet()));
+        SecurityAnalysisResult expected = analysisContext.run(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+
+        assertThrows(PowsyblException.class, () -> analysisContext.setContingencyPartitionCount(0));
+        analysisContext.setContingencyPartitionCount(2);
+        SecurityAnalysisResult result = analysisContext.run(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+        assertThat(result.getPostContingencyResults())
+            .extracting(postContingencyResult -> postContingencyResult.getContingency().getId())
+            .containsExactly("NHV1_NHV2_1", "NHV1_NHV2_2", "GEN");
+        assertThat(network.getVariantManager().getVariantIds()).containsExactly(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+        assertEquals(Dataframes.createSeries(Dataframes.limitViolationsMapper(), expected).get(0).getStrings().length,
+            Dataframes.createSeries(Dataframes.limitViolationsMapper(), result).get(0).getStrings().length);
+        List<Series> expectedBranchResults = Dataframes.createSeries(Dataframes.branchResultsMapper(), expected);
+        List<Series> branchResults = Dataframes.createSeries(Dataframes.branchResultsMapper(), result);
+        assertThat(branchResults.get(2).getStrings()).containsExactly(expectedBranchResults.get(2).getStrings());
+        assertThat(branchResults.get(3).getDoubles()).containsExactly(expectedBranchResults.get(3).getDoubles(), Offset.offset(1e-9));
+
+        // an operator strategy of all the contingencies cannot be assigned to a single partition
+        analysisContext.addOperatorStrategy(new OperatorStrategy("STRATEGY", ContingencyContext.all(), new TrueCondition(), List.of()));
+        assertThrows(PowsyblException.class, () -> analysisContext.run(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP));
+        assertThat(network.getVariantManager().getVariantIds()).containsExactly(VariantManagerConstants.INITIAL_VARIANT_ID);
+    }
+
+    @Test
+    void testScreening() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        SecurityAnalysisContext analysisContext = new SecurityAnalysisContext();
+        analysisContext.addContingency("LOAD", Collections.singletonList("LOAD"));
+        analysisContext.addContingency("NHV1_NHV2_1", Collections.singletonList("NHV1_NHV2_1"));
+        analysisContext.addContingency("NHV1_NHV2_2", Collections.singletonList("NHV1_NHV2_2"));
+
+        assertThrows(PowsyblException.class, () -> analysisContext.setScreening(-1, Double.NaN, ContingencyOrder.INPUT, 1));
+        assertThrows(PowsyblException.class, () -> analysisContext.setScreening(1, Double.NaN, ContingencyOrder.INPUT, 0));
+        analysisContext.setScreening(1, Double.NaN, ContingencyOrder.INPUT, 1);
+        assertTrue(analysisContext.isScreening());
+        SecurityAnalysisResult result = analysisContext.runScreening(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+        assertThat(result.getPostContingencyResults())
+            .extracting(postContingencyResult -> postContingencyResult.getContingency().getId())
+            .containsExactly("LOAD", "NHV1_NHV2_1");
+        assertThat(SecurityAnalysisContext.getSeverity(result.getPostContingencyResults().get(1))).isPositive();
+
+        // line contingencies are more severe than the load one in DC
+        analysisContext.setScreening(1, Double.NaN, ContingencyOrder.DC_SEVERITY, 1);
+        result = analysisContext.runScreening(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+        assertThat(result.getPostContingencyResults())
+            .extracting(postContingencyResult -> postContingencyResult.getContingency().getId())
+            .containsExactly("NHV1_NHV2_1");
+
+        // only one mode can be used for a run
+        analysisContext.setContingencyPartitionCount(2);
+        assertThrows(PowsyblException.class, analysisContext::checkRunMode);
+        analysisContext.setContingencyPartitionCount(1);
+        analysisContext.checkRunMode();
+
+        analysisContext.setScreening(0, Double.NaN, ContingencyOrder.INPUT, 1);
+        assertFalse(analysisContext.isScreening());
+    }
+
+    @Test
+    void testIncremental() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        network.getVoltageLevel("VLLOAD").newLoad()
+            .setId("LOAD2")
+            .setBus("NLOAD")
+            .setP0(0)
+            .setQ0(0)
+            .add();
+        SecurityAnalysisParameters parameters = new SecurityAnalysisParameters();
+        parameters.getLoadFlowParameters().setDc(true);
+        SecurityAnalysisContext analysisContext = new SecurityAnalysisContext();
+        analysisContext.addContingency("LOAD", Collections.singletonList("LOAD"));
+        analysisContext.addContingency("NHV1_NHV2_1", Collections.singletonList("NHV1_NHV2_1"));
+        assertFalse(analysisContext.isIncremental());
+        analysisContext.setIncremental(true);
+        assertTrue(analysisContext.isIncremental());
+        SecurityAnalysisResult first = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        // flows monitored to compute the margins are not in the result
+        assertThat(first.getPostContingencyResults().get(0).getNetworkResult().getBranchResults()).isEmpty();
+
+        // small change: load contingency result is kept, line contingency has violations so is computed again
+        network.getLoad("LOAD").setP0(610);
+        SecurityAnalysisResult second = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        assertThat(second.getPostContingencyResults())
+            .extracting(postContingencyResult -> postContingencyResult.getContingency().getId())
+            .containsExactly("LOAD", "NHV1_NHV2_1");
+        assertSame(first.getPostContingencyResults().get(0), second.getPostContingencyResults().get(0));
+        assertNotSame(first.getPostContingencyResults().get(1), second.getPostContingencyResults().get(1));
+
+        // the bound does not cover AC runs
+        SecurityAnalysisResult ac = analysisContext.runIncremental(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+        assertNotSame(second.getPostContingencyResults().get(0), ac.getPostContingencyResults().get(0));
+        assertNotSame(ac.getPostContingencyResults().get(0),
+            analysisContext.runIncremental(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP).getPostContingencyResults().get(0));
+
+        // configuration change: every contingency is computed again
+        second = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        analysisContext.addMonitor(new StateMonitor(ContingencyContext.specificContingency("NHV1_NHV2_1"), Collections.singleton("NHV1_NHV2_2"),
+            Collections.emptySet(), Collections.emptySet()));
+        SecurityAnalysisResult monitored = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        assertNotSame(second.getPostContingencyResults().get(0), monitored.getPostContingencyResults().get(0));
+        assertThat(monitored.getPostContingencyResults().get(1).getNetworkResult().getBranchResults())
+            .extracting(BranchResult::getBranchId)
+            .containsExactly("NHV1_NHV2_2");
+
+        // topology change without any injection change: every contingency is computed again
+        network.getLoad("LOAD2").getTerminal().disconnect();
+        SecurityAnalysisResult disconnected = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        assertNotSame(monitored.getPostContingencyResults().get(0), disconnected.getPostContingencyResults().get(0));
+        assertSame(disconnected.getPostContingencyResults().get(0),
+            analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP).getPostContingencyResults().get(0));
+        // a disconnected injection counts as a zero injection
+        assertEquals(0, IncrementalSecurityAnalysisCache.getInjections(network).get("LOAD2").doubleValue(), 0);
+        network.getLoad("LOAD").getTerminal().disconnect();
+        assertEquals(0, IncrementalSecurityAnalysisCache.getInjections(network).get("LOAD").doubleValue(), 0);
+        network.getLoad("LOAD").getTerminal().connect();
+        // tap changes modify the state
+        long stateHash = IncrementalSecurityAnalysisCache.computeStateHash(network);
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(0);
+        assertNotEquals(stateHash, IncrementalSecurityAnalysisCache.computeStateHash(network));
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(1);
+        assertEquals(stateHash, IncrementalSecurityAnalysisCache.computeStateHash(network));
+
+        // large change: every contingency is computed again
+        network.getLoad("LOAD").setP0(1500);
+        SecurityAnalysisResult third = analysisContext.runIncremental(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        assertNotSame(disconnected.getPostContingencyResults().get(0), third.getPostContingencyResults().get(0));
+
+        analysisContext.setIncremental(false);
+        assertFalse(analysisContext.isIncremental());
+
+        // HVDC converter stations inject the setpoint of their line
+        Map<String, Double> hvdcInjections = IncrementalSecurityAnalysisCache.getInjections(FourSubstationsNodeBreakerFactory.create());
+        assertThat(hvdcInjections.get("VSC1") * hvdcInjections.get("VSC2")).isNegative();
+    }
+
+    @Test
+    void testBinaryArchive(@TempDir Path directory) {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        SecurityAnalysisContext analysisContext = new SecurityAnalysisContext();
+        analysisContext.addContingency("NHV1_NHV2_1", Collections.singletonList("NHV1_NHV2_1"));
+        analysisContext.addContingency("GEN", Collections.singletonList("GEN"));
+        analysisContext.addMonitor(new StateMonitor(ContingencyContext.all(), Collections.singleton("NHV1_NHV2_1"),
+            Collections.singleton("VLHV2"), Collections.emptySet()));
+        SecurityAnalysisResult expected = analysisContext.run(network, new SecurityAnalysisParameters(), "OpenLoadFlow", ReportNode.NO_OP);
+
+        Path file = directory.resolve("result.bin");
+        SecurityAnalysisResultArchive.write(expected, file);
+        StoredSecurityAnalysisResult result = SecurityAnalysisResultArchive.read(file);
+        assertNull(result.getDirectory());
+        assertEquals(expected.getPreContingencyResult().getStatus(), result.getPreContingencyResult().status());
+        assertThat(result.getPostContingencyResults())
+            .extracting(StoredSecurityAnalysisResult.StateResult::id)
+            .containsExactly("NHV1_NHV2_1", "GEN");
+        assertEquals(expected.getPostContingencyResults().get(1).getStatus(), result.getPostContingencyResults().get(1).status());
+        List<LimitViolation> expectedViolations = expected.getPostContingencyResults().get(0).getLimitViolationsResult().getLimitViolations();
+        List<LimitViolation> violations = result.getStateLimitViolations().getPostContingencyLimitViolations(0);
+        assertThat(violations).isNotEmpty().hasSameSizeAs(expectedViolations);
+        for (int i = 0; i < violations.size(); i++) {
+            assertEquals(expectedViolations.get(i).getSubjectId(), violations.get(i).getSubjectId());
+            assertEquals(expectedViolations.get(i).getLimitType(), violations.get(i).getLimitType());
+            assertEquals(expectedViolations.get(i).getSide(), violations.get(i).getSide());
+            assertEquals(expectedViolations.get(i).getValue(), violations.get(i).getValue(), 0);
+        }
+        List<Series> expectedBranchResults = Dataframes.createSeries(Dataframes.branchResultsMapper(), expected);
+        ColumnarTable branchResults = result.getBranchResults();
+        assertThat(branchResults.getRowCount()).isPositive().isEqualTo(expectedBranchResults.get(0).getStrings().length);
+        assertEquals(expectedBranchResults.get(5).getDoubles()[1], branchResults.getDouble(1, 5), 0);
+
+        // a result read from an archive can be exported again
+        Path copy = directory.resolve("copy.bin");
+        SecurityAnalysisResultArchive.write(result, copy);
+        assertThat(SecurityAnalysisResultArchive.read(copy).getBusResults().getRowCount()).isEqualTo(result.getBusResults().getRowCount());
+    }
 }
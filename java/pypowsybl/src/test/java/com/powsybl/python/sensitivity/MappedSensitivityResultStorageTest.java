@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class MappedSensitivityResultStorageTest {
+
+    @TempDir
+    Path tmpDir;
+
+    @Test
+    void testFileLayout() throws IOException {
+        Path file = tmpDir.resolve("sensi.bin");
+        MappedSensitivityResultStorage storage = new MappedSensitivityResultStorage(file, 2, 3, 2);
+        storage.writeValue(SensitivityResultStorage.BASE_CASE, 0, 1.0);
+        storage.writeValue(1, 2, 2.0);
+        storage.writeReference(0, 1, 10.0);
+        storage.writeReference(SensitivityResultStorage.BASE_CASE, 0, 20.0);
+        storage.finish();
+
+        double[] values = new double[2];
+        storage.readValues(1, 1, values);
+        assertArrayEquals(new double[] {0, 2.0}, values);
+        double[] references = new double[2];
+        storage.readReferences(0, 0, references);
+        assertArrayEquals(new double[] {0, 10.0}, references);
+
+        // 3 states of 3 values followed by 3 states of 2 references
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals((3 * 3 + 3 * 2) * Double.BYTES, content.capacity());
+        assertEquals(1.0, content.getDouble(0));
+        assertEquals(2.0, content.getDouble((2 * 3 + 2) * Double.BYTES));
+        assertEquals(20.0, content.getDouble(3 * 3 * Double.BYTES));
+        assertEquals(10.0, content.getDouble((3 * 3 + 2 + 1) * Double.BYTES));
+    }
+}
@@ -9,13 +9,19 @@ package com.powsybl.python.sensitivity;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.report.ReportNode;
+import com.powsybl.contingency.ContingencyContextType;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.python.contingency.CompiledContingencyList;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
+import com.powsybl.sensitivity.SensitivityFunctionType;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.fail;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@soft.it>}
@@ -45,4 +51,109 @@ class SensitivityAnalysisTest {
         } catch (PowsyblException ignored) {
         }
     }
+
+    @Test
+    void testFactorsIndicesWithSeveralSpecificContingencies() {
+        Network network = EurostagTutorialExample1Factory.create();
+        SensitivityAnalysisContext sensitivityContext = new SensitivityAnalysisContext();
+        sensitivityContext.addFactorMatrix("m", List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), List.of("GEN", "LOAD"),
+                List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), ContingencyContextType.SPECIFIC,
+                SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, null);
+        List<SensitivityAnalysisContext.MatrixInfo> matrices = sensitivityContext.prepareMatrices();
+        SensitivityAnalysisContext.PreparedFactors factors = sensitivityContext.prepareFactors(network, matrices);
+
+        List<String> factorsRead = new ArrayList<>();
+        factors.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) ->
+                factorsRead.add(variableId + "/" + functionId + "/" + variableType + "/" + contingencyContext.getContingencyId()));
+        assertEquals(8, factorsRead.size());
+        assertEquals("GEN/NHV1_NHV2_1/INJECTION_ACTIVE_POWER/NHV1_NHV2_1", factorsRead.get(0));
+        assertEquals("GEN/NHV1_NHV2_1/INJECTION_ACTIVE_POWER/NHV1_NHV2_2", factorsRead.get(1));
+
+        // each contingency of a factor has its own factor index but shares the same value index
+        assertEquals(0, factors.getValueIndex(0));
+        assertEquals(0, factors.getValueIndex(1));
+        assertEquals(1, factors.getValueIndex(2));
+        assertEquals(3, factors.getValueIndex(7));
+        assertEquals(1, factors.getColumnIndex(3));
+        assertEquals(0, factors.getColumnIndex(4));
+    }
+
+    @Test
+    void testUnknownVariable() {
+        Network network = EurostagTutorialExample1Factory.create();
+        SensitivityAnalysisContext sensitivityContext = new SensitivityAnalysisContext();
+        sensitivityContext.addFactorMatrix("m", List.of("NHV1_NHV2_1"), List.of("UNKNOWN"), List.of(), ContingencyContextType.NONE,
+                SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, null);
+        List<SensitivityAnalysisContext.MatrixInfo> matrices = sensitivityContext.prepareMatrices();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> sensitivityContext.prepareFactors(network, matrices));
+        assertEquals("Variable 'UNKNOWN' not found", e.getMessage());
+    }
+
+    @Test
+    void testContingencyChunks() {
+        Network network = EurostagTutorialExample1Factory.create();
+        SensitivityAnalysisParameters parameters = new SensitivityAnalysisParameters();
+        parameters.getLoadFlowParameters().setDc(true);
+        SensitivityAnalysisResultContext expected = createChunkedContext(1).run(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+        SensitivityAnalysisResultContext result = createChunkedContext(2).run(network, parameters, "OpenLoadFlow", ReportNode.NO_OP);
+
+        for (String contingencyId : List.of("", "NHV1_NHV2_1", "NHV1_NHV2_2")) {
+            assertArrayEquals(expected.getSensitivityValues("all", contingencyId), result.getSensitivityValues("all", contingencyId));
+            assertArrayEquals(expected.getReferenceValues("all", contingencyId), result.getReferenceValues("all", contingencyId));
+        }
+        assertArrayEquals(expected.getSensitivityValues("pre", ""), result.getSensitivityValues("pre", ""));
+        assertArrayEquals(expected.getSensitivityValues("post", "NHV1_NHV2_2"), result.getSensitivityValues("post", "NHV1_NHV2_2"));
+        // chunk variants are removed
+        assertEquals(1, network.getVariantManager().getVariantIds().size());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+
+        SensitivityAnalysisContext context = new SensitivityAnalysisContext();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> context.setContingencyChunkCount(0));
+        assertEquals("Contingency chunk count has to be strictly positive: 0", e.getMessage());
+    }
+
+    @Test
+    void testSession() {
+        Network network = EurostagTutorialExample1Factory.create();
+        SensitivityAnalysisContext context = createChunkedContext(1);
+        assertNotSame(context.getSession(network), context.getSession(network));
+
+        context.setSessionEnabled(true);
+        SensitivityAnalysisSession session = context.getSession(network);
+        network.getLoad("LOAD").setP0(700);
+        assertSame(session, context.getSession(network));
+
+        network.getLine("NHV1_NHV2_1").getTerminal1().disconnect();
+        SensitivityAnalysisSession newSession = context.getSession(network);
+        assertNotSame(session, newSession);
+        assertSame(newSession, context.getSession(network));
+
+        context.addContingency("GEN", List.of("GEN"));
+        assertNotSame(newSession, context.getSession(network));
+        assertEquals(3, context.getSession(network).getContingencies().size());
+        assertNotSame(context.getSession(network), context.getSession(EurostagTutorialExample1Factory.create()));
+
+        // a shared contingency list modified after being added invalidates the session
+        CompiledContingencyList contingencyList = new CompiledContingencyList();
+        context.addContingencyList(contingencyList);
+        SensitivityAnalysisSession listSession = context.getSession(network);
+        assertSame(listSession, context.getSession(network));
+        contingencyList.addContingency("LOAD", List.of("LOAD"));
+        assertNotSame(listSession, context.getSession(network));
+        assertEquals(4, context.getSession(network).getContingencies().size());
+    }
+
+    private static SensitivityAnalysisContext createChunkedContext(int chunkCount) {
+        SensitivityAnalysisContext context = new SensitivityAnalysisContext();
+        context.addContingency("NHV1_NHV2_1", List.of("NHV1_NHV2_1"));
+        context.addContingency("NHV1_NHV2_2", List.of("NHV1_NHV2_2"));
+        context.addFactorMatrix("all", List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), List.of("GEN", "LOAD"), List.of(),
+                ContingencyContextType.ALL, SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, null);
+        context.addFactorMatrix("pre", List.of("NHV1_NHV2_1"), List.of("GEN"), List.of(),
+                ContingencyContextType.NONE, SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, null);
+        context.addFactorMatrix("post", List.of("NHV1_NHV2_1"), List.of("LOAD"), List.of("NHV1_NHV2_2"),
+                ContingencyContextType.SPECIFIC, SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, null);
+        context.setContingencyChunkCount(chunkCount);
+        return context;
+    }
 }
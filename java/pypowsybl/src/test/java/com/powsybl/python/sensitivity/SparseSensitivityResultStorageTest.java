@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class SparseSensitivityResultStorageTest {
+
+    @Test
+    void testThresholdAndUnorderedWrites() {
+        SparseSensitivityResultStorage storage = new SparseSensitivityResultStorage(2, 2, 0.1);
+        storage.writeValue(0, 5, 0.5);
+        storage.writeValue(0, 1, -0.3);
+        storage.writeValue(0, 3, 0.01);
+        storage.writeValue(0, 2, 0.1);
+        storage.writeValue(SensitivityResultStorage.BASE_CASE, 0, 1.0);
+        storage.writeReference(0, 1, 42.0);
+        storage.finish();
+
+        assertEquals(4, storage.getStoredValueCount());
+
+        double[] values = new double[6];
+        storage.readValues(0, 0, values);
+        assertArrayEquals(new double[] {0, -0.3, 0.1, 0, 0, 0.5}, values);
+
+        // read a sub range, as done for one matrix among several
+        double[] subValues = new double[3];
+        storage.readValues(0, 2, subValues);
+        assertArrayEquals(new double[] {0.1, 0, 0}, subValues);
+
+        storage.readValues(1, 0, values);
+        assertArrayEquals(new double[6], values);
+
+        double[] baseCaseValues = new double[2];
+        storage.readValues(SensitivityResultStorage.BASE_CASE, 0, baseCaseValues);
+        assertArrayEquals(new double[] {1.0, 0}, baseCaseValues);
+
+        double[] references = new double[2];
+        storage.readReferences(0, 0, references);
+        assertArrayEquals(new double[] {0, 42.0}, references);
+        storage.readReferences(SensitivityResultStorage.BASE_CASE, 0, references);
+        assertArrayEquals(new double[2], references);
+    }
+
+    @Test
+    void testInvalidThreshold() {
+        assertThrows(PowsyblException.class, () -> new SparseSensitivityResultStorage(1, 1, -1));
+        assertThrows(PowsyblException.class, () -> new SparseSensitivityResultStorage(1, 1, Double.NaN));
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.ContingencyContextType;
+import com.powsybl.sensitivity.SensitivityFunctionType;
+import com.powsybl.sensitivity.SensitivityVariableType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent@local>}
+ */
+class StreamingSensitivityResultStorageTest {
+
+    private static SensitivityAnalysisContext.MatrixInfo createMatrix(ContingencyContextType contingencyContextType, List<String> contingencyIds) {
+        return new SensitivityAnalysisContext.MatrixInfo(contingencyContextType, SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("l1", "l2"), List.of("g1"), contingencyIds);
+    }
+
+    @Test
+    void testStatesConsumedWhenComplete() {
+        SensitivityAnalysisContext.MatrixInfo all = createMatrix(ContingencyContextType.ALL, List.of());
+        SensitivityAnalysisContext.MatrixInfo specific = createMatrix(ContingencyContextType.SPECIFIC, List.of("c2"));
+        specific.setOffsetData(2);
+        specific.setOffsetColumn(2);
+        List<String> consumed = new ArrayList<>();
+        StreamingSensitivityResultStorage storage = new StreamingSensitivityResultStorage(Map.of("all", all, "specific", specific),
+                List.of("c1", "c2"), (contingencyId, matrixId, matrix, values, references) -> {
+                    consumed.add(contingencyId + "/" + matrixId + "/" + values[0] + "/" + references[1]);
+                    return true;
+                });
+
+        storage.writeValue(0, 0, 1.0);
+        storage.writeReference(0, 0, 10.0);
+        assertTrue(consumed.isEmpty());
+        storage.writeValue(0, 1, 2.0);
+        storage.writeReference(0, 1, 20.0);
+        // c1 only expects the 2 factors of matrix 'all'
+        assertEquals(List.of("c1/all/1.0/20.0"), consumed);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> storage.writeValue(0, 0, 5.0));
+        assertEquals("Sensitivity result of state 'c1' written after the state has been consumed", e.getMessage());
+        // the base case buffer only holds matrix 'all'
+        e = assertThrows(PowsyblException.class, () -> storage.writeValue(SensitivityResultStorage.BASE_CASE, 2, 5.0));
+        assertEquals("Sensitivity result index 2 does not belong to a matrix of state base case", e.getMessage());
+
+        storage.writeValue(1, 2, 3.0);
+        storage.writeReference(1, 3, 30.0);
+        storage.finishState(1);
+        assertEquals(2, consumed.size());
+        assertTrue(consumed.containsAll(List.of("c2/all/0.0/0.0", "c2/specific/3.0/30.0")));
+
+        storage.writeValue(SensitivityResultStorage.BASE_CASE, 0, 4.0);
+        storage.writeReference(SensitivityResultStorage.BASE_CASE, 0, 40.0);
+        storage.finish();
+        assertEquals("null/all/4.0/0.0", consumed.get(3));
+    }
+
+    @Test
+    void testStop() {
+        SensitivityAnalysisContext.MatrixInfo all = createMatrix(ContingencyContextType.ALL, List.of());
+        StreamingSensitivityResultStorage storage = new StreamingSensitivityResultStorage(Map.of("all", all),
+                List.of("c1", "c2"), (contingencyId, matrixId, matrix, values, references) -> false);
+        storage.writeValue(0, 0, 1.0);
+        storage.writeReference(0, 0, 10.0);
+        StreamingSensitivityResultStorage.StoppedException e = assertThrows(StreamingSensitivityResultStorage.StoppedException.class,
+            () -> storage.finishState(0));
+        assertTrue(StreamingSensitivityResultStorage.isStopped(new RuntimeException(e)));
+        assertThrows(StreamingSensitivityResultStorage.StoppedException.class, () -> storage.writeValue(1, 0, 1.0));
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.python.shortcircuit;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.shortcircuit.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Short-circuit analysis provider for tests, returning one magnitude fault result per fault, in the order of the
+ * faults, without any computation.
+ *
+ * @author agent {@literal <agent@local>}
+ */
+public class FaultIdShortCircuitAnalysisProvider implements ShortCircuitAnalysisProvider {
+
+    public static final String NAME = "FaultIdShortCircuitAnalysis";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public CompletableFuture<ShortCircuitAnalysisResult> run(Network network, List<Fault> faults, ShortCircuitParameters parameters,
+                                                             ComputationManager computationManager, List<FaultParameters> faultParameters,
+                                                             ReportNode reportNode) {
+        List<FaultResult> faultResults = faults.stream()
+                .<FaultResult>map(fault -> new MagnitudeFaultResult(fault, 1.0, Collections.emptyList(), Collections.emptyList(),
+                        1.0, Collections.emptyList(), null, FaultResult.Status.SUCCESS))
+                .toList();
+        return CompletableFuture.completedFuture(new ShortCircuitAnalysisResult(faultResults));
+    }
+}
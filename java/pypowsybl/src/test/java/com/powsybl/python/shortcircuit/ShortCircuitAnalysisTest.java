@@ -7,7 +7,15 @@
  */
 package com.powsybl.python.shortcircuit;
 
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.dataframe.impl.DefaultDataframeHandler;
 import com.powsybl.dataframe.impl.Series;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.python.security.ColumnarTable;
 import com.powsybl.python.network.Dataframes;
 import com.powsybl.contingency.violations.LimitViolation;
 import com.powsybl.contingency.violations.LimitViolationType;
@@ -21,6 +29,7 @@ import java.util.List;
 
 import static java.lang.Double.NaN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@soft.it>}
@@ -126,4 +135,75 @@ class ShortCircuitAnalysisTest {
         Assertions.assertThat(busResultsSeries.get(5).getDoubles())
                 .containsExactly(8.0, 13.5);
     }
+
+    private static List<Series> createSeries(ColumnarTable table) {
+        List<Series> series = new ArrayList<>();
+        table.createDataframe(new DefaultDataframeHandler(series::add));
+        return series;
+    }
+
+    @Test
+    void testColumnarResults() {
+        Fault f1 = new BusFault("f1", "bus1");
+        Fault f2 = new BusFault("f2", "bus2");
+        MagnitudeFeederResult mfr1 = new MagnitudeFeederResult("connect1", 1.1);
+        MagnitudeFeederResult mfr2 = new MagnitudeFeederResult("connect2", 1.2, ThreeSides.TWO);
+        MagnitudeFeederResult mfr3 = new MagnitudeFeederResult("connect1", 1.3);
+        FaultResult fr1 = new MagnitudeFaultResult(f1, 1.0, List.of(mfr1, mfr2), Collections.emptyList(), 5.0, Collections.emptyList(), null, FaultResult.Status.SUCCESS);
+        FaultResult fr2 = new MagnitudeFaultResult(f2, 2.0, List.of(mfr3), Collections.emptyList(), 6.0, Collections.emptyList(), null, FaultResult.Status.SUCCESS);
+        ColumnarShortCircuitAnalysisResult result = new ColumnarShortCircuitAnalysisResult(List.of(fr1, fr2), false);
+
+        List<Series> faultResults = Dataframes.createSeries(Dataframes.shortCircuitAnalysisFaultResultsMapper(false), result);
+        assertThat(faultResults).extracting(Series::getName)
+                .containsExactly("id", "status", "short_circuit_power", "time_constant", "current", "voltage");
+        assertThat(faultResults.get(0).getStrings()).containsExactly("f1", "f2");
+        assertThat(faultResults.get(1).getStrings()).containsExactly("SUCCESS", "SUCCESS");
+        assertThat(faultResults.get(2).getDoubles()).containsExactly(1.0, 2.0);
+        assertThat(faultResults.get(4).getDoubles()).containsExactly(5.0, 6.0);
+        assertThat(createSeries(result.getFaultResults(false)).get(4).getDoubles()).containsExactly(5.0, 6.0);
+        assertThat(result.getFaultResults(false)).isSameAs(result.getFaultResults(false));
+        assertThat(result.getFaultResults(true).getRowCount()).isZero();
+
+        List<Series> feederResults = Dataframes.createSeries(Dataframes.shortCircuitAnalysisMagnitudeFeederResultsMapper(false), result);
+        assertThat(feederResults).extracting(Series::getName)
+                .containsExactly("id", "connectable_id", "current", "side");
+        assertThat(feederResults.get(0).getStrings()).containsExactly("f1", "f1", "f2");
+        assertThat(feederResults.get(1).getStrings()).containsExactly("connect1", "connect2", "connect1");
+        assertThat(feederResults.get(2).getDoubles()).containsExactly(1.1, 1.2, 1.3);
+        assertThat(feederResults.get(3).getStrings()).containsExactly("", "TWO", "");
+
+        List<Series> fortescueFaultResults = Dataframes.createSeries(Dataframes.shortCircuitAnalysisFaultResultsMapper(true), result);
+        assertThat(fortescueFaultResults).extracting(Series::getName)
+                .containsExactly("id", "status", "short_circuit_power", "time_constant", "current_positive_angle",
+                        "current_positive_magnitude", "voltage_positive_angle", "voltage_positive_magnitude");
+        assertThat(fortescueFaultResults.get(0).getStrings()).isEmpty();
+    }
+
+    @Test
+    void testFaultPartitions() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ShortCircuitAnalysisContext analysisContext = new ShortCircuitAnalysisContext();
+        List<Fault> faults = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            faults.add(new BusFault("F" + i, "NGEN"));
+        }
+        analysisContext.setFaults(faults);
+        analysisContext.setFaultPartitionCount(3);
+        ColumnarShortCircuitAnalysisResult result = analysisContext.run(network, new ShortCircuitParameters(),
+                FaultIdShortCircuitAnalysisProvider.NAME, ReportNode.NO_OP);
+        assertThat(result.getFaultResults())
+                .extracting(faultResult -> faultResult.getFault().getId())
+                .containsExactly("F0", "F1", "F2", "F3", "F4");
+        assertThat(Dataframes.createSeries(Dataframes.shortCircuitAnalysisFaultResultsMapper(false), result).get(0).getStrings())
+                .containsExactly("F0", "F1", "F2", "F3", "F4");
+        assertThat(network.getVariantManager().getVariantIds()).containsExactly(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertThat(network.getVariantManager().isVariantMultiThreadAccessAllowed()).isFalse();
+    }
+
+    @Test
+    void testFaultPartitionCount() {
+        ShortCircuitAnalysisContext analysisContext = new ShortCircuitAnalysisContext();
+        assertThrows(PowsyblException.class, () -> analysisContext.setFaultPartitionCount(0));
+        analysisContext.setFaultPartitionCount(4);
+    }
 }
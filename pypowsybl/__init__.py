@@ -9,6 +9,7 @@ import os as _os
 import inspect as _inspect
 import logging
 import atexit as _atexit
+from typing import Any, Dict
 from pypowsybl import _pypowsybl
 from pypowsybl._pypowsybl import PyPowsyblError
 from pypowsybl import (
@@ -30,6 +31,7 @@ try:
 except ModuleNotFoundError:
     logging.getLogger("powsybl").warning("'opf' extra dependencies are not installed, some features will not be available")
 from pypowsybl.network import per_unit_view
+from pypowsybl.utils import create_data_frame_from_series_array
 
 __version__ = '1.17.0.dev1'
 
@@ -83,5 +85,40 @@ def is_config_read() -> bool:
     return _pypowsybl.is_config_read()
 
 
+def configure_computation_executor(thread_count: int = -1, thread_name_prefix: str = 'pypowsybl-computation',
+                                   work_stealing: bool = False) -> None:
+    """Run computations (load flows, security and sensitivity analyses...) on a dedicated executor
+
+    By default, computations use the executor of the computation manager defined by the platform configuration.
+    This allows, for example, to pin the analyses parallelism to the cores allocated to a container.
+
+    Args:
+        thread_count(int): number of threads, defaults to the number of available processors
+        thread_name_prefix(str): prefix of the threads name
+        work_stealing(bool): use a work stealing pool instead of a fixed thread pool, defaults to False
+    """
+    _pypowsybl.configure_computation_manager(thread_count, thread_name_prefix, work_stealing)
+
+
+def reset_computation_executor() -> None:
+    """Go back to the computation manager defined by the platform configuration"""
+    _pypowsybl.reset_computation_manager()
+
+
+def get_computation_executor_metrics() -> Dict[str, Any]:
+    """Get the current state of the computation executor
+
+    Counts are -1 when not available for the executor type.
+
+    Returns:
+        a dictionary with executor_type, thread_count, active_task_count, queued_task_count and completed_task_count
+    """
+    df = create_data_frame_from_series_array(_pypowsybl.get_computation_manager_executor_metrics())
+    metrics: Dict[str, Any] = {'executor_type': df.index[0]}
+    for name, value in df.iloc[0].items():
+        metrics[str(name)] = int(value)
+    return metrics
+
+
 def print_version() -> None:
     print(_pypowsybl.get_version_table())
@@ -1,5 +1,5 @@
 from logging import Logger
-from typing import ClassVar, Dict, Iterator, List, Sequence, Optional, Union, Any
+from typing import Callable, ClassVar, Dict, Iterator, List, Sequence, Optional, Union, Any
 from numpy import ndarray
 
 class ArrayStruct:
@@ -970,7 +970,13 @@ class RaoComputationStatus:
 
 def add_contingency(analysis_context: JavaHandle, contingency_id: str, elements_ids: List[str]) -> None: ...
 def add_contingency_from_json_file(analysis_context: JavaHandle, path_to_json_file: str) -> None: ...
+def get_contingencies_dataframe_metadata() -> List[SeriesMetadata]: ...
+def add_contingencies(analysis_context: JavaHandle, dataframe: Dataframe) -> None: ...
+def create_contingency_list() -> JavaHandle: ...
+def add_contingency_list(analysis_context: JavaHandle, contingency_list: JavaHandle) -> None: ...
 def export_to_json(result: JavaHandle, path: str) -> None: ...
+def export_security_analysis_result_to_binary(security_analysis_result: JavaHandle, path: str) -> None: ...
+def import_security_analysis_result_from_binary(path: str) -> JavaHandle: ...
 def add_monitored_elements(security_analysis_context: JavaHandle, contingency_context_type: ContingencyContextType, branch_ids: List[str], voltage_level_ids: List[str], three_windings_transformer_ids: List[str], contingency_ids: List[str]) -> None: ...
 def add_load_active_power_action(security_analysis_context: JavaHandle, action_id: str, load_id: str, is_relative: bool, active_power: float) -> None: ...
 def add_load_reactive_power_action(security_analysis_context: JavaHandle, action_id: str, load_id: str, is_relative: bool, reactive_power: float) -> None: ...
@@ -985,6 +991,10 @@ def add_action_from_json_file(security_analysis_context: JavaHandle, path_to_jso
 def add_operator_strategy_from_json_file(security_analysis_context: JavaHandle, path_to_json_file: str) -> None: ...
 def add_limit_reductions(security_analysis_context: JavaHandle, dataframe: Optional[Dataframe]) -> None: ...
 def get_limit_reduction_dataframe_metadata() -> List[SeriesMetadata]: ...
+def get_actions_dataframe_metadata(action_type: str) -> List[SeriesMetadata]: ...
+def add_actions(analysis_context: JavaHandle, action_type: str, dataframe: Optional[Dataframe]) -> None: ...
+def get_operator_strategies_dataframe_metadata() -> List[SeriesMetadata]: ...
+def add_operator_strategies(analysis_context: JavaHandle, dataframe: Optional[Dataframe]) -> None: ...
 def clone_variant(network: JavaHandle, src: str, variant: str, may_overwrite: bool) -> None: ...
 def create_dataframe(columns_values: list, columns_names: List[str], columns_types: List[int], is_index: List[bool]) -> Dataframe: ...
 def create_element(network: JavaHandle, dataframes: List[Optional[Dataframe]], element_type: ElementType) -> None: ...
@@ -1016,6 +1026,7 @@ def get_sensitivity_analysis_provider_parameters_names(provider: str) -> List[st
 def get_dynamic_simulation_provider_parameters_names() -> List[str]: ...
 def create_dynamic_simulation_provider_parameters_series_array() -> SeriesArray: ...
 def get_limit_violations(result: JavaHandle) -> SeriesArray: ...
+def get_filtered_security_analysis_results(result: JavaHandle, table: str, contingency_ids: List[str], element_ids: List[str], value_column: str, threshold: float, top_k: int) -> SeriesArray: ...
 def get_network_area_diagram_svg(network: JavaHandle, voltage_level_ids:  Union[str, List[str]], depth: int, high_nominal_voltage_bound: float, low_nominal_voltage_bound: float, nad_parameters: NadParameters) -> str: ...
 def get_network_area_diagram_svg_and_metadata(network: JavaHandle, voltage_level_ids:  Union[str, List[str]], depth: int, high_nominal_voltage_bound: float, low_nominal_voltage_bound: float, nad_parameters: NadParameters, fixed_positions: Optional[Dataframe], branch_labels: Optional[Dataframe], three_wt_labels: Optional[Dataframe], injections_labels: Optional[Dataframe], bus_descriptions: Optional[Dataframe], vl_descriptions: Optional[Dataframe], bus_node_styles: Optional[Dataframe], edge_styles: Optional[Dataframe], three_wt_styles: Optional[Dataframe]) -> List[str]: ...
 def get_network_area_diagram_displayed_voltage_levels(network: JavaHandle, voltage_level_ids:  Union[str, List[str]], depth: int) -> List[str]: ...
@@ -1039,6 +1050,11 @@ def get_node_breaker_view_internal_connections(network: JavaHandle, voltage_leve
 def get_node_breaker_view_nodes(network: JavaHandle, voltage_level: str) -> SeriesArray: ...
 def get_node_breaker_view_switches(network: JavaHandle, voltage_level: str) -> SeriesArray: ...
 def get_reference_matrix(sensitivity_analysis_result_context: JavaHandle, matrix_id: str, contingency_id: str) -> Matrix: ...
+def get_sensitivity_matrices(sensitivity_analysis_result_context: JavaHandle, matrix_id: str) -> Matrix: ...
+def get_reference_matrices(sensitivity_analysis_result_context: JavaHandle, matrix_id: str) -> Matrix: ...
+def get_sensitivity_results_file(sensitivity_analysis_result_context: JavaHandle) -> str: ...
+def get_sensitivity_results_contingency_ids(sensitivity_analysis_result_context: JavaHandle) -> List[str]: ...
+def get_sensitivity_results_matrices_layout(sensitivity_analysis_result_context: JavaHandle) -> SeriesArray: ...
 def get_post_contingency_results(result: JavaHandle) -> PostContingencyResultArray: ...
 def get_operator_strategy_results(result: JavaHandle) -> OperatorStrategyResultArray: ...
 def get_pre_contingency_result(result: JavaHandle) -> PreContingencyResult: ...
@@ -1051,6 +1067,9 @@ def get_validation_level(network: JavaHandle) -> ValidationLevel: ...
 def get_three_windings_transformer_results(result: JavaHandle) -> SeriesArray: ...
 def get_variant_ids(network: JavaHandle) -> List[str]: ...
 def get_version_table() -> str: ...
+def configure_computation_manager(thread_count: int, thread_name_prefix: str, work_stealing: bool) -> None: ...
+def reset_computation_manager() -> None: ...
+def get_computation_manager_executor_metrics() -> SeriesArray: ...
 def get_working_variant_id(network: JavaHandle) -> str: ...
 def add_factor_matrix(sensitivity_analysis_context: JavaHandle, matrix_id: str, branches_ids: List[str], variables_ids: List[str], contingencies_ids: List[str], contingency_context_type: ContingencyContextType, sensitivity_function_type: SensitivityFunctionType, sensitivity_variable_type: Optional[SensitivityVariableType]) -> None: ...
 def is_config_read() -> bool: ...
@@ -1075,9 +1094,28 @@ def apply_solved_tap_and_section_count_values(network: JavaHandle) -> None: ...
 def check_loadflow_parameters(parameters: LoadFlowParameters, provider: str, report: Optional[JavaHandle]) -> bool: ...
 def run_loadflow(network: JavaHandle, parameters: LoadFlowParameters, provider: str, report: Optional[JavaHandle]) -> LoadFlowComponentResultArray: ...
 def run_loadflow_async(network: JavaHandle, variant_id: str, parameters: LoadFlowParameters, provider: str, report: Optional[JavaHandle], results_future: Any) -> None: ...
+def create_prepared_loadflow_parameters(parameters: LoadFlowParameters, provider: str) -> JavaHandle: ...
+def run_loadflow_with_prepared_parameters(network: JavaHandle, prepared_parameters: JavaHandle, dc: bool, report_node: Optional[JavaHandle]) -> LoadFlowComponentResultArray: ...
+def run_loadflow_async_with_prepared_parameters(network: JavaHandle, variant_id: str, prepared_parameters: JavaHandle, dc: bool, report_node: Optional[JavaHandle], results_future: Any) -> None: ...
+def run_loadflow_batch(network: JavaHandle, variant_ids: List[str], parameters: LoadFlowParameters, provider: str, thread_count: int) -> SeriesArray: ...
+def create_time_series_loadflow(timestep_count: int) -> JavaHandle: ...
+def add_time_series_loadflow_injection_profile(time_series_loadflow: JavaHandle, attribute: str, element_ids: List[str], values: ndarray) -> None: ...
+def add_time_series_loadflow_output(time_series_loadflow: JavaHandle, attribute: str, element_ids: List[str]) -> None: ...
+def run_time_series_loadflow(time_series_loadflow: JavaHandle, network: JavaHandle, parameters: LoadFlowParameters, provider: str, report_node: Optional[JavaHandle]) -> SeriesArray: ...
+def get_time_series_loadflow_output_matrix(time_series_loadflow: JavaHandle, attribute: str) -> Matrix: ...
 def run_loadflow_validation(network: JavaHandle, validation_type: ValidationType, validation_parameters: LoadFlowValidationParameters) -> SeriesArray: ...
 def run_security_analysis(security_analysis_context: JavaHandle, network: JavaHandle, parameters: SecurityAnalysisParameters, provider: str, report: Optional[JavaHandle]) -> JavaHandle: ...
+def set_security_analysis_results_directory(security_analysis_context: JavaHandle, directory: str, contingency_batch_size: int) -> None: ...
+def set_security_analysis_contingency_partition_count(security_analysis_context: JavaHandle, partition_count: int) -> None: ...
+def set_security_analysis_screening(security_analysis_context: JavaHandle, critical_contingency_count: int, severity_budget: float, contingency_order: str, batch_size: int) -> None: ...
+def set_security_analysis_incremental(security_analysis_context: JavaHandle, incremental: bool) -> None: ...
 def run_sensitivity_analysis(sensitivity_analysis_context: JavaHandle, network: JavaHandle, parameters: SensitivityAnalysisParameters, provider: str, report: Optional[JavaHandle]) -> JavaHandle: ...
+def run_sensitivity_analysis_streaming(sensitivity_analysis_context: JavaHandle, network: JavaHandle, parameters: SensitivityAnalysisParameters, provider: str, report_node: Optional[JavaHandle], matrix_callback: Callable[[str, str, ndarray, ndarray], Optional[bool]]) -> bool: ...
+def set_sensitivity_analysis_unmanaged_results(sensitivity_analysis_context: JavaHandle, unmanaged_results: bool) -> None: ...
+def set_sensitivity_analysis_results_file(sensitivity_analysis_context: JavaHandle, results_file: str) -> None: ...
+def set_sensitivity_analysis_sparse_results(sensitivity_analysis_context: JavaHandle, threshold: float) -> None: ...
+def set_sensitivity_analysis_contingency_chunk_count(sensitivity_analysis_context: JavaHandle, chunk_count: int) -> None: ...
+def set_sensitivity_analysis_session_enabled(sensitivity_analysis_context: JavaHandle, session_enabled: bool) -> None: ...
 def set_config_read(arg0: bool) -> None: ...
 def set_logger(logger: Logger) -> None: ...
 def set_default_loadflow_provider(provider: str) -> None: ...
@@ -1116,6 +1154,7 @@ def get_glsk_injection_keys(network: JavaHandle, importer: JavaHandle, country:
 def get_glsk_factors(network: JavaHandle, importer: JavaHandle, country: str, timestamp: int) -> List[float]: ...
 def create_flow_decomposition() -> JavaHandle: ...
 def add_contingency_for_flow_decomposition(flow_decomposition_context: JavaHandle, contingency_id: str, elements_ids: List[str]) -> None: ...
+def add_contingency_list_for_flow_decomposition(flow_decomposition_context: JavaHandle, contingency_list: JavaHandle) -> None: ...
 def add_precontingency_monitored_elements_for_flow_decomposition(flow_decomposition_context: JavaHandle, branch_ids: List[str]) -> None: ...
 def add_postcontingency_monitored_elements_for_flow_decomposition(flow_decomposition_context: JavaHandle, branch_ids: List[str], contingency_ids: List[str]) -> None: ...
 def add_additional_xnec_provider_for_flow_decomposition(flow_decomposition_context: JavaHandle, default_xnec_provider: DefaultXnecProvider) -> None: ...
@@ -1158,6 +1197,7 @@ def scale(network: JavaHandle, scalable: JavaHandle, scaling_parameters: Scaling
 def compute_proportional_scalable_percentages(injection_ids: List[str], mode: DistributionMode, network: JavaHandle) -> List[float]: ...
 def get_single_line_diagram_component_library_names() -> List[str]: ...
 def set_faults(short_circuit_analysis: JavaHandle, dfs: Optional[Dataframe]) -> None: ...
+def set_short_circuit_analysis_fault_partition_count(shortcircuit_analysis_context: JavaHandle, partition_count: int) -> None: ...
 def get_fault_results(result: JavaHandle, with_fortescue_result: bool) -> SeriesArray: ...
 def get_feeder_results(result: JavaHandle, with_fortescue_result: bool) -> SeriesArray: ...
 def get_short_circuit_limit_violations(result: JavaHandle) -> SeriesArray: ...
@@ -1482,6 +1522,16 @@ def check_grid2op_isolated_and_disconnected_injections(backend: JavaHandle) -> b
 
 def run_grid2op_loadflow(backend: JavaHandle, parameters: LoadFlowParameters, report_node: Optional[JavaHandle]) -> LoadFlowComponentResultArray: ...
 
+def run_grid2op_loadflow_async(backend: JavaHandle, parameters: LoadFlowParameters, report_node: Optional[JavaHandle], results_future: Any) -> None: ...
+
+def run_grid2op_dc_power_flow(backend: JavaHandle) -> None: ...
+
+def create_grid2op_backend_snapshot(backend: JavaHandle) -> JavaHandle: ...
+
+def restore_grid2op_backend_snapshot(backend: JavaHandle, snapshot: JavaHandle) -> None: ...
+
+def free_grid2op_backend_snapshot(backend: JavaHandle, snapshot: JavaHandle) -> None: ...
+
 class ScalingType:
     __members__: ClassVar[Dict[str, ScalingType]] = ...
     DELTA_P: ClassVar[ScalingType] = ...
@@ -13,6 +13,7 @@ from pypowsybl._pypowsybl import ContingencyContextType, DefaultXnecProvider
 from pypowsybl.network import Network
 from pypowsybl.utils import create_data_frame_from_series_array
 import pypowsybl.loadflow
+import pypowsybl.security
 from .parameters import Parameters
 
 # enforcing some class metadata on classes imported from C extension,
@@ -74,6 +75,16 @@ class FlowDecomposition:
                                                           elements_ids=elements_ids)
         return self
 
+    def add_contingency_list(self, contingency_list: pypowsybl.security.ContingencyList) -> FlowDecomposition:
+        """
+        Add all the contingencies of a contingency list.
+
+        Args:
+            contingency_list: The contingency list, see :func:`pypowsybl.security.create_contingency_list`.
+        """
+        _pypowsybl.add_contingency_list_for_flow_decomposition(self._handle, contingency_list._handle)
+        return self
+
     def add_monitored_elements(self, branch_ids: Union[List[str], str],
                                contingency_ids: Optional[Union[List[str], str]] = None,
                                contingency_context_type: ContingencyContextType = ContingencyContextType.ALL) -> FlowDecomposition:
@@ -5,6 +5,8 @@
 # SPDX-License-Identifier: MPL-2.0
 from __future__ import annotations
 
+import asyncio
+from asyncio import Future
 from typing import List, Optional, Type, Literal, Dict, Any
 
 import numpy as np
@@ -15,7 +17,9 @@ from pypowsybl._pypowsybl import Grid2opUpdateDoubleValueType
 from pypowsybl._pypowsybl import Grid2opUpdateIntegerValueType
 
 from pypowsybl import _pypowsybl
+from pypowsybl._pypowsybl import JavaHandle
 from pypowsybl.loadflow import Parameters, ComponentResult
+from pypowsybl.loadflow.impl.loadflow_results_future_wrapper import LoadFlowResultsFutureWrapper
 from pypowsybl.network import Network
 from pypowsybl.report import ReportNode
 
@@ -95,3 +99,47 @@ class Backend:
         p.dc = dc
         return [ComponentResult(res) for res in _pypowsybl.run_grid2op_loadflow(self._handle, p,
                                                                                 report_node._report_node if report_node is not None else None)]
+
+    def run_pf_async(self, dc: bool = False, parameters: Optional[Parameters] = None, report_node: Optional[ReportNode] = None) -> Future:
+        """
+        Run the load flow and refresh backend values on a worker thread. The backend must not be updated nor
+        its values read until the returned future is done.
+
+        Returns:
+            A future list of component results, one for each component of the network.
+        """
+        p = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
+        p.dc = dc
+        loop = asyncio.get_running_loop()
+        results_future = loop.create_future()
+        _pypowsybl.run_grid2op_loadflow_async(self._handle, p,
+                                              report_node._report_node if report_node is not None else None,  # pylint: disable=protected-access
+                                              LoadFlowResultsFutureWrapper(loop, results_future))
+        return results_future
+
+    def run_fast_dc_pf(self) -> None:
+        """
+        Run a linearized DC power flow directly on backend arrays, without going through the load flow
+        provider and without modifying the network. The susceptance matrix factorization is reused between
+        calls as long as the topology does not change, which makes it well suited to screen many candidate actions.
+        Reactive power is set to zero and voltage magnitudes to nominal voltage.
+        """
+        _pypowsybl.run_grid2op_dc_power_flow(self._handle)
+
+    def create_snapshot(self) -> JavaHandle:
+        """
+        Save the full backend state (network variant, topology and value arrays) so that it can be restored later
+        with :meth:`restore_snapshot`. The snapshot has to be freed with :meth:`free_snapshot` when not needed anymore,
+        otherwise it is released when closing the backend.
+        """
+        return _pypowsybl.create_grid2op_backend_snapshot(self._handle)
+
+    def restore_snapshot(self, snapshot: JavaHandle) -> None:
+        """
+        Restore the backend to the state saved by :meth:`create_snapshot`. The snapshot remains valid and can
+        be restored again.
+        """
+        _pypowsybl.restore_grid2op_backend_snapshot(self._handle, snapshot)
+
+    def free_snapshot(self, snapshot: JavaHandle) -> None:
+        _pypowsybl.free_grid2op_backend_snapshot(self._handle, snapshot)
@@ -8,7 +8,11 @@
 from .impl.loadflow import (
     run_ac,
     run_ac_async,
+    run_ac_batch,
     run_dc,
+    run_dc_batch,
+    run_ac_time_series,
+    run_dc_time_series,
     ConnectedComponentMode,
     ComponentMode,
     BalanceType,
@@ -28,5 +32,7 @@ from .impl.validation_parameters import (
 )
 from .impl.validation_result import ValidationResult
 from .impl.parameters import Parameters
+from .impl.prepared_parameters import PreparedParameters
 from .impl.slack_bus_result import SlackBusResult
 from .impl.component_result import ComponentResult, ComponentStatus
+from .impl.time_series_result import TimeSeriesResult
@@ -6,7 +6,8 @@
 #
 import asyncio
 from asyncio import Future
-from typing import List, Optional
+from typing import Dict, List, Optional, Union
+import numpy as np
 from pandas import DataFrame
 from pypowsybl import _pypowsybl
 from pypowsybl._pypowsybl import (
@@ -15,6 +16,7 @@ from pypowsybl._pypowsybl import (
     BalanceType,
     VoltageInitMode,
     LoadFlowValidationParameters,
+    PyPowsyblError,
     run_loadflow_validation
 )
 from pypowsybl.network import Network
@@ -23,6 +25,8 @@ from pypowsybl.report import ReportNode
 from .component_result import ComponentResult
 from .loadflow_results_future_wrapper import LoadFlowResultsFutureWrapper
 from .parameters import Parameters
+from .prepared_parameters import PreparedParameters
+from .time_series_result import TimeSeriesResult
 from .validation_result import ValidationResult
 from .validation_parameters import ValidationParameters, ValidationType
 
@@ -35,41 +39,71 @@ ConnectedComponentMode.__module__ = __name__
 ComponentMode.__module__ = __name__
 
 
-def run_ac(network: Network, parameters: Optional[Parameters] = None, provider: str = '',
+def run_ac(network: Network, parameters: Optional[Union[Parameters, PreparedParameters]] = None, provider: str = '',
            report_node: Optional[ReportNode] = None) -> List[ComponentResult]:  # pylint: disable=protected-access
     """
     Run an AC load flow on a network.
 
     Args:
         network:    a network
-        parameters: the load flow parameters, dc attribute is forced to false
-        provider:   the load flow implementation provider, default is the default load flow provider
+        parameters: the load flow parameters, dc attribute is forced to false.
+                    Prepared parameters can be used to avoid converting the same parameters on each run.
+        provider:   the load flow implementation provider, default is the default load flow provider.
+                    Must be empty or match the provider of prepared parameters, which are bound to a provider.
         report_node:   the reporter to be used to create an execution report, default is None (no report)
 
     Returns:
         A list of component results, one for each component of the network.
     """
+    if isinstance(parameters, PreparedParameters):
+        _check_prepared_provider(parameters, provider)
+        return _run_prepared(network, parameters, False, report_node)
     p = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
     p.dc = False
     return [ComponentResult(res) for res in _pypowsybl.run_loadflow(network._handle, p, provider,
                                                                     None if report_node is None else report_node._report_node)]  # pylint: disable=protected-access
 
 
-def run_ac_async(network: Network, variant_id: str = 'InitialState', parameters: Optional[Parameters] = None, provider: str = '',
-                 report_node: Optional[ReportNode] = None) -> Future:  # pylint: disable=protected-access
+def _check_prepared_provider(parameters: PreparedParameters, provider: str) -> None:
+    if provider and provider != parameters.provider:
+        raise PyPowsyblError(f"Provider '{provider}' does not match the provider '{parameters.provider}' "
+                             "of the prepared parameters")
+
+
+def _run_prepared(network: Network, parameters: PreparedParameters, dc: bool,
+                  report_node: Optional[ReportNode]) -> List[ComponentResult]:
+    return [ComponentResult(res) for res in _pypowsybl.run_loadflow_with_prepared_parameters(network._handle, parameters._handle, dc,  # pylint: disable=protected-access
+                                                                                             None if report_node is None else report_node._report_node)]  # pylint: disable=protected-access
+
+
+def run_ac_async(network: Network, variant_id: str = 'InitialState', parameters: Optional[Union[Parameters, PreparedParameters]] = None,
+                 provider: str = '', report_node: Optional[ReportNode] = None) -> Future:  # pylint: disable=protected-access
     """
     Run an AC load flow on a network asynchronously.
 
     Args:
         network: a network
         variant_id: the variant id, default on initial variant
-        parameters: the load flow parameters, dc attribute is forced to false
-        provider: the load flow implementation provider, default is the default load flow provider
+        parameters: the load flow parameters, dc attribute is forced to false.
+                    Prepared parameters can be used to avoid converting the same parameters on each run.
+        provider: the load flow implementation provider, default is the default load flow provider.
+                  Must be empty or match the provider of prepared parameters, which are bound to a provider.
         report_node:   the reporter to be used to create an execution report, default is None (no report)
 
     Returns:
         A future list of component results, one for each component of the network.
     """
+    if isinstance(parameters, PreparedParameters):
+        _check_prepared_provider(parameters, provider)
+        loop = asyncio.get_running_loop()
+        results_future = loop.create_future()
+        _pypowsybl.run_loadflow_async_with_prepared_parameters(network._handle,  # pylint: disable=protected-access
+                                                               variant_id,
+                                                               parameters._handle,  # pylint: disable=protected-access
+                                                               False,
+                                                               None if report_node is None else report_node._report_node,  # pylint: disable=protected-access
+                                                               LoadFlowResultsFutureWrapper(loop, results_future))
+        return results_future
     c_parameters = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
     c_parameters.dc = False
     loop = asyncio.get_running_loop()
@@ -83,20 +117,179 @@ def run_ac_async(network: Network, variant_id: str = 'InitialState', parameters:
     return results_future
 
 
-def run_dc(network: Network, parameters: Optional[Parameters] = None, provider: str = '',
+def run_ac_batch(network: Network, variant_ids: List[str], parameters: Optional[Parameters] = None, provider: str = '',
+                 thread_count: int = -1) -> DataFrame:
+    """
+    Run an AC load flow on several variants of a network in parallel.
+
+    Multi-thread access to variants is enabled on the network for the duration of the batch.
+
+    Args:
+        network:      a network
+        variant_ids:  the ids of the variants to run the load flow on
+        parameters:   the load flow parameters, dc attribute is forced to false
+        provider:     the load flow implementation provider, default is the default load flow provider
+        thread_count: the maximum number of load flows running at the same time, default is the number of available processors
+
+    Returns:
+        A dataframe of component results, indexed by variant id and connected component number.
+    """
+    return _run_batch(network, variant_ids, False, parameters, provider, thread_count)
+
+
+def run_dc_batch(network: Network, variant_ids: List[str], parameters: Optional[Parameters] = None, provider: str = '',
+                 thread_count: int = -1) -> DataFrame:
+    """
+    Run a DC load flow on several variants of a network in parallel.
+
+    Multi-thread access to variants is enabled on the network for the duration of the batch.
+
+    Args:
+        network:      a network
+        variant_ids:  the ids of the variants to run the load flow on
+        parameters:   the load flow parameters, dc attribute is forced to true
+        provider:     the load flow implementation provider, default is the default load flow provider
+        thread_count: the maximum number of load flows running at the same time, default is the number of available processors
+
+    Returns:
+        A dataframe of component results, indexed by variant id and connected component number.
+    """
+    return _run_batch(network, variant_ids, True, parameters, provider, thread_count)
+
+
+def _run_batch(network: Network, variant_ids: List[str], dc: bool, parameters: Optional[Parameters], provider: str,
+               thread_count: int) -> DataFrame:
+    p = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
+    p.dc = dc
+    return create_data_frame_from_series_array(_pypowsybl.run_loadflow_batch(network._handle, variant_ids, p, provider, thread_count))  # pylint: disable=protected-access
+
+
+_TIME_SERIES_BRANCH_OUTPUTS = ['branch_p1', 'branch_q1', 'branch_i1', 'branch_p2', 'branch_q2', 'branch_i2']
+_TIME_SERIES_BUS_OUTPUTS = ['bus_v_mag', 'bus_v_angle']
+
+
+def run_ac_time_series(network: Network, load_p0: Optional[DataFrame] = None, load_q0: Optional[DataFrame] = None,
+                       generator_target_p: Optional[DataFrame] = None,
+                       outputs: Optional[Dict[str, Optional[List[str]]]] = None,
+                       parameters: Optional[Parameters] = None, provider: str = '',
+                       report_node: Optional[ReportNode] = None) -> TimeSeriesResult:
+    """
+    Run an AC load flow on each timestep of injection setpoints profiles.
+
+    Profiles are dataframes with one row per timestep and one column per element, all profiles must have
+    the same number of rows. A NaN value keeps the setpoint of the previous timestep.
+    The whole time series is computed in a single call, on a temporary copy of the working variant which is
+    left unchanged; each load flow starts from the solution of the previous timestep.
+
+    Args:
+        network:            a network
+        load_p0:            loads active power setpoints profiles
+        load_q0:            loads reactive power setpoints profiles
+        generator_target_p: generators active power setpoints profiles
+        outputs:            requested outputs, by name, with the ids of the elements to collect (None for all elements).
+                            Available outputs are ``branch_p1``, ``branch_q1``, ``branch_i1``, ``branch_p2``, ``branch_q2``,
+                            ``branch_i2``, ``bus_v_mag`` and ``bus_v_angle``. Default is ``branch_p1`` and ``bus_v_mag``
+                            of all elements.
+        parameters:         the load flow parameters, dc attribute is forced to false
+        provider:           the load flow implementation provider, default is the default load flow provider
+        report_node:        the reporter to be used to create an execution report, default is None (no report)
+
+    Returns:
+        the status of each timestep and the requested outputs
+    """
+    return _run_time_series(network, False, load_p0, load_q0, generator_target_p, outputs, parameters, provider, report_node)
+
+
+def run_dc_time_series(network: Network, load_p0: Optional[DataFrame] = None,
+                       generator_target_p: Optional[DataFrame] = None,
+                       outputs: Optional[Dict[str, Optional[List[str]]]] = None,
+                       parameters: Optional[Parameters] = None, provider: str = '',
+                       report_node: Optional[ReportNode] = None) -> TimeSeriesResult:
+    """
+    Run a DC load flow on each timestep of injection setpoints profiles.
+
+    See :func:`run_ac_time_series` for the profiles and outputs format.
+
+    Args:
+        network:            a network
+        load_p0:            loads active power setpoints profiles
+        generator_target_p: generators active power setpoints profiles
+        outputs:            requested outputs, by name, with the ids of the elements to collect (None for all elements).
+                            Default is ``branch_p1`` of all branches.
+        parameters:         the load flow parameters, dc attribute is forced to true
+        provider:           the load flow implementation provider, default is the default load flow provider
+        report_node:        the reporter to be used to create an execution report, default is None (no report)
+
+    Returns:
+        the status of each timestep and the requested outputs
+    """
+    if outputs is None:
+        outputs = {'branch_p1': None}
+    return _run_time_series(network, True, load_p0, None, generator_target_p, outputs, parameters, provider, report_node)
+
+
+def _run_time_series(network: Network, dc: bool, load_p0: Optional[DataFrame], load_q0: Optional[DataFrame],
+                     generator_target_p: Optional[DataFrame], outputs: Optional[Dict[str, Optional[List[str]]]],
+                     parameters: Optional[Parameters], provider: str,
+                     report_node: Optional[ReportNode]) -> TimeSeriesResult:
+    profiles = {name: profile for name, profile in [('load_p0', load_p0), ('load_q0', load_q0),
+                                                    ('generator_target_p', generator_target_p)]
+                if profile is not None}
+    if not profiles:
+        raise ValueError('At least one injection profile is required')
+    timesteps = next(iter(profiles.values())).index
+    for name, profile in profiles.items():
+        if len(profile) != len(timesteps):
+            raise ValueError(f'Profile {name} has {len(profile)} timesteps, {len(timesteps)} expected')
+    if outputs is None:
+        outputs = {'branch_p1': None, 'bus_v_mag': None}
+
+    handle = _pypowsybl.create_time_series_loadflow(len(timesteps))
+    for name, profile in profiles.items():
+        _pypowsybl.add_time_series_loadflow_injection_profile(handle, name, [str(c) for c in profile.columns],
+                                                              profile.to_numpy(dtype=np.float64))
+    output_ids = {}
+    for name, ids in outputs.items():
+        if ids is None:
+            if name in _TIME_SERIES_BRANCH_OUTPUTS:
+                ids = network.get_branches(attributes=[]).index.tolist()
+            elif name in _TIME_SERIES_BUS_OUTPUTS:
+                ids = network.get_buses(attributes=[]).index.tolist()
+        output_ids[name] = list(ids) if ids is not None else []
+        _pypowsybl.add_time_series_loadflow_output(handle, name, output_ids[name])
+
+    p = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
+    p.dc = dc
+    status = create_data_frame_from_series_array(
+        _pypowsybl.run_time_series_loadflow(handle, network._handle, p, provider,  # pylint: disable=protected-access
+                                            None if report_node is None else report_node._report_node))  # pylint: disable=protected-access
+    status.index = timesteps
+    output_dfs = {}
+    for name, ids in output_ids.items():
+        matrix = _pypowsybl.get_time_series_loadflow_output_matrix(handle, name)
+        output_dfs[name] = DataFrame(data=np.array(matrix, copy=True), index=timesteps, columns=ids)
+    return TimeSeriesResult(status, output_dfs)
+
+
+def run_dc(network: Network, parameters: Optional[Union[Parameters, PreparedParameters]] = None, provider: str = '',
            report_node: Optional[ReportNode] = None) -> List[ComponentResult]:  # pylint: disable=protected-access
     """
     Run a DC load flow on a network.
 
     Args:
         network:    a network
-        parameters: the load flow parameters, dc attribute is forced to true
-        provider:   the load flow implementation provider, default is the default load flow provider
+        parameters: the load flow parameters, dc attribute is forced to true.
+                    Prepared parameters can be used to avoid converting the same parameters on each run.
+        provider:   the load flow implementation provider, default is the default load flow provider.
+                    Must be empty or match the provider of prepared parameters, which are bound to a provider.
         report_node:   the reporter to be used to create an execution report, default is None (no report)
 
     Returns:
         A list of component results, one for each component of the network.
     """
+    if isinstance(parameters, PreparedParameters):
+        _check_prepared_provider(parameters, provider)
+        return _run_prepared(network, parameters, True, report_node)
     p = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
     p.dc = True
     return [ComponentResult(res) for res in _pypowsybl.run_loadflow(network._handle, p, provider,
@@ -0,0 +1,38 @@
+# Copyright (c) 2025, RTE (http://www.rte-france.com)
+# This Source Code Form is subject to the terms of the Mozilla Public
+# License, v. 2.0. If a copy of the MPL was not distributed with this
+# file, You can obtain one at http://mozilla.org/MPL/2.0/.
+# SPDX-License-Identifier: MPL-2.0
+#
+from typing import Optional
+
+from pypowsybl import _pypowsybl
+from .parameters import Parameters
+
+
+class PreparedParameters:
+    """
+    Load flow parameters converted once for a given provider, to be reused by many load flow runs.
+
+    Running a load flow with prepared parameters avoids converting the parameters, including provider
+    specific ones, on each run. Prepared parameters are immutable: modifying the original parameters
+    afterwards has no effect on them.
+
+    Args:
+        parameters: the load flow parameters to prepare, default parameters if None.
+                    The dc attribute is ignored, it is chosen by the run function.
+        provider:   the load flow implementation provider, default is the default load flow provider
+    """
+
+    def __init__(self, parameters: Optional[Parameters] = None, provider: str = ''):
+        c_parameters = parameters._to_c_parameters() if parameters is not None else _pypowsybl.LoadFlowParameters()  # pylint: disable=protected-access
+        self._handle = _pypowsybl.create_prepared_loadflow_parameters(c_parameters, provider)
+        self._provider = provider
+
+    @property
+    def provider(self) -> str:
+        """The provider the parameters have been prepared for, empty for the default provider."""
+        return self._provider
+
+    def __repr__(self) -> str:
+        return f"{self.__class__.__name__}(provider={self._provider!r})"
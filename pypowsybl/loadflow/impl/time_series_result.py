@@ -0,0 +1,54 @@
+# Copyright (c) 2025, RTE (http://www.rte-france.com)
+# This Source Code Form is subject to the terms of the Mozilla Public
+# License, v. 2.0. If a copy of the MPL was not distributed with this
+# file, You can obtain one at http://mozilla.org/MPL/2.0/.
+# SPDX-License-Identifier: MPL-2.0
+#
+from typing import Dict, List
+
+import pandas as pd
+
+
+class TimeSeriesResult:
+    """
+    Result of a time series load flow: the load flow status of each timestep,
+    and the requested outputs as timestep x element dataframes.
+    """
+
+    def __init__(self, status: pd.DataFrame, outputs: Dict[str, pd.DataFrame]):
+        self._status = status
+        self._outputs = outputs
+
+    @property
+    def status(self) -> pd.DataFrame:
+        """
+        Main connected component load flow result of each timestep, indexed by timestep.
+        """
+        return self._status
+
+    @property
+    def output_names(self) -> List[str]:
+        """
+        Names of the available outputs.
+        """
+        return list(self._outputs.keys())
+
+    def get_output(self, name: str) -> pd.DataFrame:
+        """
+        Get the values of an output, NaN for timesteps where the load flow has not converged.
+
+        Args:
+            name: the output name, for example ``branch_p1`` or ``bus_v_mag``
+
+        Returns:
+            a dataframe with one row per timestep and one column per element
+        """
+        if name not in self._outputs:
+            raise ValueError(f'Output {name} has not been requested')
+        return self._outputs[name]
+
+    def __repr__(self) -> str:
+        return f"{self.__class__.__name__}(" \
+               f"timestep_count={len(self._status)}" \
+               f", outputs={self.output_names!r}" \
+               f")"
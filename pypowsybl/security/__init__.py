@@ -15,6 +15,8 @@ from .impl.util import (
     set_default_provider,
     get_default_provider,
     get_provider_names,
-    get_provider_parameters_names
+    get_provider_parameters_names,
+    import_result_from_binary
 )
 from .impl.contingency_container import ContingencyContainer
+from .impl.contingency_list import ContingencyList, create_contingency_list
@@ -4,8 +4,15 @@
 # file, You can obtain one at http://mozilla.org/MPL/2.0/.
 # SPDX-License-Identifier: MPL-2.0
 #
-from typing import List, Callable, Optional
+from __future__ import annotations
+from typing import List, Callable, Optional, TYPE_CHECKING
+from numpy.typing import ArrayLike
+from pandas import DataFrame
 from pypowsybl import _pypowsybl
+from pypowsybl.utils import _get_c_dataframes
+
+if TYPE_CHECKING:
+    from .contingency_list import ContingencyList
 
 class ContingencyContainer:
     def __init__(self, handle: _pypowsybl.JavaHandle):
@@ -47,6 +54,38 @@ class ContingencyContainer:
             contingency_id = contingency_id_provider(element_id) if contingency_id_provider else element_id
             _pypowsybl.add_contingency(self._handle, contingency_id, [element_id])
 
+    def add_contingencies(self, df: Optional[DataFrame] = None, **kwargs: ArrayLike) -> None:
+        """
+        Add multiple contingencies at once, defined by one row per contingency element.
+
+        Rows with the same contingency ID are grouped into one contingency, so that N-1 and N-K contingencies
+        can be defined together. This is much faster than adding contingencies one by one.
+
+        Args:
+            df: Attributes as a dataframe.
+            kwargs: Attributes as keyword arguments.
+
+        Notes:
+
+            Data may be provided as a dataframe or as keyword arguments.
+            In the latter case, all arguments must have the same length.
+
+            Valid attributes are:
+
+            - **contingency_id**: the ID of the contingency
+            - **element_id**: the ID of one lost network element of the contingency
+
+        Examples:
+
+            .. code-block:: python
+
+                analysis.add_contingencies(contingency_id=['c1', 'c2', 'c2'],
+                                           element_id=['NHV1_NHV2_1', 'NHV1_NHV2_1', 'NHV1_NHV2_2'])
+        """
+        metadata = _pypowsybl.get_contingencies_dataframe_metadata()
+        c_dfs = _get_c_dataframes([df], [metadata], **kwargs)
+        _pypowsybl.add_contingencies(self._handle, c_dfs[0])
+
     def add_contingencies_from_json_file(self, path_to_json_file: str) -> None:
         """
         Add contingencies from JSON file.
@@ -56,3 +95,15 @@ class ContingencyContainer:
         """
 
         _pypowsybl.add_contingency_from_json_file(self._handle, path_to_json_file)
+
+    def add_contingency_list(self, contingency_list: ContingencyList) -> None:
+        """
+        Add all the contingencies of a contingency list.
+
+        The contingency list is shared: its contingencies are resolved once per network and reused
+        by all the analyses it has been added to.
+
+        Args:
+            contingency_list: The contingency list, see :func:`create_contingency_list`.
+        """
+        _pypowsybl.add_contingency_list(self._handle, contingency_list._handle)
@@ -0,0 +1,30 @@
+# Copyright (c) 2025, RTE (http://www.rte-france.com)
+# This Source Code Form is subject to the terms of the Mozilla Public
+# License, v. 2.0. If a copy of the MPL was not distributed with this
+# file, You can obtain one at http://mozilla.org/MPL/2.0/.
+# SPDX-License-Identifier: MPL-2.0
+#
+from pypowsybl import _pypowsybl
+from .contingency_container import ContingencyContainer
+
+
+class ContingencyList(ContingencyContainer):
+    """
+    A list of contingencies which can be shared by several security, sensitivity and flow decomposition analyses.
+
+    JSON files are parsed once when added to the list, and contingencies are resolved once per network,
+    then reused by all the runs of all the analyses, until an element is created or removed from the network.
+    """
+
+    def __init__(self, handle: _pypowsybl.JavaHandle):
+        ContingencyContainer.__init__(self, handle)
+
+
+def create_contingency_list() -> ContingencyList:
+    """
+    Creates an empty contingency list, to be filled and then added to analyses.
+
+    Returns:
+        A contingency list
+    """
+    return ContingencyList(_pypowsybl.create_contingency_list())
@@ -78,6 +78,109 @@ class SecurityAnalysis(ContingencyContainer):
                                              # pylint: disable=protected-access
                                              None if report_node is None else report_node._report_node))  # pylint: disable=protected-access
 
+    def set_results_directory(self, directory: Optional[str], contingency_batch_size: int = 100) -> None:
+        """
+        Write branch, bus, three windings transformer results and limit violations to files in a directory while
+        the analysis runs, instead of keeping them in memory.
+
+        Contingencies are computed by batches, the results of a batch being written before the next one is
+        computed, so that memory does not grow with the number of contingencies. The pre-contingency state is
+        computed again for each batch, and only the first batch reports to the report node.
+        Results dataframes of the returned result are then read from the files when requested.
+        Statuses are still kept in memory, and the result cannot be exported to JSON.
+        Running the analysis fails if a screening, the incremental mode or contingency partitions are also enabled.
+
+        Args:
+            directory: the directory where results are written, None to keep all the results in memory
+            contingency_batch_size: the number of contingencies computed before their results are written
+        """
+        _pypowsybl.set_security_analysis_results_directory(self._handle, '' if directory is None else directory,
+                                                           contingency_batch_size)
+
+    def set_contingency_partition_count(self, partition_count: int) -> None:
+        """
+        Split the contingencies into partitions which are computed concurrently, each one on its own copy of the
+        working variant of the network and with its own run of the provider.
+
+        This scales N-1 and N-2 analyses with many contingencies beyond the parallelism of the provider itself.
+        Each partition only gets the operator strategies of its contingencies. The pre-contingency state is computed
+        once per partition, only the one of the first partition is kept, and only the first partition reports to the
+        report node. Results are merged in the order of the contingencies.
+        Running the analysis fails if results are also written to a directory, see :meth:`set_results_directory`,
+        or if a screening or the incremental mode is also enabled, see :meth:`set_screening` and
+        :meth:`set_incremental`.
+
+        Args:
+            partition_count: the number of partitions, 1 to compute all the contingencies in a single run
+        """
+        _pypowsybl.set_security_analysis_contingency_partition_count(self._handle, partition_count)
+
+    def set_screening(self, critical_contingency_count: int = 1, severity_budget: Optional[float] = None,
+                      contingency_order: str = 'INPUT', batch_size: int = 10) -> None:
+        """
+        Run the analysis as a screening, which stops once enough critical contingencies have been found, instead of
+        computing all the contingencies.
+
+        A contingency is critical if it has limit violations or if its computation failed. Its severity is the sum,
+        over its limit violations, of the relative distance of the value beyond the reduced limit, and is infinite if its
+        computation failed. Contingencies are computed by batches, and the screening stops after the batch where one of
+        the limits is reached: only computed contingencies are in the result.
+
+        Contingencies may be computed in the order they have been defined (``INPUT``), or by decreasing severity in a
+        preliminary DC security analysis (``DC_SEVERITY``), so that the likely critical ones are computed first.
+        Running the analysis fails if results are also written to a directory, see :meth:`set_results_directory`,
+        or if the incremental mode or contingency partitions are also enabled, see :meth:`set_incremental` and
+        :meth:`set_contingency_partition_count`.
+
+        Args:
+            critical_contingency_count: the number of critical contingencies after which the screening stops,
+                                        0 for no limit. Screening is disabled when there is no limit at all.
+            severity_budget: the sum of the severities of critical contingencies after which the screening stops,
+                             None for no limit
+            contingency_order: the order of the contingencies, ``INPUT`` or ``DC_SEVERITY``
+            batch_size: the number of contingencies computed between two checks of the limits
+
+        Examples:
+
+            .. code-block:: python
+
+                analysis.set_screening(critical_contingency_count=1, contingency_order='DC_SEVERITY')
+                result = analysis.run_ac(network)
+                is_secure = all(r.status.name == 'CONVERGED' and not r.limit_violations
+                                for r in result.post_contingency_results.values())
+        """
+        _pypowsybl.set_security_analysis_screening(self._handle, critical_contingency_count,
+                                                   float('nan') if severity_budget is None else severity_budget,
+                                                   contingency_order, batch_size)
+
+    def set_incremental(self, incremental: bool) -> None:
+        """
+        Keep the results of each DC run, and only compute again in the next runs the contingencies whose branch limits
+        may be violated under the new injections, so that successive runs on a slightly changed network mostly cost
+        what changed.
+
+        The active power of generators, batteries, loads, dangling lines and HVDC converter stations is compared with
+        the one of the previous run. In DC approximation, the flow change on any branch is lower than the sum of the
+        absolute injection changes, so a contingency is skipped when this sum is lower than its margin: the lowest
+        difference between the permanent limit and the post-contingency DC flow of its branches, current limits being
+        converted with the nominal voltage and the DC power factor. Margins are computed from the flows of the run
+        itself. A disconnected injection is compared as a zero injection.
+
+        A skipped contingency keeps its previous result, so only contingencies without limit violations, without
+        monitored network results and without operator strategies are skipped, and the pre-contingency state is
+        always computed. Every contingency is computed again when the topology, the connection status of an element,
+        a tap position or an HVDC line setpoint has changed since the previous run, or when the provider, the
+        parameters, the contingencies, the actions, the monitored elements, the limit reductions or the operator
+        strategies have changed. AC runs are not covered by the bound: they compute every contingency.
+        Running the analysis fails if results are also written to a directory, see :meth:`set_results_directory`,
+        or if a screening or contingency partitions are also enabled, see :meth:`set_screening` and
+        :meth:`set_contingency_partition_count`.
+
+        Args:
+            incremental: True to enable the incremental mode, False to disable it and clear the kept results
+        """
+        _pypowsybl.set_security_analysis_incremental(self._handle, incremental)
+
     def add_monitored_elements(self, contingency_context_type: ContingencyContextType = ContingencyContextType.ALL,
                                contingency_ids: Optional[Union[List[str], str]] = None,
                                branch_ids: Optional[List[str]] = None,
@@ -238,6 +341,45 @@ class SecurityAnalysis(ContingencyContainer):
         """
         _pypowsybl.add_terminals_connection_action(self._handle, action_id, element_id, side, opening)
 
+    def add_actions(self, action_type: str, df: Optional[DataFrame] = None, **kwargs: ArrayLike) -> None:
+        """
+        Add multiple actions of a same type at once, defined by one row per action.
+
+        Args:
+            action_type: the type of the actions, see below
+            df: Attributes as a dataframe.
+            kwargs: Attributes as keyword arguments.
+
+        Notes:
+
+            Data may be provided as a dataframe or as keyword arguments.
+            In the latter case, all arguments must have the same length.
+
+            Every action type has an **action_id** attribute, the unique ID of the action. Other valid attributes
+            are the parameters of the corresponding single action method:
+
+            - **LOAD_ACTIVE_POWER**: load_id, is_relative, active_power, see :meth:`add_load_active_power_action`
+            - **LOAD_REACTIVE_POWER**: load_id, is_relative, reactive_power, see :meth:`add_load_reactive_power_action`
+            - **GENERATOR_ACTIVE_POWER**: generator_id, is_relative, active_power, see :meth:`add_generator_active_power_action`
+            - **SWITCH**: switch_id, open, see :meth:`add_switch_action`
+            - **PHASE_TAP_CHANGER_POSITION**: transformer_id, is_relative, tap_position, side (optional, ONE, TWO or THREE),
+              see :meth:`add_phase_tap_changer_position_action`
+            - **RATIO_TAP_CHANGER_POSITION**: transformer_id, is_relative, tap_position, side (optional, ONE, TWO or THREE),
+              see :meth:`add_ratio_tap_changer_position_action`
+            - **SHUNT_COMPENSATOR_POSITION**: shunt_id, section, see :meth:`add_shunt_compensator_position_action`
+            - **TERMINALS_CONNECTION**: element_id, side (optional, ONE, TWO or THREE), opening (optional, True by default),
+              see :meth:`add_terminals_connection_action`
+
+        Examples:
+
+            .. code-block:: python
+
+                analysis.add_actions('SWITCH', action_id=['open_s1', 'close_s2'], switch_id=['S1', 'S2'], open=[True, False])
+        """
+        metadata = _pypowsybl.get_actions_dataframe_metadata(action_type)
+        c_dfs = _get_c_dataframes([df], [metadata], **kwargs)
+        _pypowsybl.add_actions(self._handle, action_type, c_dfs[0])
+
 
     def add_operator_strategy(self, operator_strategy_id: str, contingency_id: str, action_ids: List[str],
                               condition_type: ConditionType = ConditionType.TRUE_CONDITION, violation_subject_ids: Optional[List[str]] = None,
@@ -258,6 +400,45 @@ class SecurityAnalysis(ContingencyContainer):
             violation_subject_ids = []
         _pypowsybl.add_operator_strategy(self._handle, operator_strategy_id, contingency_id, action_ids, condition_type, violation_subject_ids, violation_types)
 
+    def add_operator_strategies(self, df: Optional[DataFrame] = None, **kwargs: ArrayLike) -> None:
+        """
+        Add multiple operator strategies at once, defined by one row per strategy action.
+
+        Rows with the same operator strategy ID are grouped into one strategy, whose contingency and condition are
+        read from its first row.
+
+        Args:
+            df: Attributes as a dataframe.
+            kwargs: Attributes as keyword arguments.
+
+        Notes:
+
+            Data may be provided as a dataframe or as keyword arguments.
+            In the latter case, all arguments must have the same length.
+
+            Valid attributes are:
+
+            - **operator_strategy_id**: the ID of the operator strategy
+            - **contingency_id**: the contingency on which the operator strategy applies
+            - **action_id**: an action of the strategy
+            - **condition_type** (optional): the name of the :class:`ConditionType`, TRUE_CONDITION by default
+            - **violation_subject_ids** (optional): comma separated identifiers of network elements monitored to apply
+              the operator strategy
+            - **violation_types** (optional): comma separated names of the :class:`ViolationType` to consider to apply
+              the operator strategy
+
+        Examples:
+
+            .. code-block:: python
+
+                analysis.add_operator_strategies(operator_strategy_id=['strategy1', 'strategy1', 'strategy2'],
+                                                 contingency_id=['c1', 'c1', 'c2'],
+                                                 action_id=['open_s1', 'close_s2', 'open_s1'])
+        """
+        metadata = _pypowsybl.get_operator_strategies_dataframe_metadata()
+        c_dfs = _get_c_dataframes([df], [metadata], **kwargs)
+        _pypowsybl.add_operator_strategies(self._handle, c_dfs[0])
+
     def add_actions_from_json_file(self, path_to_json_file: str) -> None:
         """
         Add any kinds of actions by reading them from a JSON file.
@@ -4,7 +4,7 @@
 # file, You can obtain one at http://mozilla.org/MPL/2.0/.
 # SPDX-License-Identifier: MPL-2.0
 #
-from typing import Dict
+from typing import Dict, List, Optional
 import pandas as pd
 from prettytable import PrettyTable
 from pypowsybl import _pypowsybl
@@ -142,6 +142,21 @@ class SecurityAnalysisResult:
         """
         _pypowsybl.export_to_json(self._handle, path)
 
+    def export_to_binary(self, path: str) -> None:
+        """
+        Export the result to a compressed binary file, which can be imported back with
+        :func:`pypowsybl.security.import_result_from_binary`.
+
+        The file is much smaller and faster to write and read than the JSON export: tables are stored by columns,
+        with each ID written once per table, and compressed.
+        Unlike the JSON export, results written to a directory, see
+        :meth:`SecurityAnalysis.set_results_directory`, can also be exported.
+
+        Args:
+            path: the path of the file to write
+        """
+        _pypowsybl.export_security_analysis_result_to_binary(self._handle, path)
+
     @property
     def limit_violations(self) -> pd.DataFrame:
         """
@@ -169,3 +184,106 @@ class SecurityAnalysisResult:
         Results (P, Q, I) for monitored three winding transformers.
         """
         return create_data_frame_from_series_array(_pypowsybl.get_three_windings_transformer_results(self._handle))
+
+    def _get_filtered_results(self, table: str, contingency_ids: Optional[List[str]], element_ids: Optional[List[str]],
+                              value_column: Optional[str], threshold: Optional[float],
+                              top_k: Optional[int]) -> pd.DataFrame:
+        return create_data_frame_from_series_array(_pypowsybl.get_filtered_security_analysis_results(
+            self._handle, table, contingency_ids if contingency_ids else [], element_ids if element_ids else [],
+            value_column if value_column else '', threshold if threshold is not None else float('nan'),
+            top_k if top_k is not None else 0))
+
+    def get_limit_violations(self, contingency_ids: Optional[List[str]] = None, subject_ids: Optional[List[str]] = None,
+                             value_column: Optional[str] = None, threshold: Optional[float] = None,
+                             top_k: Optional[int] = None) -> pd.DataFrame:
+        """
+        Limit violations filtered before the dataframe is built.
+
+        Rows are compared on a value, which is the absolute value of ``value_column`` when given, and otherwise the
+        relative distance of the value beyond the reduced limit, which also applies to low voltage violations:
+        ``|value - limit * limit_reduction| / |limit * limit_reduction|``, or the absolute distance when the reduced
+        limit is zero.
+
+        Args:
+            contingency_ids: contingencies to keep, ``''`` for the pre-contingency state, None to keep all
+            subject_ids: violated elements to keep, None to keep all
+            value_column: name of the numeric column to compare
+            threshold: only keep violations whose value is greater or equal to this threshold
+            top_k: only keep the ``top_k`` highest values of each violated element, ``1`` gives
+                the worst violation of each element
+
+        Returns:
+            the filtered limit violations, with the same columns as :attr:`limit_violations`
+
+        Example:
+
+            .. code-block:: python
+
+                result.get_limit_violations(threshold=0.1, top_k=1)
+        """
+        return self._get_filtered_results('LIMIT_VIOLATIONS', contingency_ids, subject_ids, value_column, threshold, top_k)
+
+    def get_branch_results(self, contingency_ids: Optional[List[str]] = None, branch_ids: Optional[List[str]] = None,
+                           value_column: Optional[str] = None, threshold: Optional[float] = None,
+                           top_k: Optional[int] = None) -> pd.DataFrame:
+        """
+        Branch results filtered before the dataframe is built.
+
+        Rows are compared on a value, which is the absolute value of ``value_column`` when given, and otherwise the
+        highest current of the 2 sides.
+
+        Args:
+            contingency_ids: contingencies to keep, ``''`` for the pre-contingency state, None to keep all
+            branch_ids: branches to keep, None to keep all
+            value_column: name of the numeric column to compare, for example ``p1``
+            threshold: only keep results whose value is greater or equal to this threshold
+            top_k: only keep the ``top_k`` highest values of each branch, ``1`` gives the worst state of each branch
+
+        Returns:
+            the filtered results, with the same columns as :attr:`branch_results`
+        """
+        return self._get_filtered_results('BRANCH_RESULTS', contingency_ids, branch_ids, value_column, threshold, top_k)
+
+    def get_bus_results(self, contingency_ids: Optional[List[str]] = None, bus_ids: Optional[List[str]] = None,
+                        value_column: Optional[str] = None, threshold: Optional[float] = None,
+                        top_k: Optional[int] = None) -> pd.DataFrame:
+        """
+        Bus results filtered before the dataframe is built.
+
+        Rows are compared on the absolute value of ``value_column``, which is required to use ``threshold`` or
+        ``top_k``.
+
+        Args:
+            contingency_ids: contingencies to keep, ``''`` for the pre-contingency state, None to keep all
+            bus_ids: buses to keep, None to keep all
+            value_column: name of the numeric column to compare, ``v_mag`` or ``v_angle``
+            threshold: only keep results whose value is greater or equal to this threshold
+            top_k: only keep the ``top_k`` highest values of each bus
+
+        Returns:
+            the filtered results, with the same columns as :attr:`bus_results`
+        """
+        return self._get_filtered_results('BUS_RESULTS', contingency_ids, bus_ids, value_column, threshold, top_k)
+
+    def get_three_windings_transformer_results(self, contingency_ids: Optional[List[str]] = None,
+                                               transformer_ids: Optional[List[str]] = None,
+                                               value_column: Optional[str] = None, threshold: Optional[float] = None,
+                                               top_k: Optional[int] = None) -> pd.DataFrame:
+        """
+        Three windings transformer results filtered before the dataframe is built.
+
+        Rows are compared on a value, which is the absolute value of ``value_column`` when given, and otherwise the
+        highest current of the 3 sides.
+
+        Args:
+            contingency_ids: contingencies to keep, ``''`` for the pre-contingency state, None to keep all
+            transformer_ids: transformers to keep, None to keep all
+            value_column: name of the numeric column to compare, for example ``p1``
+            threshold: only keep results whose value is greater or equal to this threshold
+            top_k: only keep the ``top_k`` highest values of each transformer
+
+        Returns:
+            the filtered results, with the same columns as :attr:`three_windings_transformer_results`
+        """
+        return self._get_filtered_results('THREE_WINDINGS_TRANSFORMER_RESULTS', contingency_ids, transformer_ids,
+                                          value_column, threshold, top_k)
@@ -9,6 +9,7 @@ from typing import List
 from pypowsybl import _pypowsybl
 from pypowsybl._pypowsybl import LimitViolation, PreContingencyResult, PostContingencyResult, OperatorStrategyResult
 from .security import SecurityAnalysis
+from .security_analysis_result import SecurityAnalysisResult
 
 
 def create_analysis() -> SecurityAnalysis:
@@ -69,6 +70,20 @@ def get_provider_parameters_names(provider: str = '') -> List[str]:
     return _pypowsybl.get_security_analysis_provider_parameters_names(provider)
 
 
+def import_result_from_binary(path: str) -> SecurityAnalysisResult:
+    """
+    Import a security analysis result from a file written by :meth:`SecurityAnalysisResult.export_to_binary`.
+
+    Args:
+        path: the path of the file to read
+
+    Returns:
+        the security analysis result, with the same statuses, limit violations and network results as the
+        exported one
+    """
+    return SecurityAnalysisResult(_pypowsybl.import_security_analysis_result_from_binary(path))
+
+
 def _post_contingency_result_repr(self: PostContingencyResult) -> str:
     return f"{self.__class__.__name__}(" \
            f"contingency_id={self.contingency_id!r}" \
@@ -18,6 +18,8 @@ from .dc_sensitivity_analysis_result import DcSensitivityAnalysisResult
 class DcSensitivityAnalysis(SensitivityAnalysis):
     """ Represents a DC sensitivity analysis."""
 
+    _dc = True
+
     def __init__(self, handle: _pypowsybl.JavaHandle):
         SensitivityAnalysis.__init__(self, handle)
 
@@ -7,18 +7,31 @@
 from __future__ import annotations
 
 import warnings
-from typing import List, Dict
+from typing import Callable, List, Dict, Optional, Union
+
+import numpy as np
+import pandas as pd
 
 from pypowsybl import _pypowsybl
+from pypowsybl.network import Network
+from pypowsybl.loadflow import Parameters as LfParameters
+from pypowsybl.report import ReportNode
 from pypowsybl.security import ContingencyContainer
+from pypowsybl.utils import path_to_str, PathOrStr
 from pypowsybl._pypowsybl import PyPowsyblError, ContingencyContextType, SensitivityFunctionType, SensitivityVariableType
-from .sensitivity_analysis_result import DEFAULT_MATRIX_ID, TO_REMOVE
+from .sensitivity_analysis_result import DEFAULT_MATRIX_ID, DEFAULT_REFERENCE_COLUMN_ID, TO_REMOVE, process_ptdf
 from .zone import Zone
+from .parameters import Parameters
+
+MatrixCallback = Callable[[Optional[str], str, pd.DataFrame, pd.DataFrame], Optional[bool]]
 
 
 class SensitivityAnalysis(ContingencyContainer):
     """ Base class for sensitivity analysis. Do not instantiate it directly!"""
 
+    #: True for a DC sensitivity analysis, forced into the load flow parameters of the runs
+    _dc = False
+
     def __init__(self, handle: _pypowsybl.JavaHandle):
         ContingencyContainer.__init__(self, handle)
         self.functions_ids: Dict[str, List[str]] = {}
@@ -37,6 +50,124 @@ class SensitivityAnalysis(ContingencyContainer):
                                           list(zone.shift_keys_by_injections_ids.values())))
         _pypowsybl.set_zones(self._handle, _zones)
 
+    def set_sparse_results(self, threshold: float = 1e-4) -> None:
+        """
+        Only keep sensitivity values whose absolute value is greater or equal to a threshold.
+
+        Sensitivity values below the threshold are not stored and read as zero in the result matrices,
+        which considerably reduces the memory used by large sensitivity analyses with many contingencies,
+        where most of the values are usually negligible. Reference values are not affected.
+
+        Args:
+            threshold: the absolute threshold, NaN to go back to storing all values
+        """
+        _pypowsybl.set_sensitivity_analysis_sparse_results(self._handle, threshold)
+
+    def set_contingency_chunk_count(self, chunk_count: int) -> None:
+        """
+        Split the contingencies into chunks which are computed concurrently, each one on its own copy of the
+        working variant of the network.
+
+        This scales N-1 sensitivity analyses with many contingencies beyond the parallelism of the provider itself.
+        Base case values are computed once per chunk, and only the first chunk reports to the report node.
+        Results are the same as with a single run.
+
+        Args:
+            chunk_count: the number of chunks, 1 to compute all the contingencies in a single run
+        """
+        _pypowsybl.set_sensitivity_analysis_contingency_chunk_count(self._handle, chunk_count)
+
+    def set_session_enabled(self, enabled: bool = True) -> None:
+        """
+        Keep contingencies and resolved factors between runs of this analysis.
+
+        They are rebuilt only when the analysis is run on another network, when the topology of the network
+        changes, or when factors, contingencies or zones are modified. This speeds up workflows which run the same
+        analysis many times on a same topology with only injections changed.
+
+        Args:
+            enabled: True to keep contingencies and factors between runs, False to rebuild them at each run
+        """
+        _pypowsybl.set_sensitivity_analysis_session_enabled(self._handle, enabled)
+
+    def set_zero_copy_results(self, enabled: bool = True) -> None:
+        """
+        Store sensitivity values and reference values outside of the Java heap, laid out so that the matrices
+        of the results are returned without any copy.
+
+        Results then stay in memory as long as the result object, or any matrix or dataframe built from it,
+        is referenced. It cannot be used together with sparse or memory-mapped results.
+
+        Args:
+            enabled: True to store results without copy, False to go back to the default storage
+        """
+        _pypowsybl.set_sensitivity_analysis_unmanaged_results(self._handle, enabled)
+
+    def set_results_file(self, path: Optional[PathOrStr]) -> None:
+        """
+        Store sensitivity values and reference values in a memory-mapped file instead of the memory.
+
+        Results larger than the memory can then be computed, and read without copy using
+        :meth:`SensitivityAnalysisResult.get_mapped_sensitivity_values` or by any other process mapping the file.
+        The file is a raw array of little endian doubles: sensitivity values laid out as
+        [state][matrix][row][column], followed by reference values laid out as [state][matrix][column].
+
+        The file is overwritten by each run, so it must not be shared by results which are still in use.
+        It cannot be used together with sparse results.
+
+        Args:
+            path: the results file, None to go back to storing results in memory
+        """
+        _pypowsybl.set_sensitivity_analysis_results_file(self._handle, '' if path is None else path_to_str(path))
+
+    def run_streaming(self, network: Network, callback: MatrixCallback,
+                      parameters: Optional[Union[Parameters, LfParameters]] = None,
+                      provider: str = '', report_node: Optional[ReportNode] = None) -> bool:
+        """
+        Runs the sensitivity analysis, handing each matrix of each state to a callback as soon as the state
+        is computed, instead of keeping all the results in memory.
+
+        The callback is called with the contingency ID (None for the base case), the matrix ID, the sensitivity
+        values dataframe and the reference values dataframe, in the same format as
+        :meth:`SensitivityAnalysisResult.get_sensitivity_matrix` and :meth:`SensitivityAnalysisResult.get_reference_matrix`.
+        It can return False to stop the analysis. Exceptions raised by the callback stop the analysis and are raised back.
+
+        Args:
+            network:     The network
+            callback:    The function called for each matrix of each state
+            parameters:  The sensitivity parameters
+            provider:    Name of the sensitivity analysis provider
+            report_node: The reporter to be used to create an execution report, default is None (no report)
+
+        Returns:
+            True if all the states have been computed, False if the analysis has been stopped by the callback
+        """
+        sensitivity_parameters = Parameters(load_flow_parameters=parameters) if isinstance(parameters,
+                                                                                           LfParameters) else parameters
+        p: _pypowsybl.SensitivityAnalysisParameters = sensitivity_parameters._to_c_parameters() if sensitivity_parameters is not None else Parameters()._to_c_parameters()  # pylint: disable=protected-access
+        p.loadflow_parameters.dc = self._dc
+        callback_errors: List[BaseException] = []
+
+        def on_matrix(contingency_id: str, matrix_id: str, values: np.ndarray, references: np.ndarray) -> bool:
+            try:
+                sensitivity = process_ptdf(pd.DataFrame(data=values, columns=self.functions_ids[matrix_id],
+                                                        index=self.function_data_frame_index[matrix_id]),
+                                           self.function_data_frame_index[matrix_id])
+                reference = pd.DataFrame(data=references, columns=self.functions_ids[matrix_id],
+                                         index=[DEFAULT_REFERENCE_COLUMN_ID])
+                return callback(contingency_id if contingency_id else None, matrix_id, sensitivity, reference) is not False
+            except BaseException as e:  # pylint: disable=broad-exception-caught
+                # stop the analysis and raise the error once back in the calling thread
+                callback_errors.append(e)
+                return False
+
+        completed = _pypowsybl.run_sensitivity_analysis_streaming(self._handle, network._handle, p, provider,  # pylint: disable=protected-access
+                                                                  None if report_node is None else report_node._report_node,  # pylint: disable=protected-access
+                                                                  on_matrix)
+        if callback_errors:
+            raise callback_errors[0]
+        return completed
+
     @staticmethod
     def _process_variable_ids(variables_ids: List) -> tuple:
         flatten_variables_ids = []
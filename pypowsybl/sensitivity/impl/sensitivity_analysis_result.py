@@ -4,10 +4,12 @@
 # file, You can obtain one at http://mozilla.org/MPL/2.0/.
 # SPDX-License-Identifier: MPL-2.0
 #
-from typing import Dict, List, Optional
+from typing import Dict, List, Optional, Tuple
 import numpy as np
 import pandas as pd
 from pypowsybl import _pypowsybl
+from pypowsybl._pypowsybl import PyPowsyblError
+from pypowsybl.utils import create_data_frame_from_series_array
 
 DEFAULT_REFERENCE_COLUMN_ID = 'reference_values'
 
@@ -15,6 +17,17 @@ DEFAULT_MATRIX_ID = 'default'
 TO_REMOVE = 'TO_REMOVE'
 
 
+def process_ptdf(df: pd.DataFrame, function_data_frame_index: List[str]) -> pd.DataFrame:
+    # substract second power transfer zone to first one
+    i = 0
+    while i < len(function_data_frame_index):
+        if function_data_frame_index[i] == TO_REMOVE:
+            df.iloc[i - 1] = df.iloc[i - 1] - df.iloc[i]
+        i += 1
+    # remove rows corresponding to power transfer second zone
+    return df.drop([TO_REMOVE], errors='ignore')
+
+
 class SensitivityAnalysisResult:
     """
     Represents the result of a sensitivity analysis.
@@ -37,14 +50,7 @@ class SensitivityAnalysisResult:
         return '' if contingency_id is None else contingency_id
 
     def process_ptdf(self, df: pd.DataFrame, matrix_id: str) -> pd.DataFrame:
-        # substract second power transfer zone to first one
-        i = 0
-        while i < len(self.function_data_frame_index[matrix_id]):
-            if self.function_data_frame_index[matrix_id][i] == TO_REMOVE:
-                df.iloc[i - 1] = df.iloc[i - 1] - df.iloc[i]
-            i += 1
-        # remove rows corresponding to power transfer second zone
-        return df.drop([TO_REMOVE], errors='ignore')
+        return process_ptdf(df, self.function_data_frame_index[matrix_id])
 
     def get_sensitivity_matrix(self, matrix_id: str = DEFAULT_MATRIX_ID, contingency_id:  Optional[str] = None) -> Optional[
         pd.DataFrame]:
@@ -87,3 +93,97 @@ class SensitivityAnalysisResult:
         data = np.array(matrix, copy=False)
 
         return pd.DataFrame(data=data, columns=self.functions_ids[matrix_id], index=[reference_column_id])
+
+    def get_sensitivity_matrices(self, matrix_id: str = DEFAULT_MATRIX_ID) -> np.ndarray:
+        """
+        Get the sensitivity values of a matrix for the base case and all post contingency states, in one block.
+
+        When the analysis has been run with zero copy results, the returned array is a read-only view on the results,
+        which stay in memory as long as the array is referenced.
+        Power transfer variables are not post-processed: the two zones of a transfer are kept as separate rows.
+
+        Args:
+            matrix_id: ID of the matrix
+        Returns:
+            an array of shape (1 + contingency count, row count, column count), see :meth:`get_mapped_contingency_ids`
+            for the order of states
+        """
+        data = np.array(_pypowsybl.get_sensitivity_matrices(self.result_context_ptr, matrix_id), copy=False)
+        data.flags.writeable = False
+        state_count = len(self.get_mapped_contingency_ids()) + 1
+        return data.reshape(state_count, -1, data.shape[1])
+
+    def get_reference_matrices(self, matrix_id: str = DEFAULT_MATRIX_ID) -> np.ndarray:
+        """
+        Get the reference values of a matrix for the base case and all post contingency states, in one block.
+
+        Args:
+            matrix_id: ID of the matrix
+        Returns:
+            an array of shape (1 + contingency count, column count), see :meth:`get_mapped_contingency_ids`
+            for the order of states
+        """
+        data = np.array(_pypowsybl.get_reference_matrices(self.result_context_ptr, matrix_id), copy=False)
+        data.flags.writeable = False
+        return data
+
+    def get_mapped_contingency_ids(self) -> List[str]:
+        """
+        The IDs of the contingencies, in the order of the post contingency states of memory-mapped results and of
+        :meth:`get_sensitivity_matrices`: state 0 is the base case and state i + 1 the contingency at index i of this list.
+
+        Returns:
+            the contingency IDs
+        """
+        return _pypowsybl.get_sensitivity_results_contingency_ids(self.result_context_ptr)
+
+    def _get_mapping_layout(self, matrix_id: str) -> Tuple[str, int, int, int, pd.Series]:
+        results_file = _pypowsybl.get_sensitivity_results_file(self.result_context_ptr)
+        if not results_file:
+            raise PyPowsyblError('Sensitivity analysis results are not memory-mapped')
+        layout = create_data_frame_from_series_array(
+            _pypowsybl.get_sensitivity_results_matrices_layout(self.result_context_ptr))
+        if matrix_id not in layout.index:
+            raise PyPowsyblError(f"Matrix '{matrix_id}' not found")
+        state_count = len(self.get_mapped_contingency_ids()) + 1
+        value_count = int((layout['row_count'] * layout['column_count']).sum())
+        reference_count = int(layout['column_count'].sum())
+        return results_file, state_count, value_count, reference_count, layout.loc[matrix_id]
+
+    def get_mapped_sensitivity_values(self, matrix_id: str = DEFAULT_MATRIX_ID) -> np.ndarray:
+        """
+        Get the sensitivity values of a matrix, for the base case and all post contingency states, as a read-only
+        view on the memory-mapped results file: nothing is copied, values are loaded by the operating system
+        when accessed.
+
+        Power transfer variables are not post-processed: the two zones of a transfer are kept as separate rows.
+
+        Args:
+            matrix_id: ID of the matrix
+        Returns:
+            an array of shape (1 + contingency count, row count, column count), see :meth:`get_mapped_contingency_ids`
+            for the order of states
+        """
+        results_file, state_count, value_count, _, matrix = self._get_mapping_layout(matrix_id)
+        values = np.memmap(results_file, dtype='<f8', mode='r', shape=(state_count, value_count))
+        offset = matrix['value_offset']
+        row_count = matrix['row_count']
+        column_count = matrix['column_count']
+        return values[:, offset:offset + row_count * column_count].reshape(state_count, row_count, column_count)
+
+    def get_mapped_reference_values(self, matrix_id: str = DEFAULT_MATRIX_ID) -> np.ndarray:
+        """
+        Get the reference values of a matrix, for the base case and all post contingency states, as a read-only
+        view on the memory-mapped results file.
+
+        Args:
+            matrix_id: ID of the matrix
+        Returns:
+            an array of shape (1 + contingency count, column count), see :meth:`get_mapped_contingency_ids`
+            for the order of states
+        """
+        results_file, state_count, value_count, reference_count, matrix = self._get_mapping_layout(matrix_id)
+        references = np.memmap(results_file, dtype='<f8', mode='r', shape=(state_count, reference_count),
+                               offset=state_count * value_count * np.dtype('<f8').itemsize)
+        offset = matrix['reference_offset']
+        return references[:, offset:offset + matrix['column_count']]
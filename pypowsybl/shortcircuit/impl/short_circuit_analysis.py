@@ -84,6 +84,20 @@ class ShortCircuitAnalysis:
         """
         self._set_faults([df], **kwargs)
 
+    def set_fault_partition_count(self, partition_count: int) -> None:
+        """
+        Split the faults into partitions which are computed concurrently, each one on its own copy of the working
+        variant of the network and with its own run of the provider.
+
+        This scales studies with many faults, for instance a fault at every bus of a large network, beyond the
+        parallelism of the provider itself. Only the first partition reports to the report node. Results are merged
+        in the order of the faults.
+
+        Args:
+            partition_count: the number of partitions, 1 to compute all the faults in a single run
+        """
+        _pypowsybl.set_short_circuit_analysis_fault_partition_count(self._handle, partition_count)
+
     def run(self, network: Network, parameters: Optional[Parameters] = None,
             provider: str = '', report_node: Optional[ReportNode] = None) -> ShortCircuitAnalysisResult:
         """ Runs a short-circuit analysis.
@@ -75,3 +75,42 @@ async def test_run_lf_ac_async_on_bad_variant():
     n = pp.network.create_ieee14()
     with pytest.raises(Exception, match='com.powsybl.commons.PowsyblException: Variant \'v\' not found'):
         await lf.run_ac_async(n, "v")
+
+
+@pytest.mark.asyncio
+async def test_run_lf_async_prepared_parameters():
+    n = pp.network.create_ieee14()
+    results = await lf.run_ac_async(n, parameters=lf.PreparedParameters())
+    assert lf.ComponentStatus.CONVERGED == results[0].status
+
+
+@pytest.mark.asyncio
+async def test_run_lf_async_configured_executor():
+    pp.configure_computation_executor(thread_count=2, thread_name_prefix='test-computation')
+    try:
+        metrics = pp.get_computation_executor_metrics()
+        assert 'FIXED' == metrics['executor_type']
+        assert 2 == metrics['thread_count']
+        assert 0 == metrics['queued_task_count']
+        n = pp.network.create_ieee14()
+        results = await lf.run_ac_async(n)
+        assert lf.ComponentStatus.CONVERGED == results[0].status
+
+        pp.configure_computation_executor(thread_count=3, work_stealing=True)
+        metrics = pp.get_computation_executor_metrics()
+        assert 'WORK_STEALING' == metrics['executor_type']
+        assert 3 == metrics['thread_count']
+        assert -1 == metrics['completed_task_count']
+        results = await lf.run_ac_async(n)
+        assert lf.ComponentStatus.CONVERGED == results[0].status
+
+        # the running load flow is completed before the executor is replaced
+        results_future = lf.run_ac_async(n)
+        pp.configure_computation_executor(thread_count=2)
+        results = await results_future
+        assert lf.ComponentStatus.CONVERGED == results[0].status
+
+        with pytest.raises(pp.PyPowsyblError, match='Thread name prefix cannot be empty'):
+            pp.configure_computation_executor(thread_name_prefix='')
+    finally:
+        pp.reset_computation_executor()
@@ -149,4 +149,65 @@ def test_backend_report():
     with grid2op.Backend(n) as backend:
         backend.run_pf(report_node=report)
 
-    assert "Load flow on network 'ieee14cdf'" in str(report)
\ No newline at end of file
+    assert "Load flow on network 'ieee14cdf'" in str(report)
+
+
+def test_backend_snapshot():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    pp.loadflow.run_ac(n)
+    with grid2op.Backend(n) as backend:
+        snapshot = backend.create_snapshot()
+        assert len(n.get_variant_ids()) == 2
+
+        backend.update_double_value(grid2op.UpdateDoubleValueType.UPDATE_LOAD_P, np.array([630]), np.array([True]))
+        backend.update_integer_value(grid2op.UpdateIntegerValueType.UPDATE_LOAD_BUS, np.array([-1]), np.array([True]))
+        backend.run_pf()
+        npt.assert_array_equal(np.array([1, 1, 1, 1, 1, 1, 1, 1, 1, -1, 1]), backend.get_integer_value(grid2op.IntegerValueType.TOPO_VECT))
+
+        backend.restore_snapshot(snapshot)
+        npt.assert_allclose(np.array([600.0]), backend.get_double_value(grid2op.DoubleValueType.LOAD_P), rtol=TOLERANCE, atol=TOLERANCE)
+        npt.assert_allclose(np.array([605.561, 302.444, 302.444, 600.867]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_P1), rtol=TOLERANCE, atol=TOLERANCE)
+        npt.assert_array_equal(np.array([1] * 11), backend.get_integer_value(grid2op.IntegerValueType.TOPO_VECT))
+        assert n.get_loads().loc['LOAD', 'p0'] == 600.0
+        assert n.get_loads().loc['LOAD', 'connected']
+
+        # a snapshot can be restored several times
+        backend.update_double_value(grid2op.UpdateDoubleValueType.UPDATE_LOAD_P, np.array([640]), np.array([True]))
+        backend.restore_snapshot(snapshot)
+        npt.assert_allclose(np.array([600.0]), backend.get_double_value(grid2op.DoubleValueType.LOAD_P), rtol=TOLERANCE, atol=TOLERANCE)
+
+        backend.free_snapshot(snapshot)
+        assert len(n.get_variant_ids()) == 1
+
+
+def test_backend_fast_dc_pf():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    pp.loadflow.run_ac(n)
+    with grid2op.Backend(n) as backend:
+        backend.run_fast_dc_pf()
+        # both generators are on the slack bus, so it absorbs the load
+        npt.assert_allclose(np.array([600.0, 300.0, 300.0, 600.0]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_P1), rtol=TOLERANCE, atol=TOLERANCE)
+        npt.assert_allclose(np.array([-600.0, -300.0, -300.0, -600.0]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_P2), rtol=TOLERANCE, atol=TOLERANCE)
+        npt.assert_allclose(np.array([0.0, 0.0, 0.0, 0.0]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_Q1), rtol=TOLERANCE, atol=TOLERANCE)
+        npt.assert_allclose(np.array([24.0, 380.0, 380.0, 380.0]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_V1), rtol=TOLERANCE, atol=TOLERANCE)
+        assert backend.get_double_value(grid2op.DoubleValueType.LOAD_ANGLE)[0] < 0
+
+        # open one of the parallel lines, the other one carries all the flow
+        backend.update_integer_value(grid2op.UpdateIntegerValueType.UPDATE_BRANCH_BUS1, np.array([1, -1, 1, 1]), np.array([False, True, False, False]))
+        backend.run_fast_dc_pf()
+        npt.assert_allclose(np.array([600.0, 0.0, 600.0, 600.0]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_P1), rtol=TOLERANCE, atol=TOLERANCE)
+
+        # network has not been modified
+        assert n.get_lines().loc['NHV1_NHV2_2', 'p1'] == pytest.approx(302.444, abs=TOLERANCE)
+
+
+@pytest.mark.asyncio
+async def test_backend_async_pf():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    pp.loadflow.run_ac(n)
+    with grid2op.Backend(n) as backend:
+        backend.update_double_value(grid2op.UpdateDoubleValueType.UPDATE_LOAD_P, np.array([630]), np.array([True]))
+        results = await backend.run_pf_async()
+        assert 1 == len(results)
+        assert pp.loadflow.ComponentStatus.CONVERGED == results[0].status
+        npt.assert_allclose(np.array([636.14, 317.697, 317.697, 630.954]), backend.get_double_value(grid2op.DoubleValueType.BRANCH_P1), rtol=TOLERANCE, atol=TOLERANCE)
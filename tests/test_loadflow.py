@@ -10,6 +10,8 @@ import pickle
 import re
 import tempfile
 
+import numpy as np
+import pandas as pd
 import pytest
 from pypowsybl._pypowsybl import LoadFlowComponentStatus, ConnectedComponentMode
 
@@ -403,3 +405,74 @@ def test_parameters_pickle():
             p2 = pickle.load(f)
             assert p2.voltage_init_mode == pp.loadflow.VoltageInitMode.DC_VALUES
             assert p2.dc_power_factor == 0.33333
+
+
+def test_run_lf_batch():
+    n = pp.network.create_ieee14()
+    variant_ids = [f'v{i}' for i in range(4)]
+    for i, variant_id in enumerate(variant_ids):
+        n.clone_variant('InitialState', variant_id)
+        with n.working_variant(variant_id):
+            n.update_loads(id='B3-L', p0=94.2 + i * 10)
+    results = lf.run_ac_batch(n, variant_ids, thread_count=2)
+    assert variant_ids == list(results.index.get_level_values('variant_id'))
+    assert all(results['status'] == 'CONVERGED')
+    # results have been written on each variant
+    for i, variant_id in enumerate(variant_ids):
+        with n.working_variant(variant_id):
+            assert n.get_loads().loc['B3-L', 'p'] == pytest.approx(94.2 + i * 10)
+
+    dc_results = lf.run_dc_batch(n, variant_ids)
+    assert all(dc_results['status'] == 'CONVERGED')
+
+    with pytest.raises(pp.PyPowsyblError, match="Variant 'unknown' not found"):
+        lf.run_ac_batch(n, ['unknown'])
+
+
+def test_run_lf_time_series():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    timesteps = pd.date_range('2025-01-01', periods=3, freq='h')
+    load_p0 = pd.DataFrame(index=timesteps, data={'LOAD': [600.0, 500.0, 400.0]})
+    generator_target_p = pd.DataFrame(index=timesteps, data={'GEN': [607.0, np.nan, 407.0]})
+    result = lf.run_ac_time_series(n, load_p0=load_p0, generator_target_p=generator_target_p,
+                                   outputs={'branch_p1': ['NHV1_NHV2_1', 'NHV1_NHV2_2'], 'bus_v_mag': None})
+    assert list(result.status.index) == list(timesteps)
+    assert all(result.status['status'] == 'CONVERGED')
+    assert ['branch_p1', 'bus_v_mag'] == result.output_names
+    p1 = result.get_output('branch_p1')
+    assert ['NHV1_NHV2_1', 'NHV1_NHV2_2'] == list(p1.columns)
+    assert p1.shape == (3, 2)
+    # lines flow decreases with consumption
+    assert p1.iloc[0, 0] > p1.iloc[1, 0] > p1.iloc[2, 0]
+    v = result.get_output('bus_v_mag')
+    assert list(n.get_buses().index) == list(v.columns)
+    # working variant is unchanged
+    assert n.get_loads().loc['LOAD', 'p0'] == 600
+
+    dc_result = lf.run_dc_time_series(n, load_p0=load_p0, generator_target_p=generator_target_p)
+    dc_p1 = dc_result.get_output('branch_p1')
+    assert dc_p1.loc[timesteps[2], 'NHV1_NHV2_1'] == pytest.approx(200, abs=1)
+
+    with pytest.raises(pp.PyPowsyblError, match="Unknown attribute 'foo'"):
+        lf.run_ac_time_series(n, load_p0=load_p0, outputs={'foo': ['NHV1_NHV2_1']})
+
+
+def test_run_lf_prepared_parameters():
+    n = pp.network.create_ieee14()
+    parameters = lf.Parameters(distributed_slack=False)
+    prepared = lf.PreparedParameters(parameters)
+    for i in range(3):
+        n.update_loads(id='B3-L', p0=94.2 + i * 10)
+        results = lf.run_ac(n, prepared)
+        assert results[0].status == LoadFlowComponentStatus.CONVERGED
+        assert results[0].slack_bus_results[0].active_power_mismatch == pytest.approx(
+            lf.run_ac(n, parameters)[0].slack_bus_results[0].active_power_mismatch, abs=1e-6)
+    dc_results = lf.run_dc(n, prepared)
+    assert dc_results[0].status == LoadFlowComponentStatus.CONVERGED
+    assert dc_results[0].iteration_count == lf.run_dc(n, parameters)[0].iteration_count
+
+    with pytest.raises(pp.PyPowsyblError, match="No loadflow provider for name 'unknown'"):
+        lf.PreparedParameters(parameters, provider='unknown')
+    with pytest.raises(pp.PyPowsyblError, match="does not match the provider '' of the prepared parameters"):
+        lf.run_ac(n, prepared, provider='OpenLoadFlow')
+
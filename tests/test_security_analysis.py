@@ -4,6 +4,7 @@
 # License, v. 2.0. If a copy of the MPL was not distributed with this
 # file, You can obtain one at http://mozilla.org/MPL/2.0/.
 #
+import gzip
 import pytest
 import pypowsybl as pp
 import pandas as pd
@@ -515,4 +516,256 @@ def test_security_analysis_with_limit_reduction():
     sa.add_limit_reductions(reductions)
     sa_result = sa.run_ac(n)
     df = sa_result.limit_violations
-    assert [0.8] == df.loc[df["limit_name"] == "permanent"]["limit_reduction"].unique()
\ No newline at end of file
+    assert [0.8] == df.loc[df["limit_name"] == "permanent"]["limit_reduction"].unique()
+
+
+def test_shared_contingency_list():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    contingency_list = pp.security.create_contingency_list()
+    contingency_list.add_single_element_contingency('NHV1_NHV2_1', 'First contingency')
+    contingency_list.add_single_element_contingencies(['NHV1_NHV2_2', 'GEN'])
+
+    sa = pp.security.create_analysis()
+    sa.add_contingency_list(contingency_list)
+    sa_result = sa.run_ac(n)
+    assert set(sa_result.post_contingency_results.keys()) == {'First contingency', 'NHV1_NHV2_2', 'GEN'}
+    assert sa_result.post_contingency_results['First contingency'].status.name == 'CONVERGED'
+
+    sensi = pp.sensitivity.create_dc_analysis()
+    sensi.add_contingency_list(contingency_list)
+    sensi.add_branch_flow_factor_matrix(['NHV1_NHV2_1'], ['LOAD'], 'm')
+    sensi_result = sensi.run(n)
+    assert sensi_result.get_sensitivity_matrix('m', 'NHV1_NHV2_2') is not None
+
+    # same list on another variant
+    n.clone_variant(n.get_working_variant_id(), 'variant_2')
+    n.set_working_variant('variant_2')
+    n.update_loads(id='LOAD', p0=100)
+    assert len(sa.run_ac(n).post_contingency_results) == 3
+
+    contingency_list.add_single_element_contingency('UNKNOWN')
+    with pytest.raises(pp.PyPowsyblError, match="Element 'UNKNOWN' not found"):
+        sa.run_ac(n)
+
+
+def test_add_contingencies_from_dataframe():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    df = pd.DataFrame.from_records(index='contingency_id', columns=['contingency_id', 'element_id'],
+                                   data=[('l1', 'NHV1_NHV2_1'), ('n-2', 'NHV1_NHV2_1'), ('n-2', 'NHV1_NHV2_2')])
+    sa.add_contingencies(df)
+    sa.add_contingencies(contingency_id=['gen'], element_id=['GEN'])
+    sa_result = sa.run_ac(n)
+    assert set(sa_result.post_contingency_results.keys()) == {'l1', 'n-2', 'gen'}
+    assert sa_result.post_contingency_results['l1'].status.name == 'CONVERGED'
+
+
+def test_results_directory(tmp_path):
+    n = pp.network.create_four_substations_node_breaker_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingencies(['LINE_S2S3', 'LINE_S3S4', 'TWT'])
+    sa.add_single_element_contingency(element_id='S4VL1_BBS_LD6_DISCONNECTOR', contingency_id='Breaker contingency')
+    sa.add_switch_action(action_id='SwitchAction', switch_id='S4VL1_BBS_LD6_DISCONNECTOR', open=False)
+    sa.add_operator_strategy(operator_strategy_id='OperatorStrategy1', contingency_id='Breaker contingency',
+                             action_ids=['SwitchAction'], condition_type=ConditionType.TRUE_CONDITION)
+    sa.add_monitored_elements(branch_ids=['LINE_S2S3', 'LINE_S3S4'], voltage_level_ids=['S3VL1'])
+    expected = sa.run_ac(n)
+
+    sa.set_results_directory(str(tmp_path), contingency_batch_size=2)
+    result = sa.run_ac(n)
+    assert (tmp_path / 'branch_results.bin').exists()
+    assert (tmp_path / 'limit_violations.bin').exists()
+    assert result.pre_contingency_result.status == expected.pre_contingency_result.status
+    assert result.post_contingency_results.keys() == expected.post_contingency_results.keys()
+    assert result.operator_strategy_results.keys() == expected.operator_strategy_results.keys()
+    pd.testing.assert_frame_equal(expected.branch_results.sort_index(), result.branch_results.sort_index())
+    pd.testing.assert_frame_equal(expected.bus_results.sort_index(), result.bus_results.sort_index())
+    pd.testing.assert_frame_equal(expected.limit_violations, result.limit_violations)
+    with pytest.raises(pp.PyPowsyblError, match='cannot be exported to JSON'):
+        result.export_to_json(str(tmp_path / 'result.json'))
+
+    sa.set_results_directory(None)
+    assert len(sa.run_ac(n).branch_results) == len(expected.branch_results)
+
+
+def test_filtered_results():
+    n = pp.network.create_four_substations_node_breaker_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingencies(['LINE_S2S3', 'LINE_S3S4', 'TWT'])
+    sa.add_monitored_elements(branch_ids=['LINE_S2S3', 'LINE_S3S4', 'TWT'], voltage_level_ids=['S3VL1'])
+    result = sa.run_ac(n)
+    branch_results = result.branch_results
+
+    filtered = result.get_branch_results(contingency_ids=['', 'TWT'], branch_ids=['LINE_S3S4'])
+    expected = branch_results.query("contingency_id in ['', 'TWT'] and branch_id == 'LINE_S3S4'")
+    pd.testing.assert_frame_equal(expected, filtered)
+
+    filtered = result.get_branch_results(value_column='p1', threshold=100)
+    pd.testing.assert_frame_equal(branch_results[branch_results['p1'].abs() >= 100], filtered)
+
+    worst = result.get_branch_results(value_column='p1', top_k=1)
+    assert len(worst) == 3
+    expected_max = branch_results['p1'].abs().groupby(level='branch_id').max()
+    assert (worst['p1'].abs().droplevel(['contingency_id', 'operator_strategy_id']).sort_index() == expected_max).all()
+
+    assert len(result.get_branch_results(top_k=2)) == 6
+    assert result.get_bus_results(contingency_ids=['LINE_S3S4']).index.get_level_values('contingency_id').unique().tolist() == ['LINE_S3S4']
+    with pytest.raises(pp.PyPowsyblError, match='A value column is required'):
+        result.get_bus_results(top_k=1)
+    with pytest.raises(pp.PyPowsyblError, match='No column named'):
+        result.get_branch_results(value_column='p4', threshold=1)
+
+    violations = result.get_limit_violations(subject_ids=['LINE_S3S4'])
+    pd.testing.assert_frame_equal(result.limit_violations.query("subject_id == 'LINE_S3S4'"), violations)
+
+
+def test_contingency_partitions():
+    n = pp.network.create_four_substations_node_breaker_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingencies(['LINE_S2S3', 'LINE_S3S4', 'TWT'])
+    sa.add_single_element_contingency(element_id='S4VL1_BBS_LD6_DISCONNECTOR', contingency_id='Breaker contingency')
+    sa.add_switch_action(action_id='SwitchAction', switch_id='S4VL1_BBS_LD6_DISCONNECTOR', open=False)
+    sa.add_operator_strategy(operator_strategy_id='OperatorStrategy1', contingency_id='Breaker contingency',
+                             action_ids=['SwitchAction'], condition_type=ConditionType.TRUE_CONDITION)
+    sa.add_monitored_elements(branch_ids=['LINE_S2S3', 'LINE_S3S4'], voltage_level_ids=['S3VL1'])
+    expected = sa.run_ac(n)
+
+    sa.set_contingency_partition_count(3)
+    result = sa.run_ac(n)
+    assert list(result.post_contingency_results.keys()) == list(expected.post_contingency_results.keys())
+    assert result.operator_strategy_results.keys() == expected.operator_strategy_results.keys()
+    pd.testing.assert_frame_equal(expected.branch_results, result.branch_results)
+    pd.testing.assert_frame_equal(expected.limit_violations, result.limit_violations)
+    assert n.get_variant_ids() == ['InitialState']
+    with pytest.raises(pp.PyPowsyblError, match='strictly positive'):
+        sa.set_contingency_partition_count(0)
+
+
+def test_binary_export(tmp_path):
+    n = pp.network.create_four_substations_node_breaker_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingencies(['LINE_S2S3', 'LINE_S3S4', 'TWT'])
+    sa.add_single_element_contingency(element_id='S4VL1_BBS_LD6_DISCONNECTOR', contingency_id='Breaker contingency')
+    sa.add_switch_action(action_id='SwitchAction', switch_id='S4VL1_BBS_LD6_DISCONNECTOR', open=False)
+    sa.add_operator_strategy(operator_strategy_id='OperatorStrategy1', contingency_id='Breaker contingency',
+                             action_ids=['SwitchAction'], condition_type=ConditionType.TRUE_CONDITION)
+    sa.add_monitored_elements(branch_ids=['LINE_S2S3', 'LINE_S3S4'], voltage_level_ids=['S3VL1'])
+    expected = sa.run_ac(n)
+
+    path = tmp_path / 'result.bin'
+    expected.export_to_binary(str(path))
+    expected.export_to_json(str(tmp_path / 'result.json'))
+    assert path.stat().st_size < (tmp_path / 'result.json').stat().st_size
+    result = pp.security.import_result_from_binary(str(path))
+    assert result.pre_contingency_result.status == expected.pre_contingency_result.status
+    assert result.post_contingency_results.keys() == expected.post_contingency_results.keys()
+    assert result.operator_strategy_results.keys() == expected.operator_strategy_results.keys()
+    pd.testing.assert_frame_equal(expected.limit_violations, result.limit_violations)
+    pd.testing.assert_frame_equal(expected.branch_results, result.branch_results)
+    pd.testing.assert_frame_equal(expected.bus_results, result.bus_results)
+
+    with pytest.raises(pp.PyPowsyblError, match='Not a security analysis result archive'):
+        (tmp_path / 'other.bin').write_bytes(gzip.compress(b'not an archive'))
+        pp.security.import_result_from_binary(str(tmp_path / 'other.bin'))
+
+
+def test_add_actions_and_operator_strategies_from_dataframes():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingency('NHV1_NHV2_1', 'Line contingency')
+    sa.add_actions('LOAD_ACTIVE_POWER', action_id=['LoadAction1', 'LoadAction2'], load_id=['LOAD', 'LOAD'],
+                   is_relative=[False, True], active_power=[750.0, 50.0])
+    generator_actions = pd.DataFrame.from_records(index='action_id', columns=['action_id', 'generator_id', 'is_relative', 'active_power'],
+                                                  data=[('GeneratorAction1', 'GEN', True, 150.0)])
+    sa.add_actions('GENERATOR_ACTIVE_POWER', generator_actions)
+    sa.add_operator_strategies(operator_strategy_id=['OperatorStrategy1', 'OperatorStrategy2', 'OperatorStrategy2', 'OperatorStrategy3'],
+                               contingency_id=['Line contingency'] * 4,
+                               action_id=['LoadAction1', 'LoadAction2', 'GeneratorAction1', 'LoadAction1'],
+                               condition_type=['', '', '', 'ALL_VIOLATION_CONDITION'],
+                               violation_subject_ids=['', '', '', 'NHV1_NHV2_2,UnknownLine'])
+    sa_result = sa.run_ac(n)
+    assert set(sa_result.operator_strategy_results.keys()) == {'OperatorStrategy1', 'OperatorStrategy2'}
+    # same result as the single action definition
+    assert len(sa_result.find_operator_strategy_results('OperatorStrategy1').limit_violations) == 3
+
+    with pytest.raises(pp.PyPowsyblError):
+        sa.add_actions('UNKNOWN', action_id=['a'])
+
+
+def test_screening():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingency('LOAD', 'Load contingency')
+    sa.add_single_element_contingency('NHV1_NHV2_1', 'Line contingency 1')
+    sa.add_single_element_contingency('NHV1_NHV2_2', 'Line contingency 2')
+    sa.set_screening(critical_contingency_count=1, batch_size=1)
+    sa_result = sa.run_ac(n)
+    assert list(sa_result.post_contingency_results.keys()) == ['Load contingency', 'Line contingency 1']
+
+    sa.set_screening(critical_contingency_count=1, contingency_order='DC_SEVERITY', batch_size=1)
+    sa_result = sa.run_ac(n)
+    assert list(sa_result.post_contingency_results.keys()) == ['Line contingency 1']
+
+    sa.set_screening(critical_contingency_count=0)
+    sa_result = sa.run_ac(n)
+    assert len(sa_result.post_contingency_results) == 3
+
+    with pytest.raises(pp.PyPowsyblError, match='Screening batch size has to be strictly positive'):
+        sa.set_screening(batch_size=0)
+
+
+def test_conflicting_modes():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingency('NHV1_NHV2_1', 'Line contingency 1')
+    sa.add_single_element_contingency('NHV1_NHV2_2', 'Line contingency 2')
+    sa.set_screening(critical_contingency_count=1)
+    sa.set_incremental(True)
+    with pytest.raises(pp.PyPowsyblError, match='Security analysis modes cannot be combined: screening, incremental'):
+        sa.run_ac(n)
+    sa.set_incremental(False)
+    sa.set_contingency_partition_count(2)
+    with pytest.raises(pp.PyPowsyblError, match='Security analysis modes cannot be combined: screening, contingency partitions'):
+        sa.run_ac(n)
+    sa.set_screening(critical_contingency_count=0)
+    assert len(sa.run_ac(n).post_contingency_results) == 2
+
+
+def test_incremental():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingency('LOAD', 'Load contingency')
+    sa.add_single_element_contingency('NHV1_NHV2_1', 'Line contingency')
+    expected = sa.run_dc(n)
+    sa.set_incremental(True)
+    sa.run_dc(n)
+    sa_result = sa.run_dc(n)
+    assert list(sa_result.post_contingency_results.keys()) == ['Load contingency', 'Line contingency']
+    pd.testing.assert_frame_equal(expected.limit_violations, sa_result.limit_violations)
+
+    n.update_loads(id='LOAD', p0=610)
+    sa_result = sa.run_dc(n)
+    assert sa_result.post_contingency_results['Load contingency'].status.name == 'CONVERGED'
+    assert len(sa_result.find_post_contingency_result('Line contingency').limit_violations) > 0
+
+    # switching to AC computes every contingency again
+    sa_result = sa.run_ac(n)
+    sa.set_incremental(False)
+    pd.testing.assert_frame_equal(sa.run_ac(n).limit_violations, sa_result.limit_violations)
+
+
+def test_incremental_topology_change():
+    n = pp.network.create_eurostag_tutorial_example1_network()
+    sa = pp.security.create_analysis()
+    sa.add_single_element_contingency('LOAD', 'Load contingency')
+    sa.add_single_element_contingency('NHV1_NHV2_1', 'Line contingency')
+    sa.add_monitored_elements(branch_ids=['NHV1_NHV2_1'])
+    sa.set_incremental(True)
+    sa.run_ac(n)
+
+    # no injection change, but the kept load contingency result would not be valid anymore
+    n.update_lines(id='NHV1_NHV2_2', connected1=False, connected2=False)
+    sa_result = sa.run_ac(n)
+    sa.set_incremental(False)
+    expected = sa.run_ac(n)
+    pd.testing.assert_frame_equal(expected.branch_results, sa_result.branch_results)
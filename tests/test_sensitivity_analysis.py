@@ -8,6 +8,7 @@ import pathlib
 import pytest
 import pypowsybl as pp
 import pandas as pd
+import numpy as np
 import re
 from pypowsybl import PyPowsyblError
 import pypowsybl.report as rp
@@ -96,6 +97,193 @@ def test_sensitivity_analysis():
     assert df['L2-3-1']['B1-G'] == pytest.approx(-0.084423, abs=1e-6)
 
 
+def test_sensitivity_analysis_sparse_results():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    dense = sa.run(n)
+    sa.set_sparse_results(0.1)
+    sparse = sa.run(n)
+
+    for contingency_id in ['', 'L1-2-1']:
+        dense_df = dense.get_sensitivity_matrix('m', contingency_id)
+        sparse_df = sparse.get_sensitivity_matrix('m', contingency_id)
+        pd.testing.assert_frame_equal(dense_df.where(dense_df.abs() >= 0.1, 0.0), sparse_df)
+        pd.testing.assert_frame_equal(dense.get_reference_matrix('m', contingency_id),
+                                      sparse.get_reference_matrix('m', contingency_id))
+    assert sparse.get_sensitivity_matrix('m')['L2-3-1']['B1-G'] == 0
+    assert sparse.get_sensitivity_matrix('m', 'aaa') is None
+
+    with pytest.raises(PyPowsyblError, match='Sparse results threshold has to be positive'):
+        sa.set_sparse_results(-1)
+
+
+def test_sensitivity_analysis_mapped_results(tmpdir):
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_single_element_contingency('L2-3-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    sa.add_precontingency_branch_flow_factor_matrix(['L1-5-1'], ['B1-G'], 'preContingency')
+    heap = sa.run(n)
+    sa.set_results_file(tmpdir.join('sensi.bin'))
+    mapped = sa.run(n)
+
+    contingency_ids = mapped.get_mapped_contingency_ids()
+    assert sorted(contingency_ids) == ['L1-2-1', 'L2-3-1']
+    values = mapped.get_mapped_sensitivity_values('m')
+    references = mapped.get_mapped_reference_values('m')
+    assert values.shape == (3, 3, 2)
+    assert references.shape == (3, 2)
+    for contingency_id in [None] + contingency_ids:
+        pd.testing.assert_frame_equal(heap.get_sensitivity_matrix('m', contingency_id),
+                                      mapped.get_sensitivity_matrix('m', contingency_id))
+        assert np.array_equal(heap.get_sensitivity_matrix('m', contingency_id).to_numpy(), values[state])
+        assert np.array_equal(heap.get_reference_matrix('m', contingency_id).to_numpy()[0], references[state])
+    assert mapped.get_mapped_sensitivity_values('preContingency')[0, 0, 0] == pytest.approx(0.080991, abs=1e-6)
+
+    with pytest.raises(PyPowsyblError, match='not memory-mapped'):
+        heap.get_mapped_sensitivity_values('m')
+    with pytest.raises(PyPowsyblError, match="Matrix 'aaa' not found"):
+        mapped.get_mapped_sensitivity_values('aaa')
+
+    sa.set_sparse_results(0.1)
+    with pytest.raises(PyPowsyblError, match='Sparse results cannot be stored in a memory-mapped file'):
+        sa.run(n)
+
+
+def test_sensitivity_analysis_streaming():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_single_element_contingency('L2-3-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    sa.add_postcontingency_branch_flow_factor_matrix(['L1-5-1'], ['B1-G'], ['L1-2-1'], 'postContingency')
+    r = sa.run(n)
+
+    streamed = {}
+
+    def on_matrix(contingency_id, matrix_id, sensitivity, reference):
+        streamed[(contingency_id, matrix_id)] = (sensitivity, reference)
+
+    assert sa.run_streaming(n, on_matrix)
+    assert sorted(streamed.keys(), key=str) == sorted([(None, 'm'), ('L1-2-1', 'm'), ('L2-3-1', 'm'),
+                                                       ('L1-2-1', 'postContingency')], key=str)
+    for (contingency_id, matrix_id), (sensitivity, reference) in streamed.items():
+        pd.testing.assert_frame_equal(r.get_sensitivity_matrix(matrix_id, contingency_id), sensitivity)
+        pd.testing.assert_frame_equal(r.get_reference_matrix(matrix_id, contingency_id), reference)
+
+    # stop after the first matrix
+    calls = []
+
+    def stopping_callback(contingency_id, matrix_id, sensitivity, reference):
+        calls.append(matrix_id)
+        return False
+
+    assert not sa.run_streaming(n, stopping_callback)
+    assert len(calls) == 1
+
+    def failing_callback(contingency_id, matrix_id, sensitivity, reference):
+        raise ValueError('callback error')
+
+    with pytest.raises(ValueError, match='callback error'):
+        sa.run_streaming(n, failing_callback)
+
+
+def test_postcontingency_factor_matrix_with_several_contingencies():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_single_element_contingency('L2-3-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-4-1'], ['B1-G', 'B2-G', 'B3-G'], 'all')
+    sa.add_postcontingency_branch_flow_factor_matrix(['L1-5-1', 'L2-4-1'], ['B1-G', 'B2-G', 'B3-G'],
+                                                     ['L1-2-1', 'L2-3-1'], 'specific')
+    r = sa.run(n)
+    for contingency_id in ['L1-2-1', 'L2-3-1']:
+        pd.testing.assert_frame_equal(r.get_sensitivity_matrix('all', contingency_id),
+                                      r.get_sensitivity_matrix('specific', contingency_id))
+        pd.testing.assert_frame_equal(r.get_reference_matrix('all', contingency_id),
+                                      r.get_reference_matrix('specific', contingency_id))
+
+
+def test_sensitivity_analysis_zero_copy_results():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_single_element_contingency('L2-3-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    sa.add_precontingency_branch_flow_factor_matrix(['L1-5-1'], ['B1-G'], 'preContingency')
+    heap = sa.run(n)
+    sa.set_zero_copy_results()
+    unmanaged = sa.run(n)
+
+    contingency_ids = unmanaged.get_mapped_contingency_ids()
+    values = unmanaged.get_sensitivity_matrices('m')
+    references = unmanaged.get_reference_matrices('m')
+    assert values.shape == (3, 3, 2)
+    assert references.shape == (3, 2)
+    assert not values.flags.writeable
+    assert np.array_equal(heap.get_sensitivity_matrices('m'), values)
+    assert np.array_equal(heap.get_reference_matrices('m'), references)
+    for contingency_id in [None] + contingency_ids:
+        pd.testing.assert_frame_equal(heap.get_sensitivity_matrix('m', contingency_id),
+                                      unmanaged.get_sensitivity_matrix('m', contingency_id))
+        pd.testing.assert_frame_equal(heap.get_reference_matrix('m', contingency_id),
+                                      unmanaged.get_reference_matrix('m', contingency_id))
+    assert unmanaged.get_sensitivity_matrix('m', 'aaa') is None
+    assert unmanaged.get_sensitivity_matrices('preContingency').shape == (3, 1, 1)
+
+    # views keep the results alive
+    del unmanaged
+    assert np.array_equal(heap.get_sensitivity_matrices('m'), values)
+
+    sa.set_sparse_results(0.1)
+    with pytest.raises(PyPowsyblError, match='Unmanaged results cannot be sparse'):
+        sa.run(n)
+
+
+def test_sensitivity_analysis_contingency_chunks():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingencies(['L1-2-1', 'L2-3-1', 'L1-5-1', 'L4-5-1', 'L6-11-1'])
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    expected = sa.run(n)
+    sa.set_contingency_chunk_count(3)
+    result = sa.run(n)
+    for contingency_id in [None, 'L1-2-1', 'L4-5-1', 'L6-11-1']:
+        pd.testing.assert_frame_equal(expected.get_sensitivity_matrix('m', contingency_id),
+                                      result.get_sensitivity_matrix('m', contingency_id))
+        pd.testing.assert_frame_equal(expected.get_reference_matrix('m', contingency_id),
+                                      result.get_reference_matrix('m', contingency_id))
+    assert n.get_variant_ids() == ['InitialState']
+
+    with pytest.raises(PyPowsyblError, match='Contingency chunk count has to be strictly positive'):
+        sa.set_contingency_chunk_count(0)
+
+
+def test_sensitivity_analysis_session():
+    n = pp.network.create_ieee14()
+    sa = pp.sensitivity.create_dc_analysis()
+    sa.add_single_element_contingency('L1-2-1')
+    sa.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    sa.set_session_enabled()
+    sa.run(n)
+    n.update_loads(id='B4-L', p0=60)
+    n.update_lines(id='L4-5-1', connected1=False)
+    result = sa.run(n)
+
+    fresh = pp.sensitivity.create_dc_analysis()
+    fresh.add_single_element_contingency('L1-2-1')
+    fresh.add_branch_flow_factor_matrix(['L1-5-1', 'L2-3-1'], ['B1-G', 'B2-G', 'B3-G'], 'm')
+    expected = fresh.run(n)
+    for contingency_id in [None, 'L1-2-1']:
+        pd.testing.assert_frame_equal(expected.get_sensitivity_matrix('m', contingency_id),
+                                      result.get_sensitivity_matrix('m', contingency_id))
+        pd.testing.assert_frame_equal(expected.get_reference_matrix('m', contingency_id),
+                                      result.get_reference_matrix('m', contingency_id))
+
+
 def test_voltage_sensitivities():
     n = pp.network.create_eurostag_tutorial_example1_network()
     sa = pp.sensitivity.create_ac_analysis()
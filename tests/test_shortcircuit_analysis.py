@@ -49,6 +49,13 @@ def test_create_faults():
     sc.set_branch_fault(branch_id='F4', element_id=buses.index[1], r=1, x=2, proportional_location=3)
 
 
+def test_fault_partition_count():
+    sc = pp.shortcircuit.create_analysis()
+    sc.set_fault_partition_count(4)
+    with pytest.raises(pp.PyPowsyblError, match='Fault partition count has to be strictly positive'):
+        sc.set_fault_partition_count(0)
+
+
 def test_run_analysis():
     # reads a network with short'circuit extensions
     n = _create_network_with_sc_extensions()